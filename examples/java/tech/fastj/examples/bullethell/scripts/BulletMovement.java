@@ -12,19 +12,19 @@ public class BulletMovement implements Behavior {
     private static final float travelSpeed = 500f;
 
     private final GameScene gameScene;
-    private final float travelAngle;
     private final PlayerCannon playerCannonScript;
 
+    private float travelAngle;
     private Pointf travelVector;
 
-    public BulletMovement(GameScene gameScene, float travelAngle, PlayerCannon playerCannonScript) {
-        this.travelAngle = travelAngle;
+    public BulletMovement(GameScene gameScene, PlayerCannon playerCannonScript) {
         this.gameScene = gameScene;
         this.playerCannonScript = playerCannonScript;
     }
 
     @Override
     public void init(GameObject obj) {
+        travelAngle = playerCannonScript.getFiringAngle();
         travelVector = new Pointf(0f, travelSpeed).rotate(180 - travelAngle);
     }
 
@@ -44,14 +44,15 @@ public class BulletMovement implements Behavior {
 
     @Override
     public void destroy() {
-        travelVector.reset();
+        if (travelVector != null) {
+            travelVector.reset();
+        }
     }
 
     public void bulletDied(GameObject obj) {
         FastJEngine.runLater(() -> {
             FastJEngine.log("death! of bullet {}f{}", travelAngle, travelVector);
-            obj.destroy(gameScene);
-            playerCannonScript.bulletDied();
+            playerCannonScript.bulletDied(obj);
         }, CoreLoopState.FixedUpdate);
     }
 }
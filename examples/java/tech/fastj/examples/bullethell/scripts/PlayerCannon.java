@@ -4,7 +4,6 @@ import tech.fastj.engine.FastJEngine;
 import tech.fastj.examples.bullethell.scenes.GameScene;
 import tech.fastj.examples.bullethell.util.Tags;
 import tech.fastj.gameloop.CoreLoopState;
-import tech.fastj.graphics.Drawable;
 import tech.fastj.graphics.game.GameObject;
 import tech.fastj.graphics.game.Polygon2D;
 import tech.fastj.graphics.util.DrawUtil;
@@ -12,6 +11,7 @@ import tech.fastj.input.keyboard.Keyboard;
 import tech.fastj.input.keyboard.Keys;
 import tech.fastj.math.Pointf;
 import tech.fastj.systems.behaviors.Behavior;
+import tech.fastj.systems.control.GameObjectPool;
 
 import java.awt.Color;
 import java.util.Objects;
@@ -22,56 +22,58 @@ public class PlayerCannon implements Behavior {
     private static final int MaxBulletCount = 4;
 
     private final GameScene gameScene;
-    private int bulletCount;
+    private final GameObjectPool<Polygon2D> bulletPool;
+    private float firingAngle;
 
     public PlayerCannon(GameScene scene) {
         gameScene = Objects.requireNonNull(scene);
+        bulletPool = new GameObjectPool<>(gameScene, this::createBullet, MaxBulletCount, MaxBulletCount);
     }
 
     @Override
     public void init(GameObject obj) {
-        bulletCount = 0;
+        bulletPool.releaseAll();
     }
 
     @Override
     public void fixedUpdate(GameObject obj) {
-        if (Keyboard.isKeyRecentlyPressed(Keys.Space) && bulletCount < MaxBulletCount) {
-            FastJEngine.runLater(() -> createBullet(obj), CoreLoopState.FixedUpdate);
+        if (Keyboard.isKeyRecentlyPressed(Keys.Space) && bulletPool.getIdleCount() > 0) {
+            FastJEngine.runLater(() -> fireBullet(obj), CoreLoopState.FixedUpdate);
         }
     }
 
-    private void createBullet(GameObject player) {
+    private Polygon2D createBullet() {
+        BulletMovement bulletMovementScript = new BulletMovement(gameScene, this);
+        return (Polygon2D) Polygon2D.fromPoints(DrawUtil.createBox(Pointf.origin(), BulletSize))
+            .setFill(Color.red)
+            .addBehavior(bulletMovementScript, gameScene)
+            .<GameObject>addTag(Tags.Bullet);
+    }
+
+    private void fireBullet(GameObject player) {
         Pointf startingPoint = Pointf.add(player.getCenter(), new Pointf(0f, -50f));
         float rotationAngle = -player.getRotation();
         Pointf rotationPoint = player.getCenter();
-
-        BulletMovement bulletMovementScript = new BulletMovement(gameScene, player.getRotation(), this);
         Pointf cannonFront = Pointf.rotate(startingPoint, rotationAngle, rotationPoint);
-        Pointf[] bulletMesh = DrawUtil.createBox(cannonFront, BulletSize);
 
-        Polygon2D bullet = (Polygon2D) Polygon2D.fromPoints(bulletMesh)
-            .setFill(Color.red)
-            .addLateBehavior(bulletMovementScript, gameScene)
-            .<GameObject>addTag(Tags.Bullet);
+        firingAngle = player.getRotation();
+        bulletPool.acquire(bullet -> bullet.setTranslation(cannonFront));
+    }
 
-        gameScene.drawableManager().addGameObject(bullet);
-        bulletCount++;
+    float getFiringAngle() {
+        return firingAngle;
     }
 
-    void bulletDied() {
-        bulletCount--;
+    void bulletDied(GameObject bullet) {
+        bulletPool.release((Polygon2D) bullet);
     }
 
     public int getBulletCount() {
-        return bulletCount;
+        return bulletPool.getActiveCount();
     }
 
     @Override
     public void destroy() {
-        for (Drawable bullet : gameScene.getAllWithTag(Tags.Bullet)) {
-            bullet.destroy(gameScene);
-        }
-
-        bulletCount = 0;
+        bulletPool.destroy();
     }
 }
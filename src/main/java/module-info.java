@@ -53,6 +53,7 @@ import tech.fastj.systems.control.SimpleManager;
  *     </li>
  *     <li>{@link tech.fastj.systems.behaviors Behaviors} -- Extending game object capabilities with {@link Behavior behaviors}.</li>
  *     <li>{@link tech.fastj.systems.tags Tags} -- FastJ's tagging system.</li>
+ *     <li>{@link tech.fastj.systems.ecs Entities} -- Data-oriented entities and systems, for large amounts of simple game elements.</li>
  *     <li>
  *         {@link tech.fastj.systems.audio Audio} -- {@link MemoryAudio In-memory} and {@link StreamedAudio file-streamed} audio, with
  *         {@link AudioManager tools to load, unload, and tag instances}.
@@ -105,6 +106,7 @@ module fastj.library {
     exports tech.fastj.systems.audio.state;
     exports tech.fastj.systems.behaviors;
     exports tech.fastj.systems.control;
+    exports tech.fastj.systems.ecs;
     exports tech.fastj.systems.collections;
     exports tech.fastj.systems.execution;
     exports tech.fastj.systems.tags;
@@ -16,6 +16,7 @@ import tech.fastj.graphics.display.FastJCanvas;
 import tech.fastj.graphics.display.SimpleDisplay;
 import tech.fastj.graphics.game.Sprite2D;
 import tech.fastj.graphics.util.DisplayUtil;
+import tech.fastj.graphics.util.GlyphAtlas;
 import tech.fastj.input.keyboard.Keyboard;
 import tech.fastj.input.mouse.Mouse;
 import tech.fastj.logging.Log;
@@ -25,6 +26,7 @@ import tech.fastj.resources.Resource;
 import tech.fastj.resources.ResourceManager;
 import tech.fastj.resources.images.ImageResource;
 import tech.fastj.resources.images.ImageResourceManager;
+import tech.fastj.resources.images.SpriteSheetCache;
 import tech.fastj.systems.audio.AudioManager;
 import tech.fastj.systems.audio.StreamedAudioPlayer;
 import tech.fastj.systems.behaviors.Behavior;
@@ -880,6 +882,9 @@ public class FastJEngine {
 
             fpsLogger.shutdownNow();
         }
+        if (canvas != null) {
+            canvas.setPipelinedRendering(false);
+        }
         if (gameManager != null) {
             gameManager.reset();
         }
@@ -893,6 +898,8 @@ public class FastJEngine {
 
         ResourceManagers.forEach(((resourceClass, resourceResourceManager) -> resourceResourceManager.unloadAllResources()));
         ResourceManagers.clear();
+        SpriteSheetCache.clear();
+        GlyphAtlas.clearAtlases();
 
         // engine speed variables
         targetFPS = 0;
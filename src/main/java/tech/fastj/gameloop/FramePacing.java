@@ -0,0 +1,67 @@
+package tech.fastj.gameloop;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategies a {@link GameLoop} can use to wait out the rest of a frame, when it performs manual time-syncing.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public enum FramePacing {
+    /**
+     * Sleeps for the rest of the frame in whole milliseconds.
+     * <p>
+     * This uses the least CPU time, but sleeping is only as precise as the operating system's scheduler -- frame times are often a
+     * millisecond or more off, and each frame's error carries over into the next.
+     */
+    Sleep,
+    /**
+     * Parks the game loop's thread until shortly before the end of the frame, then spins until the frame ends.
+     * <p>
+     * Frames end on nanosecond deadlines which advance by exactly one frame each iteration, so any time a frame overshoots is taken back
+     * from the next frame instead of accumulating. If the game loop falls more than a frame behind, the deadline is moved up to the current
+     * time rather than rushing through frames to catch up.
+     * <p>
+     * This keeps frame times much more consistent than {@link #Sleep sleeping}, at the cost of spending the last
+     * {@link #SpinThresholdNanos fraction of a millisecond} of each frame busy-waiting.
+     */
+    Precise;
+
+    /** The time before a frame's deadline, in nanoseconds, after which {@link #Precise precise pacing} stops parking and spins instead. */
+    public static final long SpinThresholdNanos = TimeUnit.MICROSECONDS.toNanos(500L);
+
+    /**
+     * Waits until the given deadline, in terms of {@link System#nanoTime()}.
+     *
+     * @param deadline The time to wait until, in nanoseconds.
+     */
+    void waitUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0L) {
+            return;
+        }
+
+        if (this == Sleep) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(TimeUnit.MILLISECONDS.toNanos(TimeUnit.NANOSECONDS.toMillis(remaining)));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+
+        while (remaining > SpinThresholdNanos) {
+            LockSupport.parkNanos(remaining - SpinThresholdNanos);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+
+        while (deadline - System.nanoTime() > 0L) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package tech.fastj.gameloop;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records where each frame of a {@link GameLoop game loop}'s time goes.
+ * <p>
+ * While {@link #setEnabled(boolean) enabled}, the profiler times each {@link GameLoopState game loop state}, each batch of delayed events
+ * fired, and the time spent {@link FramePacing syncing}, all in nanoseconds. It also counts how many
+ * {@link CoreLoopState#FixedUpdate fixed updates} each frame ran to catch up. The most recent frames are kept in a ring buffer of a fixed
+ * {@link #getCapacity() capacity}, which is reused so that recording does not allocate once the buffer has warmed up.
+ * <p>
+ * While disabled, the profiler only costs a few checks of whether it is recording per frame.
+ * <p>
+ * Recorded frames can be {@link #getFrames() queried} from any thread, or {@link #writeChromeTrace(Appendable) exported} in the Chrome
+ * trace event format, which can be opened with {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class FrameProfiler {
+
+    /** The default amount of frames a profiler keeps. */
+    public static final int DefaultCapacity = 240;
+
+    /** Category of samples timing a {@link GameLoopState game loop state}. */
+    public static final String LoopStateCategory = "LoopState";
+    /** Category of samples timing delayed {@link tech.fastj.gameloop.event.Event events} being fired. */
+    public static final String EventsCategory = "Events";
+    /** Category of samples timing the game loop {@link FramePacing waiting out the rest of a frame}. */
+    public static final String SyncCategory = "Sync";
+
+    /** Name of samples timing the game loop waiting out the rest of a frame. */
+    public static final String SyncSampleName = "Sync";
+
+    private static final int InitialSampleCapacity = 32;
+
+    private final int capacity;
+    // one more slot than the capacity, so the frame being recorded never overlaps a frame readers can see
+    private final FrameSlot[] frameSlots;
+    private int head;
+    private int frameCount;
+
+    private volatile boolean enabled;
+    private FrameSlot currentFrame;
+
+    /** Constructs a disabled frame profiler with the {@link #DefaultCapacity default capacity}. */
+    public FrameProfiler() {
+        this(DefaultCapacity);
+    }
+
+    /**
+     * Constructs a disabled frame profiler which keeps the given amount of frames.
+     *
+     * @param capacity The amount of frames to keep.
+     */
+    public FrameProfiler(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Profiler capacity must be at least 1.");
+        }
+
+        this.capacity = capacity;
+        frameSlots = new FrameSlot[capacity + 1];
+        for (int i = 0; i < frameSlots.length; i++) {
+            frameSlots[i] = new FrameSlot();
+        }
+    }
+
+    /** {@return whether the profiler records frames} */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the profiler records frames.
+     * <p>
+     * Enabling or disabling the profiler takes effect from the next frame onwards.
+     *
+     * @param enabled Whether the profiler should record frames.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /** {@return the most frames the profiler keeps} */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** {@return the amount of frames currently recorded} */
+    public synchronized int getFrameCount() {
+        return frameCount;
+    }
+
+    /** {@return a copy of the recorded frames, from oldest to newest} */
+    public synchronized List<ProfiledFrame> getFrames() {
+        List<ProfiledFrame> frames = new ArrayList<>(frameCount);
+        for (int i = 0; i < frameCount; i++) {
+            frames.add(frameSlots[slotIndex(i)].toProfiledFrame());
+        }
+        return frames;
+    }
+
+    /**
+     * {@return the mean time spent in samples with the given name per recorded frame, in nanoseconds}
+     *
+     * @param name The name of the samples to average.
+     */
+    public synchronized double getMeanNanos(String name) {
+        if (frameCount == 0) {
+            return 0d;
+        }
+
+        long total = 0L;
+        for (int i = 0; i < frameCount; i++) {
+            total += frameSlots[slotIndex(i)].totalNanos(name);
+        }
+        return (double) total / frameCount;
+    }
+
+    /** Removes all recorded frames. */
+    public synchronized void clear() {
+        frameCount = 0;
+    }
+
+    /**
+     * Writes the recorded frames to the given output, in the Chrome trace event format.
+     * <p>
+     * Each frame and each of its samples becomes a complete ({@code "X"}) event, with timestamps in microseconds relative to the oldest
+     * recorded frame.
+     *
+     * @param output The output to write to.
+     * @throws IOException If writing to the output fails.
+     */
+    public void writeChromeTrace(Appendable output) throws IOException {
+        List<ProfiledFrame> frames = getFrames();
+        long origin = frames.isEmpty() ? 0L : frames.get(0).startNanos();
+
+        output.append("{\"traceEvents\":[");
+        boolean first = true;
+        for (int i = 0; i < frames.size(); i++) {
+            ProfiledFrame frame = frames.get(i);
+            first = appendTraceEvent(output, first, "Frame " + i, "Frame", frame.startNanos() - origin, frame.durationNanos(),
+                frame.fixedUpdateCount());
+            for (ProfileSample sample : frame.samples()) {
+                first = appendTraceEvent(output, first, sample.name(), sample.category(), sample.startNanos() - origin,
+                    sample.durationNanos(), -1);
+            }
+        }
+        output.append("],\"displayTimeUnit\":\"ns\"}");
+    }
+
+    /** {@return the recorded frames in the Chrome trace event format} */
+    public String toChromeTrace() {
+        StringBuilder trace = new StringBuilder();
+        try {
+            writeChromeTrace(trace);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return trace.toString();
+    }
+
+    /**
+     * {@return the name of the samples timing the given game loop state}
+     * <p>
+     * The name is made of the state's {@link GameLoopState#getCoreLoopState() core loop state} and
+     * {@link GameLoopState#getPriority() priority}, such as {@code "Update[5]"} -- or {@code "Update[engine 5]"} for states with
+     * {@link GameLoopState#hasEnginePriority() engine priority}. Events fired after the state are timed as {@code "Update[5] events"}, and
+     * events fired after a core loop state are timed as {@code "Update events"}.
+     *
+     * @param gameLoopState The game loop state to get the sample name of.
+     */
+    public static String sampleNameOf(GameLoopState gameLoopState) {
+        return gameLoopState.getCoreLoopState().name()
+            + (gameLoopState.hasEnginePriority() ? "[engine " : "[")
+            + gameLoopState.getPriority() + "]";
+    }
+
+    /** {@return whether a frame is being recorded -- if so, {@link #recordSample} should be called for the frame's sections} */
+    boolean isRecording() {
+        return currentFrame != null;
+    }
+
+    /**
+     * Starts recording a frame, if the profiler is enabled.
+     *
+     * @param startNanos When the frame started.
+     */
+    void beginFrame(long startNanos) {
+        if (!enabled) {
+            currentFrame = null;
+            return;
+        }
+
+        currentFrame = frameSlots[head];
+        currentFrame.reset(startNanos);
+    }
+
+    void recordSample(String name, String category, long startNanos, long endNanos) {
+        currentFrame.addSample(name, category, startNanos, endNanos);
+    }
+
+    /**
+     * Finishes recording the current frame, making it visible to readers.
+     *
+     * @param endNanos         When the frame ended.
+     * @param fixedUpdateCount How many fixed updates the frame ran.
+     */
+    void endFrame(long endNanos, int fixedUpdateCount) {
+        if (currentFrame == null) {
+            return;
+        }
+
+        currentFrame.endNanos = endNanos;
+        currentFrame.fixedUpdateCount = fixedUpdateCount;
+        currentFrame = null;
+
+        synchronized (this) {
+            head = (head + 1) % frameSlots.length;
+            frameCount = Math.min(frameCount + 1, capacity);
+        }
+    }
+
+    private int slotIndex(int frame) {
+        return Math.floorMod(head - frameCount + frame, frameSlots.length);
+    }
+
+    private static boolean appendTraceEvent(Appendable output, boolean first, String name, String category, long startNanos,
+                                            long durationNanos, int fixedUpdateCount) throws IOException {
+        if (!first) {
+            output.append(',');
+        }
+
+        output.append("{\"name\":\"");
+        appendEscaped(output, name);
+        output.append("\",\"cat\":\"");
+        appendEscaped(output, category);
+        output.append("\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":")
+            .append(Double.toString(startNanos / (double) TimeUnit.MICROSECONDS.toNanos(1L)))
+            .append(",\"dur\":")
+            .append(Double.toString(durationNanos / (double) TimeUnit.MICROSECONDS.toNanos(1L)));
+        if (fixedUpdateCount >= 0) {
+            output.append(",\"args\":{\"fixedUpdates\":").append(Integer.toString(fixedUpdateCount)).append('}');
+        }
+        output.append('}');
+        return false;
+    }
+
+    private static void appendEscaped(Appendable output, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == '"' || character == '\\') {
+                output.append('\\').append(character);
+            } else if (character < ' ') {
+                output.append(String.format("\\u%04x", (int) character));
+            } else {
+                output.append(character);
+            }
+        }
+    }
+
+    /** Reusable storage for a single frame's samples. */
+    private static class FrameSlot {
+        private long startNanos;
+        private long endNanos;
+        private int fixedUpdateCount;
+
+        private String[] sampleNames = new String[InitialSampleCapacity];
+        private String[] sampleCategories = new String[InitialSampleCapacity];
+        private long[] sampleStarts = new long[InitialSampleCapacity];
+        private long[] sampleEnds = new long[InitialSampleCapacity];
+        private int sampleCount;
+
+        private void reset(long startNanos) {
+            this.startNanos = startNanos;
+            endNanos = startNanos;
+            fixedUpdateCount = 0;
+            sampleCount = 0;
+        }
+
+        private void addSample(String name, String category, long startNanos, long endNanos) {
+            if (sampleCount == sampleNames.length) {
+                int newCapacity = sampleCount * 2;
+                sampleNames = Arrays.copyOf(sampleNames, newCapacity);
+                sampleCategories = Arrays.copyOf(sampleCategories, newCapacity);
+                sampleStarts = Arrays.copyOf(sampleStarts, newCapacity);
+                sampleEnds = Arrays.copyOf(sampleEnds, newCapacity);
+            }
+
+            sampleNames[sampleCount] = name;
+            sampleCategories[sampleCount] = category;
+            sampleStarts[sampleCount] = startNanos;
+            sampleEnds[sampleCount] = endNanos;
+            sampleCount++;
+        }
+
+        private long totalNanos(String name) {
+            long total = 0L;
+            for (int i = 0; i < sampleCount; i++) {
+                if (sampleNames[i].equals(name)) {
+                    total += sampleEnds[i] - sampleStarts[i];
+                }
+            }
+            return total;
+        }
+
+        private ProfiledFrame toProfiledFrame() {
+            ProfileSample[] samples = new ProfileSample[sampleCount];
+            for (int i = 0; i < sampleCount; i++) {
+                samples[i] = new ProfileSample(sampleNames[i], sampleCategories[i], sampleStarts[i], sampleEnds[i]);
+            }
+            return new ProfiledFrame(startNanos, endNanos, fixedUpdateCount, List.of(samples));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package tech.fastj.gameloop;
+
+/**
+ * Running statistics on the time taken by each frame of a {@link GameLoop game loop}, used to measure how consistent its frame times are.
+ * <p>
+ * Frame times are recorded in nanoseconds, and reported in milliseconds. The {@link #getStandardDeviationMillis() standard deviation} of
+ * the frame times is their jitter -- the lower it is, the smoother the game loop runs.
+ * <p>
+ * Statistics are recorded by the game loop's thread without locking, so reading them from another thread while the game loop runs may
+ * give slightly stale results.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class FrameTimeStats {
+
+    private static final double NanosPerMilli = 1_000_000d;
+
+    private long frameCount;
+    private double meanNanos;
+    private double squaredDeviationSum;
+    private double targetDeviationSum;
+    private long minNanos;
+    private long maxNanos;
+
+    /** Constructs an empty set of frame time statistics. */
+    public FrameTimeStats() {
+        reset();
+    }
+
+    /**
+     * Records the time taken by a frame.
+     *
+     * @param frameNanos  The time the frame took, in nanoseconds.
+     * @param targetNanos The time the frame was meant to take, in nanoseconds.
+     */
+    public void record(long frameNanos, long targetNanos) {
+        frameCount++;
+
+        // Welford's algorithm, which stays accurate over any amount of frames
+        double delta = frameNanos - meanNanos;
+        meanNanos += delta / frameCount;
+        squaredDeviationSum += delta * (frameNanos - meanNanos);
+
+        targetDeviationSum += Math.abs(frameNanos - targetNanos);
+        minNanos = Math.min(minNanos, frameNanos);
+        maxNanos = Math.max(maxNanos, frameNanos);
+    }
+
+    /** Removes all recorded frame times. */
+    public void reset() {
+        frameCount = 0L;
+        meanNanos = 0d;
+        squaredDeviationSum = 0d;
+        targetDeviationSum = 0d;
+        minNanos = Long.MAX_VALUE;
+        maxNanos = 0L;
+    }
+
+    /** {@return the amount of frames recorded} */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /** {@return the mean frame time in milliseconds, or {@code 0} if no frames were recorded} */
+    public double getMeanMillis() {
+        return meanNanos / NanosPerMilli;
+    }
+
+    /** {@return the shortest frame time in milliseconds, or {@code 0} if no frames were recorded} */
+    public double getMinMillis() {
+        return frameCount == 0L ? 0d : minNanos / NanosPerMilli;
+    }
+
+    /** {@return the longest frame time in milliseconds, or {@code 0} if no frames were recorded} */
+    public double getMaxMillis() {
+        return maxNanos / NanosPerMilli;
+    }
+
+    /** {@return the standard deviation of the frame times in milliseconds -- the frame time jitter} */
+    public double getStandardDeviationMillis() {
+        return frameCount < 2L ? 0d : Math.sqrt(squaredDeviationSum / (frameCount - 1L)) / NanosPerMilli;
+    }
+
+    /** {@return the mean absolute difference between the frame times and their target, in milliseconds} */
+    public double getMeanTargetDeviationMillis() {
+        return frameCount == 0L ? 0d : targetDeviationSum / frameCount / NanosPerMilli;
+    }
+
+    @Override
+    public String toString() {
+        return "FrameTimeStats{" +
+            "frameCount=" + frameCount +
+            ", meanMillis=" + getMeanMillis() +
+            ", minMillis=" + getMinMillis() +
+            ", maxMillis=" + getMaxMillis() +
+            ", standardDeviationMillis=" + getStandardDeviationMillis() +
+            ", meanTargetDeviationMillis=" + getMeanTargetDeviationMillis() +
+            '}';
+    }
+}
@@ -5,6 +5,8 @@ import tech.fastj.gameloop.event.EventHandler;
 import tech.fastj.gameloop.event.EventObserver;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
@@ -43,6 +45,10 @@ import java.util.function.Predicate;
  *     </li>
  *     <li>Check to determine whether to perform manual time-syncing -- see {@link #GameLoop(Predicate, Predicate)}</li>
  * </ol>
+ * <p>
+ * How the game loop waits out the rest of each frame during manual time-syncing depends on its {@link #setFramePacing(FramePacing) frame
+ * pacing strategy}, and how consistent the resulting frame times are can be checked through its
+ * {@link #getFrameTimeStats() frame time statistics}.
  * <h2>Events System</h2>
  * The game loop can also receive and fire {@link Event events}. An event is data acting as a snapshot regarding some action performed.
  * These events can then be processed by {@link EventListener event listeners}.
@@ -56,6 +62,10 @@ import java.util.function.Predicate;
  *     <li>{@link #fireEvent(Event, CoreLoopState) Firing an event after a core loop state finishes}</li>
  *     <li>{@link #fireEvent(Event, GameLoopState) Firing an event after a game loop state finishes}</li>
  * </ul>
+ * <p>
+ * Events may be fired from any thread. Delayed events are posted to lock-free queues, so threads posting events (such as input threads)
+ * never contend with the game loop's thread. Event observers are kept in arrays which are rebuilt whenever an observer is added or
+ * removed, so firing an event never locks, allocates, or copies its observers.
  *
  * @author Andrew Dey
  * @since 1.7.0
@@ -68,6 +78,9 @@ public class GameLoop implements Runnable {
     /** The default {@link #getTargetUPS() target updates per second}. */
     public static final int DefaultUPS = 30;
 
+    /** The default {@link #getFramePacing() frame pacing strategy}. */
+    public static final FramePacing DefaultFramePacing = FramePacing.Sleep;
+
     /** Empty {@link GameLoopState game loop state}, for resetting the game loop. */
     public static final GameLoopState NoState = new GameLoopState(
         CoreLoopState.EarlyUpdate,
@@ -81,6 +94,13 @@ public class GameLoop implements Runnable {
     private final Predicate<GameLoop> runCondition;
     private final Predicate<GameLoop> syncCondition;
 
+    private static final CoreLoopState[] CoreLoopStates = CoreLoopState.values();
+    private static final EventObserver<?>[] NoObservers = {};
+    private static final LoopStateEntry[] NoLoopStateEntries = {};
+    private static final String[] CoreEventSampleNames = Arrays.stream(CoreLoopStates)
+        .map(coreLoopState -> coreLoopState.name() + " events")
+        .toArray(String[]::new);
+
     private final Map<CoreLoopState, Set<GameLoopState>> gameLoopStates = Map.of(
         CoreLoopState.EarlyUpdate, new TreeSet<>(),
         CoreLoopState.FixedUpdate, new TreeSet<>(),
@@ -89,17 +109,12 @@ public class GameLoop implements Runnable {
     );
     private final Queue<GameLoopState> nextLoopStates;
 
-    private final Map<CoreLoopState, Queue<Event>> nextCoreEvents = Map.of(
-        CoreLoopState.EarlyUpdate, new ArrayDeque<>(),
-        CoreLoopState.FixedUpdate, new ArrayDeque<>(),
-        CoreLoopState.Update, new ArrayDeque<>(),
-        CoreLoopState.LateUpdate, new ArrayDeque<>()
-    );
+    private final LoopStateEntry[][] loopStateEntries;
+
+    private final Queue<Event>[] nextCoreEvents;
     private final Map<GameLoopState, Queue<Event>> nextEvents;
 
-    private final Map<Class<? extends Event>, List<EventObserver<? extends Event>>> gameEventObservers;
-    private final Map<Class<? extends Event>, EventHandler<? extends Event, ? extends EventObserver<? extends Event>>> gameEventHandlers;
-    private final Map<Class<? extends Event>, Class<? extends Event>> classAliases;
+    private final Map<Class<? extends Event>, EventRoute> eventRoutes;
 
     private GameLoopState currentGameLoopState;
     private volatile boolean isRunning;
@@ -108,12 +123,19 @@ public class GameLoop implements Runnable {
     private int targetFPS;
     private int targetUPS;
 
+    private volatile FramePacing framePacing;
+    private final FrameTimeStats frameTimeStats;
+    private final FrameProfiler frameProfiler;
+    private long frameStartTime;
+    private long nextFrameDeadline;
+
     /**
      * Constructs a game loop with the given predicates for controlling game state.
      *
      * @param shouldRun  Check during iteration for whether the game loop should stop running.
      * @param shouldSync Check during iteration for whether the game loop should perform manual sync.
      */
+    @SuppressWarnings("unchecked")
     public GameLoop(Predicate<GameLoop> shouldRun, Predicate<GameLoop> shouldSync) {
         deltaTimer = new Timer();
         fixedDeltaTimer = new Timer();
@@ -122,16 +144,24 @@ public class GameLoop implements Runnable {
         this.syncCondition = Objects.requireNonNull(shouldSync);
 
         isRunning = false;
-        nextLoopStates = new ArrayDeque<>();
-        nextEvents = new HashMap<>();
-        gameEventObservers = new HashMap<>();
-        gameEventHandlers = new HashMap<>();
-        classAliases = new HashMap<>();
+        nextLoopStates = new ConcurrentLinkedQueue<>();
+        loopStateEntries = new LoopStateEntry[CoreLoopStates.length][];
+        Arrays.fill(loopStateEntries, NoLoopStateEntries);
+        nextCoreEvents = (Queue<Event>[]) new Queue<?>[CoreLoopStates.length];
+        for (int i = 0; i < nextCoreEvents.length; i++) {
+            nextCoreEvents[i] = new ConcurrentLinkedQueue<>();
+        }
+        nextEvents = new ConcurrentHashMap<>();
+        eventRoutes = new ConcurrentHashMap<>();
         currentGameLoopState = NoState;
 
         fixedUpdateInterval = new AtomicReference<>();
         setTargetFPS(DefaultFPS);
         setTargetUPS(DefaultUPS);
+
+        framePacing = DefaultFramePacing;
+        frameTimeStats = new FrameTimeStats();
+        frameProfiler = new FrameProfiler();
     }
 
     /**
@@ -141,9 +171,7 @@ public class GameLoop implements Runnable {
      */
     public void addGameLoopStates(GameLoopState... gameLoopStates) {
         if (isRunning) {
-            synchronized (nextLoopStates) {
-                nextLoopStates.addAll(Arrays.asList(gameLoopStates));
-            }
+            nextLoopStates.addAll(Arrays.asList(gameLoopStates));
         } else {
             for (GameLoopState gameLoopState : gameLoopStates) {
                 this.gameLoopStates.get(gameLoopState.getCoreLoopState()).add(gameLoopState);
@@ -158,9 +186,7 @@ public class GameLoop implements Runnable {
      */
     public void addGameLoopState(GameLoopState gameLoopState) {
         if (isRunning) {
-            synchronized (nextLoopStates) {
-                nextLoopStates.add(gameLoopState);
-            }
+            nextLoopStates.add(gameLoopState);
         } else {
             this.gameLoopStates.get(gameLoopState.getCoreLoopState()).add(gameLoopState);
         }
@@ -174,12 +200,7 @@ public class GameLoop implements Runnable {
      * @param <T>           The type of {@link Event event} observed.
      */
     public <T extends Event> void addEventObserver(EventObserver<T> eventObserver, Class<T> eventClass) {
-        synchronized (gameEventObservers) {
-            if (!gameEventObservers.containsKey(eventClass)) {
-                gameEventObservers.put(eventClass, new ArrayList<>());
-            }
-            gameEventObservers.get(eventClass).add(eventObserver);
-        }
+        getEventRoute(eventClass).addObserver(eventObserver);
     }
 
     /**
@@ -190,11 +211,9 @@ public class GameLoop implements Runnable {
      * @param <T>           The type of {@link Event event} observed.
      */
     public <T extends Event> void removeEventObserver(EventObserver<T> eventObserver, Class<T> eventClass) {
-        if (!gameEventObservers.containsKey(eventClass)) {
-            return;
-        }
-        synchronized (gameEventObservers) {
-            gameEventObservers.get(eventClass).remove(eventObserver);
+        EventRoute eventRoute = eventRoutes.get(eventClass);
+        if (eventRoute != null) {
+            eventRoute.removeObserver(eventObserver);
         }
     }
 
@@ -207,9 +226,7 @@ public class GameLoop implements Runnable {
      * @param <V>              The type of the event handler, based on the event type.
      */
     public <T extends Event, V extends EventHandler<T, EventObserver<T>>> void addEventHandler(V gameEventHandler, Class<T> eventClass) {
-        synchronized (gameEventHandlers) {
-            gameEventHandlers.put(eventClass, gameEventHandler);
-        }
+        getEventRoute(eventClass).eventHandler = gameEventHandler;
     }
 
     /**
@@ -219,8 +236,9 @@ public class GameLoop implements Runnable {
      * @param <T>        The type of {@link Event} handled.
      */
     public <T extends Event> void removeEventHandler(Class<T> eventClass) {
-        synchronized (gameEventHandlers) {
-            gameEventHandlers.remove(eventClass);
+        EventRoute eventRoute = eventRoutes.get(eventClass);
+        if (eventRoute != null) {
+            eventRoute.eventHandler = null;
         }
     }
 
@@ -236,7 +254,7 @@ public class GameLoop implements Runnable {
      * @param <T>           The type of the class being aliased, which extends the class alias type.
      */
     public <S extends Event, T extends S> void addClassAlias(Class<T> originalClass, Class<S> aliasedClass) {
-        classAliases.put(originalClass, aliasedClass);
+        getEventRoute(originalClass).setClassAlias(aliasedClass, getEventRoute(aliasedClass));
     }
 
     /**
@@ -250,7 +268,10 @@ public class GameLoop implements Runnable {
      * @param <T>           The type of the class being aliased, which extends the class alias type.
      */
     public <S extends Event, T extends S> void removeClassAlias(Class<T> originalClass) {
-        classAliases.remove(originalClass);
+        EventRoute eventRoute = eventRoutes.get(originalClass);
+        if (eventRoute != null) {
+            eventRoute.setClassAlias(null, null);
+        }
     }
 
     /**
@@ -263,7 +284,8 @@ public class GameLoop implements Runnable {
      * @param <T>           The type of the class to get the alias for.
      */
     public <T extends Event> Class<? extends Event> getClassAlias(Class<T> originalClass) {
-        return classAliases.get(originalClass);
+        EventRoute eventRoute = eventRoutes.get(originalClass);
+        return eventRoute != null ? eventRoute.classAlias.aliasedClass : null;
     }
 
     /** {@return whether the game loop is running} */
@@ -281,6 +303,41 @@ public class GameLoop implements Runnable {
         return targetUPS;
     }
 
+    /** {@return the strategy the game loop uses to wait out the rest of each frame, when it performs manual time-syncing} */
+    public FramePacing getFramePacing() {
+        return framePacing;
+    }
+
+    /**
+     * Sets the strategy the game loop uses to wait out the rest of each frame, when it performs manual time-syncing.
+     * <p>
+     * Unlike the target FPS and UPS, this can be changed while the game loop is running.
+     *
+     * @param framePacing The new frame pacing strategy.
+     */
+    public void setFramePacing(FramePacing framePacing) {
+        this.framePacing = Objects.requireNonNull(framePacing);
+    }
+
+    /**
+     * {@return statistics on the time taken by each of the game loop's frames}
+     * <p>
+     * The statistics are reset each time the game loop starts running, and can be {@link FrameTimeStats#reset() reset} manually at any
+     * time.
+     */
+    public FrameTimeStats getFrameTimeStats() {
+        return frameTimeStats;
+    }
+
+    /**
+     * {@return the game loop's frame profiler}
+     * <p>
+     * The profiler is disabled by default -- {@link FrameProfiler#setEnabled(boolean) enable} it to record where each frame's time goes.
+     */
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
     /**
      * {@return the amount of time passed (in {@link TimeUnit#MILLISECONDS milliseconds}) since the last {@link CoreLoopState#Update
      * update}}
@@ -334,12 +391,15 @@ public class GameLoop implements Runnable {
 
     /**
      * {@return the {@link EventObserver event observers} for the given event class}
+     * <p>
+     * The returned list is an unmodifiable snapshot: observers added or removed afterwards are not reflected in it.
      *
      * @param eventClass The event class to get event observers for.
      * @param <T>        The type of {@link Event}
      */
     public <T extends Event> List<EventObserver<? extends Event>> getEventObservers(Class<T> eventClass) {
-        return gameEventObservers.getOrDefault(eventClass, List.of());
+        EventRoute eventRoute = eventRoutes.get(eventClass);
+        return eventRoute != null ? eventRoute.observersView : List.of();
     }
 
     /**
@@ -351,7 +411,8 @@ public class GameLoop implements Runnable {
      */
     @SuppressWarnings("unchecked")
     public <T extends Event, V extends EventObserver<T>> EventHandler<T, V> getEventHandler(Class<T> eventClass) {
-        return (EventHandler<T, V>) gameEventHandlers.get(eventClass);
+        EventRoute eventRoute = eventRoutes.get(eventClass);
+        return eventRoute != null ? (EventHandler<T, V>) eventRoute.eventHandler : null;
     }
 
     /** {@return all of the game loop's states} */
@@ -385,37 +446,16 @@ public class GameLoop implements Runnable {
      * @param event The event to fire.
      * @param <T>   The class of the {@link Event event}.
      */
-    @SuppressWarnings("unchecked")
     public <T extends Event> void fireEvent(T event) {
-        Class<T> eventClass = (Class<T>) event.getClass();
-        tryFireEvent(event, eventClass);
-
-        Class<Event> classAlias = (Class<Event>) classAliases.get(eventClass);
-        if (classAlias != null) {
-            tryFireEvent(event, classAlias);
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private <T extends Event> void tryFireEvent(T event, Class<T> eventClass) {
-        var gameEventHandler = (EventHandler<T, EventObserver<T>>) gameEventHandlers.get(eventClass);
-        if (gameEventHandler != null) {
-            ((EventHandler) gameEventHandler).handleEvent(gameEventObservers.get(eventClass), event);
-            return;
-        }
-
-        List<EventObserver<? extends Event>> eventObservers = gameEventObservers.get(eventClass);
-        if (eventObservers == null) {
-            gameEventObservers.put(eventClass, new ArrayList<>());
-            eventObservers = gameEventObservers.get(eventClass);
-        }
-
-        if (gameEventObservers.get(eventClass).isEmpty()) {
+        EventRoute eventRoute = eventRoutes.get(event.getClass());
+        if (eventRoute == null) {
             return;
         }
 
-        for (var gameEventObserver : eventObservers) {
-            ((EventObserver<T>) gameEventObserver).eventReceived(event);
+        eventRoute.fire(event);
+        EventRoute aliasRoute = eventRoute.classAlias.aliasRoute;
+        if (aliasRoute != null) {
+            aliasRoute.fire(event);
         }
     }
 
@@ -427,12 +467,11 @@ public class GameLoop implements Runnable {
      * @param <T>        The class of the {@link Event event}.
      */
     public <T extends Event> void fireEvent(T event, GameLoopState whenToFire) {
-        synchronized (nextEvents) {
-            if (nextEvents.get(whenToFire) == null) {
-                nextEvents.put(whenToFire, new ArrayDeque<>());
-            }
-            nextEvents.get(whenToFire).add(event);
+        Queue<Event> events = nextEvents.get(whenToFire);
+        if (events == null) {
+            events = nextEvents.computeIfAbsent(whenToFire, gameLoopState -> new ConcurrentLinkedQueue<>());
         }
+        events.add(event);
     }
 
     /**
@@ -443,9 +482,7 @@ public class GameLoop implements Runnable {
      * @param <T>        The class of the {@link Event event}.
      */
     public <T extends Event> void fireEvent(T event, CoreLoopState whenToFire) {
-        synchronized (nextCoreEvents) {
-            nextCoreEvents.get(whenToFire).add(event);
-        }
+        nextCoreEvents[whenToFire.ordinal()].add(event);
     }
 
     /** Runs the game loop, setting {@link #isRunning()} to {@code true}. */
@@ -461,20 +498,24 @@ public class GameLoop implements Runnable {
         deltaTimer.init();
         fixedDeltaTimer.init();
 
+        addNextLoopStates();
+        updateLoopStateEntries();
+
+        frameTimeStats.reset();
+        frameStartTime = 0L;
+        nextFrameDeadline = System.nanoTime();
+
+        int fixedUpdateCount;
+
         while (runCondition.test(this)) {
+            recordFrameTime();
+            frameProfiler.beginFrame(frameStartTime);
+            fixedUpdateCount = 0;
             elapsedTime = deltaTimer.evalDeltaTime();
             accumulator += elapsedTime;
 
-            if (!nextLoopStates.isEmpty()) {
-                synchronized (nextLoopStates) {
-                    for (GameLoopState nextLoopState : nextLoopStates) {
-                        gameLoopStates.get(nextLoopState.getCoreLoopState()).add(nextLoopState);
-                        synchronized (nextEvents) {
-                            nextEvents.computeIfAbsent(nextLoopState, gameLoopState -> new ArrayDeque<>());
-                        }
-                    }
-                    nextLoopStates.clear();
-                }
+            if (addNextLoopStates()) {
+                updateLoopStateEntries();
             }
 
             runGameLoopStates(CoreLoopState.EarlyUpdate, elapsedTime);
@@ -487,6 +528,7 @@ public class GameLoop implements Runnable {
                 fireNextCoreEvents(CoreLoopState.FixedUpdate);
 
                 accumulator -= elapsedFixedTime;
+                fixedUpdateCount++;
             }
 
             runGameLoopStates(CoreLoopState.Update, elapsedTime);
@@ -498,55 +540,128 @@ public class GameLoop implements Runnable {
             currentGameLoopState = NoState;
 
             if (syncCondition.test(this)) {
-                sync();
+                if (frameProfiler.isRecording()) {
+                    long syncStart = System.nanoTime();
+                    sync();
+                    frameProfiler.recordSample(FrameProfiler.SyncSampleName, FrameProfiler.SyncCategory, syncStart, System.nanoTime());
+                } else {
+                    sync();
+                }
+            }
+
+            if (frameProfiler.isRecording()) {
+                frameProfiler.endFrame(System.nanoTime(), fixedUpdateCount);
             }
         }
 
         isRunning = false;
     }
 
-    private void runGameLoopStates(CoreLoopState coreLoopState, float elapsedFixedTime) {
-        for (GameLoopState gameLoopState : gameLoopStates.get(coreLoopState)) {
-            currentGameLoopState = gameLoopState;
-            gameLoopState.accept(elapsedFixedTime);
-            fireNextEvents(gameLoopState);
+    private boolean addNextLoopStates() {
+        boolean addedLoopStates = false;
+        GameLoopState nextLoopState;
+        while ((nextLoopState = nextLoopStates.poll()) != null) {
+            gameLoopStates.get(nextLoopState.getCoreLoopState()).add(nextLoopState);
+            addedLoopStates = true;
+        }
+        return addedLoopStates;
+    }
+
+    /** Resolves each game loop state's event queue ahead of time, so running the states needs no map lookups. */
+    private void updateLoopStateEntries() {
+        for (CoreLoopState coreLoopState : CoreLoopStates) {
+            Set<GameLoopState> coreLoopStates = gameLoopStates.get(coreLoopState);
+            LoopStateEntry[] entries = new LoopStateEntry[coreLoopStates.size()];
+            int i = 0;
+            for (GameLoopState gameLoopState : coreLoopStates) {
+                Queue<Event> events = nextEvents.computeIfAbsent(gameLoopState, state -> new ConcurrentLinkedQueue<>());
+                entries[i++] = new LoopStateEntry(gameLoopState, events);
+            }
+            loopStateEntries[coreLoopState.ordinal()] = entries;
         }
     }
 
-    private void fireNextCoreEvents(CoreLoopState coreLoopState) {
-        synchronized (nextCoreEvents) {
-            fireNextEvents(nextCoreEvents.get(coreLoopState));
+    private void runGameLoopStates(CoreLoopState coreLoopState, float elapsedFixedTime) {
+        LoopStateEntry[] entries = loopStateEntries[coreLoopState.ordinal()];
+        if (frameProfiler.isRecording()) {
+            runGameLoopStatesProfiled(entries, elapsedFixedTime);
+            return;
+        }
+
+        for (LoopStateEntry loopStateEntry : entries) {
+            currentGameLoopState = loopStateEntry.gameLoopState;
+            loopStateEntry.gameLoopState.accept(elapsedFixedTime);
+            fireNextEvents(loopStateEntry.nextEvents);
         }
     }
 
-    private void fireNextEvents(GameLoopState gameLoopState) {
-        synchronized (nextEvents) {
-            fireNextEvents(nextEvents.get(gameLoopState));
+    private void runGameLoopStatesProfiled(LoopStateEntry[] entries, float elapsedFixedTime) {
+        for (LoopStateEntry loopStateEntry : entries) {
+            currentGameLoopState = loopStateEntry.gameLoopState;
+
+            long stateStart = System.nanoTime();
+            loopStateEntry.gameLoopState.accept(elapsedFixedTime);
+            long eventsStart = System.nanoTime();
+            frameProfiler.recordSample(loopStateEntry.sampleName, FrameProfiler.LoopStateCategory, stateStart, eventsStart);
+
+            if (fireNextEvents(loopStateEntry.nextEvents) > 0) {
+                frameProfiler.recordSample(loopStateEntry.eventsSampleName, FrameProfiler.EventsCategory, eventsStart, System.nanoTime());
+            }
         }
     }
 
-    private void fireNextEvents(Queue<? extends Event> gameEvents) {
-        if (gameEvents == null || gameEvents.isEmpty()) {
+    private void fireNextCoreEvents(CoreLoopState coreLoopState) {
+        Queue<Event> events = nextCoreEvents[coreLoopState.ordinal()];
+        if (!frameProfiler.isRecording()) {
+            fireNextEvents(events);
             return;
         }
 
-        while (!gameEvents.isEmpty()) {
-            Event nextEvent = gameEvents.poll();
+        long eventsStart = System.nanoTime();
+        if (fireNextEvents(events) > 0) {
+            frameProfiler.recordSample(CoreEventSampleNames[coreLoopState.ordinal()], FrameProfiler.EventsCategory, eventsStart, System.nanoTime());
+        }
+    }
+
+    private int fireNextEvents(Queue<Event> gameEvents) {
+        int eventCount = 0;
+        Event nextEvent;
+        while ((nextEvent = gameEvents.poll()) != null) {
             fireEvent(nextEvent);
+            eventCount++;
+        }
+        return eventCount;
+    }
+
+    private long getTargetFrameNanos() {
+        return TimeUnit.SECONDS.toNanos(1L) / targetFPS;
+    }
+
+    private void recordFrameTime() {
+        long currentTime = System.nanoTime();
+        if (frameStartTime != 0L) {
+            frameTimeStats.record(currentTime - frameStartTime, getTargetFrameNanos());
         }
+        frameStartTime = currentTime;
     }
 
     private void sync() {
-        final float updateInterval = 1f / targetFPS;
-        final double endTime = deltaTimer.getLastTimestamp() + updateInterval;
-        final double currentTime = deltaTimer.getCurrentTime();
-        if (currentTime < endTime) {
-            try {
-                TimeUnit.MILLISECONDS.sleep((long) ((endTime - currentTime) * 1000L));
-            } catch (InterruptedException exception) {
-                Thread.currentThread().interrupt();
-            }
+        FramePacing pacing = framePacing;
+        long targetFrameNanos = getTargetFrameNanos();
+
+        if (pacing == FramePacing.Sleep) {
+            pacing.waitUntil(frameStartTime + targetFrameNanos);
+            return;
+        }
+
+        nextFrameDeadline += targetFrameNanos;
+        long currentTime = System.nanoTime();
+        if (currentTime - nextFrameDeadline > targetFrameNanos) {
+            // too far behind to catch up -- start pacing from now instead
+            nextFrameDeadline = currentTime;
+            return;
         }
+        pacing.waitUntil(nextFrameDeadline);
     }
 
     /** Resets the entire game loop, resetting and removing all of its state and clearing the event system. */
@@ -555,7 +670,8 @@ public class GameLoop implements Runnable {
             loopStates.clear();
         }
         nextLoopStates.clear();
-        for (Queue<Event> events : nextCoreEvents.values()) {
+        Arrays.fill(loopStateEntries, NoLoopStateEntries);
+        for (Queue<Event> events : nextCoreEvents) {
             events.clear();
         }
 
@@ -564,12 +680,114 @@ public class GameLoop implements Runnable {
         clearEventSystem();
         setTargetFPS(DefaultFPS);
         setTargetUPS(DefaultUPS);
+        setFramePacing(DefaultFramePacing);
+        frameTimeStats.reset();
+        frameProfiler.setEnabled(false);
+        frameProfiler.clear();
     }
 
     /** Clears the game loop's events, observers, and handlers. */
     public void clearEventSystem() {
-        nextEvents.clear();
-        gameEventObservers.clear();
-        gameEventHandlers.clear();
+        for (Queue<Event> events : nextEvents.values()) {
+            events.clear();
+        }
+        for (EventRoute eventRoute : eventRoutes.values()) {
+            eventRoute.clearObservers();
+            eventRoute.eventHandler = null;
+        }
+    }
+
+    private EventRoute getEventRoute(Class<? extends Event> eventClass) {
+        EventRoute eventRoute = eventRoutes.get(eventClass);
+        if (eventRoute == null) {
+            eventRoute = eventRoutes.computeIfAbsent(eventClass, c -> new EventRoute());
+        }
+        return eventRoute;
+    }
+
+    /** A game loop state, paired with the queue of events to fire after it runs and its names in the frame profiler. */
+    private static class LoopStateEntry {
+        private final GameLoopState gameLoopState;
+        private final Queue<Event> nextEvents;
+        private final String sampleName;
+        private final String eventsSampleName;
+
+        private LoopStateEntry(GameLoopState gameLoopState, Queue<Event> nextEvents) {
+            this.gameLoopState = gameLoopState;
+            this.nextEvents = nextEvents;
+            this.sampleName = FrameProfiler.sampleNameOf(gameLoopState);
+            this.eventsSampleName = sampleName + " events";
+        }
+    }
+
+    /** The class an event class is aliased to, paired with that class's route. */
+    private static class ClassAlias {
+        private static final ClassAlias None = new ClassAlias(null, null);
+
+        private final Class<? extends Event> aliasedClass;
+        private final EventRoute aliasRoute;
+
+        private ClassAlias(Class<? extends Event> aliasedClass, EventRoute aliasRoute) {
+            this.aliasedClass = aliasedClass;
+            this.aliasRoute = aliasRoute;
+        }
+    }
+
+    /**
+     * Everything needed to fire events of a single class.
+     * <p>
+     * The observer array is never modified in place -- adding or removing an observer replaces it with a copy. Firing an event only reads
+     * the current array, so it never has to lock.
+     */
+    private static class EventRoute {
+        private volatile EventObserver<?>[] observers = NoObservers;
+        private volatile List<EventObserver<? extends Event>> observersView = List.of();
+        private volatile EventHandler<?, ?> eventHandler;
+        private volatile ClassAlias classAlias = ClassAlias.None;
+
+        private synchronized void addObserver(EventObserver<?> eventObserver) {
+            EventObserver<?>[] newObservers = Arrays.copyOf(observers, observers.length + 1);
+            newObservers[observers.length] = eventObserver;
+            setObservers(newObservers);
+        }
+
+        private synchronized void removeObserver(EventObserver<?> eventObserver) {
+            EventObserver<?>[] currentObservers = observers;
+            for (int i = 0; i < currentObservers.length; i++) {
+                if (currentObservers[i].equals(eventObserver)) {
+                    EventObserver<?>[] newObservers = new EventObserver<?>[currentObservers.length - 1];
+                    System.arraycopy(currentObservers, 0, newObservers, 0, i);
+                    System.arraycopy(currentObservers, i + 1, newObservers, i, newObservers.length - i);
+                    setObservers(newObservers);
+                    return;
+                }
+            }
+        }
+
+        private synchronized void clearObservers() {
+            setObservers(NoObservers);
+        }
+
+        private void setObservers(EventObserver<?>[] newObservers) {
+            observersView = List.of(newObservers);
+            observers = newObservers;
+        }
+
+        private void setClassAlias(Class<? extends Event> aliasedClass, EventRoute aliasRoute) {
+            classAlias = aliasRoute != null ? new ClassAlias(aliasedClass, aliasRoute) : ClassAlias.None;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void fire(Event event) {
+            EventHandler eventHandler = this.eventHandler;
+            if (eventHandler != null) {
+                eventHandler.handleEvent(observersView, event);
+                return;
+            }
+
+            for (EventObserver eventObserver : observers) {
+                eventObserver.eventReceived(event);
+            }
+        }
     }
 }
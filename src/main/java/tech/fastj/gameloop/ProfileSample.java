@@ -0,0 +1,19 @@
+package tech.fastj.gameloop;
+
+/**
+ * A single timed section of a {@link ProfiledFrame profiled frame}.
+ *
+ * @param name        The name of the timed section -- for example, the {@link GameLoopState game loop state} that ran.
+ * @param category    The {@link FrameProfiler kind of work} done during the section.
+ * @param startNanos  When the section started, in terms of {@link System#nanoTime()}.
+ * @param endNanos    When the section ended, in terms of {@link System#nanoTime()}.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public record ProfileSample(String name, String category, long startNanos, long endNanos) {
+
+    /** {@return how long the section took, in nanoseconds} */
+    public long durationNanos() {
+        return endNanos - startNanos;
+    }
+}
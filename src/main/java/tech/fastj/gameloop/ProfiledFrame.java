@@ -0,0 +1,37 @@
+package tech.fastj.gameloop;
+
+import java.util.List;
+
+/**
+ * A single game loop iteration recorded by a {@link FrameProfiler frame profiler}.
+ *
+ * @param startNanos       When the frame started, in terms of {@link System#nanoTime()}.
+ * @param endNanos         When the frame ended, in terms of {@link System#nanoTime()}.
+ * @param fixedUpdateCount How many times {@link CoreLoopState#FixedUpdate fixed update} ran during the frame, to catch up with the
+ *                         {@link GameLoop#getTargetUPS() target ups}.
+ * @param samples          The timed sections of the frame, in the order they started.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public record ProfiledFrame(long startNanos, long endNanos, int fixedUpdateCount, List<ProfileSample> samples) {
+
+    /** {@return how long the frame took, in nanoseconds} */
+    public long durationNanos() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * {@return the total time spent in samples with the given name during the frame, in nanoseconds}
+     *
+     * @param name The name of the samples to total.
+     */
+    public long totalNanos(String name) {
+        long total = 0L;
+        for (ProfileSample sample : samples) {
+            if (sample.name().equals(name)) {
+                total += sample.durationNanos();
+            }
+        }
+        return total;
+    }
+}
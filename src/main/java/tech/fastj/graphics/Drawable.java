@@ -1,17 +1,24 @@
 package tech.fastj.graphics;
 
 import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Maths;
 import tech.fastj.math.Pointf;
 import tech.fastj.math.Transform2D;
+import tech.fastj.physics.CollisionMode;
+import tech.fastj.physics.Contact;
+import tech.fastj.physics.ConvexDecomposition;
+import tech.fastj.physics.NarrowPhase;
 import tech.fastj.systems.control.GameHandler;
 import tech.fastj.systems.tags.TaggableEntity;
 
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
 import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
 import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The abstract class to objects that can be drawn to a {@code Display}.
@@ -26,23 +33,57 @@ public abstract class Drawable extends TaggableEntity {
     /** {@code boolean} representing the default value for if a {@code Drawable} should be rendered as {@code true}. */
     public static final boolean DefaultShouldRender = true;
 
-    private final UUID rawID;
-    private final String id;
+    private static final DrawableListener[] NoListeners = {};
+
+    /** The amount of handles each thread takes from {@link #NextHandleBlock} at once, so that threads rarely contend for handles. */
+    private static final long HandleBlockSize = 1024L;
+    private static final AtomicLong NextHandleBlock = new AtomicLong();
+    /** The next handle, and the end of the current block of handles, of each thread. */
+    private static final ThreadLocal<long[]> HandleBlocks = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final long handle;
+    private String id;
+    private UUID rawID;
 
     /** The non-transformed path defining where the Drawable collides. */
     protected Path2D.Float collisionPath;
-    /** The path defining where the Drawable collides, with its transformation applied. */
+    /**
+     * The path defining where the Drawable collides, with its transformation applied.
+     * <p>
+     * This path is updated in place, lazily -- use {@link #getCollisionPath()} rather than reading it directly.
+     */
     protected Path2D.Float transformedCollisionPath;
     /** The transformation of the Drawable. */
     protected final Transform2D transform;
+
+    private byte[] collisionPathTypes;
+    private float[] collisionPathCoords;
+    private float[] collisionPathSegment;
+    private float[] transformedCollisionPathCoords;
+    private int collisionPathTypeCount;
+    private int collisionPathCoordCount;
+    private boolean isCollisionPathDirty;
+    private int transformedPathRevision;
+    private float boundsMinX;
+    private float boundsMinY;
+    private float boundsMaxX;
+    private float boundsMaxY;
+
+    private DrawableListener[] listeners = NoListeners;
+    RenderLayer renderLayer;
+
+    private CollisionMode collisionMode = CollisionMode.Convex;
+    private ConvexDecomposition convexDecomposition;
+    private boolean isConvexDecompositionDirty;
+    private int convexDecompositionRevision;
+
     private boolean shouldRender;
     private Pointf initialCenter;
     private boolean isDestroyed;
 
     /** Constructs a {@code Drawable}, initializing its internal variables. */
     protected Drawable() {
-        rawID = UUID.randomUUID();
-        id = "DRAWABLE$" + getClass().getSimpleName() + "_" + rawID;
+        handle = nextHandle();
 
         transform = new Transform2D();
         shouldRender = DefaultShouldRender;
@@ -59,10 +100,14 @@ public abstract class Drawable extends TaggableEntity {
 
     /**
      * Gets the collision path of the {@code Drawable}.
+     * <p>
+     * The returned path is owned by the {@code Drawable}, and is updated in place whenever it is requested after the {@code Drawable} has
+     * been transformed.
      *
      * @return The collision path of the {@code Drawable}, as a {@code Path2D.Float}.
      */
     public Path2D.Float getCollisionPath() {
+        updateTransformedCollisionPath();
         return transformedCollisionPath;
     }
 
@@ -73,29 +118,167 @@ public abstract class Drawable extends TaggableEntity {
      */
     protected void setCollisionPath(Path2D.Float path) {
         collisionPath = path;
-        updateTransformedCollisionPath();
+        collisionPathChanged();
+    }
+
+    /**
+     * Updates the {@code Drawable} after its collision path was changed in place, rather than replaced through
+     * {@link #setCollisionPath(Path2D.Float)}.
+     * <p>
+     * Drawables whose shape changes often can reuse a single path this way, without allocating a new one for every change.
+     *
+     * @since 1.7.0
+     */
+    protected void collisionPathChanged() {
+        storeCollisionPathSegments();
+        isCollisionPathDirty = true;
+        convexDecomposition = null;
+
+        initialCenter = getCenter(initialCenter != null ? initialCenter : new Pointf());
+        boundsChanged();
+    }
+
+    /**
+     * Adds a listener to be notified about changes to the {@code Drawable}.
+     *
+     * @param listener The listener to add.
+     * @since 1.7.0
+     */
+    public void addDrawableListener(DrawableListener listener) {
+        DrawableListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    /**
+     * Removes a listener previously added through {@link #addDrawableListener(DrawableListener)}.
+     *
+     * @param listener The listener to remove.
+     * @since 1.7.0
+     */
+    public void removeDrawableListener(DrawableListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] != listener) {
+                continue;
+            }
+
+            DrawableListener[] newListeners = new DrawableListener[listeners.length - 1];
+            System.arraycopy(listeners, 0, newListeners, 0, i);
+            System.arraycopy(listeners, i + 1, newListeners, i, newListeners.length - i);
+            listeners = newListeners;
+            return;
+        }
+    }
+
+    /**
+     * Notifies the {@code Drawable}'s {@link DrawableListener listeners} that its bounds may have changed.
+     * <p>
+     * This is called automatically by the {@code Drawable}'s own transform methods. Subclasses which modify {@link #transform} directly
+     * should call this afterwards.
+     *
+     * @since 1.7.0
+     */
+    protected void boundsChanged() {
+        for (DrawableListener listener : listeners) {
+            listener.boundsChanged(this);
+        }
+    }
+
+    /**
+     * Notifies the {@code Drawable}'s {@link DrawableListener listeners} that the way it looks may have changed.
+     * <p>
+     * Subclasses should call this whenever they change anything which affects how they are rendered, other than their transform or
+     * collision path.
+     *
+     * @since 1.7.0
+     */
+    protected void appearanceChanged() {
+        for (DrawableListener listener : listeners) {
+            listener.appearanceChanged(this);
+        }
+    }
 
-        initialCenter = getCenter();
+    /**
+     * {@return the {@link RenderLayer render layer} the {@code Drawable} belongs to, or {@code null} if it is not in a render layer}
+     *
+     * @since 1.7.0
+     */
+    public RenderLayer getRenderLayer() {
+        return renderLayer;
+    }
+
+    /**
+     * {@return the handle of the {@code Drawable}}
+     * <p>
+     * Handles are unique, and never reused -- a handle kept after its {@code Drawable} is gone can never refer to another one. They are
+     * what {@link tech.fastj.systems.control.DrawableManager drawable managers} and {@link tech.fastj.systems.behaviors.BehaviorManager
+     * behavior managers} look {@code Drawable}s up by.
+     *
+     * @since 1.7.0
+     */
+    public long getHandle() {
+        return handle;
     }
 
     /**
      * Gets the {@code String} ID of the {@code Drawable}.
+     * <p>
+     * The ID is made up of the {@code Drawable}'s class name and its {@link #getHandle() handle}, in the form
+     * {@code DRAWABLE$<class name>_<handle>}. It is only built the first time it is needed.
      *
      * @return String that represents the ID of the {@code Drawable}.
      */
     public String getID() {
-        return id;
+        String drawableID = id;
+        if (drawableID == null) {
+            drawableID = "DRAWABLE$" + getClass().getSimpleName() + "_" + handle;
+            id = drawableID;
+        }
+        return drawableID;
     }
 
     /**
      * Gets the raw {@code UUID} of the {@code Drawable}.
+     * <p>
+     * The {@code UUID} is only generated the first time it is needed.
      *
      * @return The {@code UUID} that represents the raw ID of the {@code Drawable}.
      */
-    public UUID getUUID() {
+    public synchronized UUID getUUID() {
+        if (rawID == null) {
+            rawID = UUID.randomUUID();
+        }
         return rawID;
     }
 
+    /**
+     * {@return the handle in the given {@link #getID() ID}, or {@code -1} if the ID is not in the form of a {@code Drawable}'s ID}
+     *
+     * @param id The ID to read the handle from.
+     * @since 1.7.0
+     */
+    public static long handleOf(String id) {
+        int separator = id.lastIndexOf('_');
+        if (!id.startsWith("DRAWABLE$") || separator == -1) {
+            return -1L;
+        }
+
+        try {
+            return Long.parseLong(id, separator + 1, id.length(), 10);
+        } catch (NumberFormatException exception) {
+            return -1L;
+        }
+    }
+
+    private static long nextHandle() {
+        long[] handleBlock = HandleBlocks.get();
+        if (handleBlock[0] == handleBlock[1]) {
+            handleBlock[0] = NextHandleBlock.getAndAdd(HandleBlockSize);
+            handleBlock[1] = handleBlock[0] + HandleBlockSize;
+        }
+        return handleBlock[0]++;
+    }
+
     /**
      * Gets the boundaries of the {@code Drawable}.
      * <p>
@@ -106,7 +289,38 @@ public abstract class Drawable extends TaggableEntity {
      * @return The {@code Pointf} array that contains the bounds of the {@code Drawable}.
      */
     public Pointf[] getBounds() {
-        return DrawUtil.createBox((Rectangle2D.Float) transformedCollisionPath.getBounds2D());
+        updateTransformedCollisionPath();
+        return DrawUtil.createBox(boundsMinX, boundsMinY, boundsMaxX - boundsMinX, boundsMaxY - boundsMinY);
+    }
+
+    /**
+     * Copies the axis-aligned bounding box of the {@code Drawable} into the given rectangle.
+     * <p>
+     * The bounding box is cached alongside the {@link #getCollisionPath() collision path}, so this does not allocate.
+     *
+     * @param destination The rectangle to store the bounding box in.
+     * @return The given rectangle, for method chaining.
+     * @since 1.7.0
+     */
+    public Rectangle2D.Float getBoundingBox(Rectangle2D.Float destination) {
+        updateTransformedCollisionPath();
+        destination.setRect(boundsMinX, boundsMinY, boundsMaxX - boundsMinX, boundsMaxY - boundsMinY);
+        return destination;
+    }
+
+    /**
+     * Checks whether the axis-aligned bounding box of the {@code Drawable} overlaps the given area, using its cached bounding box.
+     *
+     * @param minX The minimum x of the area.
+     * @param minY The minimum y of the area.
+     * @param maxX The maximum x of the area.
+     * @param maxY The maximum y of the area.
+     * @return Whether the bounding box overlaps the area.
+     * @since 1.7.0
+     */
+    public boolean boundsOverlap(float minX, float minY, float maxX, float maxY) {
+        updateTransformedCollisionPath();
+        return boundsMinX <= maxX && boundsMaxX >= minX && boundsMinY <= maxY && boundsMaxY >= minY;
     }
 
     /**
@@ -126,8 +340,8 @@ public abstract class Drawable extends TaggableEntity {
      * @since 1.6.0
      */
     public float width() {
-        Pointf[] bounds = getBounds();
-        return Pointf.subtract(bounds[Boundary.TopRight.location], bounds[Boundary.TopLeft.location]).x;
+        updateTransformedCollisionPath();
+        return boundsMaxX - boundsMinX;
     }
 
     /**
@@ -137,8 +351,8 @@ public abstract class Drawable extends TaggableEntity {
      * @since 1.6.0
      */
     public float height() {
-        Pointf[] bounds = getBounds();
-        return Pointf.subtract(bounds[Boundary.BottomRight.location], bounds[Boundary.TopRight.location]).y;
+        updateTransformedCollisionPath();
+        return boundsMaxY - boundsMinY;
     }
 
     /**
@@ -147,7 +361,38 @@ public abstract class Drawable extends TaggableEntity {
      * @return The center point, as a {@code Pointf}.
      */
     public Pointf getCenter() {
-        return DrawUtil.centerOf(getBounds());
+        return getCenter(new Pointf());
+    }
+
+    /**
+     * Gets the center point of the {@code Drawable}, storing it in the given destination rather than creating a new {@code Pointf}.
+     *
+     * @param destination The {@code Pointf} to store the center point in.
+     * @return The destination, set to the center point.
+     * @since 1.7.0
+     */
+    public Pointf getCenter(Pointf destination) {
+        updateTransformedCollisionPath();
+        destination.set((boundsMinX + boundsMaxX) * 0.5f, (boundsMinY + boundsMaxY) * 0.5f);
+        return destination;
+    }
+
+    /**
+     * Brings every lazily computed cache of the {@code Drawable} up to date: its transformation, its {@link #getCollisionPath() collision
+     * path} and bounds, and its {@link #getConvexDecomposition() convex decomposition} if it has one.
+     * <p>
+     * Reading the {@code Drawable} -- such as through {@link #getCenter()} or {@link #width()} -- rebuilds those caches in place the first
+     * time after it was transformed. Calling this on one thread first makes later reads from several threads at once safe, until the
+     * {@code Drawable} is transformed again.
+     *
+     * @since 1.7.0
+     */
+    public void ensureCaches() {
+        transform.getCachedAffineTransform();
+        updateTransformedCollisionPath();
+        if (convexDecomposition != null) {
+            getConvexDecomposition();
+        }
     }
 
     /**
@@ -166,7 +411,10 @@ public abstract class Drawable extends TaggableEntity {
      * @return The {@code Drawable}, for method chaining.
      */
     public Drawable setShouldRender(boolean shouldBeRendered) {
-        shouldRender = shouldBeRendered;
+        if (shouldRender != shouldBeRendered) {
+            shouldRender = shouldBeRendered;
+            appearanceChanged();
+        }
         return this;
     }
 
@@ -181,16 +429,111 @@ public abstract class Drawable extends TaggableEntity {
 
     /**
      * Determines whether or not two objects are colliding (intersection).
+     * <p>
+     * Unless either {@code Drawable} uses {@link CollisionMode#Exact exact collision}, this checks the {@link #getConvexDecomposition()
+     * convex pieces} of each collision path through the {@link NarrowPhase narrow phase}, without allocating.
      *
      * @param drawable The other {@code Drawable} that is being tested against this {@code Drawable}.
      * @return Boolean value that states whether the two {@code Drawable}s intersect.
      */
     public boolean collidesWith(Drawable drawable) {
-        Area thisObject = new Area(transformedCollisionPath);
-        Area otherObject = new Area(drawable.transformedCollisionPath);
+        return collidesWith(drawable, null);
+    }
+
+    /**
+     * Determines whether or not two objects are colliding (intersection), and how deeply.
+     * <p>
+     * If the two collide, the given contact is set to the deepest overlap between their {@link #getConvexDecomposition() convex pieces},
+     * with its normal pointing from this {@code Drawable} towards the other -- even if either uses {@link CollisionMode#Exact exact
+     * collision}.
+     *
+     * @param drawable The other {@code Drawable} that is being tested against this {@code Drawable}.
+     * @param contact  The contact to store the overlap in, or {@code null} if it isn't needed.
+     * @return Boolean value that states whether the two {@code Drawable}s intersect.
+     * @since 1.7.0
+     */
+    public boolean collidesWith(Drawable drawable, Contact contact) {
+        updateTransformedCollisionPath();
+        drawable.updateTransformedCollisionPath();
+        if (collisionPath == null || drawable.collisionPath == null
+            || !drawable.boundsOverlap(boundsMinX, boundsMinY, boundsMaxX, boundsMaxY)) {
+            if (contact != null) {
+                contact.reset();
+            }
+            return false;
+        }
+
+        if (collisionMode == CollisionMode.Exact || drawable.collisionMode == CollisionMode.Exact) {
+            Area thisObject = new Area(getCollisionPath());
+            Area otherObject = new Area(drawable.getCollisionPath());
+
+            otherObject.intersect(thisObject);
+            if (otherObject.isEmpty()) {
+                if (contact != null) {
+                    contact.reset();
+                }
+                return false;
+            }
+
+            if (contact != null) {
+                NarrowPhase.forCurrentThread().collides(getConvexDecomposition(), drawable.getConvexDecomposition(), contact);
+            }
+            return true;
+        }
+
+        return NarrowPhase.forCurrentThread().collides(getConvexDecomposition(), drawable.getConvexDecomposition(), contact);
+    }
+
+    /**
+     * {@return how the {@code Drawable} checks for collisions}
+     *
+     * @since 1.7.0
+     */
+    public CollisionMode getCollisionMode() {
+        return collisionMode;
+    }
+
+    /**
+     * Sets how the {@code Drawable} checks for collisions.
+     * <p>
+     * If either of two {@code Drawable}s checking for collision with each other uses {@link CollisionMode#Exact exact collision}, the
+     * check is exact.
+     *
+     * @param collisionMode The collision mode to use.
+     * @return The {@code Drawable}, for method chaining.
+     * @since 1.7.0
+     */
+    public Drawable setCollisionMode(CollisionMode collisionMode) {
+        this.collisionMode = collisionMode;
+        return this;
+    }
+
+    /**
+     * Gets the collision path of the {@code Drawable}, split into convex pieces.
+     * <p>
+     * The decomposition is computed once for each collision path, and its world space vertices are updated in place whenever it is
+     * requested after the {@code Drawable} has been transformed.
+     *
+     * @return The convex decomposition of the collision path.
+     * @since 1.7.0
+     */
+    public ConvexDecomposition getConvexDecomposition() {
+        if (collisionPath == null) {
+            return ConvexDecomposition.Empty;
+        }
+
+        if (convexDecomposition == null) {
+            convexDecomposition = ConvexDecomposition.of(collisionPath);
+            isConvexDecompositionDirty = true;
+        }
+
+        if (isConvexDecompositionDirty || convexDecompositionRevision != transform.getRevision()) {
+            convexDecomposition.update(transform.getCachedAffineTransform());
+            isConvexDecompositionDirty = false;
+            convexDecompositionRevision = transform.getRevision();
+        }
 
-        otherObject.intersect(thisObject);
-        return !otherObject.isEmpty();
+        return convexDecomposition;
     }
 
     /**
@@ -202,6 +545,17 @@ public abstract class Drawable extends TaggableEntity {
         return transform.getTranslation();
     }
 
+    /**
+     * Gets the {@code Drawable}'s translation, storing it in the given destination rather than creating a new {@code Pointf}.
+     *
+     * @param destination The {@code Pointf} to store the translation in.
+     * @return The destination, set to the {@code Drawable}'s translation.
+     * @since 1.7.0
+     */
+    public Pointf getTranslation(Pointf destination) {
+        return transform.getTranslation(destination);
+    }
+
     /**
      * Sets the {@code Drawable}'s translation to the specified value.
      *
@@ -209,12 +563,13 @@ public abstract class Drawable extends TaggableEntity {
      * @return The {@code Drawable}, for method chaining.
      */
     public Drawable setTranslation(Pointf setTranslation) {
-        if (getTranslation().equals(setTranslation)) {
+        if (Maths.floatEquals(transform.getTranslationX(), setTranslation.x)
+            && Maths.floatEquals(transform.getTranslationY(), setTranslation.y)) {
             return this;
         }
 
         transform.setTranslation(setTranslation);
-        updateTransformedCollisionPath();
+        boundsChanged();
         return this;
     }
 
@@ -239,7 +594,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.setRotation(setRotation);
-        updateTransformedCollisionPath();
+        boundsChanged();
         return this;
     }
 
@@ -252,6 +607,17 @@ public abstract class Drawable extends TaggableEntity {
         return transform.getScale();
     }
 
+    /**
+     * Gets the {@code Drawable}'s scale, storing it in the given destination rather than creating a new {@code Pointf}.
+     *
+     * @param destination The {@code Pointf} to store the scale in.
+     * @return The destination, set to the {@code Drawable}'s scale.
+     * @since 1.7.0
+     */
+    public Pointf getScale(Pointf destination) {
+        return transform.getScale(destination);
+    }
+
     /**
      * Sets the {@code Drawable}'s scale to the specified value.
      *
@@ -259,12 +625,12 @@ public abstract class Drawable extends TaggableEntity {
      * @return The {@code Drawable}, for method chaining.
      */
     public Drawable setScale(Pointf setScale) {
-        if (getScale().equals(setScale)) {
+        if (Maths.floatEquals(transform.getScaleX(), setScale.x) && Maths.floatEquals(transform.getScaleY(), setScale.y)) {
             return this;
         }
 
         transform.setScale(setScale);
-        updateTransformedCollisionPath();
+        boundsChanged();
         return this;
     }
 
@@ -294,7 +660,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.translate(translationMod);
-        updateTransformedCollisionPath();
+        boundsChanged();
     }
 
     /**
@@ -309,7 +675,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.rotate(rotationMod, centerpoint);
-        updateTransformedCollisionPath();
+        boundsChanged();
     }
 
     /**
@@ -324,7 +690,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.scale(scaleMod, centerpoint);
-        updateTransformedCollisionPath();
+        boundsChanged();
     }
 
     /**
@@ -345,6 +711,18 @@ public abstract class Drawable extends TaggableEntity {
         return transform.getAffineTransform();
     }
 
+    /**
+     * Gets the entire transformation of the {@code Drawable}, without copying it.
+     * <p>
+     * The returned transform is cached by the drawable and <b>must not be modified</b>.
+     *
+     * @return The cached transformation, as an {@link AffineTransform}.
+     * @since 1.7.0
+     */
+    public AffineTransform getCachedTransformation() {
+        return transform.getCachedAffineTransform();
+    }
+
     /**
      * Rotates the {@code Drawable} in the direction of the specified rotation, about its center.
      *
@@ -429,21 +807,124 @@ public abstract class Drawable extends TaggableEntity {
      */
     protected void destroyTheRest(GameHandler origin) {
         transform.reset();
+        boundsChanged();
         clearTags();
 
         collisionPath = null;
         isDestroyed = true;
     }
 
+    /** Copies the segments of the collision path into flat arrays, so the transformed path can be rebuilt without allocating. */
+    private void storeCollisionPathSegments() {
+        if (collisionPathTypes == null) {
+            collisionPathTypes = new byte[16];
+            collisionPathCoords = new float[32];
+            collisionPathSegment = new float[6];
+        }
+
+        collisionPathTypeCount = 0;
+        collisionPathCoordCount = 0;
+
+        float[] segment = collisionPathSegment;
+        for (PathIterator iterator = collisionPath.getPathIterator(null); !iterator.isDone(); iterator.next()) {
+            int type = iterator.currentSegment(segment);
+            int coordCount = switch (type) {
+                case PathIterator.SEG_MOVETO, PathIterator.SEG_LINETO -> 2;
+                case PathIterator.SEG_QUADTO -> 4;
+                case PathIterator.SEG_CUBICTO -> 6;
+                default -> 0;
+            };
+
+            if (collisionPathTypeCount == collisionPathTypes.length) {
+                collisionPathTypes = Arrays.copyOf(collisionPathTypes, collisionPathTypes.length * 2);
+            }
+            if (collisionPathCoordCount + coordCount > collisionPathCoords.length) {
+                collisionPathCoords = Arrays.copyOf(collisionPathCoords, Math.max(collisionPathCoords.length * 2, collisionPathCoordCount + coordCount));
+            }
+
+            collisionPathTypes[collisionPathTypeCount++] = (byte) type;
+            System.arraycopy(segment, 0, collisionPathCoords, collisionPathCoordCount, coordCount);
+            collisionPathCoordCount += coordCount;
+        }
+
+        if (transformedCollisionPathCoords == null || transformedCollisionPathCoords.length < collisionPathCoordCount) {
+            transformedCollisionPathCoords = new float[collisionPathCoords.length];
+        }
+        if (transformedCollisionPath == null || transformedCollisionPath.getWindingRule() != collisionPath.getWindingRule()) {
+            transformedCollisionPath = new Path2D.Float(collisionPath.getWindingRule(), collisionPathTypeCount);
+        }
+    }
+
+    /** Rebuilds the transformed collision path in place, if the collision path or transform changed since it was last built. */
     private void updateTransformedCollisionPath() {
-        transformedCollisionPath = (Path2D.Float) collisionPath.createTransformedShape(transform.getAffineTransform());
+        if (collisionPath == null || (!isCollisionPathDirty && transformedPathRevision == transform.getRevision())) {
+            return;
+        }
+
+        transform.getCachedAffineTransform().transform(collisionPathCoords, 0, transformedCollisionPathCoords, 0, collisionPathCoordCount / 2);
+
+        float[] coords = transformedCollisionPathCoords;
+        transformedCollisionPath.reset();
+        for (int type = 0, coord = 0; type < collisionPathTypeCount; type++) {
+            switch (collisionPathTypes[type]) {
+                case PathIterator.SEG_MOVETO -> {
+                    transformedCollisionPath.moveTo(coords[coord], coords[coord + 1]);
+                    coord += 2;
+                }
+                case PathIterator.SEG_LINETO -> {
+                    transformedCollisionPath.lineTo(coords[coord], coords[coord + 1]);
+                    coord += 2;
+                }
+                case PathIterator.SEG_QUADTO -> {
+                    transformedCollisionPath.quadTo(coords[coord], coords[coord + 1], coords[coord + 2], coords[coord + 3]);
+                    coord += 4;
+                }
+                case PathIterator.SEG_CUBICTO -> {
+                    transformedCollisionPath.curveTo(
+                        coords[coord], coords[coord + 1],
+                        coords[coord + 2], coords[coord + 3],
+                        coords[coord + 4], coords[coord + 5]
+                    );
+                    coord += 6;
+                }
+                default -> transformedCollisionPath.closePath();
+            }
+        }
+
+        updateBoundingBox();
+        isCollisionPathDirty = false;
+        transformedPathRevision = transform.getRevision();
+    }
+
+    private void updateBoundingBox() {
+        if (collisionPathCoordCount == 0) {
+            boundsMinX = boundsMinY = boundsMaxX = boundsMaxY = 0f;
+            return;
+        }
+
+        float[] coords = transformedCollisionPathCoords;
+        float minX = coords[0];
+        float minY = coords[1];
+        float maxX = minX;
+        float maxY = minY;
+        for (int i = 2; i < collisionPathCoordCount; i += 2) {
+            minX = Math.min(minX, coords[i]);
+            maxX = Math.max(maxX, coords[i]);
+            minY = Math.min(minY, coords[i + 1]);
+            maxY = Math.max(maxY, coords[i + 1]);
+        }
+
+        boundsMinX = minX;
+        boundsMinY = minY;
+        boundsMaxX = maxX;
+        boundsMaxY = maxY;
     }
 
     @Override
     public String toString() {
         return "Drawable{" +
-            "rawID=" + rawID +
-            ", id='" + id + '\'' +
+            "handle=" + handle +
+            ", id='" + getID() + '\'' +
             ", collisionPath=" + collisionPath +
             ", shouldRender=" + shouldRender +
             ", boundaries=" + Arrays.toString(getBounds()) +
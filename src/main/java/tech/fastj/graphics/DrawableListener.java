@@ -0,0 +1,30 @@
+package tech.fastj.graphics;
+
+/**
+ * Listener notified about changes to a {@link Drawable}.
+ * <p>
+ * Listeners are called on whichever thread changed the drawable, immediately after the change. They should do as little work as possible
+ * -- typically, just noting that the drawable needs to be revisited later.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface DrawableListener {
+
+    /**
+     * Called when the bounds of the given drawable may have changed, either through its transform or its collision path.
+     *
+     * @param drawable The drawable whose bounds changed.
+     */
+    void boundsChanged(Drawable drawable);
+
+    /**
+     * Called when the way the given drawable looks may have changed, without its bounds changing -- for example, when its paint, or
+     * whether it {@link Drawable#shouldRender() should render}, changes.
+     *
+     * @param drawable The drawable whose appearance changed.
+     */
+    default void appearanceChanged(Drawable drawable) {
+    }
+}
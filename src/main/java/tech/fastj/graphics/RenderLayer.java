@@ -0,0 +1,145 @@
+package tech.fastj.graphics;
+
+import tech.fastj.graphics.game.GameObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An ordered group of {@link GameObject game objects} which are drawn together.
+ * <p>
+ * Render layers are drawn in the order they were added to their {@link tech.fastj.systems.control.DrawableManager drawable manager},
+ * before any game objects which are not in a layer. Within a layer, game objects are drawn in the order they were added.
+ * <p>
+ * A {@link #isStatic() static} layer is drawn once into an off-screen image, which is then copied to the screen each frame instead of
+ * drawing every game object in the layer again. This suits backgrounds, tile maps, and other scenery which rarely changes. The image is
+ * redrawn automatically whenever a game object in the layer changes its transform, its appearance (such as its paint), or whether it
+ * should render -- each of which increases the layer's {@link #getRevision() revision}. Changes the layer cannot see, such as a custom
+ * game object changing its own state, should be followed by a call to {@link #invalidate()}.
+ * <p>
+ * A dynamic layer draws its game objects every frame, as normal.
+ * <p>
+ * A game object may only be in one render layer at a time.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class RenderLayer implements DrawableListener {
+
+    private final boolean isStatic;
+    private final List<GameObject> gameObjects;
+    private final List<GameObject> gameObjectsView;
+    private int revision;
+
+    /**
+     * Constructs an empty render layer.
+     *
+     * @param isStatic Whether the layer is static, and should be drawn from a cached image.
+     */
+    public RenderLayer(boolean isStatic) {
+        this.isStatic = isStatic;
+        gameObjects = new ArrayList<>();
+        gameObjectsView = Collections.unmodifiableList(gameObjects);
+    }
+
+    /** {@return whether the layer is static, and drawn from a cached image} */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /** {@return the game objects in the layer, in the order they are drawn} */
+    public List<GameObject> getGameObjects() {
+        return gameObjectsView;
+    }
+
+    /**
+     * {@return the layer's revision}
+     * <p>
+     * The revision increases whenever the layer's game objects, or the way any of them look, change. A static layer's cached image is
+     * redrawn whenever its revision no longer matches the revision the image was drawn at.
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Adds the given game object to the end of the layer.
+     *
+     * @param gameObject The game object to add.
+     * @throws IllegalStateException if the game object is already in a different render layer.
+     */
+    public void add(GameObject gameObject) {
+        Drawable drawable = gameObject;
+        if (drawable.renderLayer == this) {
+            return;
+        }
+        if (drawable.renderLayer != null) {
+            throw new IllegalStateException("Game object " + gameObject.getID() + " is already in a different render layer.");
+        }
+
+        drawable.renderLayer = this;
+        gameObject.addDrawableListener(this);
+        gameObjects.add(gameObject);
+        revision++;
+    }
+
+    /**
+     * Removes the given game object from the layer, if it is in the layer.
+     *
+     * @param gameObject The game object to remove.
+     * @return Whether the game object was in the layer.
+     */
+    public boolean remove(GameObject gameObject) {
+        Drawable drawable = gameObject;
+        if (drawable.renderLayer != this) {
+            return false;
+        }
+
+        drawable.renderLayer = null;
+        gameObject.removeDrawableListener(this);
+        for (int i = 0; i < gameObjects.size(); i++) {
+            if (gameObjects.get(i) == gameObject) {
+                gameObjects.remove(i);
+                break;
+            }
+        }
+        revision++;
+        return true;
+    }
+
+    /** Removes every game object from the layer. */
+    public void clear() {
+        for (Drawable drawable : gameObjects) {
+            drawable.renderLayer = null;
+            drawable.removeDrawableListener(this);
+        }
+
+        gameObjects.clear();
+        revision++;
+    }
+
+    /** Marks the layer as changed, so that a static layer's cached image is redrawn before it is next drawn. */
+    public void invalidate() {
+        revision++;
+    }
+
+    @Override
+    public void boundsChanged(Drawable drawable) {
+        revision++;
+    }
+
+    @Override
+    public void appearanceChanged(Drawable drawable) {
+        revision++;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderLayer{" +
+            "isStatic=" + isStatic +
+            ", gameObjects=" + gameObjects.size() +
+            ", revision=" + revision +
+            '}';
+    }
+}
@@ -193,6 +193,18 @@ public class Camera {
         return transform.getAffineTransform();
     }
 
+    /**
+     * Gets the entire transformation of the {@code Camera}, without copying it.
+     * <p>
+     * The returned transform is cached by the camera and <b>must not be modified</b>.
+     *
+     * @return The cached transformation, as an {@link AffineTransform}.
+     * @since 1.7.0
+     */
+    public AffineTransform getCachedTransformation() {
+        return transform.getCachedAffineTransform();
+    }
+
     /**
      * Rotates the {@code Camera} in the direction of the specified rotation, about its center.
      *
@@ -0,0 +1,255 @@
+package tech.fastj.graphics.display;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * A small set of pixel rectangles on screen which need to be redrawn.
+ * <p>
+ * Each damaged area {@link #add(float, float, float, float) added} is snapped outwards to whole pixels and clipped to the screen. Areas
+ * which overlap, touch, or could be covered by a single rectangle no larger than both are merged together, and once there are more than
+ * the {@link #getMaxRectangles() maximum amount} of rectangles, the two which waste the least area when merged are combined. If the
+ * damaged area grows past a {@link #getFullRedrawThreshold() fraction} of the screen, the whole screen is treated as damaged instead --
+ * at that point redrawing everything is cheaper than clipping to each rectangle.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class DamageRegion {
+
+    /** The default most rectangles a damage region holds before merging them. */
+    public static final int DefaultMaxRectangles = 16;
+    /** The default fraction of the screen which, once damaged, causes the whole screen to be redrawn. */
+    public static final float DefaultFullRedrawThreshold = 0.5f;
+
+    private static final int RectangleSize = 4;
+
+    private final int maxRectangles;
+    private final float fullRedrawThreshold;
+
+    // rectangles as min x, min y, max x, max y -- max exclusive
+    private final int[] rectangles;
+    private int rectangleCount;
+    private boolean isFull;
+    private int width;
+    private int height;
+
+    /** Constructs an empty damage region with the default settings. */
+    public DamageRegion() {
+        this(DefaultMaxRectangles, DefaultFullRedrawThreshold);
+    }
+
+    /**
+     * Constructs an empty damage region.
+     *
+     * @param maxRectangles       The most rectangles to hold before merging them.
+     * @param fullRedrawThreshold The fraction of the screen which, once damaged, causes the whole screen to be damaged.
+     */
+    public DamageRegion(int maxRectangles, float fullRedrawThreshold) {
+        if (maxRectangles < 1) {
+            throw new IllegalArgumentException("A damage region must hold at least 1 rectangle.");
+        }
+        if (!(fullRedrawThreshold > 0f && fullRedrawThreshold <= 1f)) {
+            throw new IllegalArgumentException("The full redraw threshold must be greater than 0, and at most 1.");
+        }
+
+        this.maxRectangles = maxRectangles;
+        this.fullRedrawThreshold = fullRedrawThreshold;
+        // room for one extra rectangle, which is merged away as soon as it is added
+        rectangles = new int[(maxRectangles + 1) * RectangleSize];
+    }
+
+    /** {@return the most rectangles the region holds before merging them} */
+    public int getMaxRectangles() {
+        return maxRectangles;
+    }
+
+    /** {@return the fraction of the screen which, once damaged, causes the whole screen to be damaged} */
+    public float getFullRedrawThreshold() {
+        return fullRedrawThreshold;
+    }
+
+    /**
+     * Empties the region, and sets the size of the screen it covers.
+     *
+     * @param width  The width of the screen, in pixels.
+     * @param height The height of the screen, in pixels.
+     */
+    public void reset(int width, int height) {
+        this.width = Math.max(width, 0);
+        this.height = Math.max(height, 0);
+        rectangleCount = 0;
+        isFull = false;
+    }
+
+    /** Marks the whole screen as damaged. */
+    public void addAll() {
+        isFull = true;
+        rectangleCount = 0;
+        if (width > 0 && height > 0) {
+            setRectangle(0, 0, 0, width, height);
+            rectangleCount = 1;
+        }
+    }
+
+    /**
+     * Marks the given area of the screen as damaged.
+     *
+     * @param minX The minimum x of the area, in pixels.
+     * @param minY The minimum y of the area, in pixels.
+     * @param maxX The maximum x of the area, in pixels.
+     * @param maxY The maximum y of the area, in pixels.
+     */
+    public void add(float minX, float minY, float maxX, float maxY) {
+        if (isFull) {
+            return;
+        }
+
+        int x0 = Math.max((int) Math.floor(minX), 0);
+        int y0 = Math.max((int) Math.floor(minY), 0);
+        int x1 = Math.min((int) Math.ceil(maxX), width);
+        int y1 = Math.min((int) Math.ceil(maxY), height);
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+
+        // absorb every rectangle the new one should be merged with, growing the new one as it goes
+        int i = 0;
+        while (i < rectangleCount) {
+            int r = i * RectangleSize;
+            int rx0 = rectangles[r];
+            int ry0 = rectangles[r + 1];
+            int rx1 = rectangles[r + 2];
+            int ry1 = rectangles[r + 3];
+
+            boolean touches = x0 <= rx1 && rx0 <= x1 && y0 <= ry1 && ry0 <= y1;
+            long unionArea = area(Math.min(x0, rx0), Math.min(y0, ry0), Math.max(x1, rx1), Math.max(y1, ry1));
+            if (touches || unionArea <= area(x0, y0, x1, y1) + area(rx0, ry0, rx1, ry1)) {
+                x0 = Math.min(x0, rx0);
+                y0 = Math.min(y0, ry0);
+                x1 = Math.max(x1, rx1);
+                y1 = Math.max(y1, ry1);
+                removeRectangle(i);
+                i = 0;
+            } else {
+                i++;
+            }
+        }
+
+        setRectangle(rectangleCount++, x0, y0, x1, y1);
+        if (rectangleCount > maxRectangles) {
+            mergeCheapestPair();
+        }
+
+        if (getArea() >= (long) ((double) width * height * fullRedrawThreshold)) {
+            addAll();
+        }
+    }
+
+    /** {@return whether nothing is damaged} */
+    public boolean isEmpty() {
+        return rectangleCount == 0;
+    }
+
+    /** {@return whether the whole screen is damaged} */
+    public boolean isFull() {
+        return isFull;
+    }
+
+    /** {@return the amount of damaged rectangles} */
+    public int getRectangleCount() {
+        return rectangleCount;
+    }
+
+    /**
+     * Copies one of the damaged rectangles into the given rectangle.
+     *
+     * @param index       The index of the damaged rectangle, from {@code 0} to {@link #getRectangleCount()}, exclusive.
+     * @param destination The rectangle to store the damaged rectangle in.
+     * @return The given rectangle, for method chaining.
+     */
+    public Rectangle getRectangle(int index, Rectangle destination) {
+        if (index < 0 || index >= rectangleCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        int r = index * RectangleSize;
+        destination.setBounds(rectangles[r], rectangles[r + 1], rectangles[r + 2] - rectangles[r], rectangles[r + 3] - rectangles[r + 1]);
+        return destination;
+    }
+
+    /** {@return the total damaged area, in pixels} */
+    public long getArea() {
+        long total = 0L;
+        for (int i = 0; i < rectangleCount; i++) {
+            int r = i * RectangleSize;
+            total += area(rectangles[r], rectangles[r + 1], rectangles[r + 2], rectangles[r + 3]);
+        }
+        return total;
+    }
+
+    private void mergeCheapestPair() {
+        int bestFirst = 0;
+        int bestSecond = 1;
+        long bestWaste = Long.MAX_VALUE;
+
+        for (int a = 0; a < rectangleCount; a++) {
+            int ra = a * RectangleSize;
+            for (int b = a + 1; b < rectangleCount; b++) {
+                int rb = b * RectangleSize;
+                long waste = area(
+                    Math.min(rectangles[ra], rectangles[rb]),
+                    Math.min(rectangles[ra + 1], rectangles[rb + 1]),
+                    Math.max(rectangles[ra + 2], rectangles[rb + 2]),
+                    Math.max(rectangles[ra + 3], rectangles[rb + 3])
+                ) - area(rectangles[ra], rectangles[ra + 1], rectangles[ra + 2], rectangles[ra + 3])
+                    - area(rectangles[rb], rectangles[rb + 1], rectangles[rb + 2], rectangles[rb + 3]);
+
+                if (waste < bestWaste) {
+                    bestWaste = waste;
+                    bestFirst = a;
+                    bestSecond = b;
+                }
+            }
+        }
+
+        int rf = bestFirst * RectangleSize;
+        int rs = bestSecond * RectangleSize;
+        int x0 = Math.min(rectangles[rf], rectangles[rs]);
+        int y0 = Math.min(rectangles[rf + 1], rectangles[rs + 1]);
+        int x1 = Math.max(rectangles[rf + 2], rectangles[rs + 2]);
+        int y1 = Math.max(rectangles[rf + 3], rectangles[rs + 3]);
+        removeRectangle(bestSecond);
+        removeRectangle(bestFirst);
+
+        // the merged rectangle may now overlap others, so add it back through the normal merging
+        add(x0, y0, x1, y1);
+    }
+
+    private void setRectangle(int index, int x0, int y0, int x1, int y1) {
+        int r = index * RectangleSize;
+        rectangles[r] = x0;
+        rectangles[r + 1] = y0;
+        rectangles[r + 2] = x1;
+        rectangles[r + 3] = y1;
+    }
+
+    private void removeRectangle(int index) {
+        rectangleCount--;
+        System.arraycopy(rectangles, rectangleCount * RectangleSize, rectangles, index * RectangleSize, RectangleSize);
+    }
+
+    private static long area(int x0, int y0, int x1, int y1) {
+        return (long) (x1 - x0) * (y1 - y0);
+    }
+
+    @Override
+    public String toString() {
+        return "DamageRegion{" +
+            "rectangles=" + Arrays.toString(Arrays.copyOf(rectangles, rectangleCount * RectangleSize)) +
+            ", isFull=" + isFull +
+            ", width=" + width +
+            ", height=" + height +
+            '}';
+    }
+}
@@ -0,0 +1,194 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.DrawableListener;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns changes to the drawables on screen into {@link DamageRegion damaged areas}.
+ * <p>
+ * The tracker listens to every drawable it is shown, remembering the bounds each was last drawn with. When a drawable's bounds or
+ * appearance change, both its old and new bounds are damaged. Drawables which appear for the first time damage their bounds, and drawables
+ * which are no longer shown damage the bounds they were last drawn with.
+ * <p>
+ * {@link FastJCanvas} uses a damage tracker for {@link FastJCanvas#setDirtyRegionRendering(boolean) dirty region rendering}; custom render
+ * targets can use one the same way. Drawables may change from several threads at once -- such as from
+ * {@link tech.fastj.systems.behaviors.Behavior#isThreadSafe() thread-safe behaviors} -- but tracking a frame must happen on one thread.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class DamageTracker implements DrawableListener {
+
+    private final Map<Drawable, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> changedEntries = new ArrayList<>();
+    private final Rectangle2D.Float bounds = new Rectangle2D.Float();
+    private final float[] corners = new float[8];
+
+    private DamageRegion damageRegion;
+    private AffineTransform worldTransform;
+    private AffineTransform guiTransform;
+    private float padding;
+    private int frame;
+    private int trackedCount;
+
+    /** Creates a damage tracker which is not tracking any drawables. */
+    public DamageTracker() {
+    }
+
+    /**
+     * Starts tracking a frame.
+     *
+     * @param damageRegion   The region to add damaged areas to.
+     * @param worldTransform The transform from world space to the screen, used for game objects.
+     * @param guiTransform   The transform from canvas space to the screen, used for ui elements.
+     * @param padding        The amount of pixels to grow each damaged area by.
+     */
+    public void beginFrame(DamageRegion damageRegion, AffineTransform worldTransform, AffineTransform guiTransform, float padding) {
+        this.damageRegion = damageRegion;
+        this.worldTransform = worldTransform;
+        this.guiTransform = guiTransform;
+        this.padding = padding;
+        frame++;
+        trackedCount = 0;
+    }
+
+    /**
+     * Marks the given drawable as shown this frame.
+     *
+     * @param drawable The drawable being shown.
+     * @param isGui    Whether the drawable is drawn as a ui element.
+     */
+    public void track(Drawable drawable, boolean isGui) {
+        Entry entry = entries.get(drawable);
+        if (entry == null) {
+            entry = new Entry(drawable, isGui);
+            entries.put(drawable, entry);
+            drawable.addDrawableListener(this);
+            entry.snapshot();
+            entry.damage();
+        }
+
+        if (entry.frame != frame) {
+            entry.frame = frame;
+            trackedCount++;
+        }
+    }
+
+    /** Finishes tracking a frame, damaging the areas of every drawable which changed, appeared, or disappeared. */
+    public void endFrame() {
+        for (Entry entry : changedEntries) {
+            entry.isChanged = false;
+            if (entry.frame != frame) {
+                // no longer shown -- swept below
+                continue;
+            }
+
+            entry.damage();
+            entry.snapshot();
+            entry.damage();
+        }
+        changedEntries.clear();
+
+        if (trackedCount == entries.size()) {
+            return;
+        }
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.frame != frame) {
+                entry.damage();
+                entry.drawable.removeDrawableListener(this);
+                iterator.remove();
+            }
+        }
+    }
+
+    /** Stops tracking every drawable. */
+    public void clear() {
+        for (Drawable drawable : entries.keySet()) {
+            drawable.removeDrawableListener(this);
+        }
+
+        entries.clear();
+        changedEntries.clear();
+    }
+
+    @Override
+    public void boundsChanged(Drawable drawable) {
+        markChanged(drawable);
+    }
+
+    @Override
+    public void appearanceChanged(Drawable drawable) {
+        markChanged(drawable);
+    }
+
+    private void markChanged(Drawable drawable) {
+        Entry entry = entries.get(drawable);
+        if (entry != null && !entry.isChanged) {
+            // each drawable only changes on one thread at a time, but parallel behaviors can move several drawables at once
+            entry.isChanged = true;
+            synchronized (changedEntries) {
+                changedEntries.add(entry);
+            }
+        }
+    }
+
+    /** The bounds a drawable was last drawn with. */
+    private class Entry {
+        private final Drawable drawable;
+        private final boolean isGui;
+        private boolean wasRendered;
+        private float minX;
+        private float minY;
+        private float maxX;
+        private float maxY;
+        private int frame;
+        private boolean isChanged;
+
+        private Entry(Drawable drawable, boolean isGui) {
+            this.drawable = drawable;
+            this.isGui = isGui;
+        }
+
+        /** Records the drawable's current bounds on screen. */
+        private void snapshot() {
+            wasRendered = drawable.shouldRender();
+            if (!wasRendered) {
+                return;
+            }
+
+            drawable.getBoundingBox(bounds);
+            corners[0] = bounds.x;
+            corners[1] = bounds.y;
+            corners[2] = bounds.x + bounds.width;
+            corners[3] = bounds.y;
+            corners[4] = bounds.x + bounds.width;
+            corners[5] = bounds.y + bounds.height;
+            corners[6] = bounds.x;
+            corners[7] = bounds.y + bounds.height;
+            (isGui ? guiTransform : worldTransform).transform(corners, 0, corners, 0, 4);
+
+            minX = Math.min(Math.min(corners[0], corners[2]), Math.min(corners[4], corners[6])) - padding;
+            minY = Math.min(Math.min(corners[1], corners[3]), Math.min(corners[5], corners[7])) - padding;
+            maxX = Math.max(Math.max(corners[0], corners[2]), Math.max(corners[4], corners[6])) + padding;
+            maxY = Math.max(Math.max(corners[1], corners[3]), Math.max(corners[5], corners[7])) + padding;
+        }
+
+        /** Damages the bounds recorded by the last {@link #snapshot()}. */
+        private void damage() {
+            if (wasRendered) {
+                damageRegion.add(minX, minY, maxX, maxY);
+            }
+        }
+    }
+}
@@ -3,25 +3,31 @@ package tech.fastj.graphics.display;
 import tech.fastj.engine.CrashMessages;
 import tech.fastj.engine.FastJEngine;
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderLayer;
 import tech.fastj.graphics.game.GameObject;
 import tech.fastj.graphics.ui.UIElement;
-import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.input.InputActionEvent;
 import tech.fastj.input.keyboard.Keyboard;
 import tech.fastj.input.mouse.Mouse;
 import tech.fastj.math.Point;
 import tech.fastj.math.Pointf;
+import tech.fastj.resources.images.ImageUtil;
 
+import java.awt.AlphaComposite;
 import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
-import java.awt.Shape;
-import java.awt.geom.Area;
+import java.awt.Window;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.NoninvertibleTransformException;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,6 +40,11 @@ public class FastJCanvas {
 
     /** Integer representing the default back buffer amount of {@code 3}. */
     public static final int DefaultBackBufferAmount = 3;
+    /**
+     * The default amount of pixels each damaged area is grown by in {@link #setDirtyRegionRendering(boolean) dirty region rendering}, to
+     * cover anti-aliasing and outlines drawn slightly outside of a drawable's bounds.
+     */
+    public static final float DefaultDirtyRegionPadding = 2f;
 
     // input
     private final Mouse mouse;
@@ -50,6 +61,39 @@ public class FastJCanvas {
     private final Map<RenderingHints.Key, Object> renderHints;
     private Canvas canvas;
 
+    // culling, batching, and render layers
+    private final SceneRenderer sceneRenderer;
+    private int culledCount;
+    private int drawnCount;
+    private int stateChangeCount;
+
+    // on-screen checks
+    private final ViewCuller onScreenCuller;
+    private final AffineTransform onScreenCameraTransform;
+    private Camera onScreenCamera;
+    private float onScreenViewportWidth;
+    private float onScreenViewportHeight;
+
+    // dirty regions
+    private final DamageRegion damageRegion;
+    private final DamageTracker damageTracker;
+    private final AffineTransform worldTransform;
+    private final AffineTransform guiTransform;
+    private final AffineTransform lastWorldTransform;
+    private final AffineTransform identityTransform;
+    private final Rectangle damageRectangle;
+    private final double[] damageCorners;
+    private final Rectangle2D.Float worldDamageBounds;
+    private final Rectangle2D.Float guiDamageBounds;
+    private boolean dirtyRegionRendering;
+    private float dirtyRegionPadding;
+    private VolatileImage frameSurface;
+    private boolean needsFullRedraw;
+    private Color lastBackgroundColor;
+
+    // pipelined rendering
+    private RenderPipeline renderPipeline;
+
     /**
      * Creates a display with the specified title, window resolution, and canvas resolution.
      *
@@ -61,6 +105,22 @@ public class FastJCanvas {
         resolution = canvasResolution.copy();
 
         renderHints = new LinkedHashMap<>();
+        sceneRenderer = new SceneRenderer(
+            (origin, exception) -> FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + origin, exception)
+        );
+        onScreenCuller = new ViewCuller();
+        onScreenCameraTransform = new AffineTransform();
+        damageRegion = new DamageRegion();
+        damageTracker = new DamageTracker();
+        worldTransform = new AffineTransform();
+        guiTransform = new AffineTransform();
+        lastWorldTransform = new AffineTransform();
+        identityTransform = new AffineTransform();
+        damageRectangle = new Rectangle();
+        damageCorners = new double[8];
+        worldDamageBounds = new Rectangle2D.Float();
+        guiDamageBounds = new Rectangle2D.Float();
+        dirtyRegionPadding = DefaultDirtyRegionPadding;
         mouse = new Mouse();
         keyboard = new Keyboard();
     }
@@ -99,6 +159,186 @@ public class FastJCanvas {
         return Pointf.divide(resolution.asPointf(), 2f);
     }
 
+    /**
+     * {@return the amount of drawables skipped by culling during the last frame}
+     * <p>
+     * A drawable is culled when it is set to {@link Drawable#shouldRender() render}, but its bounds lie entirely outside of the visible
+     * area.
+     */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    /** {@return the amount of drawables drawn during the last frame} */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /** {@return whether game objects are drawn through a state-sorted {@link RenderCommandBuffer render command buffer}} */
+    public boolean isBatchedRendering() {
+        return sceneRenderer.isBatchedRendering();
+    }
+
+    /**
+     * Sets whether game objects are drawn through a state-sorted {@link RenderCommandBuffer render command buffer}.
+     * <p>
+     * With batched rendering, visible game objects {@link GameObject#emitRenderCommands(RenderCommandBuffer) emit draw commands}, which
+     * are then drawn grouped by their paint, stroke, font, or image. This skips redundant graphics state changes, but game objects with
+     * different state may be drawn out of order -- see {@link RenderCommandBuffer} for details. UI elements are always drawn afterwards,
+     * in order.
+     *
+     * @param batchedRendering Whether to use batched rendering.
+     */
+    public void setBatchedRendering(boolean batchedRendering) {
+        sceneRenderer.setBatchedRendering(batchedRendering);
+    }
+
+    /**
+     * {@return the amount of paint, stroke, and font changes made while drawing game objects during the last frame}
+     * <p>
+     * This is only counted while {@link #isBatchedRendering() batched rendering} is enabled.
+     */
+    public int getStateChangeCount() {
+        return stateChangeCount;
+    }
+
+    /** {@return whether only the parts of the screen which changed are redrawn each frame} */
+    public boolean isDirtyRegionRendering() {
+        return dirtyRegionRendering;
+    }
+
+    /**
+     * Sets whether only the parts of the screen which changed are redrawn each frame.
+     * <p>
+     * With dirty region rendering, the canvas keeps the previous frame in an off-screen image. Each frame, the old and new bounds of every
+     * drawable whose {@link tech.fastj.graphics.DrawableListener#boundsChanged(Drawable) bounds} or
+     * {@link tech.fastj.graphics.DrawableListener#appearanceChanged(Drawable) appearance} changed are merged into a few
+     * {@link DamageRegion damaged rectangles}, and only those rectangles are cleared and redrawn. Drawables appearing or disappearing
+     * damage their bounds the same way. This suits ui-heavy and turn-based scenes, where most of the screen stays the same from one frame
+     * to the next.
+     * <p>
+     * The whole screen is still redrawn when the camera, resolution, canvas size, or background color changes, when the off-screen image
+     * is lost, and when too much of the screen is damaged at once. Game objects which change how they look without notifying their
+     * listeners -- such as custom game objects animating in their {@code render} method -- should call {@link #invalidate()} to have the
+     * screen redrawn.
+     *
+     * @param dirtyRegionRendering Whether to use dirty region rendering.
+     * @since 1.7.0
+     */
+    public void setDirtyRegionRendering(boolean dirtyRegionRendering) {
+        if (this.dirtyRegionRendering == dirtyRegionRendering) {
+            return;
+        }
+
+        this.dirtyRegionRendering = dirtyRegionRendering;
+        needsFullRedraw = true;
+        if (!dirtyRegionRendering) {
+            damageTracker.clear();
+            if (frameSurface != null) {
+                frameSurface.flush();
+                frameSurface = null;
+            }
+        }
+    }
+
+    /**
+     * {@return the amount of pixels each damaged area is grown by in dirty region rendering}
+     *
+     * @since 1.7.0
+     */
+    public float getDirtyRegionPadding() {
+        return dirtyRegionPadding;
+    }
+
+    /**
+     * Sets the amount of pixels each damaged area is grown by in {@link #setDirtyRegionRendering(boolean) dirty region rendering}.
+     * <p>
+     * Drawables with thick outlines, which reach further outside their bounds, may need more padding to be fully cleared when they move.
+     *
+     * @param dirtyRegionPadding The amount of pixels to grow damaged areas by.
+     * @since 1.7.0
+     */
+    public void setDirtyRegionPadding(float dirtyRegionPadding) {
+        if (dirtyRegionPadding < 0f) {
+            throw new IllegalArgumentException("The dirty region padding must not be negative.");
+        }
+        this.dirtyRegionPadding = dirtyRegionPadding;
+    }
+
+    /**
+     * {@return the regions of the screen redrawn during the last frame in dirty region rendering}
+     *
+     * @since 1.7.0
+     */
+    public DamageRegion getDamageRegion() {
+        return damageRegion;
+    }
+
+    /**
+     * Redraws the whole screen next frame, when using {@link #setDirtyRegionRendering(boolean) dirty region rendering}.
+     *
+     * @since 1.7.0
+     */
+    public void invalidate() {
+        needsFullRedraw = true;
+    }
+
+    /**
+     * {@return whether frames are drawn on a separate render thread, while the game loop updates the next frame}
+     *
+     * @since 1.7.0
+     */
+    public boolean isPipelinedRendering() {
+        return renderPipeline != null;
+    }
+
+    /**
+     * Sets whether frames are drawn on a separate render thread, while the game loop updates the next frame.
+     * <p>
+     * With pipelined rendering, rendering on the game loop only records a snapshot of the frame: the visible game objects
+     * {@link GameObject#emitRenderCommands(RenderCommandBuffer) emit their render commands} into an
+     * {@link RenderCommandBuffer#RenderCommandBuffer(boolean) unsorted command buffer}, which copies their transforms and shapes as they
+     * are at that moment. A dedicated render thread then draws the snapshot to the screen, while the game loop moves on to
+     * the next frame. Two snapshots are used in turn, so when drawing takes longer than updating, the game loop waits for the render
+     * thread rather than falling further behind. On machines with two or more cores, scenes which spend similar time updating and drawing
+     * can reach close to twice the frame rate.
+     * <p>
+     * There are a few differences from normal rendering:
+     * <ul>
+     *     <li>Game objects which do not emit their own render commands, and ui elements, are rendered on the game loop into a full-frame
+     *     overlay image, which the render thread draws in their place. Each run of these between other game objects needs its own
+     *     overlay, so they are best kept few, or drawn after everything else.</li>
+     *     <li>Paints, strokes, fonts, and images are not copied, so they should not be changed after being given to a drawable.</li>
+     *     <li>{@link RenderLayer#isStatic() Static render layers} draw their game objects directly, rather than from a cached image.</li>
+     *     <li>{@link #setBatchedRendering(boolean) Batched rendering} and {@link #setDirtyRegionRendering(boolean) dirty region rendering}
+     *     are not used.</li>
+     *     <li>Exceptions thrown while drawing are reported on the game loop, during the next render.</li>
+     * </ul>
+     * Disabling pipelined rendering waits for the frames already recorded to be drawn, and stops the render thread.
+     *
+     * @param pipelinedRendering Whether to use pipelined rendering.
+     * @since 1.7.0
+     */
+    public void setPipelinedRendering(boolean pipelinedRendering) {
+        if (pipelinedRendering == isPipelinedRendering()) {
+            return;
+        }
+
+        if (pipelinedRendering) {
+            renderPipeline = new RenderPipeline("FastJ Render Thread", this::drawSnapshot);
+            return;
+        }
+
+        RenderPipeline stoppedPipeline = renderPipeline;
+        renderPipeline = null;
+        try {
+            stoppedPipeline.stop();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        needsFullRedraw = true;
+    }
+
     /** {@return the background} */
     public Rectangle2D.Float getBackground() {
         return background;
@@ -129,7 +369,7 @@ public class FastJCanvas {
      * @return The {@code Graphics2D} object which is associated with the {@code Display}.
      */
     public Graphics2D getGraphics() {
-        return prepareGraphics((Graphics2D) canvas.getBufferStrategy().getDrawGraphics(), Camera.Default);
+        return prepareGraphics((Graphics2D) canvas.getBufferStrategy().getDrawGraphics(), Camera.Default, getResolutionScale());
     }
 
     /**
@@ -140,53 +380,70 @@ public class FastJCanvas {
      * @param camera      The camera that the user will view the game from.
      */
     public void render(Map<String, GameObject> gameObjects, Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera) {
+        render(List.of(), gameObjects, gui, camera);
+    }
+
+    /**
+     * Renders the specified render layers, game objects, and GUI objects, within the viewing area of the Camera.
+     * <p>
+     * Render layers are drawn first, in order, followed by the game objects which are not in a render layer, and finally the GUI objects.
+     * {@link RenderLayer#isStatic() Static} layers are drawn from an image cached by the canvas, which is redrawn only when the layer
+     * changes.
+     *
+     * @param renderLayers The render layers to be rendered.
+     * @param gameObjects  The game objects to be rendered. Game objects in a render layer are skipped, as their layer draws them.
+     * @param gui          The GUI objects to be rendered.
+     * @param camera       The camera that the user will view the game from.
+     * @since 1.7.0
+     */
+    public void render(List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                       Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera) {
         if (!display.getWindow().isVisible()) {
             return;
         }
 
+        if (renderPipeline != null) {
+            recordSnapshot(renderLayers, gameObjects, gui, camera);
+            return;
+        }
+
         try {
             BufferStrategy drawBuffer;
             do {
                 drawBuffer = canvas.getBufferStrategy();
             } while (drawBuffer == null);
 
-            drawBuffer.getDrawGraphics().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-
-            Graphics2D drawGraphics = prepareGraphics((Graphics2D) drawBuffer.getDrawGraphics(), camera);
-            drawGraphics.clearRect(
-                (int) (background.x - camera.getTranslation().x),
-                (int) (background.y - camera.getTranslation().y),
-                // add 1 to these values to account for floating point cutoff, since this has to be all integers
-                (int) background.width + 1,
-                (int) background.height + 1
-            );
-
-            for (GameObject gameObject : gameObjects.values()) {
-                try {
-                    if (!isOnScreen(gameObject, camera) || !gameObject.shouldRender()) {
-                        continue;
-                    }
-                    gameObject.render(drawGraphics);
-                } catch (Exception exception) {
-                    FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + gameObject.getID(), exception);
+            Pointf resolutionScale = getResolutionScale();
+            sceneRenderer.beginFrame(camera, canvas.getWidth() / resolutionScale.x, canvas.getHeight() / resolutionScale.y);
+
+            if (dirtyRegionRendering) {
+                if (!renderDirtyRegions(drawBuffer, renderLayers, gameObjects, gui, camera, resolutionScale)) {
                     return;
                 }
-            }
-
-            for (UIElement<? extends InputActionEvent> guiObj : gui.values()) {
-                try {
-                    if (!isOnScreen(guiObj, camera) || !guiObj.shouldRender()) {
-                        continue;
-                    }
-                    guiObj.renderAsGUIObject(drawGraphics, camera);
-                } catch (Exception exception) {
-                    FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + guiObj.getID(), exception);
+            } else {
+                drawBuffer.getDrawGraphics().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+                Graphics2D drawGraphics = prepareGraphics((Graphics2D) drawBuffer.getDrawGraphics(), camera, resolutionScale);
+                drawGraphics.clearRect(
+                    (int) (background.x - camera.getTranslation().x),
+                    (int) (background.y - camera.getTranslation().y),
+                    // add 1 to these values to account for floating point cutoff, since this has to be all integers
+                    (int) background.width + 1,
+                    (int) background.height + 1
+                );
+
+                boolean isDrawn = sceneRenderer.drawScene(renderLayers, gameObjects, gui, camera, drawGraphics);
+                drawGraphics.dispose();
+                if (!isDrawn) {
                     return;
                 }
             }
 
+            culledCount = sceneRenderer.getCulledCount();
+            drawnCount = sceneRenderer.getDrawnCount();
+            stateChangeCount = sceneRenderer.getStateChangeCount();
+
             drawBuffer.show();
-            drawGraphics.dispose();
         } catch (IllegalStateException exception) {
             if (!FastJEngine.isRunning()) {
                 FastJEngine.error(CrashMessages.illegalAction(getClass()), exception);
@@ -194,6 +451,216 @@ public class FastJCanvas {
         }
     }
 
+    /** Records a snapshot of the frame, and hands it to the render thread to be drawn. */
+    private void recordSnapshot(List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                                Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera) {
+        Exception drawError = renderPipeline.takeError();
+        if (drawError != null) {
+            FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: render thread", drawError);
+            return;
+        }
+
+        RenderPipeline.FrameSnapshot snapshot;
+        try {
+            snapshot = renderPipeline.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Pointf resolutionScale = getResolutionScale();
+        snapshot.width = canvas.getWidth();
+        snapshot.height = canvas.getHeight();
+        snapshot.baseTransform.setToScale(resolutionScale.x, resolutionScale.y);
+        snapshot.baseTransform.concatenate(camera.getCachedTransformation());
+        snapshot.backgroundColor = canvas.getBackground();
+        snapshot.backgroundX = (int) (background.x - camera.getTranslation().x);
+        snapshot.backgroundY = (int) (background.y - camera.getTranslation().y);
+        snapshot.backgroundWidth = (int) background.width + 1;
+        snapshot.backgroundHeight = (int) background.height + 1;
+        snapshot.renderHints.clear();
+        snapshot.renderHints.putAll(renderHints);
+        snapshot.overlays.begin(snapshot.width, snapshot.height, snapshot.renderHints);
+
+        sceneRenderer.beginFrame(camera, snapshot.width / resolutionScale.x, snapshot.height / resolutionScale.y);
+        snapshot.commands.pushTransform(snapshot.baseTransform);
+        if (!sceneRenderer.snapshotScene(renderLayers, gameObjects, gui, camera, snapshot.commands)) {
+            renderPipeline.discard(snapshot);
+            return;
+        }
+        snapshot.commands.popTransform();
+
+        culledCount = sceneRenderer.getCulledCount();
+        drawnCount = sceneRenderer.getDrawnCount();
+        stateChangeCount = 0;
+        renderPipeline.publish(snapshot);
+    }
+
+    /** Draws a recorded snapshot to the screen, on the render thread. */
+    private void drawSnapshot(RenderPipeline.FrameSnapshot snapshot) {
+        BufferStrategy drawBuffer;
+        do {
+            drawBuffer = canvas.getBufferStrategy();
+        } while (drawBuffer == null);
+
+        Graphics2D drawGraphics = (Graphics2D) drawBuffer.getDrawGraphics();
+        try {
+            drawGraphics.setBackground(snapshot.backgroundColor);
+            drawGraphics.clearRect(0, 0, snapshot.width, snapshot.height);
+            drawGraphics.setRenderingHints(snapshot.renderHints);
+
+            // the commands include the snapshot's base transform, so they are drawn from the canvas' own transform
+            AffineTransform canvasTransform = drawGraphics.getTransform();
+            drawGraphics.transform(snapshot.baseTransform);
+            drawGraphics.clearRect(snapshot.backgroundX, snapshot.backgroundY, snapshot.backgroundWidth, snapshot.backgroundHeight);
+            drawGraphics.setTransform(canvasTransform);
+
+            snapshot.commands.execute(drawGraphics);
+        } finally {
+            drawGraphics.dispose();
+        }
+
+        drawBuffer.show();
+    }
+
+    /**
+     * Redraws the damaged parts of the off-screen frame, then copies the frame to the given buffer.
+     *
+     * @return Whether everything was drawn without error.
+     */
+    private boolean renderDirtyRegions(BufferStrategy drawBuffer, List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                                       Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera, Pointf resolutionScale) {
+        int width = canvas.getWidth();
+        int height = canvas.getHeight();
+        Color backgroundColor = canvas.getBackground();
+
+        guiTransform.setToScale(resolutionScale.x, resolutionScale.y);
+        worldTransform.setTransform(guiTransform);
+        worldTransform.concatenate(camera.getCachedTransformation());
+
+        damageRegion.reset(width, height);
+        if (needsFullRedraw || !worldTransform.equals(lastWorldTransform) || !backgroundColor.equals(lastBackgroundColor)) {
+            damageRegion.addAll();
+        }
+        needsFullRedraw = false;
+        lastWorldTransform.setTransform(worldTransform);
+        lastBackgroundColor = backgroundColor;
+
+        damageTracker.beginFrame(damageRegion, worldTransform, guiTransform, dirtyRegionPadding);
+        for (RenderLayer renderLayer : renderLayers) {
+            for (GameObject gameObject : renderLayer.getGameObjects()) {
+                damageTracker.track(gameObject, false);
+            }
+        }
+        for (GameObject gameObject : gameObjects.values()) {
+            damageTracker.track(gameObject, false);
+        }
+        for (UIElement<? extends InputActionEvent> guiObj : gui.values()) {
+            damageTracker.track(guiObj, true);
+        }
+        damageTracker.endFrame();
+
+        Graphics2D bufferGraphics = (Graphics2D) drawBuffer.getDrawGraphics();
+        try {
+            GraphicsConfiguration graphicsConfiguration = bufferGraphics.getDeviceConfiguration();
+            boolean isFrameLost;
+            do {
+                int status = frameSurface == null ? VolatileImage.IMAGE_INCOMPATIBLE : frameSurface.validate(graphicsConfiguration);
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE || frameSurface.getWidth() != width || frameSurface.getHeight() != height) {
+                    if (frameSurface != null) {
+                        frameSurface.flush();
+                    }
+                    frameSurface = ImageUtil.createVolatileImage(graphicsConfiguration, width, height);
+                    damageRegion.addAll();
+                } else if (status == VolatileImage.IMAGE_RESTORED) {
+                    damageRegion.addAll();
+                }
+
+                if (!damageRegion.isEmpty() && !drawDamagedRegions(renderLayers, gameObjects, gui, camera, resolutionScale)) {
+                    return false;
+                }
+
+                bufferGraphics.setComposite(AlphaComposite.Src);
+                bufferGraphics.drawImage(frameSurface, 0, 0, null);
+
+                // if the frame was lost while copying it, it must be redrawn entirely
+                isFrameLost = frameSurface.contentsLost();
+                if (isFrameLost) {
+                    damageRegion.addAll();
+                }
+            } while (isFrameLost);
+        } finally {
+            bufferGraphics.dispose();
+        }
+
+        return true;
+    }
+
+    /** Clears and redraws each damaged rectangle of the off-screen frame. */
+    private boolean drawDamagedRegions(List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                                       Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera, Pointf resolutionScale) {
+        Graphics2D frameGraphics = prepareGraphics(frameSurface.createGraphics(), camera, resolutionScale);
+        frameGraphics.setBackground(lastBackgroundColor);
+        AffineTransform sceneTransform = frameGraphics.getTransform();
+
+        try {
+            boolean isCullingToDamage = !damageRegion.isFull();
+            for (int i = 0; i < damageRegion.getRectangleCount(); i++) {
+                damageRegion.getRectangle(i, damageRectangle);
+
+                frameGraphics.setTransform(identityTransform);
+                frameGraphics.setClip(damageRectangle);
+                frameGraphics.clearRect(damageRectangle.x, damageRectangle.y, damageRectangle.width, damageRectangle.height);
+                frameGraphics.setTransform(sceneTransform);
+
+                if (isCullingToDamage) {
+                    if (!(toInverseBounds(worldTransform, worldDamageBounds) && toInverseBounds(guiTransform, guiDamageBounds))) {
+                        return false;
+                    }
+                    sceneRenderer.cullToRegion(worldDamageBounds, guiDamageBounds);
+                }
+                if (!sceneRenderer.drawScene(renderLayers, gameObjects, gui, camera, frameGraphics)) {
+                    return false;
+                }
+            }
+        } finally {
+            sceneRenderer.stopCullingToRegion();
+            frameGraphics.dispose();
+        }
+
+        return true;
+    }
+
+    /**
+     * Transforms the current damage rectangle back through the given transform, storing the bounds of the result.
+     *
+     * @return Whether the transform could be inverted.
+     */
+    private boolean toInverseBounds(AffineTransform transform, Rectangle2D.Float destination) {
+        damageCorners[0] = damageRectangle.x;
+        damageCorners[1] = damageRectangle.y;
+        damageCorners[2] = damageRectangle.x + damageRectangle.width;
+        damageCorners[3] = damageRectangle.y;
+        damageCorners[4] = damageRectangle.x + damageRectangle.width;
+        damageCorners[5] = damageRectangle.y + damageRectangle.height;
+        damageCorners[6] = damageRectangle.x;
+        damageCorners[7] = damageRectangle.y + damageRectangle.height;
+
+        try {
+            transform.inverseTransform(damageCorners, 0, damageCorners, 0, 4);
+        } catch (NoninvertibleTransformException exception) {
+            FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: dirty regions", exception);
+            return false;
+        }
+
+        double minX = Math.min(Math.min(damageCorners[0], damageCorners[2]), Math.min(damageCorners[4], damageCorners[6]));
+        double minY = Math.min(Math.min(damageCorners[1], damageCorners[3]), Math.min(damageCorners[5], damageCorners[7]));
+        double maxX = Math.max(Math.max(damageCorners[0], damageCorners[2]), Math.max(damageCorners[4], damageCorners[6]));
+        double maxY = Math.max(Math.max(damageCorners[1], damageCorners[3]), Math.max(damageCorners[5], damageCorners[7]));
+        destination.setRect(minX, minY, maxX - minX, maxY - minY);
+        return true;
+    }
+
     /**
      * Changes the rendering settings for the specified key.
      * <p>
@@ -220,23 +687,30 @@ public class FastJCanvas {
 
     /**
      * {@return whether the given {@link Drawable drawable} is visible on screen with the given {@link Camera camera} transform}
+     * <p>
+     * The visible area is only recalculated when the camera, its transform, or the size of the canvas changes, so this does not allocate.
      *
      * @param drawable The {@code Drawable} to check.
      * @param camera   The {@link Camera camera} to check from, for proper transformation checking.
      */
     public boolean isOnScreen(Drawable drawable, Camera camera) {
-        try {
-            Rectangle2D.Float drawableBounds = DrawUtil.createRect(drawable.getBounds());
-            Shape canvasShape = camera.getTransformation().createInverse().createTransformedShape(canvas.getBounds());
-
-            Area drawableArea = new Area(drawableBounds);
-            Area canvasArea = new Area(canvasShape);
-
-            drawableArea.intersect(canvasArea);
+        Window window = display.getWindow();
+        float viewportWidth = canvas.getWidth() / ((float) window.getWidth() / resolution.x);
+        float viewportHeight = canvas.getHeight() / ((float) window.getHeight() / resolution.y);
+        AffineTransform cameraTransform = camera.getCachedTransformation();
+
+        // may be called from parallel behaviors, which all share the one culler
+        synchronized (onScreenCuller) {
+            if (camera != onScreenCamera || !cameraTransform.equals(onScreenCameraTransform)
+                || viewportWidth != onScreenViewportWidth || viewportHeight != onScreenViewportHeight) {
+                onScreenCuller.update(camera, viewportWidth, viewportHeight);
+                onScreenCamera = camera;
+                onScreenCameraTransform.setTransform(cameraTransform);
+                onScreenViewportWidth = viewportWidth;
+                onScreenViewportHeight = viewportHeight;
+            }
 
-            return !drawableArea.isEmpty();
-        } catch (NoninvertibleTransformException exception) {
-            throw new IllegalStateException(exception);
+            return onScreenCuller.isVisible(drawable);
         }
     }
 
@@ -299,6 +773,15 @@ public class FastJCanvas {
 
     /** Sets the default state of the rendering hints for the {@code Display}. */
     private void setRenderHints() {
+        setDefaultRenderHints(renderHints);
+    }
+
+    /**
+     * Replaces the contents of the given map with FastJ's default rendering hints.
+     *
+     * @param renderHints The map of rendering hints to reset.
+     */
+    static void setDefaultRenderHints(Map<RenderingHints.Key, Object> renderHints) {
         renderHints.clear();
 
         // All
@@ -326,13 +809,14 @@ public class FastJCanvas {
      * This scales the object by the current {@link #getResolutionScale() resolution scale}, sets its rendering hints to the current
      * rendering hints, and transforms it based on the specified {@link Camera#getTransformation() camera transform}.
      *
-     * @param g      The {@link Graphics2D} instance to be prepared.
-     * @param camera The camera used to transform the graphics object.
+     * @param g               The {@link Graphics2D} instance to be prepared.
+     * @param camera          The camera used to transform the graphics object.
+     * @param resolutionScale The current resolution scale.
      */
-    private Graphics2D prepareGraphics(Graphics2D g, Camera camera) {
+    private Graphics2D prepareGraphics(Graphics2D g, Camera camera, Pointf resolutionScale) {
         g.setRenderingHints(renderHints);
-        g.scale(getResolutionScale().x, getResolutionScale().y);
-        g.transform(camera.getTransformation());
+        g.scale(resolutionScale.x, resolutionScale.y);
+        g.transform(camera.getCachedTransformation());
 
         return g;
     }
@@ -0,0 +1,79 @@
+package tech.fastj.graphics.display;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-frame images which {@link RenderCommandBuffer#custom(tech.fastj.graphics.game.GameObject) custom render commands} are drawn into
+ * while a {@link RenderPipeline.FrameSnapshot frame snapshot} is recorded.
+ * <p>
+ * Game objects and ui elements which cannot emit their own render commands can only draw themselves from their live state. Drawing them
+ * into an overlay on the game loop, and drawing the overlay in their place later, keeps the snapshot from reading them on the render
+ * thread. Overlays are reused between frames, and only recreated when the frame's size changes.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+class FrameOverlays {
+
+    private final List<BufferedImage> overlays = new ArrayList<>();
+    private Map<RenderingHints.Key, Object> renderHints;
+    private int width;
+    private int height;
+    private int usedCount;
+
+    /**
+     * Starts recording a new frame, making every overlay available again.
+     *
+     * @param width       The width of the frame, in pixels.
+     * @param height      The height of the frame, in pixels.
+     * @param renderHints The rendering hints to draw into overlays with.
+     */
+    void begin(int width, int height, Map<RenderingHints.Key, Object> renderHints) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if (width != this.width || height != this.height) {
+            overlays.clear();
+            this.width = width;
+            this.height = height;
+        }
+
+        this.renderHints = renderHints;
+        usedCount = 0;
+    }
+
+    /** {@return an empty overlay, the size of the frame} */
+    BufferedImage next() {
+        if (usedCount == overlays.size()) {
+            overlays.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE));
+            return overlays.get(usedCount++);
+        }
+
+        BufferedImage overlay = overlays.get(usedCount++);
+        Graphics2D overlayGraphics = overlay.createGraphics();
+        try {
+            overlayGraphics.setComposite(AlphaComposite.Clear);
+            overlayGraphics.fillRect(0, 0, width, height);
+        } finally {
+            overlayGraphics.dispose();
+        }
+        return overlay;
+    }
+
+    /**
+     * Creates a graphics context to draw into the given overlay with.
+     *
+     * @param overlay The overlay, as returned by {@link #next()}.
+     * @return The graphics context, using the frame's rendering hints.
+     */
+    Graphics2D createGraphics(BufferedImage overlay) {
+        Graphics2D overlayGraphics = overlay.createGraphics();
+        overlayGraphics.setRenderingHints(renderHints);
+        return overlayGraphics;
+    }
+}
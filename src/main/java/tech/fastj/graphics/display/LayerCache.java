@@ -0,0 +1,220 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.RenderLayer;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.resources.images.ImageUtil;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.VolatileImage;
+import java.util.List;
+
+/**
+ * Off-screen image holding a {@link RenderLayer#isStatic() static} render layer's game objects, drawn at the scale the layer is viewed at.
+ * <p>
+ * The image covers the combined bounds of the layer's game objects in world space, so moving the camera only changes where the image is
+ * copied to. The image is redrawn when the layer's {@link RenderLayer#getRevision() revision} changes, when the view's scale changes by
+ * more than {@link #RescaleThreshold a small amount}, and whenever its contents are lost -- for example, when the display mode changes.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+class LayerCache {
+
+    /** The largest width or height, in pixels, of a cached image. Layers which would need a larger image are drawn directly instead. */
+    static final int MaxSurfaceSize = 4096;
+    /** The relative change in view scale after which the cached image is redrawn, rather than scaled. */
+    static final double RescaleThreshold = 0.01d;
+
+    private final Rectangle2D.Float memberBounds = new Rectangle2D.Float();
+    private final AffineTransform blitTransform = new AffineTransform();
+
+    private VolatileImage surface;
+    private int revision;
+    private double scale;
+    private float originX;
+    private float originY;
+    private int width;
+    private int height;
+    private int renderedCount;
+    private boolean isValid;
+
+    /**
+     * Draws the layer to the given graphics, redrawing its cached image first if needed.
+     *
+     * @param g     The graphics to draw to, transformed from world space to the screen.
+     * @param layer The layer to draw.
+     * @return The amount of the layer's game objects drawn.
+     */
+    int draw(Graphics2D g, RenderLayer layer) {
+        if (!prepare(g, layer)) {
+            return drawDirectly(g, layer);
+        }
+
+        blit(g);
+        while (surface != null && surface.contentsLost()) {
+            prepare(g, layer);
+            blit(g);
+        }
+        return renderedCount;
+    }
+
+    /**
+     * Redraws the layer's cached image, if it is out of date or was lost.
+     * <p>
+     * Once prepared, the image can be {@link #blit(Graphics2D) drawn} from several threads at once.
+     *
+     * @param g     The graphics the image will be drawn to, transformed from world space to the screen.
+     * @param layer The layer to prepare the image of.
+     * @return Whether the layer fits in a cached image -- if not, its game objects must be drawn directly.
+     */
+    boolean prepare(Graphics2D g, RenderLayer layer) {
+        double viewScale = Math.sqrt(Math.abs(g.getTransform().getDeterminant()));
+        boolean isStale = !isValid
+            || revision != layer.getRevision()
+            || Math.abs(viewScale - scale) > scale * RescaleThreshold;
+
+        if (isStale && !measure(layer, viewScale)) {
+            return false;
+        }
+        if (width == 0 || height == 0) {
+            return true;
+        }
+
+        GraphicsConfiguration graphicsConfiguration = g.getDeviceConfiguration();
+        int status = surface == null ? VolatileImage.IMAGE_INCOMPATIBLE : surface.validate(graphicsConfiguration);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE || surface.getWidth() < width || surface.getHeight() < height) {
+            if (surface != null) {
+                surface.flush();
+            }
+            surface = ImageUtil.createVolatileImage(graphicsConfiguration, width, height);
+            rasterize(g, layer);
+        } else if (status == VolatileImage.IMAGE_RESTORED || isStale) {
+            rasterize(g, layer);
+        }
+        return true;
+    }
+
+    /**
+     * Draws the {@link #prepare(Graphics2D, RenderLayer) prepared} image to the given graphics.
+     *
+     * @param g The graphics to draw to, transformed from world space to the screen.
+     */
+    void blit(Graphics2D g) {
+        if (width != 0 && height != 0) {
+            g.drawImage(surface, blitTransform, null);
+        }
+    }
+
+    /** {@return the amount of the layer's game objects in the prepared image} */
+    int getRenderedCount() {
+        return renderedCount;
+    }
+
+    /** {@return the area covered by the prepared image, in world space} */
+    Rectangle2D.Float getWorldBounds(Rectangle2D.Float destination) {
+        destination.setRect(originX, originY, width / scale, height / scale);
+        return destination;
+    }
+
+    /** Releases the cached image. */
+    void flush() {
+        if (surface != null) {
+            surface.flush();
+            surface = null;
+        }
+        isValid = false;
+    }
+
+    /**
+     * Computes the area and scale the layer's image should be drawn at.
+     *
+     * @return Whether the layer fits in a cached image.
+     */
+    private boolean measure(RenderLayer layer, double viewScale) {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        renderedCount = 0;
+
+        for (GameObject gameObject : layer.getGameObjects()) {
+            if (!gameObject.shouldRender()) {
+                continue;
+            }
+
+            gameObject.getBoundingBox(memberBounds);
+            minX = Math.min(minX, memberBounds.x);
+            minY = Math.min(minY, memberBounds.y);
+            maxX = Math.max(maxX, memberBounds.x + memberBounds.width);
+            maxY = Math.max(maxY, memberBounds.y + memberBounds.height);
+            renderedCount++;
+        }
+
+        revision = layer.getRevision();
+        scale = viewScale;
+        isValid = true;
+
+        if (renderedCount == 0) {
+            width = 0;
+            height = 0;
+            return true;
+        }
+
+        // pad by a pixel on each side, so anti-aliased and outlined edges are not cut off
+        double padding = 1d / viewScale;
+        originX = (float) (minX - padding);
+        originY = (float) (minY - padding);
+        double pixelWidth = Math.ceil((maxX - originX + padding) * viewScale);
+        double pixelHeight = Math.ceil((maxY - originY + padding) * viewScale);
+        if (!(pixelWidth <= MaxSurfaceSize && pixelHeight <= MaxSurfaceSize)) {
+            isValid = false;
+            return false;
+        }
+
+        width = Math.max(1, (int) pixelWidth);
+        height = Math.max(1, (int) pixelHeight);
+
+        blitTransform.setToTranslation(originX, originY);
+        blitTransform.scale(1d / viewScale, 1d / viewScale);
+        return true;
+    }
+
+    private void rasterize(Graphics2D g, RenderLayer layer) {
+        Graphics2D surfaceGraphics = surface.createGraphics();
+        try {
+            Composite composite = surfaceGraphics.getComposite();
+            surfaceGraphics.setComposite(AlphaComposite.Clear);
+            surfaceGraphics.fillRect(0, 0, surface.getWidth(), surface.getHeight());
+            surfaceGraphics.setComposite(composite);
+
+            surfaceGraphics.setRenderingHints(g.getRenderingHints());
+            surfaceGraphics.scale(scale, scale);
+            surfaceGraphics.translate(-originX, -originY);
+
+            List<GameObject> gameObjects = layer.getGameObjects();
+            for (GameObject gameObject : gameObjects) {
+                if (gameObject.shouldRender()) {
+                    gameObject.render(surfaceGraphics);
+                }
+            }
+        } finally {
+            surfaceGraphics.dispose();
+        }
+    }
+
+    private static int drawDirectly(Graphics2D g, RenderLayer layer) {
+        int drawn = 0;
+        for (GameObject gameObject : layer.getGameObjects()) {
+            if (gameObject.shouldRender()) {
+                gameObject.render(g);
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+}
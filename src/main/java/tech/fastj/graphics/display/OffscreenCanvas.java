@@ -0,0 +1,263 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.engine.CrashMessages;
+import tech.fastj.graphics.RenderLayer;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.ui.UIElement;
+import tech.fastj.input.InputActionEvent;
+import tech.fastj.math.Point;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A canvas which renders to an image in memory, rather than to a window.
+ * <p>
+ * The offscreen canvas draws scenes the same way as the {@link FastJCanvas window canvas} -- with the same camera transform, culling,
+ * {@link RenderLayer render layers}, and {@link RenderCommandBuffer batched rendering} -- but needs no {@link Display display}, so it
+ * works on build servers and under {@code java.awt.headless=true}. This makes it useful for tests, benchmarks, and thumbnails.
+ * <p>
+ * Every render draws into the same {@link #getImage() image}, whose pixels can also be read directly as an {@link #getPixels() int array}
+ * in the default ARGB format.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class OffscreenCanvas {
+
+    /** The default background color, {@link Color#white white}. */
+    public static final Color DefaultBackgroundColor = Color.white;
+
+    private final Point resolution;
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final Map<RenderingHints.Key, Object> renderHints;
+    private final SceneRenderer sceneRenderer;
+    private final TiledRenderer tiledRenderer;
+
+    private Color backgroundColor;
+    private boolean tiledRendering;
+    private ForkJoinPool tiledRenderingPool;
+    private int culledCount;
+    private int drawnCount;
+    private int stateChangeCount;
+
+    /**
+     * Constructs an offscreen canvas with the given resolution.
+     *
+     * @param resolution The resolution of the canvas, in pixels.
+     */
+    public OffscreenCanvas(Point resolution) {
+        if (resolution.x < 1 || resolution.y < 1) {
+            throw new IllegalArgumentException("An offscreen canvas must be at least 1x1 pixels, but was " + resolution + ".");
+        }
+
+        this.resolution = resolution.copy();
+        image = new BufferedImage(resolution.x, resolution.y, BufferedImage.TYPE_INT_ARGB);
+        pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        renderHints = new LinkedHashMap<>();
+        FastJCanvas.setDefaultRenderHints(renderHints);
+        sceneRenderer = new SceneRenderer((origin, exception) -> {
+            throw new IllegalStateException(CrashMessages.RenderError.errorMessage + " | Origin: " + origin, exception);
+        });
+        tiledRenderer = new TiledRenderer();
+        backgroundColor = DefaultBackgroundColor;
+        tiledRenderingPool = ForkJoinPool.commonPool();
+    }
+
+    /** {@return the canvas resolution} */
+    public Point getResolution() {
+        return resolution.copy();
+    }
+
+    /** {@return the image the canvas renders to} */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * {@return the pixels of the image the canvas renders to, in rows from top to bottom}
+     * <p>
+     * The array is the image's own storage, in the default ARGB format -- reading it does not copy, and changes to it change the image.
+     */
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    /** {@return the background color} */
+    public Color getBackgroundColor() {
+        return backgroundColor;
+    }
+
+    /**
+     * Sets the color the canvas is cleared to before each render.
+     *
+     * @param backgroundColor The new background color.
+     */
+    public void setBackgroundColor(Color backgroundColor) {
+        this.backgroundColor = Objects.requireNonNull(backgroundColor);
+    }
+
+    /** {@return whether game objects are drawn through a state-sorted {@link RenderCommandBuffer render command buffer}} */
+    public boolean isBatchedRendering() {
+        return sceneRenderer.isBatchedRendering();
+    }
+
+    /**
+     * Sets whether game objects are drawn through a state-sorted {@link RenderCommandBuffer render command buffer}.
+     *
+     * @param batchedRendering Whether to use batched rendering.
+     * @see FastJCanvas#setBatchedRendering(boolean)
+     */
+    public void setBatchedRendering(boolean batchedRendering) {
+        sceneRenderer.setBatchedRendering(batchedRendering);
+    }
+
+    /** {@return whether the canvas is split into bands which are drawn in parallel} */
+    public boolean isTiledRendering() {
+        return tiledRendering;
+    }
+
+    /**
+     * Sets whether the canvas is split into bands which are drawn in parallel.
+     * <p>
+     * With tiled rendering, the image is split into horizontal bands, and each visible game object is assigned to every band its bounds
+     * overlap. The bands are then cleared and drawn in parallel on the {@link #getTiledRenderingPool() tiled rendering pool}, each clipped
+     * to its own rows, so that scenes with many game objects render in a fraction of the time on many-core machines. UI elements are
+     * drawn afterwards, on the calling thread.
+     * <p>
+     * The result matches rendering without tiles, with three caveats:
+     * <ul>
+     *     <li>Game objects overlapping several bands are {@link GameObject#render(Graphics2D) rendered} from several threads at once, after
+     *     being {@link GameObject#prepareRender() prepared} on the calling thread. Game objects which change their own state while
+     *     rendering must prepare that state ahead of time instead.</li>
+     *     <li>{@link #setBatchedRendering(boolean) Batched rendering} is not used -- game objects are always drawn in their original
+     *     order.</li>
+     *     <li>Without {@link RenderingHints#KEY_ANTIALIASING anti-aliasing}, Java2D may step thin outlines and sloped edges differently
+     *     where they are clipped, so a few edge pixels near the seams between bands can differ.</li>
+     * </ul>
+     *
+     * @param tiledRendering Whether to use tiled rendering.
+     */
+    public void setTiledRendering(boolean tiledRendering) {
+        this.tiledRendering = tiledRendering;
+    }
+
+    /** {@return the pool bands are drawn on in tiled rendering -- the {@link ForkJoinPool#commonPool() common pool} by default} */
+    public ForkJoinPool getTiledRenderingPool() {
+        return tiledRenderingPool;
+    }
+
+    /**
+     * Sets the pool bands are drawn on in {@link #setTiledRendering(boolean) tiled rendering}.
+     * <p>
+     * The image is split into a few bands per thread of the pool's {@link ForkJoinPool#getParallelism() parallelism}.
+     *
+     * @param tiledRenderingPool The pool to draw bands on.
+     */
+    public void setTiledRenderingPool(ForkJoinPool tiledRenderingPool) {
+        this.tiledRenderingPool = Objects.requireNonNull(tiledRenderingPool);
+    }
+
+    /** {@return the amount of drawables skipped by culling during the last render} */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    /** {@return the amount of drawables drawn during the last render} */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /** {@return the amount of paint, stroke, and font changes made by batched rendering during the last render} */
+    public int getStateChangeCount() {
+        return stateChangeCount;
+    }
+
+    /**
+     * Changes the rendering settings for the specified key.
+     *
+     * @param renderHintKey   Rendering hint key used to determine which setting you are modifying.
+     * @param renderHintValue The value to go along with the key.
+     */
+    public void modifyRenderSettings(RenderingHints.Key renderHintKey, Object renderHintValue) {
+        renderHints.remove(renderHintKey);
+        renderHints.put(renderHintKey, renderHintValue);
+    }
+
+    /**
+     * Changes the rendering settings based on the provided option.
+     *
+     * @param renderSetting The {@link RenderSettings} value used to change the rendering settings.
+     */
+    public void modifyRenderSettings(RenderSettings renderSetting) {
+        renderHints.remove(renderSetting.key);
+        renderHints.put(renderSetting.key, renderSetting.value);
+    }
+
+    /**
+     * Renders the specified game objects and GUI objects, within the viewing area of the camera.
+     *
+     * @param gameObjects The game objects to be rendered.
+     * @param gui         The GUI objects to be rendered.
+     * @param camera      The camera to view the game objects from.
+     * @return The image rendered to.
+     * @throws IllegalStateException if a drawable throws an exception while being rendered.
+     */
+    public BufferedImage render(Map<String, GameObject> gameObjects, Map<String, UIElement<? extends InputActionEvent>> gui,
+                                Camera camera) {
+        return render(List.of(), gameObjects, gui, camera);
+    }
+
+    /**
+     * Renders the specified render layers, game objects, and GUI objects, within the viewing area of the camera.
+     * <p>
+     * Everything is drawn in the same order as the {@link FastJCanvas#render(List, Map, Map, Camera) window canvas} draws it.
+     *
+     * @param renderLayers The render layers to be rendered.
+     * @param gameObjects  The game objects to be rendered. Game objects in a render layer are skipped, as their layer draws them.
+     * @param gui          The GUI objects to be rendered.
+     * @param camera       The camera to view the game objects from.
+     * @return The image rendered to.
+     * @throws IllegalStateException if a drawable throws an exception while being rendered.
+     */
+    public BufferedImage render(List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                                Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera) {
+        if (tiledRendering) {
+            try {
+                tiledRenderer.render(image, renderHints, backgroundColor, renderLayers, gameObjects, gui, camera, tiledRenderingPool);
+            } finally {
+                culledCount = tiledRenderer.getCulledCount();
+                drawnCount = tiledRenderer.getDrawnCount();
+                stateChangeCount = 0;
+            }
+            return image;
+        }
+
+        Graphics2D drawGraphics = image.createGraphics();
+        try {
+            drawGraphics.setRenderingHints(renderHints);
+            drawGraphics.setBackground(backgroundColor);
+            drawGraphics.clearRect(0, 0, resolution.x, resolution.y);
+            drawGraphics.transform(camera.getCachedTransformation());
+
+            sceneRenderer.beginFrame(camera, resolution.x, resolution.y);
+            sceneRenderer.drawScene(renderLayers, gameObjects, gui, camera, drawGraphics);
+        } finally {
+            drawGraphics.dispose();
+            culledCount = sceneRenderer.getCulledCount();
+            drawnCount = sceneRenderer.getDrawnCount();
+            stateChangeCount = sceneRenderer.getStateChangeCount();
+        }
+
+        return image;
+    }
+}
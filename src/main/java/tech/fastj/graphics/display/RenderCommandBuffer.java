@@ -0,0 +1,453 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.ui.UIElement;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Compact list of draw commands, sorted by the graphics state they need before being drawn.
+ * <p>
+ * When {@link FastJCanvas#setBatchedRendering(boolean) batched rendering} is enabled, visible game objects
+ * {@link GameObject#emitRenderCommands(RenderCommandBuffer) emit} commands into the buffer instead of drawing themselves. The buffer then
+ * draws the commands grouped by kind -- all fills, then all outlines, images, text, and finally {@link #custom(GameObject) custom} game
+ * objects -- and, within each kind, grouped by paint, stroke, font, or image. Setting a paint, stroke, or font which is already set is
+ * skipped entirely, and transforms are applied without copying them.
+ * <p>
+ * Commands with the same kind and state are drawn in the order they were added. Commands with different state may be drawn out of their
+ * original order, so batched rendering suits scenes where overlapping game objects either share their state or don't depend on which is
+ * drawn on top.
+ * <p>
+ * An {@link #RenderCommandBuffer(boolean) unsorted} buffer instead draws every command in the order it was added, and copies the shapes
+ * it is given rather than keeping them. Along with the copied transforms, this makes it a snapshot of a frame that can be drawn later --
+ * or on another thread, as {@link FastJCanvas#setPipelinedRendering(boolean) pipelined rendering} does. Paints, strokes, fonts, images,
+ * and text are kept as given, so they should not be changed once emitted.
+ * <p>
+ * Commands are stored in flat arrays which are reused between frames, so adding commands does not allocate once the buffer has grown.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class RenderCommandBuffer {
+
+    private static final int FillCommand = 0;
+    private static final int OutlineCommand = 1;
+    private static final int ImageCommand = 2;
+    private static final int TextCommand = 3;
+    private static final int CustomCommand = 4;
+
+    // sort key layout: 3 bits of command kind, 32 bits of state hash, 28 bits of sequence number
+    private static final int KindShift = 60;
+    private static final int StateShift = 28;
+    private static final long SequenceMask = (1L << StateShift) - 1L;
+    private static final int MaxCommands = (int) SequenceMask;
+
+    private static final int InitialCapacity = 256;
+    private static final int MatrixSize = 6;
+
+    private int commandCount;
+    private long[] sortKeys = new long[InitialCapacity];
+    private Shape[] shapes = new Shape[InitialCapacity];
+    private Paint[] paints = new Paint[InitialCapacity];
+    private Stroke[] strokes = new Stroke[InitialCapacity];
+    private Font[] fonts = new Font[InitialCapacity];
+    private Image[] images = new Image[InitialCapacity];
+    private String[] texts = new String[InitialCapacity];
+    private GameObject[] customGameObjects = new GameObject[InitialCapacity];
+    private UIElement<?>[] customUIElements = new UIElement<?>[InitialCapacity];
+    private float[] positions = new float[InitialCapacity * 2];
+    private double[] matrices = new double[InitialCapacity * MatrixSize];
+    // unsorted buffers only: the copies of each command's shape, reused between frames
+    private Path2D.Float[] shapeCopies;
+
+    // transform stack, as flat matrices -- the bottom entry is always the identity
+    private double[] transformStack = {1d, 0d, 0d, 1d, 0d, 0d};
+    private int transformDepth;
+
+    private final AffineTransform commandTransform = new AffineTransform();
+    private final AffineTransform overlayTransform = new AffineTransform();
+    private final boolean isSorted;
+    private int stateChangeCount;
+
+    private FrameOverlays overlays;
+    private int overlayCommand = -1;
+
+    /** Constructs an empty render command buffer, which sorts its commands by the graphics state they need. */
+    public RenderCommandBuffer() {
+        this(true);
+    }
+
+    /**
+     * Constructs an empty render command buffer.
+     *
+     * @param isSorted Whether to sort commands by the graphics state they need, rather than drawing them in the order they were added.
+     */
+    public RenderCommandBuffer(boolean isSorted) {
+        this.isSorted = isSorted;
+        if (!isSorted) {
+            shapeCopies = new Path2D.Float[InitialCapacity];
+        }
+    }
+
+    /** {@return whether the buffer sorts its commands by the graphics state they need} */
+    public boolean isSorted() {
+        return isSorted;
+    }
+
+    /** {@return the amount of commands in the buffer} */
+    public int size() {
+        return commandCount;
+    }
+
+    /** {@return the amount of paint, stroke, and font changes made the last time the buffer was {@link #execute(Graphics2D) executed}} */
+    public int getStateChangeCount() {
+        return stateChangeCount;
+    }
+
+    /**
+     * Multiplies the given transform onto the buffer's current transform, until the matching {@link #popTransform()}.
+     * <p>
+     * Commands added afterwards are drawn with the combined transform. The given transform is copied, so it may be modified afterwards.
+     *
+     * @param transform The transform to push.
+     */
+    public void pushTransform(AffineTransform transform) {
+        int top = transformDepth * MatrixSize;
+        if (top + MatrixSize * 2 > transformStack.length) {
+            transformStack = Arrays.copyOf(transformStack, transformStack.length * 2);
+        }
+
+        double m00 = transformStack[top];
+        double m10 = transformStack[top + 1];
+        double m01 = transformStack[top + 2];
+        double m11 = transformStack[top + 3];
+        double m02 = transformStack[top + 4];
+        double m12 = transformStack[top + 5];
+
+        double t00 = transform.getScaleX();
+        double t10 = transform.getShearY();
+        double t01 = transform.getShearX();
+        double t11 = transform.getScaleY();
+        double t02 = transform.getTranslateX();
+        double t12 = transform.getTranslateY();
+
+        int next = top + MatrixSize;
+        transformStack[next] = m00 * t00 + m01 * t10;
+        transformStack[next + 1] = m10 * t00 + m11 * t10;
+        transformStack[next + 2] = m00 * t01 + m01 * t11;
+        transformStack[next + 3] = m10 * t01 + m11 * t11;
+        transformStack[next + 4] = m00 * t02 + m01 * t12 + m02;
+        transformStack[next + 5] = m10 * t02 + m11 * t12 + m12;
+        transformDepth++;
+    }
+
+    /** Removes the transform added by the last {@link #pushTransform(AffineTransform)}. */
+    public void popTransform() {
+        if (transformDepth == 0) {
+            throw new IllegalStateException("There is no transform to pop.");
+        }
+        transformDepth--;
+    }
+
+    /**
+     * Adds a command to fill the given shape.
+     *
+     * @param shape The shape to fill.
+     * @param paint The paint to fill the shape with.
+     */
+    public void fill(Shape shape, Paint paint) {
+        int command = addCommand(FillCommand, paint.hashCode());
+        shapes[command] = isSorted ? shape : copyShape(command, shape);
+        paints[command] = paint;
+    }
+
+    /**
+     * Adds a command to outline the given shape.
+     *
+     * @param shape  The shape to outline.
+     * @param stroke The stroke to outline the shape with.
+     * @param paint  The paint to outline the shape with.
+     */
+    public void outline(Shape shape, Stroke stroke, Paint paint) {
+        int command = addCommand(OutlineCommand, 31 * stroke.hashCode() + paint.hashCode());
+        shapes[command] = isSorted ? shape : copyShape(command, shape);
+        strokes[command] = stroke;
+        paints[command] = paint;
+    }
+
+    /**
+     * Adds a command to draw the given image, with its top-left corner at the origin.
+     *
+     * @param image The image to draw.
+     */
+    public void image(Image image) {
+        image(image, 0, 0);
+    }
+
+    /**
+     * Adds a command to draw the given image, with its top-left corner at the given position.
+     *
+     * @param image The image to draw.
+     * @param x     The x coordinate of the image's top-left corner.
+     * @param y     The y coordinate of the image's top-left corner.
+     */
+    public void image(Image image, int x, int y) {
+        int command = addCommand(ImageCommand, System.identityHashCode(image));
+        images[command] = image;
+        positions[command * 2] = x;
+        positions[command * 2 + 1] = y;
+    }
+
+    /**
+     * Adds a command to draw the given text.
+     *
+     * @param text  The text to draw.
+     * @param x     The x coordinate of the text's baseline.
+     * @param y     The y coordinate of the text's baseline.
+     * @param font  The font to draw the text with.
+     * @param paint The paint to draw the text with.
+     */
+    public void text(String text, float x, float y, Font font, Paint paint) {
+        int command = addCommand(TextCommand, 31 * font.hashCode() + paint.hashCode());
+        texts[command] = text;
+        positions[command * 2] = x;
+        positions[command * 2 + 1] = y;
+        fonts[command] = font;
+        paints[command] = paint;
+    }
+
+    /**
+     * Adds a command to {@link GameObject#render(Graphics2D) render} the given game object as it normally would.
+     * <p>
+     * This is used for game objects which do not know how to emit their own commands. In a sorted buffer, custom commands are drawn after
+     * all other commands, in the order they were added. While {@link FastJCanvas#setPipelinedRendering(boolean) pipelined rendering}
+     * records a frame, the game object is rendered right away instead, into an image which is drawn in its place.
+     *
+     * @param gameObject The game object to render.
+     */
+    public void custom(GameObject gameObject) {
+        if (overlays != null) {
+            drawOverlay(gameObject, null);
+            return;
+        }
+
+        int command = addCommand(CustomCommand, 0);
+        customGameObjects[command] = gameObject;
+    }
+
+    /**
+     * Adds a command to {@link UIElement#render(Graphics2D) render} the given ui element as it normally would.
+     * <p>
+     * UI elements are drawn with the buffer's current transform, so the transform from the camera back to the canvas should be
+     * {@link #pushTransform(AffineTransform) pushed} first. As with {@link #custom(GameObject) custom game objects}, ui elements are
+     * rendered right away while pipelined rendering records a frame.
+     *
+     * @param uiElement The ui element to render.
+     */
+    public void custom(UIElement<?> uiElement) {
+        if (overlays != null) {
+            drawOverlay(null, uiElement);
+            return;
+        }
+
+        int command = addCommand(CustomCommand, 0);
+        customUIElements[command] = uiElement;
+    }
+
+    /**
+     * Draws every command in the buffer to the given graphics, then {@link #clear() clears} the buffer.
+     * <p>
+     * Commands are drawn relative to the graphics' transform at the time of calling, which is restored afterwards. The graphics' paint,
+     * stroke, and font are left as whatever the last command needed.
+     *
+     * @param g The graphics to draw to.
+     */
+    public void execute(Graphics2D g) {
+        AffineTransform baseTransform = g.getTransform();
+        Paint currentPaint = g.getPaint();
+        Stroke currentStroke = g.getStroke();
+        Font currentFont = g.getFont();
+        stateChangeCount = 0;
+
+        try {
+            if (isSorted) {
+                Arrays.sort(sortKeys, 0, commandCount);
+            }
+            for (int i = 0; i < commandCount; i++) {
+                long sortKey = sortKeys[i];
+                int command = (int) (sortKey & SequenceMask);
+                int kind = (int) (sortKey >>> KindShift);
+
+                int matrix = command * MatrixSize;
+                commandTransform.setTransform(
+                    matrices[matrix], matrices[matrix + 1], matrices[matrix + 2],
+                    matrices[matrix + 3], matrices[matrix + 4], matrices[matrix + 5]
+                );
+                commandTransform.preConcatenate(baseTransform);
+                g.setTransform(commandTransform);
+
+                if (kind == CustomCommand) {
+                    if (customGameObjects[command] != null) {
+                        customGameObjects[command].render(g);
+                    } else {
+                        customUIElements[command].render(g);
+                    }
+                    // custom game objects restore their own state, but it may no longer match what was tracked
+                    currentPaint = g.getPaint();
+                    currentStroke = g.getStroke();
+                    currentFont = g.getFont();
+                    continue;
+                }
+
+                Paint paint = paints[command];
+                if (paint != null && !paint.equals(currentPaint)) {
+                    g.setPaint(paint);
+                    currentPaint = paint;
+                    stateChangeCount++;
+                }
+
+                switch (kind) {
+                    case FillCommand -> g.fill(shapes[command]);
+                    case OutlineCommand -> {
+                        Stroke stroke = strokes[command];
+                        if (!stroke.equals(currentStroke)) {
+                            g.setStroke(stroke);
+                            currentStroke = stroke;
+                            stateChangeCount++;
+                        }
+                        g.draw(shapes[command]);
+                    }
+                    case ImageCommand -> g.drawImage(images[command], (int) positions[command * 2], (int) positions[command * 2 + 1], null);
+                    case TextCommand -> {
+                        Font font = fonts[command];
+                        if (!font.equals(currentFont)) {
+                            g.setFont(font);
+                            currentFont = font;
+                            stateChangeCount++;
+                        }
+                        g.drawString(texts[command], positions[command * 2], positions[command * 2 + 1]);
+                    }
+                    default -> throw new IllegalStateException("Unknown render command kind: " + kind);
+                }
+            }
+        } finally {
+            g.setTransform(baseTransform);
+            clear();
+        }
+    }
+
+    /** Removes every command from the buffer, and resets its transform. */
+    public void clear() {
+        Arrays.fill(shapes, 0, commandCount, null);
+        Arrays.fill(paints, 0, commandCount, null);
+        Arrays.fill(strokes, 0, commandCount, null);
+        Arrays.fill(fonts, 0, commandCount, null);
+        Arrays.fill(images, 0, commandCount, null);
+        Arrays.fill(texts, 0, commandCount, null);
+        Arrays.fill(customGameObjects, 0, commandCount, null);
+        Arrays.fill(customUIElements, 0, commandCount, null);
+        commandCount = 0;
+        transformDepth = 0;
+        overlayCommand = -1;
+    }
+
+    /**
+     * Sets the overlays which custom commands are rendered into as they are added, rather than being rendered when the buffer is
+     * executed.
+     * <p>
+     * Overlays are drawn with the bottom of the transform stack, so the buffer's base transform should be
+     * {@link #pushTransform(AffineTransform) pushed} first, and the buffer executed with the transform the overlays were made for.
+     *
+     * @param overlays The overlays to render custom commands into, or {@code null} to render them when the buffer is executed.
+     */
+    void setOverlays(FrameOverlays overlays) {
+        this.overlays = overlays;
+    }
+
+    /** Renders the given game object or ui element into the current overlay, starting a new one if another command was added since. */
+    private void drawOverlay(GameObject gameObject, UIElement<?> uiElement) {
+        if (overlayCommand == -1 || overlayCommand != commandCount - 1) {
+            overlayCommand = addCommand(ImageCommand, 0);
+            images[overlayCommand] = overlays.next();
+            positions[overlayCommand * 2] = 0f;
+            positions[overlayCommand * 2 + 1] = 0f;
+            System.arraycopy(transformStack, 0, matrices, overlayCommand * MatrixSize, MatrixSize);
+        }
+
+        int top = transformDepth * MatrixSize;
+        overlayTransform.setTransform(
+            transformStack[top], transformStack[top + 1], transformStack[top + 2],
+            transformStack[top + 3], transformStack[top + 4], transformStack[top + 5]
+        );
+
+        Graphics2D overlayGraphics = overlays.createGraphics((BufferedImage) images[overlayCommand]);
+        try {
+            overlayGraphics.transform(overlayTransform);
+            if (gameObject != null) {
+                gameObject.render(overlayGraphics);
+            } else {
+                uiElement.render(overlayGraphics);
+            }
+        } finally {
+            overlayGraphics.dispose();
+        }
+    }
+
+    /** Copies the given shape into the path kept for the given command, so later changes to the shape are not drawn. */
+    private Shape copyShape(int command, Shape shape) {
+        PathIterator iterator = shape.getPathIterator(null);
+        Path2D.Float shapeCopy = shapeCopies[command];
+        if (shapeCopy == null) {
+            shapeCopy = new Path2D.Float(iterator.getWindingRule());
+            shapeCopies[command] = shapeCopy;
+        } else {
+            shapeCopy.reset();
+            shapeCopy.setWindingRule(iterator.getWindingRule());
+        }
+
+        shapeCopy.append(iterator, false);
+        return shapeCopy;
+    }
+
+    private int addCommand(int kind, int stateHash) {
+        if (commandCount == MaxCommands) {
+            throw new IllegalStateException("A render command buffer can hold at most " + MaxCommands + " commands.");
+        }
+        if (commandCount == sortKeys.length) {
+            grow();
+        }
+
+        int command = commandCount++;
+        sortKeys[command] = ((long) kind << KindShift) | ((stateHash & 0xFFFFFFFFL) << StateShift) | command;
+        System.arraycopy(transformStack, transformDepth * MatrixSize, matrices, command * MatrixSize, MatrixSize);
+        return command;
+    }
+
+    private void grow() {
+        int capacity = sortKeys.length * 2;
+        sortKeys = Arrays.copyOf(sortKeys, capacity);
+        shapes = Arrays.copyOf(shapes, capacity);
+        paints = Arrays.copyOf(paints, capacity);
+        strokes = Arrays.copyOf(strokes, capacity);
+        fonts = Arrays.copyOf(fonts, capacity);
+        images = Arrays.copyOf(images, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        customGameObjects = Arrays.copyOf(customGameObjects, capacity);
+        customUIElements = Arrays.copyOf(customUIElements, capacity);
+        positions = Arrays.copyOf(positions, capacity * 2);
+        matrices = Arrays.copyOf(matrices, capacity * MatrixSize);
+        if (shapeCopies != null) {
+            shapeCopies = Arrays.copyOf(shapeCopies, capacity);
+        }
+    }
+}
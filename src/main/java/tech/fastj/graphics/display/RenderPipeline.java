@@ -0,0 +1,161 @@
+package tech.fastj.graphics.display;
+
+import java.awt.Color;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hands {@link FrameSnapshot frame snapshots} from the game loop to a dedicated render thread, so one frame is drawn while the next one
+ * is updated.
+ * <p>
+ * The pipeline holds a fixed set of snapshots. The game loop {@link #acquire() acquires} a free snapshot, fills it with the frame's
+ * render commands, and {@link #publish(FrameSnapshot) publishes} it. The render thread draws published snapshots in order, and frees each
+ * one once it is drawn. When every snapshot is waiting to be drawn, acquiring one blocks until the render thread catches up -- so the game
+ * loop is never more than {@link #SnapshotCount a frame or so} ahead of the screen.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+class RenderPipeline {
+
+    /** The amount of frame snapshots: one being filled by the game loop, and one being drawn by the render thread. */
+    static final int SnapshotCount = 2;
+
+    private static final FrameSnapshot StopSignal = new FrameSnapshot();
+
+    private final BlockingQueue<FrameSnapshot> freeSnapshots;
+    private final BlockingQueue<FrameSnapshot> publishedSnapshots;
+    private final Consumer<FrameSnapshot> frameDrawer;
+    private final Thread renderThread;
+
+    private volatile Exception error;
+    private volatile int drawnFrameCount;
+
+    /**
+     * Constructs a render pipeline, and starts its render thread.
+     *
+     * @param threadName  The name of the render thread.
+     * @param frameDrawer Draws a snapshot to the screen, on the render thread.
+     */
+    RenderPipeline(String threadName, Consumer<FrameSnapshot> frameDrawer) {
+        this.frameDrawer = frameDrawer;
+        freeSnapshots = new ArrayBlockingQueue<>(SnapshotCount);
+        publishedSnapshots = new ArrayBlockingQueue<>(SnapshotCount + 1);
+        for (int i = 0; i < SnapshotCount; i++) {
+            freeSnapshots.add(new FrameSnapshot());
+        }
+
+        renderThread = new Thread(this::drawSnapshots, threadName);
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    /**
+     * Takes a free snapshot to fill with the next frame, waiting for the render thread to finish drawing one if none are free.
+     *
+     * @return The snapshot, with its commands cleared.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    FrameSnapshot acquire() throws InterruptedException {
+        return freeSnapshots.take();
+    }
+
+    /**
+     * Queues the given snapshot to be drawn by the render thread.
+     *
+     * @param snapshot The snapshot to draw, which must have been {@link #acquire() acquired} from this pipeline.
+     */
+    void publish(FrameSnapshot snapshot) {
+        publishedSnapshots.add(snapshot);
+    }
+
+    /**
+     * Returns the given snapshot without drawing it.
+     *
+     * @param snapshot The snapshot to return, which must have been {@link #acquire() acquired} from this pipeline.
+     */
+    void discard(FrameSnapshot snapshot) {
+        snapshot.commands.clear();
+        freeSnapshots.add(snapshot);
+    }
+
+    /** {@return the exception thrown while drawing a snapshot, if any, and clears it} */
+    Exception takeError() {
+        Exception drawError = error;
+        error = null;
+        return drawError;
+    }
+
+    /** {@return the amount of snapshots drawn so far} */
+    int getDrawnFrameCount() {
+        return drawnFrameCount;
+    }
+
+    /**
+     * Draws every snapshot published so far, then stops the render thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the render thread to stop.
+     */
+    void stop() throws InterruptedException {
+        publishedSnapshots.add(StopSignal);
+        renderThread.join();
+    }
+
+    private void drawSnapshots() {
+        while (true) {
+            FrameSnapshot snapshot;
+            try {
+                snapshot = publishedSnapshots.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (snapshot == StopSignal) {
+                return;
+            }
+
+            try {
+                if (error == null) {
+                    frameDrawer.accept(snapshot);
+                    drawnFrameCount++;
+                }
+            } catch (Exception exception) {
+                error = exception;
+            } finally {
+                discard(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Everything needed to draw a frame, copied from the game loop so it can be drawn while the game loop moves on.
+     * <p>
+     * The frame's drawables are recorded as {@link RenderCommandBuffer render commands} in the order they are drawn, with each drawable's
+     * transform and shapes copied at the time it was recorded. Drawables which can only render themselves are drawn into
+     * {@link FrameOverlays overlays} while recording, so nothing in the snapshot refers back to live game state.
+     */
+    static class FrameSnapshot {
+        final RenderCommandBuffer commands = new RenderCommandBuffer(false);
+        final FrameOverlays overlays = new FrameOverlays();
+        final Map<RenderingHints.Key, Object> renderHints = new LinkedHashMap<>();
+        /** The transform from world space to the canvas: the resolution scale, then the camera's transform. */
+        final AffineTransform baseTransform = new AffineTransform();
+        Color backgroundColor;
+        int width;
+        int height;
+        int backgroundX;
+        int backgroundY;
+        int backgroundWidth;
+        int backgroundHeight;
+
+        FrameSnapshot() {
+            commands.setOverlays(overlays);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderLayer;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.ui.UIElement;
+import tech.fastj.input.InputActionEvent;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Draws a scene's render layers, game objects, and ui elements to a graphics context, culling whatever is out of view.
+ * <p>
+ * This holds the drawing logic shared by the {@link FastJCanvas window canvas} and the {@link OffscreenCanvas offscreen canvas}: culling
+ * against the {@link Camera camera}'s view, {@link RenderLayer render layers} and their cached images, and
+ * {@link RenderCommandBuffer batched rendering}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+class SceneRenderer {
+
+    private final ViewCuller viewCuller;
+    private final RenderCommandBuffer renderCommands;
+    private final Map<RenderLayer, LayerCache> layerCaches;
+    private final BiConsumer<String, Exception> errorHandler;
+
+    private final Rectangle2D.Float worldCullingRegion;
+    private final Rectangle2D.Float guiCullingRegion;
+    private boolean isCullingToRegion;
+
+    // regions already drawn this frame, as min x, min y, max x, max y -- drawables overlapping them have been counted
+    private float[] countedWorldRegions;
+    private float[] countedGuiRegions;
+    private int countedRegionCount;
+
+    private final AffineTransform guiTransform;
+
+    private boolean batchedRendering;
+    private int stateChangeCount;
+
+    /**
+     * Constructs a scene renderer.
+     *
+     * @param errorHandler Handles exceptions thrown while drawing, given a description of where the exception came from.
+     */
+    SceneRenderer(BiConsumer<String, Exception> errorHandler) {
+        this.errorHandler = errorHandler;
+        viewCuller = new ViewCuller();
+        renderCommands = new RenderCommandBuffer();
+        layerCaches = new WeakHashMap<>();
+        worldCullingRegion = new Rectangle2D.Float();
+        guiCullingRegion = new Rectangle2D.Float();
+        countedWorldRegions = new float[16];
+        countedGuiRegions = new float[16];
+        guiTransform = new AffineTransform();
+    }
+
+    /**
+     * Starts a new frame, resetting the frame's statistics.
+     *
+     * @param camera         The camera the scene is viewed from.
+     * @param viewportWidth  The width of the view, in canvas units.
+     * @param viewportHeight The height of the view, in canvas units.
+     */
+    void beginFrame(Camera camera, float viewportWidth, float viewportHeight) {
+        viewCuller.update(camera, viewportWidth, viewportHeight);
+        stateChangeCount = 0;
+        countedRegionCount = 0;
+    }
+
+    /**
+     * Limits drawing to the drawables overlapping the given regions, on top of the usual culling.
+     * <p>
+     * The scene may be drawn once for each of several regions in a frame. Drawables are only counted as drawn or culled the first time
+     * they are drawn or culled in the frame.
+     *
+     * @param worldRegion The region game objects must overlap, in world space.
+     * @param guiRegion   The region ui elements must overlap, in canvas space.
+     */
+    void cullToRegion(Rectangle2D.Float worldRegion, Rectangle2D.Float guiRegion) {
+        worldCullingRegion.setRect(worldRegion);
+        guiCullingRegion.setRect(guiRegion);
+        isCullingToRegion = true;
+    }
+
+    /** Stops limiting drawing to a region. */
+    void stopCullingToRegion() {
+        isCullingToRegion = false;
+    }
+
+    boolean isBatchedRendering() {
+        return batchedRendering;
+    }
+
+    void setBatchedRendering(boolean batchedRendering) {
+        this.batchedRendering = batchedRendering;
+    }
+
+    /** {@return the amount of drawables culled since the frame began} */
+    int getCulledCount() {
+        return viewCuller.getCulledCount();
+    }
+
+    /** {@return the amount of drawables drawn since the frame began} */
+    int getDrawnCount() {
+        return viewCuller.getDrawnCount();
+    }
+
+    /** {@return the amount of paint, stroke, and font changes made by batched rendering since the frame began} */
+    int getStateChangeCount() {
+        return stateChangeCount;
+    }
+
+    /**
+     * Draws the given render layers, game objects, and ui elements to the given graphics.
+     * <p>
+     * When called more than once in a frame, drawables drawn or culled by an earlier call are not counted again.
+     *
+     * @return Whether everything was drawn without error.
+     */
+    boolean drawScene(List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                      Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera, Graphics2D drawGraphics) {
+        for (RenderLayer renderLayer : renderLayers) {
+            if (renderLayer.isStatic()) {
+                if (!flushRenderCommands(drawGraphics)) {
+                    return false;
+                }
+
+                try {
+                    LayerCache layerCache = layerCaches.computeIfAbsent(renderLayer, layer -> new LayerCache());
+                    int drawnCount = layerCache.draw(drawGraphics, renderLayer);
+                    if (countedRegionCount == 0) {
+                        viewCuller.countDrawn(drawnCount);
+                    }
+                } catch (Exception exception) {
+                    errorHandler.accept(renderLayer.toString(), exception);
+                    return false;
+                }
+                continue;
+            }
+
+            for (GameObject gameObject : renderLayer.getGameObjects()) {
+                if (!drawGameObject(gameObject, drawGraphics)) {
+                    return false;
+                }
+            }
+        }
+
+        for (GameObject gameObject : gameObjects.values()) {
+            if (gameObject.getRenderLayer() != null) {
+                continue;
+            }
+            if (!drawGameObject(gameObject, drawGraphics)) {
+                return false;
+            }
+        }
+
+        if (!flushRenderCommands(drawGraphics)) {
+            return false;
+        }
+
+        for (UIElement<? extends InputActionEvent> guiObj : gui.values()) {
+            try {
+                if (!guiObj.shouldRender()) {
+                    continue;
+                }
+                if (!viewCuller.isVisibleOnScreen(guiObj)) {
+                    if (countedRegionCount == 0) {
+                        viewCuller.countCulled();
+                    }
+                    continue;
+                }
+                if (isCullingToRegion && !guiObj.boundsOverlap(
+                    guiCullingRegion.x, guiCullingRegion.y,
+                    guiCullingRegion.x + guiCullingRegion.width, guiCullingRegion.y + guiCullingRegion.height
+                )) {
+                    continue;
+                }
+                guiObj.renderAsGUIObject(drawGraphics, camera);
+                if (!isCounted(guiObj, countedGuiRegions)) {
+                    viewCuller.countDrawn();
+                }
+            } catch (Exception exception) {
+                errorHandler.accept(guiObj.getID(), exception);
+                return false;
+            }
+        }
+
+        markRegionCounted();
+        return true;
+    }
+
+    /**
+     * Emits the render commands of the visible render layers, game objects, and ui elements into the given buffer, in the order they would
+     * be drawn.
+     * <p>
+     * Static render layers emit their game objects' commands, rather than being drawn from a cached image. UI elements are added as
+     * {@link RenderCommandBuffer#custom(UIElement) custom commands}, under the inverse of the camera's transform.
+     *
+     * @param commands The buffer to emit commands into.
+     * @return Whether every command was emitted without error.
+     */
+    boolean snapshotScene(List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                          Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera, RenderCommandBuffer commands) {
+        for (RenderLayer renderLayer : renderLayers) {
+            for (GameObject gameObject : renderLayer.getGameObjects()) {
+                if (!snapshotGameObject(gameObject, commands)) {
+                    return false;
+                }
+            }
+        }
+
+        for (GameObject gameObject : gameObjects.values()) {
+            if (gameObject.getRenderLayer() != null) {
+                continue;
+            }
+            if (!snapshotGameObject(gameObject, commands)) {
+                return false;
+            }
+        }
+
+        if (gui.isEmpty()) {
+            return true;
+        }
+
+        guiTransform.setTransform(camera.getCachedTransformation());
+        try {
+            guiTransform.invert();
+        } catch (NoninvertibleTransformException exception) {
+            commands.clear();
+            errorHandler.accept("camera", exception);
+            return false;
+        }
+
+        commands.pushTransform(guiTransform);
+        for (UIElement<? extends InputActionEvent> guiObj : gui.values()) {
+            try {
+                if (!guiObj.shouldRender()) {
+                    continue;
+                }
+                if (!viewCuller.isVisibleOnScreen(guiObj)) {
+                    viewCuller.countCulled();
+                    continue;
+                }
+                commands.custom(guiObj);
+                viewCuller.countDrawn();
+            } catch (Exception exception) {
+                commands.clear();
+                errorHandler.accept(guiObj.getID(), exception);
+                return false;
+            }
+        }
+        commands.popTransform();
+
+        return true;
+    }
+
+    /**
+     * Emits the given game object's render commands into the given buffer, if it is visible.
+     *
+     * @return Whether the commands were emitted without error.
+     */
+    private boolean snapshotGameObject(GameObject gameObject, RenderCommandBuffer commands) {
+        try {
+            if (!gameObject.shouldRender()) {
+                return true;
+            }
+            if (!viewCuller.isVisible(gameObject)) {
+                viewCuller.countCulled();
+                return true;
+            }
+            gameObject.prepareRender();
+            gameObject.emitRenderCommands(commands);
+            viewCuller.countDrawn();
+            return true;
+        } catch (Exception exception) {
+            commands.clear();
+            errorHandler.accept(gameObject.getID(), exception);
+            return false;
+        }
+    }
+
+    /**
+     * Draws the given game object if it is visible, or emits its render commands if batched rendering is enabled.
+     *
+     * @return Whether the game object was drawn without error.
+     */
+    private boolean drawGameObject(GameObject gameObject, Graphics2D drawGraphics) {
+        try {
+            if (!gameObject.shouldRender()) {
+                return true;
+            }
+            if (!viewCuller.isVisible(gameObject)) {
+                if (countedRegionCount == 0) {
+                    viewCuller.countCulled();
+                }
+                return true;
+            }
+            if (isCullingToRegion && !gameObject.boundsOverlap(
+                worldCullingRegion.x, worldCullingRegion.y,
+                worldCullingRegion.x + worldCullingRegion.width, worldCullingRegion.y + worldCullingRegion.height
+            )) {
+                return true;
+            }
+            if (batchedRendering) {
+                gameObject.emitRenderCommands(renderCommands);
+            } else {
+                gameObject.render(drawGraphics);
+            }
+            if (!isCounted(gameObject, countedWorldRegions)) {
+                viewCuller.countDrawn();
+            }
+            return true;
+        } catch (Exception exception) {
+            renderCommands.clear();
+            errorHandler.accept(gameObject.getID(), exception);
+            return false;
+        }
+    }
+
+    /** {@return whether the given drawable overlaps a region drawn earlier in the frame, and so was counted already} */
+    private boolean isCounted(Drawable drawable, float[] countedRegions) {
+        for (int i = 0; i < countedRegionCount * 4; i += 4) {
+            if (drawable.boundsOverlap(countedRegions[i], countedRegions[i + 1], countedRegions[i + 2], countedRegions[i + 3])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Remembers the region just drawn, so the drawables in it are not counted again this frame. */
+    private void markRegionCounted() {
+        int region = countedRegionCount * 4;
+        if (region == countedWorldRegions.length) {
+            countedWorldRegions = Arrays.copyOf(countedWorldRegions, region * 2);
+            countedGuiRegions = Arrays.copyOf(countedGuiRegions, region * 2);
+        }
+
+        if (isCullingToRegion) {
+            storeRegion(countedWorldRegions, region, worldCullingRegion);
+            storeRegion(countedGuiRegions, region, guiCullingRegion);
+        } else {
+            // the whole scene was drawn, so every drawable has been counted
+            storeEverywhere(countedWorldRegions, region);
+            storeEverywhere(countedGuiRegions, region);
+        }
+        countedRegionCount++;
+    }
+
+    private static void storeRegion(float[] regions, int region, Rectangle2D.Float bounds) {
+        regions[region] = bounds.x;
+        regions[region + 1] = bounds.y;
+        regions[region + 2] = bounds.x + bounds.width;
+        regions[region + 3] = bounds.y + bounds.height;
+    }
+
+    private static void storeEverywhere(float[] regions, int region) {
+        regions[region] = Float.NEGATIVE_INFINITY;
+        regions[region + 1] = Float.NEGATIVE_INFINITY;
+        regions[region + 2] = Float.POSITIVE_INFINITY;
+        regions[region + 3] = Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Draws any render commands emitted so far, if batched rendering is enabled.
+     *
+     * @return Whether the commands were drawn without error.
+     */
+    private boolean flushRenderCommands(Graphics2D drawGraphics) {
+        if (!batchedRendering || renderCommands.size() == 0) {
+            return true;
+        }
+
+        try {
+            renderCommands.execute(drawGraphics);
+            stateChangeCount += renderCommands.getStateChangeCount();
+            return true;
+        } catch (Exception exception) {
+            errorHandler.accept("batched game objects", exception);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.engine.CrashMessages;
+import tech.fastj.graphics.RenderLayer;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.ui.UIElement;
+import tech.fastj.input.InputActionEvent;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Renders a scene into an image by splitting the image into horizontal bands, and drawing the bands in parallel.
+ * <p>
+ * Visible game objects are first collected on the calling thread, where their lazily computed state is
+ * {@link GameObject#prepareRender() prepared} and their bounds on screen are used to assign them to every band they overlap. Each band is
+ * then cleared and drawn on a {@link ForkJoinPool fork-join pool}, clipped to the band, drawing its game objects in the same order as
+ * {@link SceneRenderer serial rendering} would. Since each pixel belongs to exactly one band and sees the same draws in the same order, the
+ * result matches drawing the scene serially. The one exception is Java2D's non-anti-aliased rasterizer, which may step thin outlines and
+ * sloped edges differently when they are clipped, so without anti-aliasing a few edge pixels near the seams between bands can differ. UI
+ * elements are drawn afterwards, on the calling thread.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+class TiledRenderer {
+
+    /** The smallest height of a band, in pixels. */
+    static final int MinBandHeight = 16;
+    /** The amount of bands made per thread of the pool, so threads which finish early can take over the remaining bands. */
+    static final int BandsPerThread = 4;
+    /** The amount of pixels game objects' bounds are grown by when assigning them to bands, to cover outlines and anti-aliasing. */
+    static final float BandPadding = 4f;
+
+    private static final int InitialItemCapacity = 256;
+
+    private final ViewCuller viewCuller = new ViewCuller();
+    private final Map<RenderLayer, LayerCache> layerCaches = new WeakHashMap<>();
+    private final Rectangle2D.Float bounds = new Rectangle2D.Float();
+    private final double[] corners = new double[8];
+
+    // items to draw, in order -- each is either a game object or a static layer's cached image
+    private GameObject[] itemGameObjects = new GameObject[InitialItemCapacity];
+    private LayerCache[] itemLayerCaches = new LayerCache[InitialItemCapacity];
+    private int[] itemFirstBands = new int[InitialItemCapacity];
+    private int[] itemLastBands = new int[InitialItemCapacity];
+    private int itemCount;
+
+    // item indices grouped by band, with each band's items starting at bandStarts[band]
+    private int[] bandStarts = new int[1];
+    private int[] bandCursors = new int[1];
+    private int[] bandItems = new int[InitialItemCapacity];
+    private int bandHeight;
+
+    /**
+     * Renders the given scene into the given image.
+     *
+     * @param image           The image to render to.
+     * @param renderHints     The rendering hints to draw with.
+     * @param backgroundColor The color to clear the image to.
+     * @param renderLayers    The render layers to draw.
+     * @param gameObjects     The game objects to draw, skipping those in a render layer.
+     * @param gui             The ui elements to draw.
+     * @param camera          The camera to view the scene from.
+     * @param pool            The pool to draw the bands on.
+     */
+    void render(BufferedImage image, Map<RenderingHints.Key, Object> renderHints, Color backgroundColor, List<RenderLayer> renderLayers,
+                Map<String, GameObject> gameObjects, Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera,
+                ForkJoinPool pool) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform cameraTransform = camera.getCachedTransformation();
+        viewCuller.update(camera, width, height);
+
+        Graphics2D sceneGraphics = image.createGraphics();
+        try {
+            sceneGraphics.setRenderingHints(renderHints);
+            sceneGraphics.transform(cameraTransform);
+
+            int bandCount = Math.max(1, Math.min(pool.getParallelism() * BandsPerThread, height / MinBandHeight));
+            bandHeight = (height + bandCount - 1) / bandCount;
+            collectItems(sceneGraphics, renderLayers, gameObjects, cameraTransform, bandCount);
+            binItems(bandCount);
+
+            pool.invoke(new BandTask(image, renderHints, backgroundColor, cameraTransform, 0, bandCount));
+
+            for (UIElement<? extends InputActionEvent> guiObj : gui.values()) {
+                try {
+                    if (!guiObj.shouldRender()) {
+                        continue;
+                    }
+                    if (!viewCuller.isVisibleOnScreen(guiObj)) {
+                        viewCuller.countCulled();
+                        continue;
+                    }
+                    guiObj.renderAsGUIObject(sceneGraphics, camera);
+                    viewCuller.countDrawn();
+                } catch (Exception exception) {
+                    throw new IllegalStateException(CrashMessages.RenderError.errorMessage + " | Origin: " + guiObj.getID(), exception);
+                }
+            }
+        } finally {
+            sceneGraphics.dispose();
+            Arrays.fill(itemGameObjects, 0, itemCount, null);
+            Arrays.fill(itemLayerCaches, 0, itemCount, null);
+            itemCount = 0;
+        }
+    }
+
+    /** {@return the amount of drawables culled during the last render} */
+    int getCulledCount() {
+        return viewCuller.getCulledCount();
+    }
+
+    /** {@return the amount of drawables drawn during the last render} */
+    int getDrawnCount() {
+        return viewCuller.getDrawnCount();
+    }
+
+    private void collectItems(Graphics2D sceneGraphics, List<RenderLayer> renderLayers, Map<String, GameObject> gameObjects,
+                              AffineTransform cameraTransform, int bandCount) {
+        itemCount = 0;
+
+        for (RenderLayer renderLayer : renderLayers) {
+            if (renderLayer.isStatic()) {
+                LayerCache layerCache = layerCaches.computeIfAbsent(renderLayer, layer -> new LayerCache());
+                boolean isCached;
+                try {
+                    isCached = layerCache.prepare(sceneGraphics, renderLayer);
+                } catch (Exception exception) {
+                    throw new IllegalStateException(CrashMessages.RenderError.errorMessage + " | Origin: " + renderLayer, exception);
+                }
+
+                if (isCached) {
+                    if (layerCache.getRenderedCount() > 0) {
+                        addItem(null, layerCache, layerCache.getWorldBounds(bounds), cameraTransform, bandCount);
+                        viewCuller.countDrawn(layerCache.getRenderedCount());
+                    }
+                    continue;
+                }
+            }
+
+            for (GameObject gameObject : renderLayer.getGameObjects()) {
+                collectGameObject(gameObject, cameraTransform, bandCount);
+            }
+        }
+
+        for (GameObject gameObject : gameObjects.values()) {
+            if (gameObject.getRenderLayer() == null) {
+                collectGameObject(gameObject, cameraTransform, bandCount);
+            }
+        }
+    }
+
+    private void collectGameObject(GameObject gameObject, AffineTransform cameraTransform, int bandCount) {
+        if (!gameObject.shouldRender()) {
+            return;
+        }
+        if (!viewCuller.isVisible(gameObject)) {
+            viewCuller.countCulled();
+            return;
+        }
+
+        gameObject.prepareRender();
+        addItem(gameObject, null, gameObject.getBoundingBox(bounds), cameraTransform, bandCount);
+        viewCuller.countDrawn();
+    }
+
+    private void addItem(GameObject gameObject, LayerCache layerCache, Rectangle2D.Float worldBounds, AffineTransform cameraTransform,
+                         int bandCount) {
+        if (itemCount == itemGameObjects.length) {
+            int capacity = itemCount * 2;
+            itemGameObjects = Arrays.copyOf(itemGameObjects, capacity);
+            itemLayerCaches = Arrays.copyOf(itemLayerCaches, capacity);
+            itemFirstBands = Arrays.copyOf(itemFirstBands, capacity);
+            itemLastBands = Arrays.copyOf(itemLastBands, capacity);
+        }
+
+        corners[0] = worldBounds.x;
+        corners[1] = worldBounds.y;
+        corners[2] = worldBounds.x + worldBounds.width;
+        corners[3] = worldBounds.y;
+        corners[4] = worldBounds.x + worldBounds.width;
+        corners[5] = worldBounds.y + worldBounds.height;
+        corners[6] = worldBounds.x;
+        corners[7] = worldBounds.y + worldBounds.height;
+        cameraTransform.transform(corners, 0, corners, 0, 4);
+
+        double minY = Math.min(Math.min(corners[1], corners[3]), Math.min(corners[5], corners[7])) - BandPadding;
+        double maxY = Math.max(Math.max(corners[1], corners[3]), Math.max(corners[5], corners[7])) + BandPadding;
+        int firstBand = (int) Math.max(0d, Math.min(bandCount - 1d, Math.floor(minY / bandHeight)));
+        int lastBand = (int) Math.max(0d, Math.min(bandCount - 1d, Math.floor(maxY / bandHeight)));
+
+        itemGameObjects[itemCount] = gameObject;
+        itemLayerCaches[itemCount] = layerCache;
+        itemFirstBands[itemCount] = firstBand;
+        itemLastBands[itemCount] = lastBand;
+        itemCount++;
+    }
+
+    /** Groups the item indices by band, keeping each band's items in drawing order. */
+    private void binItems(int bandCount) {
+        if (bandStarts.length < bandCount + 1) {
+            bandStarts = new int[bandCount + 1];
+        }
+        Arrays.fill(bandStarts, 0, bandCount + 1, 0);
+
+        int total = 0;
+        for (int i = 0; i < itemCount; i++) {
+            for (int band = itemFirstBands[i]; band <= itemLastBands[i]; band++) {
+                bandStarts[band + 1]++;
+            }
+            total += itemLastBands[i] - itemFirstBands[i] + 1;
+        }
+        for (int band = 0; band < bandCount; band++) {
+            bandStarts[band + 1] += bandStarts[band];
+        }
+
+        if (bandItems.length < total) {
+            bandItems = new int[Math.max(total, bandItems.length * 2)];
+        }
+
+        if (bandCursors.length < bandCount) {
+            bandCursors = new int[bandCount];
+        }
+        System.arraycopy(bandStarts, 0, bandCursors, 0, bandCount);
+
+        for (int i = 0; i < itemCount; i++) {
+            for (int band = itemFirstBands[i]; band <= itemLastBands[i]; band++) {
+                bandItems[bandCursors[band]++] = i;
+            }
+        }
+    }
+
+    /** Draws a range of bands, splitting the range up while it holds more than one band. */
+    private class BandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BufferedImage image;
+        private final Map<RenderingHints.Key, Object> renderHints;
+        private final Color backgroundColor;
+        private final AffineTransform cameraTransform;
+        private final int start;
+        private final int end;
+
+        private BandTask(BufferedImage image, Map<RenderingHints.Key, Object> renderHints, Color backgroundColor,
+                         AffineTransform cameraTransform, int start, int end) {
+            this.image = image;
+            this.renderHints = renderHints;
+            this.backgroundColor = backgroundColor;
+            this.cameraTransform = cameraTransform;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > 1) {
+                int middle = (start + end) >>> 1;
+                invokeAll(
+                    new BandTask(image, renderHints, backgroundColor, cameraTransform, start, middle),
+                    new BandTask(image, renderHints, backgroundColor, cameraTransform, middle, end)
+                );
+                return;
+            }
+
+            drawBand(start);
+        }
+
+        private void drawBand(int band) {
+            int y = band * bandHeight;
+            int height = Math.min(bandHeight, image.getHeight() - y);
+            if (height <= 0) {
+                return;
+            }
+
+            Graphics2D bandGraphics = image.createGraphics();
+            try {
+                bandGraphics.setRenderingHints(renderHints);
+                bandGraphics.setBackground(backgroundColor);
+                bandGraphics.clipRect(0, y, image.getWidth(), height);
+                bandGraphics.clearRect(0, y, image.getWidth(), height);
+                bandGraphics.transform(cameraTransform);
+
+                for (int i = bandStarts[band]; i < bandStarts[band + 1]; i++) {
+                    int item = bandItems[i];
+                    GameObject gameObject = itemGameObjects[item];
+                    try {
+                        if (gameObject != null) {
+                            gameObject.render(bandGraphics);
+                        } else {
+                            itemLayerCaches[item].blit(bandGraphics);
+                        }
+                    } catch (Exception exception) {
+                        String origin = gameObject != null ? gameObject.getID() : "static render layer";
+                        throw new IllegalStateException(CrashMessages.RenderError.errorMessage + " | Origin: " + origin, exception);
+                    }
+                }
+            } finally {
+                bandGraphics.dispose();
+            }
+        }
+    }
+}
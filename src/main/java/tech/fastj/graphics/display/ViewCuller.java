@@ -0,0 +1,116 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.Drawable;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+
+/**
+ * Culling stage used to skip rendering {@link Drawable drawables} that are outside of the visible area.
+ * <p>
+ * The visible area is calculated once per frame by {@link #update(Camera, float, float)}: the viewport is transformed by the inverse of
+ * the camera's transform, and the axis-aligned box around the result is stored as four floats. Each drawable's cached
+ * {@link Drawable#boundsOverlap(float, float, float, float) bounding box} is then tested against it with plain comparisons.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class ViewCuller {
+
+    private final AffineTransform inverseCameraTransform = new AffineTransform();
+    private final float[] viewCorners = new float[8];
+
+    private float worldMinX;
+    private float worldMinY;
+    private float worldMaxX;
+    private float worldMaxY;
+    private float screenWidth;
+    private float screenHeight;
+
+    private int culledCount;
+    private int drawnCount;
+
+    /**
+     * Recalculates the visible area for the next frame, and resets the culling counters.
+     *
+     * @param camera         The camera the frame is rendered from.
+     * @param viewportWidth  The width of the viewport, in canvas resolution units.
+     * @param viewportHeight The height of the viewport, in canvas resolution units.
+     */
+    void update(Camera camera, float viewportWidth, float viewportHeight) {
+        screenWidth = viewportWidth;
+        screenHeight = viewportHeight;
+        culledCount = 0;
+        drawnCount = 0;
+
+        try {
+            inverseCameraTransform.setTransform(camera.getCachedTransformation());
+            inverseCameraTransform.invert();
+        } catch (NoninvertibleTransformException exception) {
+            throw new IllegalStateException(exception);
+        }
+
+        viewCorners[0] = 0f;
+        viewCorners[1] = 0f;
+        viewCorners[2] = viewportWidth;
+        viewCorners[3] = 0f;
+        viewCorners[4] = viewportWidth;
+        viewCorners[5] = viewportHeight;
+        viewCorners[6] = 0f;
+        viewCorners[7] = viewportHeight;
+        inverseCameraTransform.transform(viewCorners, 0, viewCorners, 0, 4);
+
+        worldMinX = worldMaxX = viewCorners[0];
+        worldMinY = worldMaxY = viewCorners[1];
+        for (int i = 2; i < viewCorners.length; i += 2) {
+            worldMinX = Math.min(worldMinX, viewCorners[i]);
+            worldMaxX = Math.max(worldMaxX, viewCorners[i]);
+            worldMinY = Math.min(worldMinY, viewCorners[i + 1]);
+            worldMaxY = Math.max(worldMaxY, viewCorners[i + 1]);
+        }
+    }
+
+    /**
+     * {@return whether the given drawable, in world space, is inside the visible area}
+     *
+     * @param drawable The drawable to check.
+     */
+    boolean isVisible(Drawable drawable) {
+        return drawable.boundsOverlap(worldMinX, worldMinY, worldMaxX, worldMaxY);
+    }
+
+    /**
+     * {@return whether the given drawable, in screen space (such as a {@link tech.fastj.graphics.ui.UIElement ui element}), is inside the
+     * visible area}
+     *
+     * @param drawable The drawable to check.
+     */
+    boolean isVisibleOnScreen(Drawable drawable) {
+        return drawable.boundsOverlap(0f, 0f, screenWidth, screenHeight);
+    }
+
+    /** Counts a drawable as culled for the current frame. */
+    void countCulled() {
+        culledCount++;
+    }
+
+    /** Counts a drawable as drawn for the current frame. */
+    void countDrawn() {
+        drawnCount++;
+    }
+
+    /** Counts the given amount of drawables as drawn for the current frame. */
+    void countDrawn(int count) {
+        drawnCount += count;
+    }
+
+    /** {@return the amount of drawables culled since the last update} */
+    int getCulledCount() {
+        return culledCount;
+    }
+
+    /** {@return the amount of drawables drawn since the last update} */
+    int getDrawnCount() {
+        return drawnCount;
+    }
+}
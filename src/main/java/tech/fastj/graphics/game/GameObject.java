@@ -1,6 +1,7 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.display.RenderCommandBuffer;
 import tech.fastj.systems.behaviors.Behavior;
 import tech.fastj.systems.behaviors.BehaviorHandler;
 import tech.fastj.systems.control.GameHandler;
@@ -122,6 +123,35 @@ public abstract class GameObject extends Drawable {
      */
     public abstract void render(Graphics2D g);
 
+    /**
+     * Adds the commands needed to draw the {@link GameObject game object} to the given command buffer, for
+     * {@link tech.fastj.graphics.display.FastJCanvas#setBatchedRendering(boolean) batched rendering}.
+     * <p>
+     * By default, this adds a {@link RenderCommandBuffer#custom(GameObject) custom command} which calls
+     * {@link #render(Graphics2D)}. Game objects which only fill, outline, or draw images and text should override this to emit those
+     * commands instead, so they can be batched with other game objects.
+     *
+     * @param commands The command buffer to add commands to.
+     * @since 1.7.0
+     */
+    public void emitRenderCommands(RenderCommandBuffer commands) {
+        commands.custom(this);
+    }
+
+    /**
+     * Brings any state which {@link #render(Graphics2D)} would otherwise compute lazily up to date.
+     * <p>
+     * Renderers which draw the same game object from several threads at once -- such as
+     * {@link tech.fastj.graphics.display.OffscreenCanvas#setTiledRendering(boolean) tiled rendering} -- call this on a single thread
+     * first, so that rendering only has to read the game object's state. Game objects which compute anything lazily while rendering should
+     * override this to compute it ahead of time.
+     *
+     * @since 1.7.0
+     */
+    public void prepareRender() {
+        getCachedTransformation();
+    }
+
     /**
      * Destroys all references of the {@link GameObject game object}'s behaviors and removes its references from the {@link GameHandler}.
      *
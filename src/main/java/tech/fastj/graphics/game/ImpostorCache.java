@@ -0,0 +1,323 @@
+package tech.fastj.graphics.game;
+
+import java.awt.BasicStroke;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of pre-rendered images of {@link Model2D models}, called impostors.
+ * <p>
+ * A model with hundreds of polygons fills and outlines every one of them each time it is drawn. A model {@link
+ * Model2D#setImpostorCache(ImpostorCache) using an impostor cache} is instead drawn once into an image, which is then copied to the screen
+ * in place of the model's polygons. Impostors are drawn in screen pixels, so one is kept for each rotation and scale the model is drawn at
+ * -- to keep their count down, rotations and scales are rounded to the nearest of a fixed set of buckets. A model drawn at a rotation or
+ * scale between two buckets is drawn slightly rotated or scaled, and at a whole-pixel position.
+ * <p>
+ * A model's impostors are redrawn whenever any of its polygons change. Once the impostors in the cache take up more memory than its
+ * {@link #getBudget() budget}, the least recently drawn ones are dropped.
+ * <p>
+ * Impostors suit complex models which are mostly only moved. Models which are drawn sheared, or so large that a single impostor would not
+ * fit in the budget, are drawn polygon by polygon as usual.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class ImpostorCache {
+
+    /** The default memory budget of a cache: 32 MiB. */
+    public static final long DefaultBudget = 32L * 1024L * 1024L;
+    /** The default amount of rotation buckets in a full turn: one every 5 degrees. */
+    public static final int DefaultRotationBuckets = 72;
+    /** The default amount of scale buckets between a scale and double that scale. */
+    public static final int DefaultScaleBucketsPerDoubling = 8;
+    /** The largest width or height of an impostor, in pixels. */
+    public static final int MaxImpostorSize = 2048;
+
+    private static final int BytesPerPixel = 4;
+    private static final double ShearTolerance = 1e-3d;
+
+    private final long budget;
+    private final int rotationBuckets;
+    private final int scaleBucketsPerDoubling;
+    private final LinkedHashMap<Key, Impostor> impostors = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long usedBytes;
+    private int hitCount;
+    private int missCount;
+
+    /** Constructs an empty impostor cache with the default budget and buckets. */
+    public ImpostorCache() {
+        this(DefaultBudget, DefaultRotationBuckets, DefaultScaleBucketsPerDoubling);
+    }
+
+    /**
+     * Constructs an empty impostor cache with the given budget, and the default buckets.
+     *
+     * @param budget The amount of memory impostors may take up, in bytes.
+     */
+    public ImpostorCache(long budget) {
+        this(budget, DefaultRotationBuckets, DefaultScaleBucketsPerDoubling);
+    }
+
+    /**
+     * Constructs an empty impostor cache.
+     *
+     * @param budget                  The amount of memory impostors may take up, in bytes.
+     * @param rotationBuckets         The amount of rotation buckets in a full turn.
+     * @param scaleBucketsPerDoubling The amount of scale buckets between a scale and double that scale.
+     */
+    public ImpostorCache(long budget, int rotationBuckets, int scaleBucketsPerDoubling) {
+        if (budget < 1L) {
+            throw new IllegalArgumentException("The budget must be at least 1 byte.");
+        }
+        if (rotationBuckets < 1 || scaleBucketsPerDoubling < 1) {
+            throw new IllegalArgumentException("There must be at least 1 rotation bucket and 1 scale bucket per doubling.");
+        }
+
+        this.budget = budget;
+        this.rotationBuckets = rotationBuckets;
+        this.scaleBucketsPerDoubling = scaleBucketsPerDoubling;
+    }
+
+    /** {@return the amount of memory impostors may take up, in bytes} */
+    public long getBudget() {
+        return budget;
+    }
+
+    /** {@return the amount of memory the cached impostors take up, in bytes} */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /** {@return the amount of cached impostors} */
+    public synchronized int getImpostorCount() {
+        return impostors.size();
+    }
+
+    /** {@return the amount of times a model was drawn from an up-to-date cached impostor} */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /** {@return the amount of times an impostor had to be drawn before a model could be drawn from it} */
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Drops every cached impostor of the given model.
+     *
+     * @param model The model whose impostors to drop.
+     */
+    public synchronized void evict(Model2D model) {
+        for (Iterator<Map.Entry<Key, Impostor>> iterator = impostors.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Key, Impostor> entry = iterator.next();
+            if (entry.getKey().model == model) {
+                usedBytes -= entry.getValue().byteCount();
+                iterator.remove();
+            }
+        }
+    }
+
+    /** Drops every cached impostor. */
+    public synchronized void clear() {
+        impostors.clear();
+        usedBytes = 0L;
+    }
+
+    /**
+     * Draws the given model from its impostor for the graphics' current transform, drawing the impostor first if needed.
+     *
+     * @param g     The graphics to draw to.
+     * @param model The model to draw.
+     * @return Whether the model was drawn -- if not, it cannot be drawn from an impostor, and must be drawn polygon by polygon.
+     */
+    boolean draw(Graphics2D g, Model2D model) {
+        AffineTransform deviceTransform = g.getTransform();
+        deviceTransform.concatenate(model.getCachedTransformation());
+
+        double m00 = deviceTransform.getScaleX();
+        double m10 = deviceTransform.getShearY();
+        double m01 = deviceTransform.getShearX();
+        double m11 = deviceTransform.getScaleY();
+
+        // split into a rotation, and a scale along the rotated axes
+        double scaleX = Math.hypot(m00, m10);
+        if (scaleX == 0d) {
+            return true;
+        }
+        double scaleY = (m00 * m11 - m01 * m10) / scaleX;
+        double shear = (m00 * m01 + m10 * m11) / scaleX;
+        if (scaleY == 0d || Math.abs(shear) > ShearTolerance * Math.abs(scaleY)) {
+            return false;
+        }
+
+        double rotationStep = 2d * Math.PI / rotationBuckets;
+        int rotationBucket = Math.floorMod((int) Math.round(Math.atan2(m10, m00) / rotationStep), rotationBuckets);
+        int scaleXBucket = scaleBucketOf(scaleX);
+        int scaleYBucket = scaleBucketOf(Math.abs(scaleY));
+        boolean isFlipped = scaleY < 0d;
+
+        Key key = new Key(model, rotationBucket, scaleXBucket, scaleYBucket, isFlipped);
+        int revision = model.getImpostorRevision();
+        Impostor impostor;
+        synchronized (this) {
+            impostor = impostors.get(key);
+            if (impostor != null && impostor.revision == revision) {
+                hitCount++;
+            } else {
+                missCount++;
+                impostor = null;
+            }
+        }
+
+        if (impostor == null) {
+            AffineTransform rasterTransform = AffineTransform.getRotateInstance(rotationBucket * rotationStep);
+            rasterTransform.scale(scaleOf(scaleXBucket), isFlipped ? -scaleOf(scaleYBucket) : scaleOf(scaleYBucket));
+
+            impostor = createImpostor(g, model, rasterTransform, revision);
+            if (impostor == null) {
+                return false;
+            }
+            store(key, impostor);
+        }
+
+        AffineTransform oldTransform = g.getTransform();
+        g.setTransform(new AffineTransform());
+        g.drawImage(
+            impostor.image,
+            (int) Math.round(deviceTransform.getTranslateX() + impostor.x),
+            (int) Math.round(deviceTransform.getTranslateY() + impostor.y),
+            null
+        );
+        g.setTransform(oldTransform);
+        return true;
+    }
+
+    private int scaleBucketOf(double scale) {
+        return (int) Math.round(Math.log(scale) / Math.log(2d) * scaleBucketsPerDoubling);
+    }
+
+    private double scaleOf(int scaleBucket) {
+        return Math.pow(2d, (double) scaleBucket / scaleBucketsPerDoubling);
+    }
+
+    private Impostor createImpostor(Graphics2D g, Model2D model, AffineTransform rasterTransform, int revision) {
+        Rectangle2D bounds = null;
+        float largestStroke = 0f;
+        for (Polygon2D polygon : model.getPolygons()) {
+            if (!polygon.shouldRender()) {
+                continue;
+            }
+
+            Shape polygonShape = rasterTransform.createTransformedShape(polygon.getCollisionPath());
+            if (bounds == null) {
+                bounds = polygonShape.getBounds2D();
+            } else {
+                bounds.add(polygonShape.getBounds2D());
+            }
+
+            BasicStroke outlineStroke = polygon.getOutlineStroke();
+            if (polygon.getRenderStyle() != RenderStyle.Fill && outlineStroke != null) {
+                float joinReach = outlineStroke.getLineJoin() == BasicStroke.JOIN_MITER ? Math.max(1f, outlineStroke.getMiterLimit()) : 1f;
+                largestStroke = Math.max(largestStroke, outlineStroke.getLineWidth() * joinReach);
+            }
+        }
+
+        if (bounds == null) {
+            return null;
+        }
+
+        // outlines reach past the polygons' paths, and anti-aliasing a pixel further
+        double padding = Math.ceil(largestStroke * 0.5d * Math.max(Math.abs(rasterTransform.getScaleX()) + Math.abs(rasterTransform.getShearX()),
+            Math.abs(rasterTransform.getShearY()) + Math.abs(rasterTransform.getScaleY()))) + 1d;
+        int x = (int) Math.floor(bounds.getMinX() - padding);
+        int y = (int) Math.floor(bounds.getMinY() - padding);
+        int width = (int) Math.ceil(bounds.getMaxX() + padding) - x;
+        int height = (int) Math.ceil(bounds.getMaxY() + padding) - y;
+        if (width > MaxImpostorSize || height > MaxImpostorSize || (long) width * height * BytesPerPixel > budget) {
+            return null;
+        }
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D imageGraphics = image.createGraphics();
+        try {
+            imageGraphics.setRenderingHints(g.getRenderingHints());
+            imageGraphics.translate(-x, -y);
+            imageGraphics.transform(rasterTransform);
+            for (Polygon2D polygon : model.getPolygons()) {
+                if (polygon.shouldRender()) {
+                    polygon.render(imageGraphics);
+                }
+            }
+        } finally {
+            imageGraphics.dispose();
+        }
+
+        return new Impostor(image, x, y, revision);
+    }
+
+    private synchronized void store(Key key, Impostor impostor) {
+        Impostor replaced = impostors.put(key, impostor);
+        if (replaced != null) {
+            usedBytes -= replaced.byteCount();
+        }
+        usedBytes += impostor.byteCount();
+
+        for (Iterator<Impostor> iterator = impostors.values().iterator(); usedBytes > budget && iterator.hasNext(); ) {
+            Impostor leastRecentlyUsed = iterator.next();
+            if (leastRecentlyUsed == impostor) {
+                continue;
+            }
+            usedBytes -= leastRecentlyUsed.byteCount();
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ImpostorCache{" +
+            "budget=" + budget +
+            ", usedBytes=" + usedBytes +
+            ", impostorCount=" + impostors.size() +
+            ", rotationBuckets=" + rotationBuckets +
+            ", scaleBucketsPerDoubling=" + scaleBucketsPerDoubling +
+            '}';
+    }
+
+    /** A model drawn at a rotation and scale, with the offset of its image from the model's origin. */
+    private record Impostor(BufferedImage image, int x, int y, int revision) {
+        private long byteCount() {
+            return (long) image.getWidth() * image.getHeight() * BytesPerPixel;
+        }
+    }
+
+    /** Keys impostors by the identity of their model, since models compare equal by value. */
+    private record Key(Model2D model, int rotationBucket, int scaleXBucket, int scaleYBucket, boolean isFlipped) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key
+                && model == key.model
+                && rotationBucket == key.rotationBucket
+                && scaleXBucket == key.scaleXBucket
+                && scaleYBucket == key.scaleYBucket
+                && isFlipped == key.isFlipped;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(model);
+            result = 31 * result + rotationBucket;
+            result = 31 * result + scaleXBucket;
+            result = 31 * result + scaleYBucket;
+            result = 31 * result + (isFlipped ? 1 : 0);
+            return result;
+        }
+    }
+}
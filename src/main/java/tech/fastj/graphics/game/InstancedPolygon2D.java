@@ -0,0 +1,710 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.display.RenderCommandBuffer;
+import tech.fastj.physics.Contact;
+import tech.fastj.physics.ConvexDecomposition;
+import tech.fastj.physics.NarrowPhase;
+import tech.fastj.systems.control.GameHandler;
+
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link GameObject Game object} subclass for drawing many copies of one shape.
+ * <p>
+ * Every instance draws the same {@link PolygonMesh mesh}, and stores nothing but its own transform and {@link #Visible flags} -- six floats
+ * and an int, kept in flat arrays. Compared to a {@link Polygon2D} per copy, this skips each copy's points, paths, transform objects, tags
+ * and ID, so thousands of identical bullets or particles cost little more than their positions.
+ * <p>
+ * Instances are addressed by index, from {@code 0} to {@link #getInstanceCount()}. Instance transforms are relative to the instanced
+ * polygon, which can itself be transformed like any other game object.
+ * <p>
+ * As a single {@link Drawable}, an instanced polygon's bounds are a rectangle around every instance, which grows as instances move out of
+ * it -- and is only shrunk back by {@link #fitBounds()}. Collisions with individual instances are checked through
+ * {@link #instanceCollidesWith(int, Drawable, Contact)}, or for every instance at once through
+ * {@link #findCollisions(Drawable, IntConsumer)} and {@link #findCollisions(InstancedPolygon2D, InstanceCollisionCallback)}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class InstancedPolygon2D extends GameObject {
+
+    /** Flag marking an instance to be rendered. */
+    public static final int Visible = 1;
+    /** Flag marking an instance to be checked for collisions. */
+    public static final int Collidable = 1 << 1;
+    /** The flags of newly added instances: {@link #Visible visible} and {@link #Collidable collidable}. */
+    public static final int DefaultInstanceFlags = Visible | Collidable;
+    /** The amount of instances space is reserved for by default. */
+    public static final int DefaultInitialCapacity = 16;
+
+    private static final int MatrixSize = 6;
+
+    private final PolygonMesh mesh;
+
+    /** Instance transforms, as {@code m00, m10, m01, m11, m02, m12} -- the order of {@link AffineTransform#getMatrix(double[])}. */
+    private float[] matrices;
+    private int[] flags;
+    private int instanceCount;
+
+    private boolean hasBounds;
+    private float boundsMinX;
+    private float boundsMinY;
+    private float boundsMaxX;
+    private float boundsMaxY;
+
+    private ConvexDecomposition collisionPieces;
+    private final AffineTransform collisionTransform = new AffineTransform();
+    private final AffineTransform instanceTransform = new AffineTransform();
+    private final Rectangle2D.Float boundsScratch = new Rectangle2D.Float();
+    private final float[] instanceWorldBounds = new float[4];
+    private float[] worldBounds = new float[0];
+
+    /**
+     * Constructs an instanced polygon with no instances.
+     *
+     * @param mesh The mesh every instance draws.
+     */
+    public InstancedPolygon2D(PolygonMesh mesh) {
+        this(mesh, DefaultInitialCapacity);
+    }
+
+    /**
+     * Constructs an instanced polygon with no instances, reserving space for the given amount of them.
+     *
+     * @param mesh            The mesh every instance draws.
+     * @param initialCapacity The amount of instances to reserve space for.
+     */
+    public InstancedPolygon2D(PolygonMesh mesh, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity must not be negative.");
+        }
+
+        this.mesh = Objects.requireNonNull(mesh, "The mesh must not be null.");
+        matrices = new float[initialCapacity * MatrixSize];
+        flags = new int[initialCapacity];
+        setCollisionPath(new Path2D.Float());
+    }
+
+    /** {@return the mesh every instance draws} */
+    public PolygonMesh getMesh() {
+        return mesh;
+    }
+
+    /** {@return the amount of instances} */
+    public int getInstanceCount() {
+        return instanceCount;
+    }
+
+    /**
+     * Adds an instance at the given position, with no rotation or scaling.
+     *
+     * @param x The x position of the instance.
+     * @param y The y position of the instance.
+     * @return The index of the new instance.
+     */
+    public int addInstance(float x, float y) {
+        return addInstance(x, y, 0f, 1f, 1f);
+    }
+
+    /**
+     * Adds an instance with the given transform.
+     *
+     * @param x        The x position of the instance.
+     * @param y        The y position of the instance.
+     * @param rotation The rotation of the instance, in degrees.
+     * @param scaleX   The horizontal scale of the instance.
+     * @param scaleY   The vertical scale of the instance.
+     * @return The index of the new instance.
+     */
+    public int addInstance(float x, float y, float rotation, float scaleX, float scaleY) {
+        if (instanceCount == flags.length) {
+            int newCapacity = Math.max(DefaultInitialCapacity, flags.length * 2);
+            matrices = Arrays.copyOf(matrices, newCapacity * MatrixSize);
+            flags = Arrays.copyOf(flags, newCapacity);
+        }
+
+        int index = instanceCount++;
+        flags[index] = DefaultInstanceFlags;
+        setInstanceTransform(index, x, y, rotation, scaleX, scaleY);
+        return index;
+    }
+
+    /**
+     * Removes the given instance, by moving the last instance into its place.
+     * <p>
+     * After this, the last instance is found at the removed instance's index.
+     *
+     * @param index The index of the instance to remove.
+     */
+    public void removeInstance(int index) {
+        checkIndex(index);
+
+        int last = --instanceCount;
+        if (index != last) {
+            System.arraycopy(matrices, last * MatrixSize, matrices, index * MatrixSize, MatrixSize);
+            flags[index] = flags[last];
+        }
+        appearanceChanged();
+    }
+
+    /** Removes every instance, and shrinks the bounds to nothing. */
+    public void clearInstances() {
+        instanceCount = 0;
+        fitBounds();
+    }
+
+    /**
+     * Sets the transform of the given instance.
+     *
+     * @param index    The index of the instance.
+     * @param x        The x position of the instance.
+     * @param y        The y position of the instance.
+     * @param rotation The rotation of the instance, in degrees.
+     * @param scaleX   The horizontal scale of the instance.
+     * @param scaleY   The vertical scale of the instance.
+     */
+    public void setInstanceTransform(int index, float x, float y, float rotation, float scaleX, float scaleY) {
+        checkIndex(index);
+
+        double radians = Math.toRadians(rotation);
+        float cos = (float) Math.cos(radians);
+        float sin = (float) Math.sin(radians);
+
+        int matrix = index * MatrixSize;
+        matrices[matrix] = cos * scaleX;
+        matrices[matrix + 1] = sin * scaleX;
+        matrices[matrix + 2] = -sin * scaleY;
+        matrices[matrix + 3] = cos * scaleY;
+        matrices[matrix + 4] = x;
+        matrices[matrix + 5] = y;
+        growBounds(index);
+    }
+
+    /**
+     * Sets the transform of the given instance.
+     *
+     * @param index     The index of the instance.
+     * @param transform The new transform of the instance.
+     */
+    public void setInstanceTransform(int index, AffineTransform transform) {
+        checkIndex(index);
+
+        int matrix = index * MatrixSize;
+        matrices[matrix] = (float) transform.getScaleX();
+        matrices[matrix + 1] = (float) transform.getShearY();
+        matrices[matrix + 2] = (float) transform.getShearX();
+        matrices[matrix + 3] = (float) transform.getScaleY();
+        matrices[matrix + 4] = (float) transform.getTranslateX();
+        matrices[matrix + 5] = (float) transform.getTranslateY();
+        growBounds(index);
+    }
+
+    /**
+     * Copies the transform of the given instance into the given transform.
+     *
+     * @param index       The index of the instance.
+     * @param destination The transform to store the instance's transform in.
+     * @return The given transform, for method chaining.
+     */
+    public AffineTransform getInstanceTransform(int index, AffineTransform destination) {
+        checkIndex(index);
+        loadMatrix(index, destination);
+        return destination;
+    }
+
+    /**
+     * Moves the given instance to the given position, keeping its rotation and scale.
+     *
+     * @param index The index of the instance.
+     * @param x     The new x position of the instance.
+     * @param y     The new y position of the instance.
+     */
+    public void setInstanceTranslation(int index, float x, float y) {
+        checkIndex(index);
+
+        int matrix = index * MatrixSize;
+        matrices[matrix + 4] = x;
+        matrices[matrix + 5] = y;
+        growBounds(index);
+    }
+
+    /**
+     * Moves the given instance by the given amount.
+     *
+     * @param index      The index of the instance.
+     * @param translateX The amount to move the instance by on the x axis.
+     * @param translateY The amount to move the instance by on the y axis.
+     */
+    public void translateInstance(int index, float translateX, float translateY) {
+        checkIndex(index);
+
+        int matrix = index * MatrixSize;
+        matrices[matrix + 4] += translateX;
+        matrices[matrix + 5] += translateY;
+        growBounds(index);
+    }
+
+    /**
+     * {@return the x position of the given instance}
+     *
+     * @param index The index of the instance.
+     */
+    public float getInstanceX(int index) {
+        checkIndex(index);
+        return matrices[index * MatrixSize + 4];
+    }
+
+    /**
+     * {@return the y position of the given instance}
+     *
+     * @param index The index of the instance.
+     */
+    public float getInstanceY(int index) {
+        checkIndex(index);
+        return matrices[index * MatrixSize + 5];
+    }
+
+    /**
+     * {@return the flags of the given instance}
+     *
+     * @param index The index of the instance.
+     */
+    public int getInstanceFlags(int index) {
+        checkIndex(index);
+        return flags[index];
+    }
+
+    /**
+     * Sets the flags of the given instance.
+     * <p>
+     * Besides {@link #Visible} and {@link #Collidable}, the flags' remaining bits are free to be used by the game.
+     *
+     * @param index         The index of the instance.
+     * @param instanceFlags The new flags of the instance.
+     */
+    public void setInstanceFlags(int index, int instanceFlags) {
+        checkIndex(index);
+
+        boolean isVisibilityChanged = ((flags[index] ^ instanceFlags) & Visible) != 0;
+        flags[index] = instanceFlags;
+        if (isVisibilityChanged) {
+            appearanceChanged();
+        }
+    }
+
+    /**
+     * Copies the bounding box of the given instance, relative to the instanced polygon, into the given rectangle.
+     *
+     * @param index       The index of the instance.
+     * @param destination The rectangle to store the bounding box in.
+     * @return The given rectangle, for method chaining.
+     */
+    public Rectangle2D.Float getInstanceBounds(int index, Rectangle2D.Float destination) {
+        checkIndex(index);
+
+        Rectangle2D.Float meshBounds = mesh.sharedBounds();
+        float halfWidth = meshBounds.width * 0.5f;
+        float halfHeight = meshBounds.height * 0.5f;
+        float centerX = meshBounds.x + halfWidth;
+        float centerY = meshBounds.y + halfHeight;
+
+        int matrix = index * MatrixSize;
+        float m00 = matrices[matrix];
+        float m10 = matrices[matrix + 1];
+        float m01 = matrices[matrix + 2];
+        float m11 = matrices[matrix + 3];
+
+        float extentX = Math.abs(m00) * halfWidth + Math.abs(m01) * halfHeight;
+        float extentY = Math.abs(m10) * halfWidth + Math.abs(m11) * halfHeight;
+        float x = m00 * centerX + m01 * centerY + matrices[matrix + 4];
+        float y = m10 * centerX + m11 * centerY + matrices[matrix + 5];
+
+        destination.setRect(x - extentX, y - extentY, extentX * 2f, extentY * 2f);
+        return destination;
+    }
+
+    /**
+     * Shrinks the instanced polygon's bounds to exactly fit its instances.
+     * <p>
+     * Bounds only grow as instances move, since shrinking them means checking every instance. Call this after removing or moving many
+     * instances inwards, so the instanced polygon is not drawn or checked for collisions when none of its instances could be.
+     */
+    public void fitBounds() {
+        hasBounds = false;
+        if (instanceCount == 0) {
+            setCollisionPath(new Path2D.Float());
+            return;
+        }
+
+        Rectangle2D.Float instanceBounds = getInstanceBounds(0, boundsScratch);
+        float minX = instanceBounds.x;
+        float minY = instanceBounds.y;
+        float maxX = minX + instanceBounds.width;
+        float maxY = minY + instanceBounds.height;
+
+        for (int i = 1; i < instanceCount; i++) {
+            getInstanceBounds(i, instanceBounds);
+            minX = Math.min(minX, instanceBounds.x);
+            minY = Math.min(minY, instanceBounds.y);
+            maxX = Math.max(maxX, instanceBounds.x + instanceBounds.width);
+            maxY = Math.max(maxY, instanceBounds.y + instanceBounds.height);
+        }
+
+        setBounds(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Determines whether the given instance collides with the given {@link Drawable}.
+     * <p>
+     * The instance's {@link ConvexDecomposition convex pieces} are checked against the other drawable's through the
+     * {@link NarrowPhase narrow phase}, without allocating. Instances which are not {@link #Collidable collidable} never collide.
+     *
+     * @param index    The index of the instance.
+     * @param drawable The other {@code Drawable} to check against.
+     * @param contact  The contact to store the overlap in, or {@code null} if it isn't needed.
+     * @return Whether the instance and the drawable collide.
+     */
+    public boolean instanceCollidesWith(int index, Drawable drawable, Contact contact) {
+        checkIndex(index);
+
+        if ((flags[index] & Collidable) == 0 || !overlapsWorldBounds(index, drawable)) {
+            if (contact != null) {
+                contact.reset();
+            }
+            return false;
+        }
+
+        return NarrowPhase.forCurrentThread().collides(updateCollisionPieces(index), drawable.getConvexDecomposition(), contact);
+    }
+
+    /**
+     * Finds every {@link #Collidable collidable} instance which collides with the given {@link Drawable}.
+     * <p>
+     * Instances must not be added or removed by the callback.
+     *
+     * @param drawable The other {@code Drawable} to check against.
+     * @param callback Receives the index of each colliding instance.
+     * @return The amount of colliding instances.
+     */
+    public int findCollisions(Drawable drawable, IntConsumer callback) {
+        Rectangle2D.Float bounds = getBoundingBox(boundsScratch);
+        if (instanceCount == 0 || !drawable.boundsOverlap(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height)) {
+            return 0;
+        }
+
+        ConvexDecomposition drawablePieces = drawable.getConvexDecomposition();
+        NarrowPhase narrowPhase = NarrowPhase.forCurrentThread();
+        int collisionCount = 0;
+        for (int i = 0; i < instanceCount; i++) {
+            if ((flags[i] & Collidable) == 0 || !overlapsWorldBounds(i, drawable)) {
+                continue;
+            }
+
+            if (narrowPhase.collides(updateCollisionPieces(i), drawablePieces, null)) {
+                collisionCount++;
+                callback.accept(i);
+            }
+        }
+
+        return collisionCount;
+    }
+
+    /**
+     * Finds every pair of {@link #Collidable collidable} instances, one from each instanced polygon, which collide.
+     * <p>
+     * Every pair's bounding boxes are compared, which suits a few hundred instances on each side. If both instanced polygons are the same,
+     * each pair of its instances is reported once. Instances must not be added or removed by the callback.
+     *
+     * @param other    The other instanced polygon to check against.
+     * @param callback Receives the indexes of each colliding pair of instances.
+     * @return The amount of colliding pairs.
+     */
+    public int findCollisions(InstancedPolygon2D other, InstanceCollisionCallback callback) {
+        if (instanceCount == 0 || other.instanceCount == 0) {
+            return 0;
+        }
+
+        updateWorldBounds();
+        boolean isSelf = other == this;
+        if (!isSelf) {
+            other.updateWorldBounds();
+        }
+
+        ConvexDecomposition otherPieces = isSelf ? mesh.copyConvexDecomposition() : null;
+        NarrowPhase narrowPhase = NarrowPhase.forCurrentThread();
+        float[] bounds = worldBounds;
+        float[] otherBounds = other.worldBounds;
+        int collisionCount = 0;
+
+        for (int i = 0; i < instanceCount; i++) {
+            if ((flags[i] & Collidable) == 0) {
+                continue;
+            }
+
+            int bound = i * 4;
+            boolean arePiecesUpdated = false;
+            for (int j = isSelf ? i + 1 : 0; j < other.instanceCount; j++) {
+                int otherBound = j * 4;
+                if ((other.flags[j] & Collidable) == 0 || !(bounds[bound] <= otherBounds[otherBound + 2]
+                    && bounds[bound + 2] >= otherBounds[otherBound]
+                    && bounds[bound + 1] <= otherBounds[otherBound + 3]
+                    && bounds[bound + 3] >= otherBounds[otherBound + 1])) {
+                    continue;
+                }
+
+                if (!arePiecesUpdated) {
+                    updateCollisionPieces(i);
+                    arePiecesUpdated = true;
+                }
+
+                ConvexDecomposition pairPieces;
+                if (isSelf) {
+                    loadWorldTransform(j);
+                    otherPieces.update(collisionTransform);
+                    pairPieces = otherPieces;
+                } else {
+                    pairPieces = other.updateCollisionPieces(j);
+                }
+
+                if (narrowPhase.collides(collisionPieces, pairPieces, null)) {
+                    collisionCount++;
+                    callback.collision(i, j);
+                }
+            }
+        }
+
+        return collisionCount;
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        if (instanceCount == 0) {
+            return;
+        }
+
+        AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
+        Paint oldPaint = g.getPaint();
+        Stroke oldStroke = g.getStroke();
+
+        g.transform(getTransformation());
+        AffineTransform baseTransform = g.getTransform();
+        Rectangle clipBounds = g.getClipBounds();
+
+        Path2D.Float path = mesh.sharedPath();
+        RenderStyle renderStyle = mesh.getRenderStyle();
+        AffineTransform renderTransform = new AffineTransform();
+        Rectangle2D.Float instanceBounds = new Rectangle2D.Float();
+
+        for (int i = 0; i < instanceCount; i++) {
+            if ((flags[i] & Visible) == 0 || (clipBounds != null && !clipBounds.intersects(getInstanceBounds(i, instanceBounds)))) {
+                continue;
+            }
+
+            loadMatrix(i, renderTransform);
+            g.setTransform(baseTransform);
+            g.transform(renderTransform);
+
+            if (renderStyle != RenderStyle.Outline) {
+                g.setPaint(mesh.getFill());
+                g.fill(path);
+            }
+            if (renderStyle != RenderStyle.Fill) {
+                g.setStroke(mesh.getOutlineStroke());
+                g.setPaint(mesh.getOutlineColor());
+                g.draw(path);
+            }
+        }
+
+        g.setStroke(oldStroke);
+        g.setPaint(oldPaint);
+        g.setTransform(oldTransform);
+    }
+
+    @Override
+    public void emitRenderCommands(RenderCommandBuffer commands) {
+        if (instanceCount == 0) {
+            return;
+        }
+
+        commands.pushTransform(getCachedTransformation());
+
+        Path2D.Float path = mesh.sharedPath();
+        RenderStyle renderStyle = mesh.getRenderStyle();
+        AffineTransform renderTransform = new AffineTransform();
+
+        for (int i = 0; i < instanceCount; i++) {
+            if ((flags[i] & Visible) == 0) {
+                continue;
+            }
+
+            loadMatrix(i, renderTransform);
+            commands.pushTransform(renderTransform);
+            if (renderStyle != RenderStyle.Outline) {
+                commands.fill(path, mesh.getFill());
+            }
+            if (renderStyle != RenderStyle.Fill) {
+                commands.outline(path, mesh.getOutlineStroke(), mesh.getOutlineColor());
+            }
+            commands.popTransform();
+        }
+
+        commands.popTransform();
+    }
+
+    @Override
+    public void destroy(GameHandler origin) {
+        instanceCount = 0;
+        hasBounds = false;
+        super.destroyTheRest(origin);
+    }
+
+    @Override
+    public String toString() {
+        return "InstancedPolygon2D{" +
+            "mesh=" + mesh +
+            ", instanceCount=" + instanceCount +
+            '}';
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= instanceCount) {
+            throw new IndexOutOfBoundsException("Instance index " + index + " is out of bounds for " + instanceCount + " instances.");
+        }
+    }
+
+    private void loadMatrix(int index, AffineTransform destination) {
+        int matrix = index * MatrixSize;
+        destination.setTransform(
+            matrices[matrix], matrices[matrix + 1],
+            matrices[matrix + 2], matrices[matrix + 3],
+            matrices[matrix + 4], matrices[matrix + 5]
+        );
+    }
+
+    /** Grows the bounds to cover the given instance, with room to spare so an instance moving steadily does not grow them every time. */
+    private void growBounds(int index) {
+        appearanceChanged();
+
+        Rectangle2D.Float instanceBounds = getInstanceBounds(index, boundsScratch);
+        float minX = instanceBounds.x;
+        float minY = instanceBounds.y;
+        float maxX = minX + instanceBounds.width;
+        float maxY = minY + instanceBounds.height;
+
+        if (!hasBounds) {
+            setBounds(minX, minY, maxX, maxY);
+            return;
+        }
+        if (minX >= boundsMinX && minY >= boundsMinY && maxX <= boundsMaxX && maxY <= boundsMaxY) {
+            return;
+        }
+
+        float newMinX = Math.min(minX, boundsMinX);
+        float newMinY = Math.min(minY, boundsMinY);
+        float newMaxX = Math.max(maxX, boundsMaxX);
+        float newMaxY = Math.max(maxY, boundsMaxY);
+        float slackX = (newMaxX - newMinX) * 0.5f;
+        float slackY = (newMaxY - newMinY) * 0.5f;
+
+        setBounds(
+            minX < boundsMinX ? newMinX - slackX : newMinX,
+            minY < boundsMinY ? newMinY - slackY : newMinY,
+            maxX > boundsMaxX ? newMaxX + slackX : newMaxX,
+            maxY > boundsMaxY ? newMaxY + slackY : newMaxY
+        );
+    }
+
+    private void setBounds(float minX, float minY, float maxX, float maxY) {
+        boundsMinX = minX;
+        boundsMinY = minY;
+        boundsMaxX = maxX;
+        boundsMaxY = maxY;
+        hasBounds = true;
+
+        Path2D.Float boundsPath = new Path2D.Float(Path2D.WIND_NON_ZERO, 5);
+        boundsPath.moveTo(minX, minY);
+        boundsPath.lineTo(maxX, minY);
+        boundsPath.lineTo(maxX, maxY);
+        boundsPath.lineTo(minX, maxY);
+        boundsPath.closePath();
+        setCollisionPath(boundsPath);
+    }
+
+    /** Sets the collision transform to the given instance's transform, combined with the instanced polygon's own transform. */
+    private void loadWorldTransform(int index) {
+        loadMatrix(index, instanceTransform);
+        collisionTransform.setTransform(getCachedTransformation());
+        collisionTransform.concatenate(instanceTransform);
+    }
+
+    private ConvexDecomposition updateCollisionPieces(int index) {
+        if (collisionPieces == null) {
+            collisionPieces = mesh.copyConvexDecomposition();
+        }
+
+        loadWorldTransform(index);
+        collisionPieces.update(collisionTransform);
+        return collisionPieces;
+    }
+
+    private boolean overlapsWorldBounds(int index, Drawable drawable) {
+        loadWorldBounds(index, instanceWorldBounds, 0);
+        return drawable.boundsOverlap(instanceWorldBounds[0], instanceWorldBounds[1], instanceWorldBounds[2], instanceWorldBounds[3]);
+    }
+
+    /** Computes the world space bounding box of every instance, into {@link #worldBounds}. */
+    private void updateWorldBounds() {
+        if (worldBounds.length < instanceCount * 4) {
+            worldBounds = new float[flags.length * 4];
+        }
+
+        for (int i = 0; i < instanceCount; i++) {
+            loadWorldBounds(i, worldBounds, i * 4);
+        }
+    }
+
+    /** Stores the world space bounding box of the given instance as min x, min y, max x, and max y, starting at the given offset. */
+    private void loadWorldBounds(int index, float[] destination, int offset) {
+        loadWorldTransform(index);
+
+        Rectangle2D.Float meshBounds = mesh.sharedBounds();
+        double halfWidth = meshBounds.width * 0.5d;
+        double halfHeight = meshBounds.height * 0.5d;
+        double centerX = meshBounds.x + halfWidth;
+        double centerY = meshBounds.y + halfHeight;
+
+        AffineTransform world = collisionTransform;
+        double x = world.getScaleX() * centerX + world.getShearX() * centerY + world.getTranslateX();
+        double y = world.getShearY() * centerX + world.getScaleY() * centerY + world.getTranslateY();
+        double extentX = Math.abs(world.getScaleX()) * halfWidth + Math.abs(world.getShearX()) * halfHeight;
+        double extentY = Math.abs(world.getShearY()) * halfWidth + Math.abs(world.getScaleY()) * halfHeight;
+
+        destination[offset] = (float) (x - extentX);
+        destination[offset + 1] = (float) (y - extentY);
+        destination[offset + 2] = (float) (x + extentX);
+        destination[offset + 3] = (float) (y + extentY);
+    }
+
+    /** Callback receiving pairs of colliding instances from {@link #findCollisions(InstancedPolygon2D, InstanceCollisionCallback)}. */
+    @FunctionalInterface
+    public interface InstanceCollisionCallback {
+
+        /**
+         * Receives a pair of colliding instances.
+         *
+         * @param instance      The index of the instance in the instanced polygon checked from.
+         * @param otherInstance The index of the instance in the other instanced polygon.
+         */
+        void collision(int instance, int otherInstance);
+    }
+}
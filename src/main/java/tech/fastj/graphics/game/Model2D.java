@@ -1,6 +1,8 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.DrawableListener;
+import tech.fastj.graphics.display.RenderCommandBuffer;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.systems.control.GameHandler;
 
@@ -18,6 +20,9 @@ public class Model2D extends GameObject {
 
     private final Polygon2D[] polygons;
 
+    private ImpostorCache impostorCache;
+    private volatile int impostorRevision;
+
     /**
      * Model2D constructor that takes in an array of {@link Polygon2D} objects.
      * <p>
@@ -28,6 +33,24 @@ public class Model2D extends GameObject {
     protected Model2D(Polygon2D[] polygons) {
         this.polygons = polygons;
         setCollisionPath(DrawUtil.createPath(DrawUtil.createCollisionOutline(this.polygons)));
+
+        // the model looks however its polygons look
+        DrawableListener polygonListener = new DrawableListener() {
+            @Override
+            public void boundsChanged(Drawable drawable) {
+                impostorRevision++;
+                Model2D.this.appearanceChanged();
+            }
+
+            @Override
+            public void appearanceChanged(Drawable drawable) {
+                impostorRevision++;
+                Model2D.this.appearanceChanged();
+            }
+        };
+        for (Polygon2D polygon : polygons) {
+            polygon.addDrawableListener(polygonListener);
+        }
     }
 
     /**
@@ -70,8 +93,47 @@ public class Model2D extends GameObject {
         return polygons;
     }
 
+    /**
+     * {@return the {@link ImpostorCache impostor cache} the model is drawn from, or {@code null} if it is drawn polygon by polygon}
+     *
+     * @since 1.7.0
+     */
+    public ImpostorCache getImpostorCache() {
+        return impostorCache;
+    }
+
+    /**
+     * Sets the {@link ImpostorCache impostor cache} the model is drawn from.
+     * <p>
+     * While set, the model is drawn as a single pre-rendered image of its polygons, which is redrawn whenever they change. For
+     * {@link tech.fastj.graphics.display.FastJCanvas#setBatchedRendering(boolean) batched rendering}, the model is then added as a
+     * {@link RenderCommandBuffer#custom(GameObject) custom command}.
+     *
+     * @param impostorCache The impostor cache to draw the model from, or {@code null} to draw it polygon by polygon.
+     * @return The model, for method chaining.
+     * @since 1.7.0
+     */
+    public Model2D setImpostorCache(ImpostorCache impostorCache) {
+        if (this.impostorCache != null && this.impostorCache != impostorCache) {
+            this.impostorCache.evict(this);
+        }
+
+        this.impostorCache = impostorCache;
+        appearanceChanged();
+        return this;
+    }
+
+    /** {@return the revision of the model's polygons, which changes whenever any of them change} */
+    int getImpostorRevision() {
+        return impostorRevision;
+    }
+
     @Override
     public void render(Graphics2D g) {
+        if (impostorCache != null && impostorCache.draw(g, this)) {
+            return;
+        }
+
         AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
         g.transform(getTransformation());
 
@@ -82,8 +144,46 @@ public class Model2D extends GameObject {
         g.setTransform(oldTransform);
     }
 
+    @Override
+    public void emitRenderCommands(RenderCommandBuffer commands) {
+        if (impostorCache != null) {
+            commands.custom(this);
+            return;
+        }
+
+        commands.pushTransform(getCachedTransformation());
+        for (Polygon2D polygon : polygons) {
+            polygon.emitRenderCommands(commands);
+        }
+        commands.popTransform();
+    }
+
+    @Override
+    public void ensureCaches() {
+        super.ensureCaches();
+        for (Polygon2D polygon : polygons) {
+            polygon.ensureCaches();
+        }
+    }
+
+    @Override
+    public void prepareRender() {
+        super.prepareRender();
+        for (Polygon2D polygon : polygons) {
+            polygon.prepareRender();
+            if (impostorCache != null) {
+                polygon.getCollisionPath();
+            }
+        }
+    }
+
     @Override
     public void destroy(GameHandler origin) {
+        if (impostorCache != null) {
+            impostorCache.evict(this);
+            impostorCache = null;
+        }
+
         for (Polygon2D polygon : polygons) {
             polygon.destroy(origin);
         }
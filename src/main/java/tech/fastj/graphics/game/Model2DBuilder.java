@@ -19,6 +19,7 @@ public class Model2DBuilder {
     private Pointf translation = Transform2D.DefaultTranslation.copy();
     private float rotation = Transform2D.DefaultRotation;
     private Pointf scale = Transform2D.DefaultScale.copy();
+    private ImpostorCache impostorCache;
 
     /**
      * {@code Model2DBuilder} constructor, taking in an array of polygons and a {@code shouldRender} boolean.
@@ -49,14 +50,27 @@ public class Model2DBuilder {
         return this;
     }
 
+    /**
+     * Sets the builder's {@link ImpostorCache impostor cache}.
+     *
+     * @param impostorCache The impostor cache to be used in the resulting {@code Model2D}, or {@code null} to draw it polygon by polygon.
+     * @return The {@code Model2DBuilder}, for method chaining.
+     * @since 1.7.0
+     */
+    public Model2DBuilder withImpostorCache(ImpostorCache impostorCache) {
+        this.impostorCache = impostorCache;
+        return this;
+    }
+
     /**
      * Creates a new {@link Model2D} object, using the data provided by earlier method calls.
      *
      * @return The resulting {@code Model2D}.
      */
     public Model2D build() {
-        return (Model2D) new Model2D(polygons)
+        return ((Model2D) new Model2D(polygons)
             .setShouldRender(shouldRender)
-            .setTransform(translation, rotation, scale);
+            .setTransform(translation, rotation, scale))
+            .setImpostorCache(impostorCache);
     }
 }
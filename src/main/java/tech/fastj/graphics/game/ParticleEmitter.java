@@ -0,0 +1,241 @@
+package tech.fastj.graphics.game;
+
+import java.awt.Color;
+import java.util.Objects;
+
+/**
+ * Spawns particles into a {@link ParticleSystem particle system} at a steady rate.
+ * <p>
+ * Each particle spawned starts at the emitter's position, moving at a random speed and angle within the emitter's ranges, and lives for a
+ * random amount of time within its life range. Positions are relative to the particle system.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class ParticleEmitter {
+
+    /** The default lowest speed of spawned particles, in units per second. */
+    public static final float DefaultMinSpeed = 20f;
+    /** The default highest speed of spawned particles, in units per second. */
+    public static final float DefaultMaxSpeed = 60f;
+    /** The default shortest life of spawned particles, in seconds. */
+    public static final float DefaultMinLife = 0.5f;
+    /** The default longest life of spawned particles, in seconds. */
+    public static final float DefaultMaxLife = 1f;
+    /** The default color of spawned particles: white. */
+    public static final Color DefaultColor = Color.white;
+
+    private float x;
+    private float y;
+    private float rate;
+    private boolean isEmitting = true;
+
+    private float minSpeed = DefaultMinSpeed;
+    private float maxSpeed = DefaultMaxSpeed;
+    private float minAngle = 0f;
+    private float maxAngle = 360f;
+    private float minLife = DefaultMinLife;
+    private float maxLife = DefaultMaxLife;
+    private int color = DefaultColor.getRGB();
+
+    private float pendingParticles;
+
+    /**
+     * Constructs a particle emitter.
+     *
+     * @param x    The x position particles are spawned at.
+     * @param y    The y position particles are spawned at.
+     * @param rate The amount of particles spawned per second.
+     */
+    public ParticleEmitter(float x, float y, float rate) {
+        setPosition(x, y);
+        setRate(rate);
+    }
+
+    /** {@return the x position particles are spawned at} */
+    public float getX() {
+        return x;
+    }
+
+    /** {@return the y position particles are spawned at} */
+    public float getY() {
+        return y;
+    }
+
+    /** {@return the amount of particles spawned per second} */
+    public float getRate() {
+        return rate;
+    }
+
+    /** {@return whether the emitter is spawning particles} */
+    public boolean isEmitting() {
+        return isEmitting;
+    }
+
+    /** {@return the color of spawned particles, as an ARGB integer} */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Sets the position particles are spawned at.
+     *
+     * @param x The new x position.
+     * @param y The new y position.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the amount of particles spawned per second.
+     *
+     * @param rate The new rate.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setRate(float rate) {
+        if (rate < 0f) {
+            throw new IllegalArgumentException("The emission rate must not be negative.");
+        }
+
+        this.rate = rate;
+        return this;
+    }
+
+    /**
+     * Sets whether the emitter is spawning particles.
+     *
+     * @param isEmitting Whether the emitter should spawn particles.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setEmitting(boolean isEmitting) {
+        this.isEmitting = isEmitting;
+        if (!isEmitting) {
+            pendingParticles = 0f;
+        }
+        return this;
+    }
+
+    /**
+     * Sets the range of speeds particles are spawned with.
+     *
+     * @param minSpeed The lowest speed, in units per second.
+     * @param maxSpeed The highest speed, in units per second.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setSpeed(float minSpeed, float maxSpeed) {
+        checkRange(minSpeed, maxSpeed, "speed");
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        return this;
+    }
+
+    /**
+     * Sets the range of angles particles are spawned moving towards.
+     *
+     * @param minAngle The lowest angle, in degrees.
+     * @param maxAngle The highest angle, in degrees.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setAngle(float minAngle, float maxAngle) {
+        checkRange(minAngle, maxAngle, "angle");
+        this.minAngle = minAngle;
+        this.maxAngle = maxAngle;
+        return this;
+    }
+
+    /**
+     * Sets the range of time particles live for.
+     *
+     * @param minLife The shortest life, in seconds.
+     * @param maxLife The longest life, in seconds.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setLife(float minLife, float maxLife) {
+        checkRange(minLife, maxLife, "life");
+        if (minLife <= 0f) {
+            throw new IllegalArgumentException("Particles must live for more than 0 seconds.");
+        }
+
+        this.minLife = minLife;
+        this.maxLife = maxLife;
+        return this;
+    }
+
+    /**
+     * Sets the color of spawned particles.
+     *
+     * @param color The new color.
+     * @return The emitter, for method chaining.
+     */
+    public ParticleEmitter setColor(Color color) {
+        this.color = Objects.requireNonNull(color, "The particle color must not be null.").getRGB();
+        return this;
+    }
+
+    /**
+     * Spawns the given amount of particles into the given particle system at once, regardless of the emitter's rate.
+     *
+     * @param particleSystem The particle system to spawn particles into.
+     * @param count          The amount of particles to spawn.
+     * @return The amount of particles spawned, which is less than requested if the particle system ran out of room.
+     */
+    public int burst(ParticleSystem particleSystem, int count) {
+        for (int i = 0; i < count; i++) {
+            if (spawn(particleSystem) == -1) {
+                return i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Spawns the particles due over the given amount of time.
+     *
+     * @param particleSystem The particle system to spawn particles into.
+     * @param deltaTime      The time passed since the last emission, in seconds.
+     */
+    void emit(ParticleSystem particleSystem, float deltaTime) {
+        if (!isEmitting) {
+            return;
+        }
+
+        pendingParticles += rate * deltaTime;
+        int count = (int) pendingParticles;
+        pendingParticles -= count;
+        burst(particleSystem, count);
+    }
+
+    private int spawn(ParticleSystem particleSystem) {
+        double angle = Math.toRadians(particleSystem.nextRandom(minAngle, maxAngle));
+        float speed = particleSystem.nextRandom(minSpeed, maxSpeed);
+        return particleSystem.spawn(
+            x,
+            y,
+            (float) Math.cos(angle) * speed,
+            (float) Math.sin(angle) * speed,
+            particleSystem.nextRandom(minLife, maxLife),
+            color
+        );
+    }
+
+    private static void checkRange(float min, float max, String name) {
+        if (min > max) {
+            throw new IllegalArgumentException("The minimum " + name + " must not be greater than the maximum " + name + ".");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParticleEmitter{" +
+            "x=" + x +
+            ", y=" + y +
+            ", rate=" + rate +
+            ", isEmitting=" + isEmitting +
+            ", color=" + Integer.toHexString(color) +
+            '}';
+    }
+}
@@ -0,0 +1,590 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.engine.FastJEngine;
+import tech.fastj.systems.behaviors.Behavior;
+import tech.fastj.systems.control.GameHandler;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link GameObject Game object} subclass for simulating and drawing large amounts of small, short-lived particles -- sparks, smoke,
+ * debris, and the like.
+ * <p>
+ * Particles are not objects: each one is an index into a set of flat arrays holding its position, velocity, remaining life, and color.
+ * The arrays are allocated once, at the particle system's capacity, and reused as particles are {@link #spawn(float, float, float, float,
+ * float, int) spawned} and die -- so a particle system holding hundreds of thousands of particles allocates nothing while it runs.
+ * <p>
+ * Particles are moved by {@link #simulate(float)}, which the {@link #Simulation simulation behavior} calls every fixed update. Each
+ * step, {@link ParticleEmitter emitters} spawn their particles, every particle is accelerated and moved, and particles whose life ran out
+ * are removed, keeping the rest in the order they were spawned. The movement of large particle systems can be
+ * {@link #setParallelSimulation(boolean) split across cores}.
+ * <p>
+ * Particles are drawn as squares of the particle system's {@link #getParticleSize() particle size}, all in one pass: they are written
+ * straight into an image's pixels, which is then drawn with a single image copy. Particle positions are relative to the particle
+ * system, which can itself be transformed like any other game object -- though particles stay squares aligned with the screen.
+ * <p>
+ * Simulating, spawning, removing, and drawing particles all synchronize on the particle system, so it can be drawn from another thread
+ * than the one simulating it.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class ParticleSystem extends GameObject {
+
+    /** The default maximum amount of particles. */
+    public static final int DefaultCapacity = 10_000;
+    /** The default width and height of each particle. */
+    public static final float DefaultParticleSize = 2f;
+    /** The most particles a single parallel task moves before splitting its work in half. */
+    public static final int ParallelBatchSize = 16_384;
+
+    /** Behavior which {@link #simulate(float) simulates} its particle system every fixed update, by the fixed delta time. */
+    public static final Behavior Simulation = new Behavior() {
+        @Override
+        public void fixedUpdate(GameObject gameObject) {
+            ((ParticleSystem) gameObject).simulate(FastJEngine.getFixedDeltaTime());
+        }
+    };
+
+    private final int capacity;
+    private final float[] positionsX;
+    private final float[] positionsY;
+    private final float[] velocitiesX;
+    private final float[] velocitiesY;
+    private final float[] lives;
+    private final float[] lifetimes;
+    private final int[] colors;
+    private int particleCount;
+    private final Path2D.Float boundsPath = new Path2D.Float(Path2D.WIND_NON_ZERO, 5);
+
+    private final List<ParticleEmitter> emitters = new ArrayList<>();
+    private SplittableRandom random = new SplittableRandom();
+
+    private float accelerationX;
+    private float accelerationY;
+    private float drag;
+    private float particleSize = DefaultParticleSize;
+    private boolean isFadingOut = true;
+    private boolean isParallelSimulation;
+
+    private BufferedImage rasterImage;
+    private int[] rasterPixels;
+
+    /** Constructs an empty particle system with room for the {@link #DefaultCapacity default amount} of particles. */
+    public ParticleSystem() {
+        this(DefaultCapacity);
+    }
+
+    /**
+     * Constructs an empty particle system.
+     *
+     * @param capacity The most particles the particle system can hold at once.
+     */
+    public ParticleSystem(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A particle system must have room for at least 1 particle.");
+        }
+
+        this.capacity = capacity;
+        positionsX = new float[capacity];
+        positionsY = new float[capacity];
+        velocitiesX = new float[capacity];
+        velocitiesY = new float[capacity];
+        lives = new float[capacity];
+        lifetimes = new float[capacity];
+        colors = new int[capacity];
+        setCollisionPath(boundsPath);
+    }
+
+    /** {@return the most particles the particle system can hold at once} */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** {@return the amount of particles} */
+    public int getParticleCount() {
+        return particleCount;
+    }
+
+    /**
+     * {@return the x position of the given particle}
+     *
+     * @param index The index of the particle.
+     */
+    public float getParticleX(int index) {
+        checkIndex(index);
+        return positionsX[index];
+    }
+
+    /**
+     * {@return the y position of the given particle}
+     *
+     * @param index The index of the particle.
+     */
+    public float getParticleY(int index) {
+        checkIndex(index);
+        return positionsY[index];
+    }
+
+    /**
+     * {@return the remaining life of the given particle, in seconds}
+     *
+     * @param index The index of the particle.
+     */
+    public float getParticleLife(int index) {
+        checkIndex(index);
+        return lives[index];
+    }
+
+    /**
+     * {@return the color of the given particle, as an ARGB integer}
+     *
+     * @param index The index of the particle.
+     */
+    public int getParticleColor(int index) {
+        checkIndex(index);
+        return colors[index];
+    }
+
+    /**
+     * Spawns a particle.
+     * <p>
+     * The particle system's bounds, which decide whether it is drawn at all, are fit around its particles every
+     * {@link #simulate(float) simulation step}.
+     *
+     * @param x         The x position of the particle.
+     * @param y         The y position of the particle.
+     * @param velocityX The horizontal velocity of the particle, in units per second.
+     * @param velocityY The vertical velocity of the particle, in units per second.
+     * @param life      How long the particle lives for, in seconds.
+     * @param color     The color of the particle, as an ARGB integer.
+     * @return The index of the new particle, or {@code -1} if the particle system is full.
+     */
+    public synchronized int spawn(float x, float y, float velocityX, float velocityY, float life, int color) {
+        if (particleCount == capacity) {
+            return -1;
+        }
+
+        int index = particleCount++;
+        positionsX[index] = x;
+        positionsY[index] = y;
+        velocitiesX[index] = velocityX;
+        velocitiesY[index] = velocityY;
+        lives[index] = life;
+        lifetimes[index] = life;
+        colors[index] = color;
+        return index;
+    }
+
+    /**
+     * Ends the life of the given particle. It is no longer drawn, and is removed by the next {@link #simulate(float) simulation step}.
+     *
+     * @param index The index of the particle.
+     */
+    public synchronized void despawn(int index) {
+        checkIndex(index);
+        lives[index] = 0f;
+        appearanceChanged();
+    }
+
+    /** Removes every particle. */
+    public synchronized void clearParticles() {
+        particleCount = 0;
+        boundsPath.reset();
+        collisionPathChanged();
+    }
+
+    /** {@return the particle system's emitters} */
+    public List<ParticleEmitter> getEmitters() {
+        return Collections.unmodifiableList(emitters);
+    }
+
+    /**
+     * Adds an emitter, which spawns particles into the particle system every {@link #simulate(float) simulation step}.
+     *
+     * @param emitter The emitter to add.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem addEmitter(ParticleEmitter emitter) {
+        emitters.add(Objects.requireNonNull(emitter, "The emitter must not be null."));
+        return this;
+    }
+
+    /**
+     * Removes an emitter. Particles it already spawned live on.
+     *
+     * @param emitter The emitter to remove.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem removeEmitter(ParticleEmitter emitter) {
+        emitters.remove(emitter);
+        return this;
+    }
+
+    /**
+     * Sets the acceleration applied to every particle, such as gravity.
+     *
+     * @param accelerationX The horizontal acceleration, in units per second squared.
+     * @param accelerationY The vertical acceleration, in units per second squared.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem setAcceleration(float accelerationX, float accelerationY) {
+        this.accelerationX = accelerationX;
+        this.accelerationY = accelerationY;
+        return this;
+    }
+
+    /** {@return the fraction of its velocity each particle loses per second} */
+    public float getDrag() {
+        return drag;
+    }
+
+    /**
+     * Sets the fraction of its velocity each particle loses per second.
+     *
+     * @param drag The new drag, from {@code 0} for none to {@code 1} for particles to stop within a second.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem setDrag(float drag) {
+        if (drag < 0f) {
+            throw new IllegalArgumentException("The drag must not be negative.");
+        }
+
+        this.drag = drag;
+        return this;
+    }
+
+    /** {@return the width and height of each particle} */
+    public float getParticleSize() {
+        return particleSize;
+    }
+
+    /**
+     * Sets the width and height of each particle.
+     *
+     * @param particleSize The new particle size.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem setParticleSize(float particleSize) {
+        if (particleSize <= 0f) {
+            throw new IllegalArgumentException("The particle size must be greater than 0.");
+        }
+
+        this.particleSize = particleSize;
+        appearanceChanged();
+        return this;
+    }
+
+    /** {@return whether particles fade out as their life runs out} */
+    public boolean isFadingOut() {
+        return isFadingOut;
+    }
+
+    /**
+     * Sets whether particles fade out as their life runs out.
+     *
+     * @param isFadingOut Whether particles should fade out.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem setFadingOut(boolean isFadingOut) {
+        this.isFadingOut = isFadingOut;
+        appearanceChanged();
+        return this;
+    }
+
+    /** {@return whether particles are moved in parallel across all cores} */
+    public boolean isParallelSimulation() {
+        return isParallelSimulation;
+    }
+
+    /**
+     * Sets whether particles are moved in parallel across all cores.
+     * <p>
+     * Particles are split into batches of {@link #ParallelBatchSize} on the {@link ForkJoinPool#commonPool() common pool}, so only
+     * particle systems larger than that benefit. Spawning and removing particles stays on the calling thread.
+     *
+     * @param isParallelSimulation Whether particles should be moved in parallel.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem setParallelSimulation(boolean isParallelSimulation) {
+        this.isParallelSimulation = isParallelSimulation;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random numbers emitters use, so that their particles are spawned the same way every time.
+     *
+     * @param seed The new seed.
+     * @return The particle system, for method chaining.
+     */
+    public ParticleSystem setRandomSeed(long seed) {
+        random = new SplittableRandom(seed);
+        return this;
+    }
+
+    /**
+     * Advances the particle system by the given amount of time: its emitters spawn particles, then every particle is moved and ages, and
+     * particles whose life ran out are removed.
+     *
+     * @param deltaTime The time to advance by, in seconds.
+     */
+    public synchronized void simulate(float deltaTime) {
+        for (ParticleEmitter emitter : emitters) {
+            emitter.emit(this, deltaTime);
+        }
+
+        if (isParallelSimulation && particleCount > ParallelBatchSize) {
+            ForkJoinPool.commonPool().invoke(new SimulationTask(0, particleCount, deltaTime));
+        } else {
+            integrate(0, particleCount, deltaTime);
+        }
+
+        removeDeadParticles();
+    }
+
+    @Override
+    public synchronized void render(Graphics2D g) {
+        if (particleCount == 0) {
+            return;
+        }
+
+        AffineTransform deviceTransform = g.getTransform();
+        deviceTransform.concatenate(getCachedTransformation());
+
+        Shape clip = g.getClip();
+        Rectangle deviceClip = clip != null
+            ? g.getTransform().createTransformedShape(clip).getBounds()
+            : g.getDeviceConfiguration().getBounds();
+
+        float halfSize = particleSize * 0.5f * (float) Math.sqrt(Math.abs(deviceTransform.getDeterminant()));
+        int pixelSize = Math.max(1, Math.round(halfSize * 2f));
+
+        // the area covered by particles, on screen
+        double m00 = deviceTransform.getScaleX();
+        double m10 = deviceTransform.getShearY();
+        double m01 = deviceTransform.getShearX();
+        double m11 = deviceTransform.getScaleY();
+        double m02 = deviceTransform.getTranslateX();
+        double m12 = deviceTransform.getTranslateY();
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < particleCount; i++) {
+            double x = m00 * positionsX[i] + m01 * positionsY[i] + m02;
+            double y = m10 * positionsX[i] + m11 * positionsY[i] + m12;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+
+        Rectangle area = new Rectangle(deviceClip);
+        int areaRight = (int) Math.min(area.getMaxX(), Math.floor(maxX - halfSize) + pixelSize);
+        int areaBottom = (int) Math.min(area.getMaxY(), Math.floor(maxY - halfSize) + pixelSize);
+        area.x = (int) Math.max(area.x, Math.floor(minX - halfSize));
+        area.y = (int) Math.max(area.y, Math.floor(minY - halfSize));
+        area.width = areaRight - area.x;
+        area.height = areaBottom - area.y;
+        if (area.width <= 0 || area.height <= 0) {
+            return;
+        }
+
+        int[] pixels = prepareRaster(area.width, area.height);
+        int stride = rasterImage.getWidth();
+        for (int i = 0; i < particleCount; i++) {
+            float life = lives[i];
+            if (life <= 0f) {
+                continue;
+            }
+
+            int color = colors[i];
+            int alpha = color >>> 24;
+            if (isFadingOut) {
+                alpha = (int) (alpha * Math.min(1f, life / lifetimes[i]));
+            }
+            if (alpha == 0) {
+                continue;
+            }
+
+            int left = (int) Math.floor(m00 * positionsX[i] + m01 * positionsY[i] + m02 - halfSize) - area.x;
+            int top = (int) Math.floor(m10 * positionsX[i] + m11 * positionsY[i] + m12 - halfSize) - area.y;
+            int right = Math.min(left + pixelSize, area.width);
+            int bottom = Math.min(top + pixelSize, area.height);
+            left = Math.max(left, 0);
+            top = Math.max(top, 0);
+
+            for (int y = top; y < bottom; y++) {
+                int row = y * stride;
+                for (int x = left; x < right; x++) {
+                    pixels[row + x] = blend(color, alpha, pixels[row + x]);
+                }
+            }
+        }
+
+        AffineTransform oldTransform = g.getTransform();
+        g.setTransform(new AffineTransform());
+        g.drawImage(rasterImage, area.x, area.y, area.x + area.width, area.y + area.height, 0, 0, area.width, area.height, null);
+        g.setTransform(oldTransform);
+    }
+
+    @Override
+    public synchronized void destroy(GameHandler origin) {
+        particleCount = 0;
+        emitters.clear();
+        rasterImage = null;
+        rasterPixels = null;
+        super.destroyTheRest(origin);
+    }
+
+    @Override
+    public String toString() {
+        return "ParticleSystem{" +
+            "capacity=" + capacity +
+            ", particleCount=" + particleCount +
+            ", emitters=" + emitters +
+            ", particleSize=" + particleSize +
+            '}';
+    }
+
+    /** {@return a random number from the given range, for emitters} */
+    float nextRandom(float min, float max) {
+        return min == max ? min : (float) random.nextDouble(min, max);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= particleCount) {
+            throw new IndexOutOfBoundsException("Particle index " + index + " is out of bounds for " + particleCount + " particles.");
+        }
+    }
+
+    /** Ages, accelerates, and moves the given range of particles. */
+    private void integrate(int start, int end, float deltaTime) {
+        float velocityScale = Math.max(0f, 1f - drag * deltaTime);
+        float velocityChangeX = accelerationX * deltaTime;
+        float velocityChangeY = accelerationY * deltaTime;
+
+        for (int i = start; i < end; i++) {
+            lives[i] -= deltaTime;
+
+            float velocityX = (velocitiesX[i] + velocityChangeX) * velocityScale;
+            float velocityY = (velocitiesY[i] + velocityChangeY) * velocityScale;
+            velocitiesX[i] = velocityX;
+            velocitiesY[i] = velocityY;
+            positionsX[i] += velocityX * deltaTime;
+            positionsY[i] += velocityY * deltaTime;
+        }
+    }
+
+    /** Packs the living particles together, in order, and fits the particle system's bounds around them. */
+    private void removeDeadParticles() {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+
+        int living = 0;
+        for (int i = 0; i < particleCount; i++) {
+            if (lives[i] <= 0f) {
+                continue;
+            }
+
+            if (living != i) {
+                positionsX[living] = positionsX[i];
+                positionsY[living] = positionsY[i];
+                velocitiesX[living] = velocitiesX[i];
+                velocitiesY[living] = velocitiesY[i];
+                lives[living] = lives[i];
+                lifetimes[living] = lifetimes[i];
+                colors[living] = colors[i];
+            }
+
+            minX = Math.min(minX, positionsX[living]);
+            minY = Math.min(minY, positionsY[living]);
+            maxX = Math.max(maxX, positionsX[living]);
+            maxY = Math.max(maxY, positionsY[living]);
+            living++;
+        }
+        particleCount = living;
+
+        boundsPath.reset();
+        if (living > 0) {
+            float halfSize = particleSize * 0.5f;
+            boundsPath.moveTo(minX - halfSize, minY - halfSize);
+            boundsPath.lineTo(maxX + halfSize, minY - halfSize);
+            boundsPath.lineTo(maxX + halfSize, maxY + halfSize);
+            boundsPath.lineTo(minX - halfSize, maxY + halfSize);
+            boundsPath.closePath();
+        }
+        collisionPathChanged();
+    }
+
+    /** Gets the pixels of a cleared raster image of at least the given size, reusing the last one if it is large enough. */
+    private int[] prepareRaster(int width, int height) {
+        if (rasterImage == null || rasterImage.getWidth() < width || rasterImage.getHeight() < height) {
+            int newWidth = rasterImage == null ? width : Math.max(width, rasterImage.getWidth());
+            int newHeight = rasterImage == null ? height : Math.max(height, rasterImage.getHeight());
+            rasterImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+            rasterPixels = ((DataBufferInt) rasterImage.getRaster().getDataBuffer()).getData();
+            return rasterPixels;
+        }
+
+        int stride = rasterImage.getWidth();
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(rasterPixels, y * stride, y * stride + width, 0);
+        }
+        return rasterPixels;
+    }
+
+    /** Draws a color with the given alpha over a premultiplied pixel. */
+    private static int blend(int color, int alpha, int destination) {
+        int inverseAlpha = 255 - alpha;
+        int red = ((color >> 16) & 0xFF) * alpha / 255 + ((destination >> 16) & 0xFF) * inverseAlpha / 255;
+        int green = ((color >> 8) & 0xFF) * alpha / 255 + ((destination >> 8) & 0xFF) * inverseAlpha / 255;
+        int blue = (color & 0xFF) * alpha / 255 + (destination & 0xFF) * inverseAlpha / 255;
+        int resultAlpha = alpha + (destination >>> 24) * inverseAlpha / 255;
+        return resultAlpha << 24 | red << 16 | green << 8 | blue;
+    }
+
+    /** Moves a range of particles, splitting the range up while it is larger than a batch. */
+    private class SimulationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int end;
+        private final float deltaTime;
+
+        private SimulationTask(int start, int end, float deltaTime) {
+            this.start = start;
+            this.end = end;
+            this.deltaTime = deltaTime;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > ParallelBatchSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new SimulationTask(start, middle, deltaTime), new SimulationTask(middle, end, deltaTime));
+                return;
+            }
+
+            integrate(start, end, deltaTime);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.display.RenderCommandBuffer;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.graphics.util.PointsAndAlts;
 import tech.fastj.math.Point;
@@ -243,6 +244,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setFill(Paint newPaint) {
         fillPaint = Objects.requireNonNull(newPaint);
+        appearanceChanged();
         return this;
     }
 
@@ -256,6 +258,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setOutlineColor(Color newOutlineColor) {
         outlineColor = newOutlineColor;
+        appearanceChanged();
         return this;
     }
 
@@ -269,6 +272,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setOutlineStroke(BasicStroke newOutlineStroke) {
         outlineStroke = newOutlineStroke;
+        appearanceChanged();
         return this;
     }
 
@@ -284,6 +288,7 @@ public class Polygon2D extends GameObject {
     public Polygon2D setOutline(BasicStroke newOutlineStroke, Color newOutlineColor) {
         outlineStroke = newOutlineStroke;
         outlineColor = newOutlineColor;
+        appearanceChanged();
         return this;
     }
 
@@ -299,6 +304,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setRenderStyle(RenderStyle newRenderStyle) {
         renderStyle = newRenderStyle;
+        appearanceChanged();
         return this;
     }
 
@@ -308,7 +314,7 @@ public class Polygon2D extends GameObject {
      * @return The {@code Pointf} array associated with the current state of the polygon.
      */
     public Pointf[] getPoints() {
-        return DrawUtil.pointsOfPath(transformedCollisionPath);
+        return DrawUtil.pointsOfPath(getCollisionPath());
     }
 
     /**
@@ -370,6 +376,8 @@ public class Polygon2D extends GameObject {
                 transform.resetScale();
             }
         }
+
+        boundsChanged();
     }
 
     @Override
@@ -405,6 +413,22 @@ public class Polygon2D extends GameObject {
         g.setTransform(oldTransform);
     }
 
+    @Override
+    public void emitRenderCommands(RenderCommandBuffer commands) {
+        commands.pushTransform(getCachedTransformation());
+
+        switch (renderStyle) {
+            case Fill -> commands.fill(collisionPath, fillPaint);
+            case Outline -> commands.outline(collisionPath, outlineStroke, outlineColor);
+            case FillAndOutline -> {
+                commands.fill(collisionPath, fillPaint);
+                commands.outline(collisionPath, outlineStroke, outlineColor);
+            }
+        }
+
+        commands.popTransform();
+    }
+
     @Override
     public void destroy(GameHandler origin) {
         originalPoints = new Pointf[] { };
@@ -0,0 +1,153 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+import tech.fastj.physics.ConvexDecomposition;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+
+/**
+ * An immutable shape and its paint, shared by every instance of an {@link InstancedPolygon2D instanced polygon}.
+ * <p>
+ * A mesh holds everything a {@link Polygon2D} would hold other than its transform: the path of the shape, its bounds, its convex pieces
+ * for collision, and how it is filled and outlined. Since a mesh never changes, any amount of instances can draw and collide with the
+ * same one.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class PolygonMesh {
+
+    private final Path2D.Float path;
+    private final Rectangle2D.Float bounds;
+    private final ConvexDecomposition convexDecomposition;
+
+    private final RenderStyle renderStyle;
+    private final Paint fillPaint;
+    private final BasicStroke outlineStroke;
+    private final Color outlineColor;
+
+    /**
+     * Constructs a mesh from the given points and alternate indexes.
+     * <p>
+     * See {@link Polygon2D} for more information on points and alternate indexes.
+     *
+     * @param points        The {@link Pointf} array defining vertexes of the shape.
+     * @param altIndexes    The {@link Point} array defining special values for the vertex array, or {@code null} if there are none.
+     * @param renderStyle   The {@link RenderStyle render style} of the shape.
+     * @param fillPaint     The fill {@link Paint} of the shape.
+     * @param outlineStroke The outline stroke of the shape.
+     * @param outlineColor  The outline color of the shape.
+     */
+    public PolygonMesh(Pointf[] points, Point[] altIndexes, RenderStyle renderStyle, Paint fillPaint, BasicStroke outlineStroke,
+                       Color outlineColor) {
+        this(DrawUtil.createPath(points, altIndexes), renderStyle, fillPaint, outlineStroke, outlineColor);
+    }
+
+    private PolygonMesh(Path2D.Float path, RenderStyle renderStyle, Paint fillPaint, BasicStroke outlineStroke, Color outlineColor) {
+        this.path = path;
+        this.bounds = (Rectangle2D.Float) path.getBounds2D();
+        this.convexDecomposition = ConvexDecomposition.of(path);
+
+        this.renderStyle = Objects.requireNonNull(renderStyle, "The render style must not be null.");
+        this.fillPaint = Objects.requireNonNull(fillPaint, "The fill paint must not be null.");
+        this.outlineStroke = Objects.requireNonNull(outlineStroke, "The outline stroke must not be null.");
+        this.outlineColor = Objects.requireNonNull(outlineColor, "The outline color must not be null.");
+    }
+
+    /**
+     * Creates a mesh from the given points, using the {@link Polygon2D} defaults for everything else.
+     *
+     * @param points The {@link Pointf} array defining vertexes of the shape.
+     * @return The resulting mesh.
+     */
+    public static PolygonMesh fromPoints(Pointf[] points) {
+        return new PolygonMesh(
+            points,
+            null,
+            Polygon2D.DefaultRenderStyle,
+            Polygon2D.DefaultFill,
+            Polygon2D.DefaultOutlineStroke,
+            Polygon2D.DefaultOutlineColor
+        );
+    }
+
+    /**
+     * Creates a mesh with the untransformed shape and paint of the given polygon.
+     *
+     * @param polygon The polygon to copy.
+     * @return The resulting mesh.
+     */
+    public static PolygonMesh fromPolygon(Polygon2D polygon) {
+        return new PolygonMesh(
+            polygon.getOriginalPoints(),
+            polygon.getAlternateIndexes(),
+            polygon.getRenderStyle(),
+            polygon.getFill(),
+            polygon.getOutlineStroke(),
+            polygon.getOutlineColor()
+        );
+    }
+
+    /** {@return a copy of the mesh's untransformed path} */
+    public Path2D.Float getPath() {
+        return new Path2D.Float(path);
+    }
+
+    /** {@return a copy of the mesh's untransformed bounding box} */
+    public Rectangle2D.Float getBounds() {
+        return (Rectangle2D.Float) bounds.clone();
+    }
+
+    /** {@return the mesh's {@link RenderStyle render style}} */
+    public RenderStyle getRenderStyle() {
+        return renderStyle;
+    }
+
+    /** {@return the mesh's fill {@link Paint}} */
+    public Paint getFill() {
+        return fillPaint;
+    }
+
+    /** {@return the mesh's outline {@link BasicStroke}} */
+    public BasicStroke getOutlineStroke() {
+        return outlineStroke;
+    }
+
+    /** {@return the mesh's outline {@link Color}} */
+    public Color getOutlineColor() {
+        return outlineColor;
+    }
+
+    /** {@return the shared path, which must not be modified} */
+    Path2D.Float sharedPath() {
+        return path;
+    }
+
+    /** {@return the shared bounding box, which must not be modified} */
+    Rectangle2D.Float sharedBounds() {
+        return bounds;
+    }
+
+    /** {@return a copy of the mesh's convex pieces, with its own world space vertices} */
+    ConvexDecomposition copyConvexDecomposition() {
+        return convexDecomposition.copy();
+    }
+
+    @Override
+    public String toString() {
+        return "PolygonMesh{" +
+            "bounds=" + bounds +
+            ", renderStyle=" + renderStyle +
+            ", fillPaint=" + fillPaint +
+            ", outlineStroke=" + outlineStroke +
+            ", outlineColor=" + outlineColor +
+            '}';
+    }
+}
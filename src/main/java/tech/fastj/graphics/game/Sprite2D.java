@@ -11,10 +11,13 @@ import tech.fastj.animation.sprite.SpriteAnimStyle;
 import tech.fastj.animation.sprite.event.SpriteFrameStepEvent;
 import tech.fastj.engine.FastJEngine;
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.display.RenderCommandBuffer;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.logging.Log;
+import tech.fastj.resources.ResourceState;
 import tech.fastj.resources.images.ImageResource;
 import tech.fastj.resources.images.ImageUtil;
+import tech.fastj.resources.images.SpriteSheetCache;
 import tech.fastj.systems.control.GameHandler;
 
 import java.awt.Graphics2D;
@@ -62,17 +65,17 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
             );
         }
 
-        resetSpriteSheet(horizontalImageCount, verticalImageCount);
+        sprites = SpriteSheetCache.getSpriteSheet(spritesResource, horizontalImageCount, verticalImageCount);
         setCollisionPath(DrawUtil.createPath(DrawUtil.createBoxFromImage(sprites[0])));
     }
 
     public static Sprite2DBuilder create(Path spriteResourcePath) {
-        ImageResource spriteResource = FastJEngine.getResourceManager(ImageResource.class).loadResource(spriteResourcePath);
+        ImageResource spriteResource = FastJEngine.getResourceManager(ImageResource.class).getResource(spriteResourcePath);
         return create(spriteResource);
     }
 
     public static Sprite2DBuilder create(Path spriteResourcePath, boolean shouldRender) {
-        ImageResource spriteResource = FastJEngine.getResourceManager(ImageResource.class).loadResource(spriteResourcePath);
+        ImageResource spriteResource = FastJEngine.getResourceManager(ImageResource.class).getResource(spriteResourcePath);
         return create(spriteResource, shouldRender);
     }
 
@@ -111,6 +114,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
 
     public Sprite2D setCurrentFrame(int currentFrame) {
         this.currentFrame = currentFrame;
+        appearanceChanged();
         return this;
     }
 
@@ -123,14 +127,19 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
         } else {
             this.currentAnimation = currentAnimation;
             this.currentFrame = animationDataMap.get(currentAnimation).getFirstFrame();
+            appearanceChanged();
         }
         return this;
     }
 
     private void resetSpriteSheet(int horizontalImageCount, int verticalImageCount) {
-        spritesResource.unload();
+        SpriteSheetCache.evict(spritesResource.getPath());
+        if (spritesResource.getResourceState() == ResourceState.Loaded) {
+            spritesResource.unload();
+        }
         spritesResource.load();
-        sprites = ImageUtil.createSpriteSheet(spritesResource.get(), horizontalImageCount, verticalImageCount);
+        sprites = SpriteSheetCache.getSpriteSheet(spritesResource, horizontalImageCount, verticalImageCount);
+        appearanceChanged();
     }
 
     @Override
@@ -201,6 +210,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
                     );
                     currentAnimation = nextAnimationData.getAnimationName();
                     currentFrame = nextAnimationData.getFirstFrame();
+                    appearanceChanged();
                     FastJEngine.getGameLoop().fireEvent(animChangeEvent);
                     return;
                 }
@@ -239,7 +249,11 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
                 );
             }
 
+            boolean frameChanged = (int) nextFrame != (int) currentFrame;
             currentFrame = nextFrame;
+            if (frameChanged) {
+                appearanceChanged();
+            }
 
             if (animationFlipEvent != null) {
                 FastJEngine.getGameLoop().fireEvent(animationFlipEvent);
@@ -270,4 +284,11 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
 
         g.setTransform(oldTransform);
     }
+
+    @Override
+    public void emitRenderCommands(RenderCommandBuffer commands) {
+        commands.pushTransform(getCachedTransformation());
+        commands.image(sprites[(int) currentFrame]);
+        commands.popTransform();
+    }
 }
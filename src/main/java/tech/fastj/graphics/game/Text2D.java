@@ -1,6 +1,8 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.display.RenderCommandBuffer;
+import tech.fastj.graphics.util.GlyphAtlas;
 import tech.fastj.math.Pointf;
 import tech.fastj.math.Transform2D;
 import tech.fastj.systems.control.GameHandler;
@@ -58,6 +60,7 @@ import java.util.Objects;
  *     <li>{@link #setText(String) Changing text}</li>
  *     <li>{@link #setFont(Font) Changing text font}</li>
  *     <li>{@link #setFill(Paint) Changing fill color}</li>
+ *     <li>{@link #setGlyphAtlasRendering(boolean) Drawing text from cached glyphs}</li>
  * </ul>
  *
  * @author Andrew Dey
@@ -71,6 +74,8 @@ public class Text2D extends GameObject {
     public static final Font DefaultFont = new Font("Tahoma", Font.PLAIN, 16);
     /** {@code String} representing default text -- an empty string. */
     public static final String DefaultText = "";
+    /** {@code boolean} representing the default glyph atlas rendering setting -- disabled. */
+    public static final boolean DefaultGlyphAtlasRendering = false;
 
     private static final Pointf OriginInstance = Pointf.origin();
     private static final BufferedImage GraphicsHelper = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_ARGB);
@@ -78,7 +83,11 @@ public class Text2D extends GameObject {
     private String text;
     private Paint fillPaint;
     private Font font;
+    private boolean glyphAtlasRendering;
 
+    private GlyphAtlas glyphAtlas;
+    private GlyphAtlas.TextImage textImage;
+    private boolean hasTextImage;
     private boolean hasMetrics;
 
     /**
@@ -141,6 +150,25 @@ public class Text2D extends GameObject {
         return font;
     }
 
+    /**
+     * {@return whether the {@link Text2D} is drawn from a {@link GlyphAtlas glyph atlas}}
+     *
+     * @since 1.7.0
+     */
+    public boolean isGlyphAtlasRendering() {
+        return glyphAtlasRendering;
+    }
+
+    /**
+     * {@return whether the {@link Text2D} is currently drawn from a {@link GlyphAtlas glyph atlas} -- that is, whether
+     * {@link #setGlyphAtlasRendering(boolean) glyph atlas rendering} is enabled, and its fill and text allow it}
+     *
+     * @since 1.7.0
+     */
+    public boolean isDrawnFromGlyphAtlas() {
+        return glyphAtlas != null;
+    }
+
     /**
      * Sets the {@link Text2D}'s text.
      *
@@ -149,9 +177,9 @@ public class Text2D extends GameObject {
      */
     public Text2D setText(String newText) {
         text = Objects.requireNonNullElse(newText, DefaultText);
-        Graphics2D graphics = GraphicsHelper.createGraphics();
-        setMetrics(graphics);
-        graphics.dispose();
+        updateGlyphAtlas();
+        updateMetrics();
+        appearanceChanged();
 
         return this;
     }
@@ -164,6 +192,11 @@ public class Text2D extends GameObject {
      */
     public Text2D setFill(Paint newPaint) {
         fillPaint = newPaint;
+        if (glyphAtlasRendering) {
+            updateGlyphAtlas();
+            updateMetrics();
+        }
+        appearanceChanged();
         return this;
     }
 
@@ -175,9 +208,33 @@ public class Text2D extends GameObject {
      */
     public Text2D setFont(Font newFont) {
         font = newFont;
-        Graphics2D graphics = GraphicsHelper.createGraphics();
-        setMetrics(graphics);
-        graphics.dispose();
+        updateGlyphAtlas();
+        updateMetrics();
+        appearanceChanged();
+
+        return this;
+    }
+
+    /**
+     * Sets whether the {@link Text2D} is drawn from a {@link GlyphAtlas glyph atlas}, rather than shaped from its font every frame.
+     * <p>
+     * With glyph atlas rendering, each character is rasterized once per font and color. The text is measured from the cached glyphs'
+     * advances, and, the first time it is drawn after changing, its glyphs are copied into a single image -- so drawing large amounts of
+     * text, such as damage numbers, score counters, and debug overlays, costs about as much as drawing sprites. The text is laid out one
+     * character at a time with whole-pixel advances, so it may be spaced slightly differently from normal rendering.
+     * <p>
+     * Glyph atlas rendering needs a {@link Color solid color} fill, and text without complex layout. Otherwise, the text is drawn normally
+     * -- {@link #isDrawnFromGlyphAtlas()} reports which is used.
+     *
+     * @param glyphAtlasRendering Whether to draw the text from a glyph atlas.
+     * @return The {@link Text2D} instance, for method chaining.
+     * @since 1.7.0
+     */
+    public Text2D setGlyphAtlasRendering(boolean glyphAtlasRendering) {
+        this.glyphAtlasRendering = glyphAtlasRendering;
+        updateGlyphAtlas();
+        updateMetrics();
+        appearanceChanged();
 
         return this;
     }
@@ -193,6 +250,15 @@ public class Text2D extends GameObject {
         Paint oldPaint = g.getPaint();
 
         g.transform(getTransformation());
+        if (glyphAtlas != null) {
+            GlyphAtlas.TextImage image = getTextImage();
+            if (image != null) {
+                g.drawImage(image.image(), (int) OriginInstance.x + image.x(), Math.round(font.getSize2D()) + image.y(), null);
+            }
+            g.setTransform(oldTransform);
+            return;
+        }
+
         g.setFont(font);
         g.setPaint(fillPaint);
 
@@ -203,16 +269,95 @@ public class Text2D extends GameObject {
         g.setPaint(oldPaint);
     }
 
+    @Override
+    public void emitRenderCommands(RenderCommandBuffer commands) {
+        if (!hasMetrics) {
+            // metrics need a graphics context, so the first frame is rendered normally
+            super.emitRenderCommands(commands);
+            return;
+        }
+
+        commands.pushTransform(getCachedTransformation());
+        if (glyphAtlas != null) {
+            GlyphAtlas.TextImage image = getTextImage();
+            if (image != null) {
+                commands.image(image.image(), (int) OriginInstance.x + image.x(), Math.round(font.getSize2D()) + image.y());
+            }
+            commands.popTransform();
+            return;
+        }
+
+        commands.text(text, OriginInstance.x, font.getSize2D(), font, fillPaint);
+        commands.popTransform();
+    }
+
+    @Override
+    public void prepareRender() {
+        super.prepareRender();
+        if (!hasMetrics) {
+            updateMetrics();
+        }
+        if (glyphAtlas != null) {
+            getTextImage();
+        }
+    }
+
     @Override
     public void destroy(GameHandler origin) {
         text = DefaultText;
         fillPaint = DefaultFill;
         font = DefaultFont;
+        glyphAtlasRendering = DefaultGlyphAtlasRendering;
+        glyphAtlas = null;
+        textImage = null;
+        hasTextImage = false;
         hasMetrics = false;
 
         super.destroyTheRest(origin);
     }
 
+    /** Picks the glyph atlas to draw the text from, if glyph atlas rendering is enabled and possible. */
+    private void updateGlyphAtlas() {
+        glyphAtlas = null;
+        textImage = null;
+        hasTextImage = false;
+        if (!glyphAtlasRendering || font == null || !(fillPaint instanceof Color fillColor)) {
+            return;
+        }
+
+        GlyphAtlas fontGlyphAtlas = GlyphAtlas.get(font, fillColor);
+        if (fontGlyphAtlas.canDraw(text)) {
+            glyphAtlas = fontGlyphAtlas;
+        }
+    }
+
+    /** {@return the image of the text copied from the glyph atlas, made the first time it is drawn after changing} */
+    private GlyphAtlas.TextImage getTextImage() {
+        if (!hasTextImage) {
+            textImage = glyphAtlas.createTextImage(text);
+            hasTextImage = true;
+        }
+        return textImage;
+    }
+
+    /** Updates the {@code Text2D}'s metrics, measuring from its glyph atlas when it has one. */
+    private void updateMetrics() {
+        if (glyphAtlas != null) {
+            setCollisionPath(createMetricsPath(new Rectangle2D.Float(
+                Transform2D.DefaultTranslation.x,
+                Transform2D.DefaultTranslation.y,
+                glyphAtlas.getStringWidth(text),
+                glyphAtlas.getLineHeight()
+            )));
+            hasMetrics = true;
+            return;
+        }
+
+        Graphics2D graphics = GraphicsHelper.createGraphics();
+        setMetrics(graphics);
+        graphics.dispose();
+    }
+
     /**
      * Sets up the necessary boundaries for creating the {@code Text2D}'s metrics.
      * <p>
@@ -20,6 +20,7 @@ public class Text2DBuilder {
 
     private Paint fillPaint = Text2D.DefaultFill;
     private Font font = Text2D.DefaultFont;
+    private boolean glyphAtlasRendering = Text2D.DefaultGlyphAtlasRendering;
 
     private Pointf translation = Transform2D.DefaultTranslation.copy();
     private float rotation = Transform2D.DefaultRotation;
@@ -58,6 +59,19 @@ public class Text2DBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the resulting {@link Text2D} is drawn from a glyph atlas.
+     *
+     * @param glyphAtlasRendering Whether the resulting {@link Text2D} should be drawn from a glyph atlas.
+     * @return The {@link Text2DBuilder}, for method chaining.
+     * @see Text2D#setGlyphAtlasRendering(boolean)
+     * @since 1.7.0
+     */
+    public Text2DBuilder withGlyphAtlasRendering(boolean glyphAtlasRendering) {
+        this.glyphAtlasRendering = glyphAtlasRendering;
+        return this;
+    }
+
     /**
      * Sets the builder's transformation (translation, rotation, scale) values.
      *
@@ -81,6 +95,7 @@ public class Text2DBuilder {
         return (Text2D) new Text2D(text)
             .setFill(fillPaint)
             .setFont(font)
+            .setGlyphAtlasRendering(glyphAtlasRendering)
             .setShouldRender(shouldRender)
             .setTransform(translation, rotation, scale);
     }
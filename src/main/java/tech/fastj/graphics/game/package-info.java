@@ -4,8 +4,10 @@
  * <ul>
  *     <li>{@link tech.fastj.graphics.game.GameObject} - the abstract class base for all game objects.</li>
  *     <li>{@link tech.fastj.graphics.game.Polygon2D} renders single polygons.</li>
+ *     <li>{@link tech.fastj.graphics.game.InstancedPolygon2D} renders many copies of one {@link tech.fastj.graphics.game.PolygonMesh mesh}.</li>
  *     <li>{@link tech.fastj.graphics.game.Model2D} renders 2D models (multiple polygons in tandem).</li>
  *     <li>{@link tech.fastj.graphics.game.Text2D} renders text.</li>
+ *     <li>{@link tech.fastj.graphics.game.ParticleSystem} simulates and renders large amounts of particles.</li>
  *     <li>{@link tech.fastj.graphics.game.Sprite2D} renders sprites and simple sprite animations.</li>
  * </ul>
  * <p>
@@ -108,6 +108,7 @@ public class Button extends UIElement<MouseButtonEvent> implements MouseActionLi
      */
     public Button setFill(Paint paint) {
         this.paint = paint;
+        appearanceChanged();
         return this;
     }
 
@@ -131,6 +132,7 @@ public class Button extends UIElement<MouseButtonEvent> implements MouseActionLi
         Graphics2D graphics = GraphicsHelper.createGraphics();
         setMetrics(graphics);
         graphics.dispose();
+        appearanceChanged();
 
         return this;
     }
@@ -155,6 +157,7 @@ public class Button extends UIElement<MouseButtonEvent> implements MouseActionLi
         Graphics2D graphics = GraphicsHelper.createGraphics();
         setMetrics(graphics);
         graphics.dispose();
+        appearanceChanged();
 
         return this;
     }
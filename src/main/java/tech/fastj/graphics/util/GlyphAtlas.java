@@ -0,0 +1,302 @@
+package tech.fastj.graphics.util;
+
+import tech.fastj.graphics.display.RenderCommandBuffer;
+import tech.fastj.resources.images.SpriteAtlas;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered glyphs of a single font and color, for drawing text as a series of image copies.
+ * <p>
+ * Drawing a string normally shapes and rasterizes it from the font's outlines every time. A glyph atlas instead rasterizes each character
+ * the first time it is needed, packs it into a shared {@link SpriteAtlas sprite atlas}, and remembers its advance -- afterwards, laying out
+ * and drawing a string is a loop of cached lookups and image copies, which costs about as much as drawing the same amount of sprites.
+ * Strings can also be {@link #getStringWidth(String) measured} without a graphics context.
+ * <p>
+ * Glyphs are rasterized with anti-aliasing and whole-pixel advances, and strings are laid out one character at a time, without kerning
+ * or ligatures. Text which needs complex layout -- such as right-to-left scripts, combining marks, or characters outside the basic
+ * multilingual plane -- cannot be drawn from an atlas, which {@link #canDraw(String)} reports.
+ * <p>
+ * Atlases are shared: {@link #get(Font, Color)} returns the same atlas for the same font and color.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class GlyphAtlas {
+
+    /** The smallest width and height, in pixels, of an atlas' pages. */
+    public static final int MinPageSize = 256;
+    /** The amount of the font's largest glyphs which fit across each page. */
+    public static final int GlyphsPerPageSide = 8;
+
+    private static final int CachedCharacterCount = 256;
+    private static final FontRenderContext RenderContext = new FontRenderContext(null, true, false);
+    private static final Map<Key, GlyphAtlas> GlyphAtlases = new ConcurrentHashMap<>();
+
+    private final Font font;
+    private final Color color;
+    private final SpriteAtlas spriteAtlas;
+    private final int lineHeight;
+    private final int ascent;
+
+    private final Glyph[] cachedGlyphs = new Glyph[CachedCharacterCount];
+    private final Map<Character, Glyph> glyphs = new HashMap<>();
+
+    private GlyphAtlas(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+
+        Rectangle2D maxCharBounds = font.getMaxCharBounds(RenderContext);
+        int largestGlyph = (int) Math.ceil(Math.max(maxCharBounds.getWidth(), maxCharBounds.getHeight()));
+        spriteAtlas = new SpriteAtlas(Math.max(MinPageSize, largestGlyph * GlyphsPerPageSide), SpriteAtlas.DefaultPadding);
+
+        LineMetrics lineMetrics = font.getLineMetrics("", RenderContext);
+        ascent = Math.round(lineMetrics.getAscent());
+        lineHeight = ascent + Math.round(lineMetrics.getDescent()) + Math.round(lineMetrics.getLeading());
+    }
+
+    /**
+     * Gets the glyph atlas of the given font and color, creating it if it does not exist yet.
+     *
+     * @param font  The font of the glyphs.
+     * @param color The color of the glyphs.
+     * @return The shared glyph atlas.
+     */
+    public static GlyphAtlas get(Font font, Color color) {
+        Objects.requireNonNull(font, "The font must not be null.");
+        Objects.requireNonNull(color, "The color must not be null.");
+        return GlyphAtlases.computeIfAbsent(new Key(font, color.getRGB()), key -> new GlyphAtlas(font, color));
+    }
+
+    /** {@return the amount of glyph atlases created} */
+    public static int getAtlasCount() {
+        return GlyphAtlases.size();
+    }
+
+    /** Releases every glyph atlas. Atlases already in use keep working, but are no longer shared. */
+    public static void clearAtlases() {
+        GlyphAtlases.clear();
+    }
+
+    /** {@return the font of the atlas' glyphs} */
+    public Font getFont() {
+        return font;
+    }
+
+    /** {@return the color of the atlas' glyphs} */
+    public Color getColor() {
+        return color;
+    }
+
+    /** {@return the height of a line of text, in pixels} */
+    public int getLineHeight() {
+        return lineHeight;
+    }
+
+    /** {@return the distance from the top of a line of text to its baseline, in pixels} */
+    public int getAscent() {
+        return ascent;
+    }
+
+    /** {@return the amount of pages the atlas' glyphs are packed into} */
+    public int getPageCount() {
+        return spriteAtlas.getPages().size();
+    }
+
+    /**
+     * Checks whether every character of the given text can be drawn from the atlas.
+     *
+     * @param text The text to check.
+     * @return Whether the text can be drawn from the atlas.
+     */
+    public boolean canDraw(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!getGlyph(text.charAt(i)).isDrawable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Measures the given text, as laid out by the atlas.
+     *
+     * @param text The text to measure.
+     * @return The width of the text, in pixels.
+     */
+    public int getStringWidth(String text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += getGlyph(text.charAt(i)).advance;
+        }
+        return width;
+    }
+
+    /**
+     * Draws the given text to the given graphics, as a series of glyph images.
+     * <p>
+     * The text should be {@link #canDraw(String) drawable} from the atlas -- characters which are not are skipped.
+     *
+     * @param g    The graphics to draw to.
+     * @param text The text to draw.
+     * @param x    The x coordinate of the text's baseline.
+     * @param y    The y coordinate of the text's baseline.
+     */
+    public void draw(Graphics2D g, String text, int x, int y) {
+        int penX = x;
+        for (int i = 0; i < text.length(); i++) {
+            Glyph glyph = getGlyph(text.charAt(i));
+            if (glyph.image != null) {
+                g.drawImage(glyph.image, penX + glyph.offsetX, y + glyph.offsetY, null);
+            }
+            penX += glyph.advance;
+        }
+    }
+
+    /**
+     * Adds commands to draw the given text to the given render command buffer, as a series of glyph images.
+     *
+     * @param commands The render command buffer to add commands to.
+     * @param text     The text to draw.
+     * @param x        The x coordinate of the text's baseline.
+     * @param y        The y coordinate of the text's baseline.
+     * @see #draw(Graphics2D, String, int, int)
+     */
+    public void emitRenderCommands(RenderCommandBuffer commands, String text, int x, int y) {
+        int penX = x;
+        for (int i = 0; i < text.length(); i++) {
+            Glyph glyph = getGlyph(text.charAt(i));
+            if (glyph.image != null) {
+                commands.image(glyph.image, penX + glyph.offsetX, y + glyph.offsetY);
+            }
+            penX += glyph.advance;
+        }
+    }
+
+    /**
+     * Copies the glyphs of the given text into a single new image, so the text can be drawn with one image copy.
+     * <p>
+     * The text should be {@link #canDraw(String) drawable} from the atlas -- characters which are not are skipped.
+     *
+     * @param text The text to copy into an image.
+     * @return The image of the text, with its position relative to the text's baseline -- or {@code null} if the text has no visible
+     * glyphs.
+     */
+    public TextImage createTextImage(String text) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+
+        int penX = 0;
+        for (int i = 0; i < text.length(); i++) {
+            Glyph glyph = getGlyph(text.charAt(i));
+            if (glyph.image != null) {
+                minX = Math.min(minX, penX + glyph.offsetX);
+                minY = Math.min(minY, glyph.offsetY);
+                maxX = Math.max(maxX, penX + glyph.offsetX + glyph.image.getWidth());
+                maxY = Math.max(maxY, glyph.offsetY + glyph.image.getHeight());
+            }
+            penX += glyph.advance;
+        }
+
+        if (minX == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        BufferedImage textImage = new BufferedImage(maxX - minX, maxY - minY, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D textGraphics = textImage.createGraphics();
+        try {
+            draw(textGraphics, text, -minX, -minY);
+        } finally {
+            textGraphics.dispose();
+        }
+        return new TextImage(textImage, minX, minY);
+    }
+
+    private Glyph getGlyph(char character) {
+        if (character < CachedCharacterCount) {
+            Glyph glyph = cachedGlyphs[character];
+            if (glyph == null) {
+                glyph = createGlyph(character);
+                cachedGlyphs[character] = glyph;
+            }
+            return glyph;
+        }
+
+        synchronized (glyphs) {
+            return glyphs.computeIfAbsent(character, this::createGlyph);
+        }
+    }
+
+    private synchronized Glyph createGlyph(char character) {
+        char[] characters = {character};
+        if (Character.isSurrogate(character) || !font.canDisplay(character) || Font.textRequiresLayout(characters, 0, 1)) {
+            return new Glyph(null, 0, 0, 0, false);
+        }
+
+        GlyphVector glyphVector = font.createGlyphVector(RenderContext, characters);
+        int advance = Math.round(glyphVector.getGlyphMetrics(0).getAdvanceX());
+        Rectangle pixelBounds = glyphVector.getPixelBounds(RenderContext, 0f, 0f);
+        if (pixelBounds.isEmpty()) {
+            return new Glyph(null, 0, 0, advance, true);
+        }
+
+        BufferedImage glyphImage = new BufferedImage(pixelBounds.width, pixelBounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D glyphGraphics = glyphImage.createGraphics();
+        try {
+            glyphGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            glyphGraphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            glyphGraphics.setColor(color);
+            glyphGraphics.drawGlyphVector(glyphVector, -pixelBounds.x, -pixelBounds.y);
+        } finally {
+            glyphGraphics.dispose();
+        }
+
+        try {
+            return new Glyph(spriteAtlas.add(glyphImage), pixelBounds.x, pixelBounds.y, advance, true);
+        } catch (IllegalArgumentException exception) {
+            // larger than the font claimed its glyphs could be
+            return new Glyph(glyphImage, pixelBounds.x, pixelBounds.y, advance, true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GlyphAtlas{" +
+            "font=" + font +
+            ", color=" + color +
+            ", pageCount=" + getPageCount() +
+            '}';
+    }
+
+    /**
+     * An image of a line of text, made by {@link #createTextImage(String)}.
+     *
+     * @param image The image of the text.
+     * @param x     The x offset of the image's top-left corner from the start of the text's baseline.
+     * @param y     The y offset of the image's top-left corner from the start of the text's baseline.
+     */
+    public record TextImage(BufferedImage image, int x, int y) {
+    }
+
+    /** A rasterized character, with its offset from the pen position and its advance. */
+    private record Glyph(BufferedImage image, int offsetX, int offsetY, int advance, boolean isDrawable) {
+    }
+
+    private record Key(Font font, int rgb) {
+    }
+}
@@ -0,0 +1,188 @@
+package tech.fastj.math;
+
+import java.util.Objects;
+
+/**
+ * Batch operations on points packed into {@code float} arrays.
+ * <p>
+ * Packed points are stored as {@code x, y} pairs: point {@code i} of an array starting at {@code offset} has its {@code x} value at
+ * {@code offset + i * 2}, and its {@code y} value right after it. Unlike arrays of {@link Pointf}s, packed points are contiguous in
+ * memory, and none of these operations create objects -- each one is a single flat loop which the JIT is free to unroll and vectorize.
+ * <p>
+ * To transform packed points by a {@link Transform2D}, use {@link Transform2D#transformPoints(float[], int, float[], int, int)}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class PackedPoints {
+
+    private PackedPoints() {
+        throw new java.lang.IllegalStateException();
+    }
+
+    /**
+     * Packs the given points into the destination array.
+     *
+     * @param points      The points to pack.
+     * @param destination The array to pack the points into.
+     * @param offset      The index to store the first point's {@code x} value at.
+     * @throws IndexOutOfBoundsException if the destination is too small for the points.
+     */
+    public static void pack(Pointf[] points, float[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, points.length * 2, destination.length);
+        for (int i = 0; i < points.length; i++) {
+            destination[offset + i * 2] = points[i].x;
+            destination[offset + i * 2 + 1] = points[i].y;
+        }
+    }
+
+    /**
+     * Unpacks points from the given array into the destination points, without creating new {@link Pointf}s.
+     *
+     * @param packedPoints The packed points to unpack.
+     * @param offset       The index of the first point's {@code x} value.
+     * @param destination  The points to store the unpacked points in. Its length is the amount of points unpacked.
+     * @throws IndexOutOfBoundsException if the packed points are too few to fill the destination.
+     */
+    public static void unpack(float[] packedPoints, int offset, Pointf[] destination) {
+        Objects.checkFromIndexSize(offset, destination.length * 2, packedPoints.length);
+        for (int i = 0; i < destination.length; i++) {
+            destination[i].set(packedPoints[offset + i * 2], packedPoints[offset + i * 2 + 1]);
+        }
+    }
+
+    /**
+     * Translates the packed points in place.
+     *
+     * @param packedPoints The packed points to translate.
+     * @param offset       The index of the first point's {@code x} value.
+     * @param count        The amount of points to translate.
+     * @param translationX The amount to translate each point's {@code x} value by.
+     * @param translationY The amount to translate each point's {@code y} value by.
+     * @throws IndexOutOfBoundsException if the array is too small for the given amount of points.
+     */
+    public static void translate(float[] packedPoints, int offset, int count, float translationX, float translationY) {
+        Objects.checkFromIndexSize(offset, count * 2, packedPoints.length);
+        int end = offset + count * 2;
+        for (int i = offset; i < end; i += 2) {
+            packedPoints[i] += translationX;
+            packedPoints[i + 1] += translationY;
+        }
+    }
+
+    /**
+     * Scales the packed points in place, about the given center.
+     *
+     * @param packedPoints The packed points to scale.
+     * @param offset       The index of the first point's {@code x} value.
+     * @param count        The amount of points to scale.
+     * @param scaleX       The amount to scale each point's distance from the center along the {@code x} axis by.
+     * @param scaleY       The amount to scale each point's distance from the center along the {@code y} axis by.
+     * @param centerX      The {@code x} value of the point to scale about.
+     * @param centerY      The {@code y} value of the point to scale about.
+     * @throws IndexOutOfBoundsException if the array is too small for the given amount of points.
+     */
+    public static void scale(float[] packedPoints, int offset, int count, float scaleX, float scaleY, float centerX, float centerY) {
+        Objects.checkFromIndexSize(offset, count * 2, packedPoints.length);
+        float shiftX = centerX - centerX * scaleX;
+        float shiftY = centerY - centerY * scaleY;
+        int end = offset + count * 2;
+        for (int i = offset; i < end; i += 2) {
+            packedPoints[i] = packedPoints[i] * scaleX + shiftX;
+            packedPoints[i + 1] = packedPoints[i + 1] * scaleY + shiftY;
+        }
+    }
+
+    /**
+     * Rotates the packed points in place, about the given center.
+     * <p>
+     * Points are rotated in the same direction as {@link Pointf#rotate(Pointf, float, Pointf)}.
+     *
+     * @param packedPoints The packed points to rotate.
+     * @param offset       The index of the first point's {@code x} value.
+     * @param count        The amount of points to rotate.
+     * @param angle        The angle to rotate by, in degrees.
+     * @param centerX      The {@code x} value of the point to rotate about.
+     * @param centerY      The {@code y} value of the point to rotate about.
+     * @throws IndexOutOfBoundsException if the array is too small for the given amount of points.
+     */
+    public static void rotate(float[] packedPoints, int offset, int count, float angle, float centerX, float centerY) {
+        Objects.checkFromIndexSize(offset, count * 2, packedPoints.length);
+        float angleInRadians = (float) Math.toRadians(angle);
+        float sineOfAngle = (float) Math.sin(angleInRadians);
+        float cosineOfAngle = (float) Math.cos(angleInRadians);
+
+        int end = offset + count * 2;
+        for (int i = offset; i < end; i += 2) {
+            float translatedX = packedPoints[i] - centerX;
+            float translatedY = packedPoints[i + 1] - centerY;
+            packedPoints[i] = (translatedX * cosineOfAngle) + (translatedY * sineOfAngle) + centerX;
+            packedPoints[i + 1] = (-translatedX * sineOfAngle) + (translatedY * cosineOfAngle) + centerY;
+        }
+    }
+
+    /**
+     * Linearly interpolates between two sets of packed points, storing the results in the destination array.
+     * <p>
+     * The destination may be the same array as either set of points.
+     *
+     * @param start             The starting points.
+     * @param startOffset       The index of the first starting point's {@code x} value.
+     * @param end               The ending points.
+     * @param endOffset         The index of the first ending point's {@code x} value.
+     * @param destination       The array to store the interpolated points in.
+     * @param destinationOffset The index to store the first interpolated point's {@code x} value at.
+     * @param count             The amount of points to interpolate.
+     * @param t                 The interpolation value to work with (preferably within a range of 0.0 to 1.0).
+     * @throws IndexOutOfBoundsException if any of the arrays are too small for the given amount of points.
+     * @see Maths#lerp(float, float, float)
+     */
+    public static void lerp(float[] start, int startOffset, float[] end, int endOffset, float[] destination, int destinationOffset,
+                            int count, float t) {
+        int length = count * 2;
+        Objects.checkFromIndexSize(startOffset, length, start.length);
+        Objects.checkFromIndexSize(endOffset, length, end.length);
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        for (int i = 0; i < length; i++) {
+            destination[destinationOffset + i] = Maths.lerp(start[startOffset + i], end[endOffset + i], t);
+        }
+    }
+
+    /**
+     * Calculates the bounding box of the packed points, storing it in the destination array as {@code minX, minY, maxX, maxY}.
+     * <p>
+     * If there are no points, the bounding box is stored as all zeroes.
+     *
+     * @param packedPoints The packed points to find the bounds of.
+     * @param offset       The index of the first point's {@code x} value.
+     * @param count        The amount of points to find the bounds of.
+     * @param destination  The array to store the bounding box in, with room for at least four values.
+     * @throws IndexOutOfBoundsException if the array is too small for the given amount of points, or the destination has fewer than four
+     *                                   values.
+     */
+    public static void bounds(float[] packedPoints, int offset, int count, float[] destination) {
+        Objects.checkFromIndexSize(offset, count * 2, packedPoints.length);
+        Objects.checkIndex(3, destination.length);
+        if (count == 0) {
+            destination[0] = destination[1] = destination[2] = destination[3] = 0f;
+            return;
+        }
+
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        int end = offset + count * 2;
+        for (int i = offset; i < end; i += 2) {
+            minX = Math.min(minX, packedPoints[i]);
+            minY = Math.min(minY, packedPoints[i + 1]);
+            maxX = Math.max(maxX, packedPoints[i]);
+            maxY = Math.max(maxY, packedPoints[i + 1]);
+        }
+
+        destination[0] = minX;
+        destination[1] = minY;
+        destination[2] = maxX;
+        destination[3] = maxY;
+    }
+}
@@ -165,6 +165,22 @@ public class Pointf {
         return new Pointf(p.x + f1, p.y + f2);
     }
 
+    /**
+     * Adds two {@code Pointf}s together, storing the result in the given destination rather than creating a new {@code Pointf}.
+     * <p>
+     * The destination may be either of the added {@code Pointf}s.
+     *
+     * @param p1          The first {@code Pointf} used for addition.
+     * @param p2          The second {@code Pointf} used for addition.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, with coordinates equal to the added values from the two {@code Pointf}s.
+     * @since 1.7.0
+     */
+    public static Pointf add(Pointf p1, Pointf p2, Pointf destination) {
+        destination.set(p1.x + p2.x, p1.y + p2.y);
+        return destination;
+    }
+
     /**
      * Static method to subtract two Points (from the parameters specified) together, and return a new {@code Pointf} object.
      *
@@ -199,6 +215,23 @@ public class Pointf {
         return new Pointf(p.x - f1, p.y - f2);
     }
 
+    /**
+     * Subtracts the second {@code Pointf} from the first, storing the result in the given destination rather than creating a new
+     * {@code Pointf}.
+     * <p>
+     * The destination may be either of the subtracted {@code Pointf}s.
+     *
+     * @param p1          The {@code Pointf} acting as the first value in subtraction.
+     * @param p2          The {@code Pointf} acting as the second value in subtraction.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, with coordinates equal to the subtracted values from the two {@code Pointf}s.
+     * @since 1.7.0
+     */
+    public static Pointf subtract(Pointf p1, Pointf p2, Pointf destination) {
+        destination.set(p1.x - p2.x, p1.y - p2.y);
+        return destination;
+    }
+
     /**
      * Static method to multiply two {@code Pointf} objects (from the parameters specified) together, and return a new {@code Pointf}.
      *
@@ -233,6 +266,38 @@ public class Pointf {
         return new Pointf(p.x * f1, p.y * f2);
     }
 
+    /**
+     * Multiplies two {@code Pointf}s together, storing the result in the given destination rather than creating a new {@code Pointf}.
+     * <p>
+     * The destination may be either of the multiplied {@code Pointf}s.
+     *
+     * @param p1          The first {@code Pointf} used for multiplication.
+     * @param p2          The second {@code Pointf} used for multiplication.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, with coordinates equal to the multiplied values from the two {@code Pointf}s.
+     * @since 1.7.0
+     */
+    public static Pointf multiply(Pointf p1, Pointf p2, Pointf destination) {
+        destination.set(p1.x * p2.x, p1.y * p2.y);
+        return destination;
+    }
+
+    /**
+     * Multiplies a {@code Pointf} by a float value, storing the result in the given destination rather than creating a new {@code Pointf}.
+     * <p>
+     * The destination may be the multiplied {@code Pointf}.
+     *
+     * @param p           The {@code Pointf} used for multiplication.
+     * @param f           float value used for multiplication.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, with coordinates equal to the multiplied values from the {@code Pointf} and the float value.
+     * @since 1.7.0
+     */
+    public static Pointf multiply(Pointf p, float f, Pointf destination) {
+        destination.set(p.x * f, p.y * f);
+        return destination;
+    }
+
     /**
      * Static method to divide two {@code Pointf} objects (from the parameters specified) together, and return a new {@code Pointf}.
      *
@@ -267,6 +332,39 @@ public class Pointf {
         return new Pointf(p.x / f1, p.y / f2);
     }
 
+    /**
+     * Divides the first {@code Pointf} by the second, storing the result in the given destination rather than creating a new
+     * {@code Pointf}.
+     * <p>
+     * The destination may be either of the divided {@code Pointf}s.
+     *
+     * @param p1          The {@code Pointf} acting as the first value in division.
+     * @param p2          The {@code Pointf} acting as the second value in division.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, with coordinates equal to the divided values from the two {@code Pointf}s.
+     * @since 1.7.0
+     */
+    public static Pointf divide(Pointf p1, Pointf p2, Pointf destination) {
+        destination.set(p1.x / p2.x, p1.y / p2.y);
+        return destination;
+    }
+
+    /**
+     * Divides a {@code Pointf} by a float value, storing the result in the given destination rather than creating a new {@code Pointf}.
+     * <p>
+     * The destination may be the divided {@code Pointf}.
+     *
+     * @param p           The {@code Pointf} acting as the first value in division.
+     * @param f           float value used as the second value in division.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, with coordinates equal to the divided values from the {@code Pointf} and the float value.
+     * @since 1.7.0
+     */
+    public static Pointf divide(Pointf p, float f, Pointf destination) {
+        destination.set(p.x / f, p.y / f);
+        return destination;
+    }
+
     /**
      * Calculates and returns the dot product of the two specified {@code Pointf}s.
      *
@@ -350,6 +448,35 @@ public class Pointf {
         return new Pointf(rotatedX + center.x, rotatedY + center.y);
     }
 
+    /**
+     * Rotates the {@code Pointf} about the specified {@code center}, storing the result in the given destination rather than creating a
+     * new {@code Pointf}.
+     * <p>
+     * The destination may be the rotated {@code Pointf}, or the center.
+     *
+     * @param p           The point to rotate.
+     * @param angle       The angle to rotate by, in degrees.
+     * @param center      The point to rotate around.
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, rotated as specified.
+     * @see #rotate(Pointf, float, Pointf)
+     * @since 1.7.0
+     */
+    public static Pointf rotate(Pointf p, float angle, Pointf center, Pointf destination) {
+        float angleInRadians = (float) Math.toRadians(angle);
+        float sineOfAngle = (float) Math.sin(angleInRadians);
+        float cosineOfAngle = (float) Math.cos(angleInRadians);
+
+        float translatedX = p.x - center.x;
+        float translatedY = p.y - center.y;
+
+        float rotatedX = (translatedX * cosineOfAngle) + (translatedY * sineOfAngle);
+        float rotatedY = (-translatedX * sineOfAngle) + (translatedY * cosineOfAngle);
+
+        destination.set(rotatedX + center.x, rotatedY + center.y);
+        return destination;
+    }
+
     /**
      * Calculates and returns the signed angle between the specified {@code Pointf}s.
      *
@@ -396,6 +523,25 @@ public class Pointf {
         );
     }
 
+    /**
+     * Linearly interpolates between the two {@link Pointf}s specified, storing the result in the given destination rather than creating a
+     * new {@code Pointf}.
+     * <p>
+     * The destination may be either of the interpolated {@code Pointf}s.
+     *
+     * @param p           The starting value.
+     * @param p1          The ending value.
+     * @param t           The interpolation value to work with (preferably within a range of 0.0 to 1.0).
+     * @param destination The {@code Pointf} to store the result in.
+     * @return The destination, linearly interpolated as specified.
+     * @see Maths#lerp(float, float, float)
+     * @since 1.7.0
+     */
+    public static Pointf lerp(Pointf p, Pointf p1, float t, Pointf destination) {
+        destination.set(Maths.lerp(p.x, p1.x, t), Maths.lerp(p.y, p1.y, t));
+        return destination;
+    }
+
     /**
      * Creates a new {@link Pointf}, applying to it the linear interpolation of the two {@link Pointf}s specified.
      *
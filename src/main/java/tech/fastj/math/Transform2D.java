@@ -28,27 +28,115 @@ public class Transform2D {
     private final AffineTransform translationTransform = new AffineTransform();
     private final AffineTransform rotationTransform = new AffineTransform();
     private final AffineTransform scaleTransform = new AffineTransform();
-    private Pointf lastRotationPoint = Pointf.origin();
-    private Pointf lastScalePoint = Pointf.origin();
+    private final Pointf lastRotationPoint = Pointf.origin();
+    private final Pointf lastScalePoint = Pointf.origin();
     private float rotation = DefaultRotation;
 
+    private final AffineTransform compositeTransform = new AffineTransform();
+    private boolean isCompositeDirty;
+    private int revision;
+
     /** {@return the translation, rotation, and scale transforms, combined using {@link AffineTransform#preConcatenate(AffineTransform)}} */
     public AffineTransform getAffineTransform() {
-        AffineTransform result = new AffineTransform();
-        result.preConcatenate(rotationTransform);
-        result.preConcatenate(translationTransform);
-        result.preConcatenate(scaleTransform);
-        return result;
+        return new AffineTransform(getCachedAffineTransform());
+    }
+
+    /**
+     * {@return the translation, rotation, and scale transforms, combined using {@link AffineTransform#preConcatenate(AffineTransform)}}
+     * <p>
+     * Unlike {@link #getAffineTransform()}, this does not create a new transform. The combined transform is cached, and only recalculated
+     * after one of its components changes. As such, <b>the returned transform must not be modified</b>, and will change along with this
+     * {@code Transform2D}.
+     */
+    public AffineTransform getCachedAffineTransform() {
+        if (isCompositeDirty) {
+            compositeTransform.setToIdentity();
+            compositeTransform.preConcatenate(rotationTransform);
+            compositeTransform.preConcatenate(translationTransform);
+            compositeTransform.preConcatenate(scaleTransform);
+            isCompositeDirty = false;
+        }
+        return compositeTransform;
+    }
+
+    /**
+     * {@return the revision of the transform}
+     * <p>
+     * The revision changes every time the transform is modified, allowing anything derived from the transform to be cached until the
+     * revision no longer matches.
+     */
+    public int getRevision() {
+        return revision;
     }
 
     /** {@return the transform's current translation} */
     public Pointf getTranslation() {
-        return new Pointf((float) translationTransform.getTranslateX(), (float) translationTransform.getTranslateY());
+        return new Pointf(getTranslationX(), getTranslationY());
+    }
+
+    /**
+     * Gets the transform's current translation, storing it in the given destination rather than creating a new {@code Pointf}.
+     *
+     * @param destination The {@code Pointf} to store the translation in.
+     * @return The destination, set to the transform's current translation.
+     * @since 1.7.0
+     */
+    public Pointf getTranslation(Pointf destination) {
+        destination.set(getTranslationX(), getTranslationY());
+        return destination;
+    }
+
+    /**
+     * {@return the x value of the transform's current translation}
+     *
+     * @since 1.7.0
+     */
+    public float getTranslationX() {
+        return (float) translationTransform.getTranslateX();
+    }
+
+    /**
+     * {@return the y value of the transform's current translation}
+     *
+     * @since 1.7.0
+     */
+    public float getTranslationY() {
+        return (float) translationTransform.getTranslateY();
     }
 
     /** {@return the transform's current scale} */
     public Pointf getScale() {
-        return new Pointf((float) scaleTransform.getScaleX(), (float) scaleTransform.getScaleY());
+        return new Pointf(getScaleX(), getScaleY());
+    }
+
+    /**
+     * Gets the transform's current scale, storing it in the given destination rather than creating a new {@code Pointf}.
+     *
+     * @param destination The {@code Pointf} to store the scale in.
+     * @return The destination, set to the transform's current scale.
+     * @since 1.7.0
+     */
+    public Pointf getScale(Pointf destination) {
+        destination.set(getScaleX(), getScaleY());
+        return destination;
+    }
+
+    /**
+     * {@return the x value of the transform's current scale}
+     *
+     * @since 1.7.0
+     */
+    public float getScaleX() {
+        return (float) scaleTransform.getScaleX();
+    }
+
+    /**
+     * {@return the y value of the transform's current scale}
+     *
+     * @since 1.7.0
+     */
+    public float getScaleY() {
+        return (float) scaleTransform.getScaleY();
     }
 
     /**
@@ -94,8 +182,8 @@ public class Transform2D {
      * @param translation the translation to set the translation transform to.
      */
     public void setTranslation(Pointf translation) {
-        Pointf oldTranslation = getTranslation();
-        translate(new Pointf(-oldTranslation.x + translation.x, -oldTranslation.y + translation.y));
+        translationTransform.setToTranslation(translation.x, translation.y);
+        markModified();
     }
 
     /**
@@ -104,8 +192,7 @@ public class Transform2D {
      * @param scale The scale to set the scale transform to.
      */
     public void setScale(Pointf scale) {
-        Pointf oldScale = getScale();
-        scale(new Pointf(-oldScale.x + scale.x, -oldScale.y + scale.y), lastScalePoint);
+        scale(scale.x - getScaleX(), scale.y - getScaleY(), lastScalePoint.x, lastScalePoint.y);
     }
 
     /**
@@ -124,6 +211,7 @@ public class Transform2D {
      */
     public void translate(Pointf translation) {
         translationTransform.translate(translation.x, translation.y);
+        markModified();
     }
 
     /**
@@ -133,18 +221,45 @@ public class Transform2D {
      * @param centerpoint The point to scale relative to.
      */
     public void scale(Pointf scale, Pointf centerpoint) {
-        lastScalePoint = centerpoint.copy();
+        scale(scale.x, scale.y, centerpoint.x, centerpoint.y);
+    }
 
-        Pointf newScale = Pointf.add(scale, getScale());
-        Pointf scaleDifference = Pointf.subtract(getScale(), scale);
-        Pointf moveBack = Pointf.multiply(scaleDifference, centerpoint);
+    /**
+     * Applies the transform to the given packed points, storing the transformed points in the destination array.
+     * <p>
+     * Points are packed as {@code x, y} pairs. The source and destination may be the same array, even if their points overlap. This uses
+     * the cached, combined transform, and creates no objects.
+     *
+     * @param source            The points to transform.
+     * @param sourceOffset      The index of the first point's {@code x} value in the source.
+     * @param destination       The array to store the transformed points in.
+     * @param destinationOffset The index to store the first transformed point's {@code x} value at.
+     * @param count             The amount of points to transform.
+     * @throws IndexOutOfBoundsException if either array is too small for the given amount of points.
+     * @see PackedPoints
+     * @since 1.7.0
+     */
+    public void transformPoints(float[] source, int sourceOffset, float[] destination, int destinationOffset, int count) {
+        Objects.checkFromIndexSize(sourceOffset, count * 2, source.length);
+        Objects.checkFromIndexSize(destinationOffset, count * 2, destination.length);
+        getCachedAffineTransform().transform(source, sourceOffset, destination, destinationOffset, count);
+    }
+
+    private void scale(float scaleX, float scaleY, float centerX, float centerY) {
+        lastScalePoint.set(centerX, centerY);
 
-        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
+        float oldScaleX = getScaleX();
+        float oldScaleY = getScaleY();
+        float moveBackX = (oldScaleX - scaleX) * centerX;
+        float moveBackY = (oldScaleY - scaleY) * centerY;
+
+        scaleTransform.translate(-centerX, -centerY);
 
         scaleTransform.scale(1f / scaleTransform.getScaleX(), 1f / scaleTransform.getScaleY());
 
-        scaleTransform.translate(moveBack.x, moveBack.y);
-        scaleTransform.scale(newScale.x, newScale.y);
+        scaleTransform.translate(moveBackX, moveBackY);
+        scaleTransform.scale(scaleX + oldScaleX, scaleY + oldScaleY);
+        markModified();
     }
 
     /**
@@ -155,8 +270,9 @@ public class Transform2D {
      */
     public void rotate(float rotation, Pointf centerpoint) {
         this.rotation += rotation;
-        lastRotationPoint = centerpoint.copy();
+        lastRotationPoint.set(centerpoint.x, centerpoint.y);
         rotationTransform.rotate(Math.toRadians(rotation), centerpoint.x, centerpoint.y);
+        markModified();
     }
 
     /**
@@ -175,16 +291,24 @@ public class Transform2D {
     /** Resets the translation. */
     public void resetTranslation() {
         translationTransform.setToIdentity();
+        markModified();
     }
 
     /** Resets the rotation, without changing the last rotation point. */
     public void resetRotation() {
         rotationTransform.setToIdentity();
+        markModified();
     }
 
     /** Resets the scale, without changing the last scale point. */
     public void resetScale() {
         scaleTransform.setToIdentity();
+        markModified();
+    }
+
+    private void markModified() {
+        isCompositeDirty = true;
+        revision++;
     }
 
     @Override
@@ -0,0 +1,80 @@
+package tech.fastj.physics;
+
+/**
+ * Spatial acceleration structure used by a {@link CollisionManager collision manager} to find pairs of {@link Collider colliders} whose
+ * bounding boxes overlap, without testing every collider against every other collider.
+ * <p>
+ * Colliders are tracked through integer <i>proxies</i>. A proxy is {@link #createProxy(Collider) created} when a collider is added,
+ * {@link #moveProxy(int) moved} when its bounds change, and {@link #destroyProxy(int) destroyed} when it is removed. Implementations update
+ * themselves incrementally -- nothing is rebuilt from scratch per query.
+ * <p>
+ * FastJ provides two implementations:
+ * <ul>
+ *     <li>{@link UniformGridBroadPhase} -- best for bounded worlds with many similarly-sized colliders.</li>
+ *     <li>{@link DynamicTreeBroadPhase} -- best for unbounded worlds, or colliders of widely varying size.</li>
+ * </ul>
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public interface BroadPhase {
+
+    /** Proxy id representing "no proxy". */
+    int NullProxy = -1;
+
+    /**
+     * Creates a proxy for the given collider, based on its current {@link Collider#getBounds() bounds}.
+     *
+     * @param collider The collider to create a proxy for.
+     * @return The id of the new proxy.
+     */
+    int createProxy(Collider collider);
+
+    /**
+     * Destroys the given proxy.
+     *
+     * @param proxyId The id of the proxy to destroy.
+     */
+    void destroyProxy(int proxyId);
+
+    /**
+     * Updates the given proxy to match the current {@link Collider#getBounds() bounds} of its collider.
+     *
+     * @param proxyId The id of the proxy to update.
+     */
+    void moveProxy(int proxyId);
+
+    /**
+     * Reports every pair of proxies whose colliders' bounding boxes overlap.
+     * <p>
+     * Each overlapping pair is reported exactly once. No allocations are made during the query.
+     * <p>
+     * The broad phase must not be modified -- no proxies created, moved, or destroyed -- until the query finishes. A
+     * {@link CollisionManager collision manager} queues such changes made from its callbacks, and applies them after the query.
+     *
+     * @param callback The callback to receive the overlapping pairs.
+     */
+    void queryPairs(CollisionCallback callback);
+
+    /** {@return the amount of proxies currently in the broad phase} */
+    int getProxyCount();
+
+    /** Removes all proxies from the broad phase. */
+    void clear();
+
+    /**
+     * {@return whether the two given bounding boxes overlap}
+     *
+     * @param minX1 Minimum x of the first box.
+     * @param minY1 Minimum y of the first box.
+     * @param maxX1 Maximum x of the first box.
+     * @param maxY1 Maximum y of the first box.
+     * @param minX2 Minimum x of the second box.
+     * @param minY2 Minimum y of the second box.
+     * @param maxX2 Maximum x of the second box.
+     * @param maxY2 Maximum y of the second box.
+     */
+    static boolean overlaps(double minX1, double minY1, double maxX1, double maxY1, double minX2, double minY2, double maxX2, double maxY2) {
+        return minX1 <= maxX2 && maxX1 >= minX2 && minY1 <= maxY2 && maxY1 >= minY2;
+    }
+}
@@ -1,5 +1,51 @@
 package tech.fastj.physics;
 
+import java.awt.geom.Rectangle2D;
+
+/**
+ * The base of all colliders managed by a {@link CollisionManager collision manager}.
+ * <p>
+ * A collider provides two things: a {@link #getBounds() bounding box} used by the manager's {@link BroadPhase broad phase}, and an exact
+ * {@link #checkCollision(Collider) collision check} used once the broad phase has found two colliders whose bounding boxes overlap.
+ * <p>
+ * Whenever a collider's bounds change, it should call {@link #boundsChanged()} so that its manager can update its broad phase
+ * incrementally.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
 public abstract class Collider {
+
+    /** The broad phase proxy of the collider, or {@link BroadPhase#NullProxy} if the collider is not managed. */
+    int proxyId = BroadPhase.NullProxy;
+    /** The collision manager the collider belongs to, if any. */
+    CollisionManager manager;
+
+    /**
+     * Determines whether this collider and the given collider are colliding.
+     *
+     * @param other The other collider to check against.
+     * @return Whether the two colliders collide.
+     */
     public abstract boolean checkCollision(Collider other);
+
+    /**
+     * {@return the axis-aligned bounding box of the collider}
+     * <p>
+     * This is read by the {@link BroadPhase broad phase} whenever the collider is added or {@link #boundsChanged() moved}. Implementations
+     * are encouraged to return a cached instance rather than creating a new one every call.
+     */
+    public abstract Rectangle2D getBounds();
+
+    /** {@return the {@link CollisionManager collision manager} the collider belongs to, or {@code null} if it has none} */
+    public CollisionManager getCollisionManager() {
+        return manager;
+    }
+
+    /** Notifies the collider's {@link CollisionManager collision manager} (if any) that the collider's bounds have changed. */
+    protected void boundsChanged() {
+        if (manager != null) {
+            manager.updateCollider(this);
+        }
+    }
 }
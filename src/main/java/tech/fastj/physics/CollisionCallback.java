@@ -0,0 +1,22 @@
+package tech.fastj.physics;
+
+/**
+ * Callback receiving pairs of {@link Collider colliders} from a {@link CollisionManager collision manager} or {@link BroadPhase broad
+ * phase}.
+ * <p>
+ * Each pair is reported once per query. Implementations should avoid allocating per call, as callbacks are run for every pair found.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface CollisionCallback {
+
+    /**
+     * Receives a pair of colliders.
+     *
+     * @param first  The first collider of the pair.
+     * @param second The second collider of the pair.
+     */
+    void collision(Collider first, Collider second);
+}
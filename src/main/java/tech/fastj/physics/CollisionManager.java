@@ -1,24 +1,230 @@
 package tech.fastj.physics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * Class to manage {@link Collider colliders}, and find which of them collide.
+ * <p>
+ * Collision checking happens in two phases:
+ * <ol>
+ *     <li>
+ *         The <i>broad phase</i> finds pairs of colliders whose bounding boxes overlap. Which {@link BroadPhase broad phase} is used can be
+ *         chosen per collision manager (and so per scene) on construction.
+ *     </li>
+ *     <li>Each pair found is then checked exactly through {@link Collider#checkCollision(Collider)}.</li>
+ * </ol>
+ * <p>
+ * The broad phase is updated incrementally: when a collider moves, it should call {@link Collider#boundsChanged()} (or the owner should
+ * call {@link #updateCollider(Collider)}), rather than the whole structure being rebuilt every check.
+ * <p>
+ * Colliders may be added, moved, and removed from inside a {@link #findCollisions(CollisionCallback) collision callback}. Those changes
+ * are queued, and applied to the broad phase once the query finishes. A collider removed during the query is not reported again by that
+ * query, and a collider added during the query is first reported by the next one.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
 public class CollisionManager {
-    private List<Collider> colliders = new ArrayList<>();
 
+    private final BroadPhase broadPhase;
+    private final List<Collider> colliders = new ArrayList<>();
+
+    private final CollisionCallback narrowPhase = this::checkPair;
+    private CollisionCallback currentCallback;
+    private int collisionCount;
+
+    private boolean querying;
+    private final List<Collider> pendingAdditions = new ArrayList<>();
+    private final List<Collider> pendingMoves = new ArrayList<>();
+    private int[] pendingRemovals = new int[16];
+    private int pendingRemovalCount;
+
+    /** Creates a collision manager using a {@link DynamicTreeBroadPhase dynamic tree} as its broad phase. */
+    public CollisionManager() {
+        this(new DynamicTreeBroadPhase());
+    }
+
+    /**
+     * Creates a collision manager using the given broad phase.
+     *
+     * @param broadPhase The broad phase to use.
+     */
+    public CollisionManager(BroadPhase broadPhase) {
+        this.broadPhase = broadPhase;
+    }
+
+    /** {@return the broad phase used by the collision manager} */
+    public BroadPhase getBroadPhase() {
+        return broadPhase;
+    }
+
+    /** {@return an unmodifiable view of the colliders in the collision manager} */
+    public List<Collider> getColliders() {
+        return Collections.unmodifiableList(colliders);
+    }
+
+    /**
+     * Adds the given collider.
+     *
+     * @param collider The collider to add.
+     * @throws IllegalArgumentException if the collider already belongs to a collision manager.
+     */
     public void addCollider(Collider collider) {
+        if (collider.manager != null) {
+            throw new IllegalArgumentException("The collider already belongs to a collision manager.");
+        }
+
+        collider.manager = this;
         colliders.add(collider);
+
+        if (querying) {
+            pendingAdditions.add(collider);
+        } else {
+            collider.proxyId = broadPhase.createProxy(collider);
+        }
+    }
+
+    /**
+     * Removes the given collider, if it belongs to this collision manager.
+     *
+     * @param collider The collider to remove.
+     */
+    public void removeCollider(Collider collider) {
+        if (collider.manager != this) {
+            return;
+        }
+
+        colliders.remove(collider);
+        removeProxy(collider);
+
+        collider.proxyId = BroadPhase.NullProxy;
+        collider.manager = null;
+    }
+
+    /**
+     * Updates the broad phase to match the current bounds of the given collider.
+     *
+     * @param collider The collider whose bounds changed.
+     */
+    public void updateCollider(Collider collider) {
+        if (collider.manager != this || collider.proxyId == BroadPhase.NullProxy) {
+            return;
+        }
+
+        if (querying) {
+            pendingMoves.add(collider);
+        } else {
+            broadPhase.moveProxy(collider.proxyId);
+        }
+    }
+
+    /**
+     * Finds every pair of colliding colliders, passing each pair to the given callback.
+     * <p>
+     * This does not allocate -- as long as the given callback doesn't either.
+     * <p>
+     * The callback may add, move, and remove colliders. Those changes are applied to the broad phase once the query finishes -- see the
+     * {@link CollisionManager class documentation}. A collider removed by the callback is not reported in any later pair of the same
+     * query.
+     *
+     * @param callback The callback to receive each colliding pair.
+     * @return The amount of colliding pairs found.
+     */
+    public int findCollisions(CollisionCallback callback) {
+        if (querying) {
+            throw new IllegalStateException("Cannot find collisions from inside a collision callback.");
+        }
+
+        currentCallback = callback;
+        collisionCount = 0;
+        querying = true;
+
+        try {
+            broadPhase.queryPairs(narrowPhase);
+            return collisionCount;
+        } finally {
+            querying = false;
+            currentCallback = null;
+            applyPendingChanges();
+        }
     }
 
+    /** {@return whether any of the colliders in the collision manager collide} */
     public boolean checkCollisions() {
-        for (int i = 0; i < colliders.size(); i++) {
-            for (int j = i + 1; j < colliders.size(); j++) {
-                if (colliders.get(i).checkCollision(colliders.get(j))) {
-                    System.out.println("Collision detected between collider " + i + " and collider " + j);
-                    return true;
-                }
+        return findCollisions(null) > 0;
+    }
+
+    /** Removes all colliders from the collision manager. */
+    public void clear() {
+        if (querying) {
+            for (Collider collider : colliders) {
+                removeProxy(collider);
+            }
+            colliders.clear();
+            return;
+        }
+
+        for (Collider collider : colliders) {
+            collider.proxyId = BroadPhase.NullProxy;
+            collider.manager = null;
+        }
+
+        colliders.clear();
+        broadPhase.clear();
+    }
+
+    private void removeProxy(Collider collider) {
+        if (collider.proxyId == BroadPhase.NullProxy) {
+            // only queued for addition, so there is no proxy to destroy yet
+            pendingAdditions.remove(collider);
+        } else if (querying) {
+            if (pendingRemovalCount == pendingRemovals.length) {
+                pendingRemovals = Arrays.copyOf(pendingRemovals, pendingRemovalCount * 2);
+            }
+            pendingRemovals[pendingRemovalCount++] = collider.proxyId;
+        } else {
+            broadPhase.destroyProxy(collider.proxyId);
+        }
+
+        collider.proxyId = BroadPhase.NullProxy;
+        collider.manager = null;
+    }
+
+    private void applyPendingChanges() {
+        for (int i = 0; i < pendingRemovalCount; i++) {
+            broadPhase.destroyProxy(pendingRemovals[i]);
+        }
+        pendingRemovalCount = 0;
+
+        for (Collider collider : pendingMoves) {
+            if (collider.manager == this && collider.proxyId != BroadPhase.NullProxy) {
+                broadPhase.moveProxy(collider.proxyId);
             }
         }
-        return false;
+        pendingMoves.clear();
+
+        for (Collider collider : pendingAdditions) {
+            collider.proxyId = broadPhase.createProxy(collider);
+        }
+        pendingAdditions.clear();
+    }
+
+    private void checkPair(Collider first, Collider second) {
+        // colliders removed earlier in the same query keep their proxy until the query finishes
+        if (first.proxyId == BroadPhase.NullProxy || second.proxyId == BroadPhase.NullProxy) {
+            return;
+        }
+
+        if (!first.checkCollision(second)) {
+            return;
+        }
+
+        collisionCount++;
+        if (currentCallback != null) {
+            currentCallback.collision(first, second);
+        }
     }
 }
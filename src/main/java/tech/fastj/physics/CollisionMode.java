@@ -0,0 +1,24 @@
+package tech.fastj.physics;
+
+import java.awt.geom.Area;
+
+/**
+ * Determines how a {@code Drawable} checks whether it collides with another.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public enum CollisionMode {
+    /**
+     * Checks collision between the {@link ConvexDecomposition convex pieces} of each shape, through the {@link NarrowPhase narrow phase}.
+     * <p>
+     * Curves are approximated by line segments, and holes are treated as filled.
+     */
+    Convex,
+    /**
+     * Checks collision by intersecting the exact {@link Area areas} of each shape.
+     * <p>
+     * This handles curves and holes exactly, but is far more expensive and allocates on every check.
+     */
+    Exact
+}
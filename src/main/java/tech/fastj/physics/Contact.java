@@ -0,0 +1,77 @@
+package tech.fastj.physics;
+
+import tech.fastj.math.Pointf;
+
+/**
+ * The result of a collision check between two shapes: the direction and depth of their overlap.
+ * <p>
+ * The {@link #getNormal() normal} points from the first shape towards the second. Moving the second shape by {@code normal * depth} (or
+ * the first shape by the opposite) separates the two.
+ * <p>
+ * Contacts are mutable, and meant to be reused between collision checks.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class Contact {
+
+    private float normalX;
+    private float normalY;
+    private float depth;
+
+    /** {@return the x component of the contact normal} */
+    public float getNormalX() {
+        return normalX;
+    }
+
+    /** {@return the y component of the contact normal} */
+    public float getNormalY() {
+        return normalY;
+    }
+
+    /** {@return the contact normal, as a new {@link Pointf}} */
+    public Pointf getNormal() {
+        return new Pointf(normalX, normalY);
+    }
+
+    /** {@return the penetration depth along the contact normal} */
+    public float getDepth() {
+        return depth;
+    }
+
+    /**
+     * Sets the contact's values.
+     *
+     * @param normalX The x component of the contact normal.
+     * @param normalY The y component of the contact normal.
+     * @param depth   The penetration depth along the contact normal.
+     */
+    public void set(float normalX, float normalY, float depth) {
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.depth = depth;
+    }
+
+    /**
+     * Copies the values of the given contact.
+     *
+     * @param other The contact to copy.
+     */
+    public void set(Contact other) {
+        set(other.normalX, other.normalY, other.depth);
+    }
+
+    /** Resets the contact to a zero normal and depth. */
+    public void reset() {
+        set(0f, 0f, 0f);
+    }
+
+    @Override
+    public String toString() {
+        return "Contact{" +
+            "normalX=" + normalX +
+            ", normalY=" + normalY +
+            ", depth=" + depth +
+            '}';
+    }
+}
@@ -0,0 +1,503 @@
+package tech.fastj.physics;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A shape split into convex polygons, for use by the {@link NarrowPhase narrow phase}.
+ * <p>
+ * A decomposition is built once from an untransformed shape: curves are flattened into line segments, each closed sub-path which is
+ * already convex is kept as-is, and concave sub-paths are triangulated through ear clipping, with adjacent triangles then merged back
+ * together while the result stays convex (Hertel-Mehlhorn). Holes are treated as filled -- use {@link CollisionMode#Exact exact collision}
+ * for shapes where they matter.
+ * <p>
+ * The decomposition stores its vertices in local space, and keeps a second copy of them in world space which is updated in place through
+ * {@link #update(AffineTransform)}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class ConvexDecomposition {
+
+    /** The default maximum distance between a flattened curve and the original curve. */
+    public static final double DefaultFlatness = 0.5d;
+
+    /** An empty decomposition, with no pieces. */
+    public static final ConvexDecomposition Empty = new ConvexDecomposition(new float[0], new int[] {0});
+
+    private static final float Epsilon = 1e-6f;
+    private static final int MaxMergeVertexCount = 256;
+
+    private final float[] localVertices;
+    private final float[] worldVertices;
+    private final int[] pieceStarts;
+    private final float[] pieceBounds;
+
+    private ConvexDecomposition(float[] localVertices, int[] pieceStarts) {
+        this.localVertices = localVertices;
+        this.worldVertices = localVertices.clone();
+        this.pieceStarts = pieceStarts;
+        this.pieceBounds = new float[(pieceStarts.length - 1) * 4];
+        updatePieceBounds();
+    }
+
+    /**
+     * Decomposes the given shape, using the {@link #DefaultFlatness default flatness}.
+     *
+     * @param shape The shape to decompose.
+     * @return The decomposition of the shape.
+     */
+    public static ConvexDecomposition of(Shape shape) {
+        return of(shape, DefaultFlatness);
+    }
+
+    /**
+     * Decomposes the given shape.
+     *
+     * @param shape    The shape to decompose.
+     * @param flatness The maximum distance between a flattened curve and the original curve.
+     * @return The decomposition of the shape.
+     */
+    public static ConvexDecomposition of(Shape shape, double flatness) {
+        List<float[]> pieces = new ArrayList<>();
+        float[] polygon = new float[32];
+        int vertexCount = 0;
+        float[] segment = new float[6];
+
+        for (PathIterator iterator = shape.getPathIterator(null, flatness); !iterator.isDone(); iterator.next()) {
+            switch (iterator.currentSegment(segment)) {
+                case PathIterator.SEG_MOVETO -> {
+                    decomposePolygon(polygon, vertexCount, pieces);
+                    vertexCount = 0;
+                    polygon = addVertex(polygon, vertexCount++, segment[0], segment[1]);
+                }
+                case PathIterator.SEG_LINETO -> polygon = addVertex(polygon, vertexCount++, segment[0], segment[1]);
+                case PathIterator.SEG_CLOSE -> {
+                    decomposePolygon(polygon, vertexCount, pieces);
+                    vertexCount = 0;
+                }
+                default -> throw new IllegalStateException("Unexpected segment type in flattened path.");
+            }
+        }
+        decomposePolygon(polygon, vertexCount, pieces);
+
+        if (pieces.isEmpty()) {
+            return Empty;
+        }
+
+        int totalCoords = 0;
+        for (float[] piece : pieces) {
+            totalCoords += piece.length;
+        }
+
+        float[] vertices = new float[totalCoords];
+        int[] pieceStarts = new int[pieces.size() + 1];
+        int coord = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            float[] piece = pieces.get(i);
+            System.arraycopy(piece, 0, vertices, coord, piece.length);
+            coord += piece.length;
+            pieceStarts[i + 1] = coord / 2;
+        }
+
+        return new ConvexDecomposition(vertices, pieceStarts);
+    }
+
+    /**
+     * Creates a copy of the decomposition, sharing its local vertices but with its own world space vertices.
+     * <p>
+     * Copies let many transformed instances of one shape be checked for collision without decomposing the shape again.
+     *
+     * @return The copy.
+     */
+    public ConvexDecomposition copy() {
+        if (this == Empty) {
+            return Empty;
+        }
+        return new ConvexDecomposition(localVertices, pieceStarts);
+    }
+
+    /** {@return the amount of convex pieces in the decomposition} */
+    public int getPieceCount() {
+        return pieceStarts.length - 1;
+    }
+
+    /** {@return the total amount of vertices across all pieces} */
+    public int getVertexCount() {
+        return pieceStarts[pieceStarts.length - 1];
+    }
+
+    /**
+     * {@return the index of the first vertex of the given piece}
+     *
+     * @param piece The index of the piece.
+     */
+    public int getPieceStart(int piece) {
+        return pieceStarts[piece];
+    }
+
+    /**
+     * {@return the amount of vertices in the given piece}
+     *
+     * @param piece The index of the piece.
+     */
+    public int getPieceVertexCount(int piece) {
+        return pieceStarts[piece + 1] - pieceStarts[piece];
+    }
+
+    /**
+     * {@return the world space vertices of every piece, as interleaved x and y coordinates}
+     * <p>
+     * The returned array is owned by the decomposition, and must not be modified.
+     */
+    public float[] getVertices() {
+        return worldVertices;
+    }
+
+    /**
+     * {@return whether the world space bounding box of the given piece overlaps the given piece of another decomposition}
+     *
+     * @param piece      The index of the piece in this decomposition.
+     * @param other      The other decomposition.
+     * @param otherPiece The index of the piece in the other decomposition.
+     */
+    public boolean pieceBoundsOverlap(int piece, ConvexDecomposition other, int otherPiece) {
+        int bounds = piece * 4;
+        int otherBounds = otherPiece * 4;
+        return BroadPhase.overlaps(
+            pieceBounds[bounds], pieceBounds[bounds + 1], pieceBounds[bounds + 2], pieceBounds[bounds + 3],
+            other.pieceBounds[otherBounds], other.pieceBounds[otherBounds + 1], other.pieceBounds[otherBounds + 2], other.pieceBounds[otherBounds + 3]
+        );
+    }
+
+    /**
+     * Updates the world space vertices of the decomposition in place, by applying the given transform to its local vertices.
+     *
+     * @param transform The transform to apply.
+     */
+    public void update(AffineTransform transform) {
+        transform.transform(localVertices, 0, worldVertices, 0, getVertexCount());
+        updatePieceBounds();
+    }
+
+    private void updatePieceBounds() {
+        for (int piece = 0; piece < getPieceCount(); piece++) {
+            float minX = Float.POSITIVE_INFINITY;
+            float minY = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY;
+            float maxY = Float.NEGATIVE_INFINITY;
+
+            for (int vertex = pieceStarts[piece]; vertex < pieceStarts[piece + 1]; vertex++) {
+                float x = worldVertices[vertex * 2];
+                float y = worldVertices[vertex * 2 + 1];
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+
+            pieceBounds[piece * 4] = minX;
+            pieceBounds[piece * 4 + 1] = minY;
+            pieceBounds[piece * 4 + 2] = maxX;
+            pieceBounds[piece * 4 + 3] = maxY;
+        }
+    }
+
+    private static float[] addVertex(float[] polygon, int vertex, float x, float y) {
+        if (vertex * 2 + 2 > polygon.length) {
+            polygon = Arrays.copyOf(polygon, polygon.length * 2);
+        }
+
+        polygon[vertex * 2] = x;
+        polygon[vertex * 2 + 1] = y;
+        return polygon;
+    }
+
+    /** Cleans up the given polygon, and adds its convex pieces to the given list. */
+    private static void decomposePolygon(float[] polygon, int vertexCount, List<float[]> pieces) {
+        float[] cleaned = removeDegenerateVertices(polygon, vertexCount);
+        int count = cleaned.length / 2;
+        if (count < 3) {
+            return;
+        }
+
+        float area = signedArea(cleaned, count);
+        if (Math.abs(area) < Epsilon) {
+            return;
+        }
+        if (area < 0f) {
+            reverse(cleaned, count);
+        }
+
+        if (isConvex(cleaned, count)) {
+            pieces.add(cleaned);
+            return;
+        }
+
+        List<int[]> triangles = triangulate(cleaned, count, pieces);
+        if (count <= MaxMergeVertexCount) {
+            mergeConvexPieces(cleaned, triangles);
+        }
+
+        for (int[] loop : triangles) {
+            float[] piece = new float[loop.length * 2];
+            for (int i = 0; i < loop.length; i++) {
+                piece[i * 2] = cleaned[loop[i] * 2];
+                piece[i * 2 + 1] = cleaned[loop[i] * 2 + 1];
+            }
+            pieces.add(piece);
+        }
+    }
+
+    /** Removes repeated and collinear vertices, including a closing vertex which repeats the first. */
+    private static float[] removeDegenerateVertices(float[] polygon, int vertexCount) {
+        float[] result = new float[vertexCount * 2];
+        int count = 0;
+
+        for (int i = 0; i < vertexCount; i++) {
+            float x = polygon[i * 2];
+            float y = polygon[i * 2 + 1];
+            if (count > 0 && result[count * 2 - 2] == x && result[count * 2 - 1] == y) {
+                continue;
+            }
+
+            result[count * 2] = x;
+            result[count * 2 + 1] = y;
+            count++;
+        }
+
+        if (count > 1 && result[0] == result[count * 2 - 2] && result[1] == result[count * 2 - 1]) {
+            count--;
+        }
+
+        boolean removedVertex = true;
+        while (removedVertex && count >= 3) {
+            removedVertex = false;
+            for (int i = 0; i < count; i++) {
+                int previous = (i + count - 1) % count;
+                int next = (i + 1) % count;
+                if (Math.abs(cross(result, previous, i, next)) > Epsilon) {
+                    continue;
+                }
+
+                System.arraycopy(result, (i + 1) * 2, result, i * 2, (count - i - 1) * 2);
+                count--;
+                removedVertex = true;
+                break;
+            }
+        }
+
+        return Arrays.copyOf(result, count * 2);
+    }
+
+    /**
+     * Triangulates the given counter-clockwise polygon through ear clipping.
+     * <p>
+     * If the polygon is self-intersecting and no ear can be found, the convex hull of the remaining vertices is added to the given pieces
+     * instead.
+     */
+    private static List<int[]> triangulate(float[] polygon, int count, List<float[]> pieces) {
+        List<int[]> triangles = new ArrayList<>();
+        int[] remaining = new int[count];
+        for (int i = 0; i < count; i++) {
+            remaining[i] = i;
+        }
+
+        int remainingCount = count;
+        int current = 0;
+        int attempts = 0;
+        while (remainingCount > 3) {
+            if (attempts > remainingCount) {
+                pieces.add(convexHull(polygon, remaining, remainingCount));
+                return triangles;
+            }
+
+            int previousVertex = remaining[(current + remainingCount - 1) % remainingCount];
+            int currentVertex = remaining[current];
+            int nextVertex = remaining[(current + 1) % remainingCount];
+            float turn = cross(polygon, previousVertex, currentVertex, nextVertex);
+
+            if (Math.abs(turn) <= Epsilon || (turn > 0f && isEar(polygon, remaining, remainingCount, previousVertex, currentVertex, nextVertex))) {
+                if (turn > Epsilon) {
+                    triangles.add(new int[] {previousVertex, currentVertex, nextVertex});
+                }
+
+                System.arraycopy(remaining, current + 1, remaining, current, remainingCount - current - 1);
+                remainingCount--;
+                current %= remainingCount;
+                attempts = 0;
+            } else {
+                current = (current + 1) % remainingCount;
+                attempts++;
+            }
+        }
+
+        if (cross(polygon, remaining[0], remaining[1], remaining[2]) > Epsilon) {
+            triangles.add(new int[] {remaining[0], remaining[1], remaining[2]});
+        }
+        return triangles;
+    }
+
+    private static boolean isEar(float[] polygon, int[] remaining, int remainingCount, int previous, int current, int next) {
+        for (int i = 0; i < remainingCount; i++) {
+            int vertex = remaining[i];
+            if (vertex == previous || vertex == current || vertex == next) {
+                continue;
+            }
+
+            float x = polygon[vertex * 2];
+            float y = polygon[vertex * 2 + 1];
+            if ((x == polygon[previous * 2] && y == polygon[previous * 2 + 1])
+                || (x == polygon[current * 2] && y == polygon[current * 2 + 1])
+                || (x == polygon[next * 2] && y == polygon[next * 2 + 1])) {
+                continue;
+            }
+
+            if (cross(polygon, previous, current, vertex) >= 0f
+                && cross(polygon, current, next, vertex) >= 0f
+                && cross(polygon, next, previous, vertex) >= 0f) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** Greedily merges pieces which share an edge, as long as the merged piece stays convex. */
+    private static void mergeConvexPieces(float[] polygon, List<int[]> loops) {
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+
+            search:
+            for (int i = 0; i < loops.size(); i++) {
+                int[] first = loops.get(i);
+                for (int j = i + 1; j < loops.size(); j++) {
+                    int[] second = loops.get(j);
+                    int[] candidate = mergeAlongSharedEdge(first, second);
+                    if (candidate == null || !isConvex(polygon, candidate)) {
+                        continue;
+                    }
+
+                    loops.set(i, candidate);
+                    loops.remove(j);
+                    merged = true;
+                    break search;
+                }
+            }
+        }
+    }
+
+    /** Joins two counter-clockwise loops sharing an edge into one loop, or returns {@code null} if they don't share an edge. */
+    private static int[] mergeAlongSharedEdge(int[] first, int[] second) {
+        for (int i = 0; i < first.length; i++) {
+            int from = first[i];
+            int to = first[(i + 1) % first.length];
+
+            for (int j = 0; j < second.length; j++) {
+                if (second[j] != to || second[(j + 1) % second.length] != from) {
+                    continue;
+                }
+
+                int[] result = new int[first.length + second.length - 2];
+                int count = 0;
+                // all of the first loop, starting at the end of the shared edge and ending at its start
+                for (int k = 0; k < first.length; k++) {
+                    result[count++] = first[(i + 1 + k) % first.length];
+                }
+                // the rest of the second loop, between the start and end of the shared edge
+                for (int k = 2; k < second.length; k++) {
+                    result[count++] = second[(j + k) % second.length];
+                }
+                return result;
+            }
+        }
+
+        return null;
+    }
+
+    private static float[] convexHull(float[] polygon, int[] remaining, int remainingCount) {
+        Integer[] order = new Integer[remainingCount];
+        for (int i = 0; i < remainingCount; i++) {
+            order[i] = remaining[i];
+        }
+        Arrays.sort(order, (a, b) -> polygon[a * 2] != polygon[b * 2]
+            ? Float.compare(polygon[a * 2], polygon[b * 2])
+            : Float.compare(polygon[a * 2 + 1], polygon[b * 2 + 1])
+        );
+
+        int[] hull = new int[remainingCount * 2];
+        int count = 0;
+        for (int i = 0; i < remainingCount; i++) {
+            while (count >= 2 && cross(polygon, hull[count - 2], hull[count - 1], order[i]) <= 0f) {
+                count--;
+            }
+            hull[count++] = order[i];
+        }
+        for (int i = remainingCount - 2, lowerCount = count + 1; i >= 0; i--) {
+            while (count >= lowerCount && cross(polygon, hull[count - 2], hull[count - 1], order[i]) <= 0f) {
+                count--;
+            }
+            hull[count++] = order[i];
+        }
+        count--;
+
+        float[] result = new float[count * 2];
+        for (int i = 0; i < count; i++) {
+            result[i * 2] = polygon[hull[i] * 2];
+            result[i * 2 + 1] = polygon[hull[i] * 2 + 1];
+        }
+        return result;
+    }
+
+    private static boolean isConvex(float[] polygon, int count) {
+        for (int i = 0; i < count; i++) {
+            if (cross(polygon, i, (i + 1) % count, (i + 2) % count) < -Epsilon) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConvex(float[] polygon, int[] loop) {
+        for (int i = 0; i < loop.length; i++) {
+            if (cross(polygon, loop[i], loop[(i + 1) % loop.length], loop[(i + 2) % loop.length]) < -Epsilon) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static float signedArea(float[] polygon, int count) {
+        float area = 0f;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            area += polygon[i * 2] * polygon[next * 2 + 1] - polygon[next * 2] * polygon[i * 2 + 1];
+        }
+        return area / 2f;
+    }
+
+    private static void reverse(float[] polygon, int count) {
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            float x = polygon[i * 2];
+            float y = polygon[i * 2 + 1];
+            polygon[i * 2] = polygon[j * 2];
+            polygon[i * 2 + 1] = polygon[j * 2 + 1];
+            polygon[j * 2] = x;
+            polygon[j * 2 + 1] = y;
+        }
+    }
+
+    /** {@return the cross product of {@code (b - a)} and {@code (c - b)}, positive for a counter-clockwise turn} */
+    private static float cross(float[] polygon, int a, int b, int c) {
+        float abX = polygon[b * 2] - polygon[a * 2];
+        float abY = polygon[b * 2 + 1] - polygon[a * 2 + 1];
+        float bcX = polygon[c * 2] - polygon[b * 2];
+        float bcY = polygon[c * 2 + 1] - polygon[b * 2 + 1];
+        return abX * bcY - abY * bcX;
+    }
+}
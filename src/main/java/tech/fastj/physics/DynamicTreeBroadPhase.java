@@ -0,0 +1,444 @@
+package tech.fastj.physics;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+/**
+ * {@link BroadPhase Broad phase} backed by a dynamic bounding volume hierarchy of axis-aligned boxes.
+ * <p>
+ * Each collider is stored in a leaf whose box is "fattened" by a {@link #getMargin() margin}. As long as a collider stays inside its fat
+ * box, moving it costs nothing; once it leaves, only its leaf is removed and reinserted. The tree is kept balanced through rotations, so
+ * queries stay logarithmic regardless of how colliders are added or moved.
+ * <p>
+ * Unlike the {@link UniformGridBroadPhase uniform grid}, the tree needs no world bounds and copes well with colliders of very different
+ * sizes.
+ * <p>
+ * Nodes are stored in flat arrays and recycled through a free list, so steady-state updates and queries do not allocate.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class DynamicTreeBroadPhase implements BroadPhase {
+
+    /** The default margin that leaf boxes are fattened by. */
+    public static final float DefaultMargin = 4f;
+
+    private static final int InitialNodeCapacity = 16;
+    private static final int InitialStackCapacity = 64;
+
+    private final float margin;
+
+    private float[] minX;
+    private float[] minY;
+    private float[] maxX;
+    private float[] maxY;
+    private int[] parent;
+    private int[] child1;
+    private int[] child2;
+    private int[] height;
+    private Collider[] colliders;
+
+    private int nodeCapacity;
+    private int freeList;
+    private int root;
+    private int proxyCount;
+
+    private int[] stack;
+
+    /** Creates a dynamic tree with the {@link #DefaultMargin default margin}. */
+    public DynamicTreeBroadPhase() {
+        this(DefaultMargin);
+    }
+
+    /**
+     * Creates a dynamic tree with the given margin.
+     *
+     * @param margin The amount to fatten each collider's box by. Larger margins mean fewer tree updates for moving colliders, at the cost of
+     *               more candidate pairs to check.
+     */
+    public DynamicTreeBroadPhase(float margin) {
+        if (margin < 0f) {
+            throw new IllegalArgumentException("Margin must not be negative.");
+        }
+
+        this.margin = margin;
+
+        nodeCapacity = InitialNodeCapacity;
+        minX = new float[nodeCapacity];
+        minY = new float[nodeCapacity];
+        maxX = new float[nodeCapacity];
+        maxY = new float[nodeCapacity];
+        parent = new int[nodeCapacity];
+        child1 = new int[nodeCapacity];
+        child2 = new int[nodeCapacity];
+        height = new int[nodeCapacity];
+        colliders = new Collider[nodeCapacity];
+        linkFreeNodes(0);
+
+        root = NullProxy;
+        stack = new int[InitialStackCapacity];
+    }
+
+    /** {@return the margin that leaf boxes are fattened by} */
+    public float getMargin() {
+        return margin;
+    }
+
+    /** {@return the height of the tree, or {@code 0} if the tree is empty} */
+    public int getHeight() {
+        return root == NullProxy ? 0 : height[root];
+    }
+
+    @Override
+    public int createProxy(Collider collider) {
+        int proxyId = allocateNode();
+        colliders[proxyId] = collider;
+        setFatBounds(proxyId, collider.getBounds());
+
+        insertLeaf(proxyId);
+        proxyCount++;
+
+        return proxyId;
+    }
+
+    @Override
+    public void destroyProxy(int proxyId) {
+        removeLeaf(proxyId);
+        freeNode(proxyId);
+        proxyCount--;
+    }
+
+    @Override
+    public void moveProxy(int proxyId) {
+        Rectangle2D bounds = colliders[proxyId].getBounds();
+        if (minX[proxyId] <= bounds.getMinX() && minY[proxyId] <= bounds.getMinY()
+            && maxX[proxyId] >= bounds.getMaxX() && maxY[proxyId] >= bounds.getMaxY()) {
+            return;
+        }
+
+        removeLeaf(proxyId);
+        setFatBounds(proxyId, bounds);
+        insertLeaf(proxyId);
+    }
+
+    @Override
+    public void queryPairs(CollisionCallback callback) {
+        if (root == NullProxy) {
+            return;
+        }
+
+        for (int proxyId = 0; proxyId < nodeCapacity; proxyId++) {
+            Collider collider = colliders[proxyId];
+            if (collider == null) {
+                continue;
+            }
+
+            Rectangle2D bounds = collider.getBounds();
+            double boundsMinX = bounds.getMinX();
+            double boundsMinY = bounds.getMinY();
+            double boundsMaxX = bounds.getMaxX();
+            double boundsMaxY = bounds.getMaxY();
+
+            int top = 0;
+            stack[top++] = root;
+
+            while (top > 0) {
+                int node = stack[--top];
+                if (!BroadPhase.overlaps(minX[node], minY[node], maxX[node], maxY[node], boundsMinX, boundsMinY, boundsMaxX, boundsMaxY)) {
+                    continue;
+                }
+
+                if (isLeaf(node)) {
+                    // only report each pair from its lower proxy id
+                    if (node <= proxyId) {
+                        continue;
+                    }
+
+                    Rectangle2D otherBounds = colliders[node].getBounds();
+                    if (BroadPhase.overlaps(
+                        boundsMinX, boundsMinY, boundsMaxX, boundsMaxY,
+                        otherBounds.getMinX(), otherBounds.getMinY(), otherBounds.getMaxX(), otherBounds.getMaxY()
+                    )) {
+                        callback.collision(collider, colliders[node]);
+                    }
+                } else {
+                    if (top + 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = child1[node];
+                    stack[top++] = child2[node];
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getProxyCount() {
+        return proxyCount;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(colliders, null);
+        root = NullProxy;
+        proxyCount = 0;
+        linkFreeNodes(0);
+    }
+
+    private boolean isLeaf(int node) {
+        return child1[node] == NullProxy;
+    }
+
+    private void setFatBounds(int node, Rectangle2D bounds) {
+        minX[node] = (float) bounds.getMinX() - margin;
+        minY[node] = (float) bounds.getMinY() - margin;
+        maxX[node] = (float) bounds.getMaxX() + margin;
+        maxY[node] = (float) bounds.getMaxY() + margin;
+    }
+
+    private void setUnionBounds(int node, int first, int second) {
+        minX[node] = Math.min(minX[first], minX[second]);
+        minY[node] = Math.min(minY[first], minY[second]);
+        maxX[node] = Math.max(maxX[first], maxX[second]);
+        maxY[node] = Math.max(maxY[first], maxY[second]);
+    }
+
+    private float perimeter(int node) {
+        return 2f * ((maxX[node] - minX[node]) + (maxY[node] - minY[node]));
+    }
+
+    private float unionPerimeter(int first, int second) {
+        float width = Math.max(maxX[first], maxX[second]) - Math.min(minX[first], minX[second]);
+        float height = Math.max(maxY[first], maxY[second]) - Math.min(minY[first], minY[second]);
+        return 2f * (width + height);
+    }
+
+    private void insertLeaf(int leaf) {
+        if (root == NullProxy) {
+            root = leaf;
+            parent[root] = NullProxy;
+            return;
+        }
+
+        // find the best sibling, using the surface area heuristic (perimeter, in 2D)
+        int index = root;
+        while (!isLeaf(index)) {
+            int first = child1[index];
+            int second = child2[index];
+
+            float area = perimeter(index);
+            float combinedArea = unionPerimeter(index, leaf);
+
+            float cost = 2f * combinedArea;
+            float inheritanceCost = 2f * (combinedArea - area);
+
+            float firstCost = unionPerimeter(first, leaf) + inheritanceCost - (isLeaf(first) ? 0f : perimeter(first));
+            float secondCost = unionPerimeter(second, leaf) + inheritanceCost - (isLeaf(second) ? 0f : perimeter(second));
+
+            if (cost < firstCost && cost < secondCost) {
+                break;
+            }
+
+            index = firstCost < secondCost ? first : second;
+        }
+
+        int sibling = index;
+        int oldParent = parent[sibling];
+        int newParent = allocateNode();
+
+        parent[newParent] = oldParent;
+        setUnionBounds(newParent, leaf, sibling);
+        height[newParent] = height[sibling] + 1;
+
+        if (oldParent != NullProxy) {
+            if (child1[oldParent] == sibling) {
+                child1[oldParent] = newParent;
+            } else {
+                child2[oldParent] = newParent;
+            }
+        } else {
+            root = newParent;
+        }
+
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+
+        refit(parent[leaf]);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NullProxy;
+            return;
+        }
+
+        int leafParent = parent[leaf];
+        int grandParent = parent[leafParent];
+        int sibling = child1[leafParent] == leaf ? child2[leafParent] : child1[leafParent];
+
+        if (grandParent != NullProxy) {
+            if (child1[grandParent] == leafParent) {
+                child1[grandParent] = sibling;
+            } else {
+                child2[grandParent] = sibling;
+            }
+            parent[sibling] = grandParent;
+            freeNode(leafParent);
+
+            refit(grandParent);
+        } else {
+            root = sibling;
+            parent[sibling] = NullProxy;
+            freeNode(leafParent);
+        }
+    }
+
+    /** Walks from the given node to the root, balancing and refitting each ancestor. */
+    private void refit(int node) {
+        int index = node;
+        while (index != NullProxy) {
+            index = balance(index);
+
+            int first = child1[index];
+            int second = child2[index];
+            height[index] = 1 + Math.max(height[first], height[second]);
+            setUnionBounds(index, first, second);
+
+            index = parent[index];
+        }
+    }
+
+    /** Performs a left or right rotation if the given node is imbalanced, returning the new root of its subtree. */
+    private int balance(int a) {
+        if (isLeaf(a) || height[a] < 2) {
+            return a;
+        }
+
+        int b = child1[a];
+        int c = child2[a];
+        int balance = height[c] - height[b];
+
+        if (balance > 1) {
+            // rotate c up
+            int f = child1[c];
+            int g = child2[c];
+
+            child1[c] = a;
+            parent[c] = parent[a];
+            parent[a] = c;
+            replaceChild(parent[c], a, c);
+
+            if (height[f] > height[g]) {
+                child2[c] = f;
+                child2[a] = g;
+                parent[g] = a;
+                setUnionBounds(a, b, g);
+                setUnionBounds(c, a, f);
+                height[a] = 1 + Math.max(height[b], height[g]);
+                height[c] = 1 + Math.max(height[a], height[f]);
+            } else {
+                child2[c] = g;
+                child2[a] = f;
+                parent[f] = a;
+                setUnionBounds(a, b, f);
+                setUnionBounds(c, a, g);
+                height[a] = 1 + Math.max(height[b], height[f]);
+                height[c] = 1 + Math.max(height[a], height[g]);
+            }
+
+            return c;
+        }
+
+        if (balance < -1) {
+            // rotate b up
+            int d = child1[b];
+            int e = child2[b];
+
+            child1[b] = a;
+            parent[b] = parent[a];
+            parent[a] = b;
+            replaceChild(parent[b], a, b);
+
+            if (height[d] > height[e]) {
+                child2[b] = d;
+                child1[a] = e;
+                parent[e] = a;
+                setUnionBounds(a, c, e);
+                setUnionBounds(b, a, d);
+                height[a] = 1 + Math.max(height[c], height[e]);
+                height[b] = 1 + Math.max(height[a], height[d]);
+            } else {
+                child2[b] = e;
+                child1[a] = d;
+                parent[d] = a;
+                setUnionBounds(a, c, d);
+                setUnionBounds(b, a, e);
+                height[a] = 1 + Math.max(height[c], height[d]);
+                height[b] = 1 + Math.max(height[a], height[e]);
+            }
+
+            return b;
+        }
+
+        return a;
+    }
+
+    private void replaceChild(int node, int oldChild, int newChild) {
+        if (node == NullProxy) {
+            root = newChild;
+        } else if (child1[node] == oldChild) {
+            child1[node] = newChild;
+        } else {
+            child2[node] = newChild;
+        }
+    }
+
+    private int allocateNode() {
+        if (freeList == NullProxy) {
+            growNodes();
+        }
+
+        int node = freeList;
+        freeList = parent[node];
+
+        parent[node] = NullProxy;
+        child1[node] = NullProxy;
+        child2[node] = NullProxy;
+        height[node] = 0;
+        colliders[node] = null;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        colliders[node] = null;
+        height[node] = -1;
+        parent[node] = freeList;
+        freeList = node;
+    }
+
+    private void growNodes() {
+        int oldCapacity = nodeCapacity;
+        nodeCapacity *= 2;
+
+        minX = Arrays.copyOf(minX, nodeCapacity);
+        minY = Arrays.copyOf(minY, nodeCapacity);
+        maxX = Arrays.copyOf(maxX, nodeCapacity);
+        maxY = Arrays.copyOf(maxY, nodeCapacity);
+        parent = Arrays.copyOf(parent, nodeCapacity);
+        child1 = Arrays.copyOf(child1, nodeCapacity);
+        child2 = Arrays.copyOf(child2, nodeCapacity);
+        height = Arrays.copyOf(height, nodeCapacity);
+        colliders = Arrays.copyOf(colliders, nodeCapacity);
+        linkFreeNodes(oldCapacity);
+    }
+
+    private void linkFreeNodes(int start) {
+        for (int i = start; i < nodeCapacity; i++) {
+            parent[i] = i + 1 < nodeCapacity ? i + 1 : NullProxy;
+            height[i] = -1;
+        }
+        freeList = start;
+    }
+}
@@ -0,0 +1,400 @@
+package tech.fastj.physics;
+
+import java.util.Arrays;
+
+/**
+ * Exact collision checks between convex polygons, finding whether they overlap and -- optionally -- their {@link Contact contact}.
+ * <p>
+ * Two algorithms are provided:
+ * <ul>
+ *     <li>
+ *         {@link #intersectSat(float[], int, int, float[], int, int, Contact) The separating axis theorem (SAT)}, which tests every edge
+ *         normal of both polygons. It finds the contact for free, and is fastest for polygons with few edges.
+ *     </li>
+ *     <li>
+ *         {@link #intersectGjk(float[], int, int, float[], int, int, Contact) GJK}, which only walks the polygons' support points, followed
+ *         by EPA to find the contact. It scales better to polygons with many edges.
+ *     </li>
+ * </ul>
+ * {@link #collides(ConvexDecomposition, ConvexDecomposition, Contact)} picks between the two for each pair of convex pieces.
+ * <p>
+ * Polygons are given as interleaved x and y coordinates, through a starting vertex index and a vertex count. The narrow phase keeps its
+ * working memory between checks so that checks don't allocate, which also means a single instance is not thread-safe -- use
+ * {@link #forCurrentThread()} to get an instance for the current thread.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class NarrowPhase {
+
+    /** Pairs of polygons with at most this many vertices combined are checked through SAT, rather than GJK. */
+    public static final int SatVertexLimit = 16;
+
+    private static final int MaxGjkIterations = 32;
+    private static final int MaxEpaIterations = 32;
+    private static final float EpaTolerance = 1e-4f;
+
+    private static final ThreadLocal<NarrowPhase> ThreadNarrowPhase = ThreadLocal.withInitial(NarrowPhase::new);
+
+    private final Contact pieceContact = new Contact();
+    private final float[] simplexX = new float[3];
+    private final float[] simplexY = new float[3];
+    private int simplexCount;
+    private float directionX;
+    private float directionY;
+    private float supportX;
+    private float supportY;
+
+    private float[] polytopeX = new float[16];
+    private float[] polytopeY = new float[16];
+
+    /** {@return a narrow phase instance owned by the current thread} */
+    public static NarrowPhase forCurrentThread() {
+        return ThreadNarrowPhase.get();
+    }
+
+    /**
+     * Checks whether any convex piece of the first decomposition overlaps any convex piece of the second.
+     * <p>
+     * If a contact is given, every pair of overlapping pieces is checked, and the contact is set to the deepest overlap found -- or
+     * {@link Contact#reset() reset}, if there is none. Otherwise, checking stops at the first overlap.
+     *
+     * @param first   The first decomposition.
+     * @param second  The second decomposition.
+     * @param contact The contact to store the result in, or {@code null} if only whether the two overlap is needed.
+     * @return Whether the two decompositions overlap.
+     */
+    public boolean collides(ConvexDecomposition first, ConvexDecomposition second, Contact contact) {
+        float[] firstVertices = first.getVertices();
+        float[] secondVertices = second.getVertices();
+        Contact target = contact == null ? null : pieceContact;
+        boolean collides = false;
+
+        for (int firstPiece = 0; firstPiece < first.getPieceCount(); firstPiece++) {
+            int firstStart = first.getPieceStart(firstPiece);
+            int firstCount = first.getPieceVertexCount(firstPiece);
+
+            for (int secondPiece = 0; secondPiece < second.getPieceCount(); secondPiece++) {
+                if (!first.pieceBoundsOverlap(firstPiece, second, secondPiece)) {
+                    continue;
+                }
+
+                int secondStart = second.getPieceStart(secondPiece);
+                int secondCount = second.getPieceVertexCount(secondPiece);
+                boolean piecesCollide = firstCount + secondCount <= SatVertexLimit
+                    ? intersectSat(firstVertices, firstStart, firstCount, secondVertices, secondStart, secondCount, target)
+                    : intersectGjk(firstVertices, firstStart, firstCount, secondVertices, secondStart, secondCount, target);
+
+                if (!piecesCollide) {
+                    continue;
+                }
+                if (contact == null) {
+                    return true;
+                }
+
+                if (!collides || pieceContact.getDepth() > contact.getDepth()) {
+                    contact.set(pieceContact);
+                }
+                collides = true;
+            }
+        }
+
+        if (!collides && contact != null) {
+            contact.reset();
+        }
+        return collides;
+    }
+
+    /**
+     * Checks whether two convex polygons overlap, using the separating axis theorem.
+     *
+     * @param first        The vertices of the first polygon.
+     * @param firstStart   The index of the first vertex of the first polygon.
+     * @param firstCount   The amount of vertices in the first polygon.
+     * @param second       The vertices of the second polygon.
+     * @param secondStart  The index of the first vertex of the second polygon.
+     * @param secondCount  The amount of vertices in the second polygon.
+     * @param contact      The contact to store the result in, or {@code null} if only whether the two overlap is needed.
+     * @return Whether the two polygons overlap.
+     */
+    public boolean intersectSat(float[] first, int firstStart, int firstCount, float[] second, int secondStart, int secondCount, Contact contact) {
+        float bestDepth = Float.POSITIVE_INFINITY;
+        float bestNormalX = 0f;
+        float bestNormalY = 0f;
+
+        for (int polygon = 0; polygon < 2; polygon++) {
+            float[] vertices = polygon == 0 ? first : second;
+            int start = polygon == 0 ? firstStart : secondStart;
+            int count = polygon == 0 ? firstCount : secondCount;
+
+            for (int i = 0; i < count; i++) {
+                int current = (start + i) * 2;
+                int next = (start + (i + 1) % count) * 2;
+                float axisX = vertices[current + 1] - vertices[next + 1];
+                float axisY = vertices[next] - vertices[current];
+                float length = (float) Math.sqrt(axisX * axisX + axisY * axisY);
+                if (length == 0f) {
+                    continue;
+                }
+                axisX /= length;
+                axisY /= length;
+
+                float firstMin = Float.POSITIVE_INFINITY;
+                float firstMax = Float.NEGATIVE_INFINITY;
+                for (int vertex = firstStart; vertex < firstStart + firstCount; vertex++) {
+                    float projection = first[vertex * 2] * axisX + first[vertex * 2 + 1] * axisY;
+                    firstMin = Math.min(firstMin, projection);
+                    firstMax = Math.max(firstMax, projection);
+                }
+
+                float secondMin = Float.POSITIVE_INFINITY;
+                float secondMax = Float.NEGATIVE_INFINITY;
+                for (int vertex = secondStart; vertex < secondStart + secondCount; vertex++) {
+                    float projection = second[vertex * 2] * axisX + second[vertex * 2 + 1] * axisY;
+                    secondMin = Math.min(secondMin, projection);
+                    secondMax = Math.max(secondMax, projection);
+                }
+
+                float forwardDepth = firstMax - secondMin;
+                float backwardDepth = secondMax - firstMin;
+                if (forwardDepth <= 0f || backwardDepth <= 0f) {
+                    return false;
+                }
+
+                float depth = Math.min(forwardDepth, backwardDepth);
+                if (depth < bestDepth) {
+                    bestDepth = depth;
+                    // the normal points from the first polygon towards the second
+                    float sign = forwardDepth < backwardDepth ? 1f : -1f;
+                    bestNormalX = axisX * sign;
+                    bestNormalY = axisY * sign;
+                }
+            }
+        }
+
+        if (bestDepth == Float.POSITIVE_INFINITY) {
+            return false;
+        }
+
+        if (contact != null) {
+            contact.set(bestNormalX, bestNormalY, bestDepth);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether two convex polygons overlap, using GJK -- followed by EPA to find the contact, if one is requested.
+     *
+     * @param first        The vertices of the first polygon.
+     * @param firstStart   The index of the first vertex of the first polygon.
+     * @param firstCount   The amount of vertices in the first polygon.
+     * @param second       The vertices of the second polygon.
+     * @param secondStart  The index of the first vertex of the second polygon.
+     * @param secondCount  The amount of vertices in the second polygon.
+     * @param contact      The contact to store the result in, or {@code null} if only whether the two overlap is needed.
+     * @return Whether the two polygons overlap.
+     */
+    public boolean intersectGjk(float[] first, int firstStart, int firstCount, float[] second, int secondStart, int secondCount, Contact contact) {
+        if (firstCount == 0 || secondCount == 0) {
+            return false;
+        }
+
+        if (!gjk(first, firstStart, firstCount, second, secondStart, secondCount)) {
+            return false;
+        }
+
+        if (contact != null) {
+            epa(first, firstStart, firstCount, second, secondStart, secondCount, contact);
+        }
+        return true;
+    }
+
+    /** Runs GJK on the Minkowski difference {@code first - second}, leaving a triangle around the origin in the simplex on success. */
+    private boolean gjk(float[] first, int firstStart, int firstCount, float[] second, int secondStart, int secondCount) {
+        directionX = second[secondStart * 2] - first[firstStart * 2];
+        directionY = second[secondStart * 2 + 1] - first[firstStart * 2 + 1];
+        if (directionX == 0f && directionY == 0f) {
+            directionX = 1f;
+        }
+
+        support(first, firstStart, firstCount, second, secondStart, secondCount, directionX, directionY);
+        simplexX[0] = supportX;
+        simplexY[0] = supportY;
+        simplexCount = 1;
+        directionX = -supportX;
+        directionY = -supportY;
+
+        for (int iteration = 0; iteration < MaxGjkIterations; iteration++) {
+            if (directionX == 0f && directionY == 0f) {
+                // the origin lies exactly on a vertex of the minkowski difference -- the polygons only touch
+                return false;
+            }
+
+            support(first, firstStart, firstCount, second, secondStart, secondCount, directionX, directionY);
+            if (supportX * directionX + supportY * directionY <= 0f) {
+                return false;
+            }
+
+            simplexX[simplexCount] = supportX;
+            simplexY[simplexCount] = supportY;
+            simplexCount++;
+
+            if (updateSimplex()) {
+                return true;
+            }
+        }
+
+        // out of iterations -- the simplex is as close to the origin as floating point allows
+        return simplexCount == 3;
+    }
+
+    /** Reduces the simplex to the feature closest to the origin, and updates the search direction. Returns whether it contains the origin. */
+    private boolean updateSimplex() {
+        int newest = simplexCount - 1;
+        float aX = simplexX[newest];
+        float aY = simplexY[newest];
+
+        if (simplexCount == 2) {
+            float abX = simplexX[0] - aX;
+            float abY = simplexY[0] - aY;
+            directionX = -abY;
+            directionY = abX;
+            if (directionX * -aX + directionY * -aY < 0f) {
+                directionX = -directionX;
+                directionY = -directionY;
+            }
+            return false;
+        }
+
+        float abX = simplexX[1] - aX;
+        float abY = simplexY[1] - aY;
+        float acX = simplexX[0] - aX;
+        float acY = simplexY[0] - aY;
+
+        // normal of ab, facing away from c
+        float abNormalX = -abY;
+        float abNormalY = abX;
+        if (abNormalX * acX + abNormalY * acY > 0f) {
+            abNormalX = -abNormalX;
+            abNormalY = -abNormalY;
+        }
+        if (abNormalX * -aX + abNormalY * -aY > 0f) {
+            simplexX[0] = simplexX[1];
+            simplexY[0] = simplexY[1];
+            simplexX[1] = aX;
+            simplexY[1] = aY;
+            simplexCount = 2;
+            directionX = abNormalX;
+            directionY = abNormalY;
+            return false;
+        }
+
+        // normal of ac, facing away from b
+        float acNormalX = -acY;
+        float acNormalY = acX;
+        if (acNormalX * abX + acNormalY * abY > 0f) {
+            acNormalX = -acNormalX;
+            acNormalY = -acNormalY;
+        }
+        if (acNormalX * -aX + acNormalY * -aY > 0f) {
+            simplexX[1] = aX;
+            simplexY[1] = aY;
+            simplexCount = 2;
+            directionX = acNormalX;
+            directionY = acNormalY;
+            return false;
+        }
+
+        return true;
+    }
+
+    /** Expands the GJK simplex into the polytope edge closest to the origin, giving the penetration depth and normal. */
+    private void epa(float[] first, int firstStart, int firstCount, float[] second, int secondStart, int secondCount, Contact contact) {
+        polytopeX[0] = simplexX[0];
+        polytopeY[0] = simplexY[0];
+        // keep the polytope counter-clockwise, so edge normals face outwards
+        float winding = (simplexX[1] - simplexX[0]) * (simplexY[2] - simplexY[0]) - (simplexY[1] - simplexY[0]) * (simplexX[2] - simplexX[0]);
+        int middle = winding >= 0f ? 1 : 2;
+        int last = 3 - middle;
+        polytopeX[1] = simplexX[middle];
+        polytopeY[1] = simplexY[middle];
+        polytopeX[2] = simplexX[last];
+        polytopeY[2] = simplexY[last];
+        int polytopeCount = 3;
+
+        float closestNormalX = 0f;
+        float closestNormalY = 0f;
+        float closestDistance = 0f;
+
+        for (int iteration = 0; iteration < MaxEpaIterations; iteration++) {
+            int closestEdge = -1;
+            closestDistance = Float.POSITIVE_INFINITY;
+
+            for (int i = 0; i < polytopeCount; i++) {
+                int next = (i + 1) % polytopeCount;
+                float normalX = polytopeY[next] - polytopeY[i];
+                float normalY = polytopeX[i] - polytopeX[next];
+                float length = (float) Math.sqrt(normalX * normalX + normalY * normalY);
+                if (length == 0f) {
+                    continue;
+                }
+                normalX /= length;
+                normalY /= length;
+
+                float distance = normalX * polytopeX[i] + normalY * polytopeY[i];
+                if (distance < closestDistance) {
+                    closestDistance = distance;
+                    closestNormalX = normalX;
+                    closestNormalY = normalY;
+                    closestEdge = i;
+                }
+            }
+
+            if (closestEdge == -1) {
+                break;
+            }
+
+            support(first, firstStart, firstCount, second, secondStart, secondCount, closestNormalX, closestNormalY);
+            float supportDistance = supportX * closestNormalX + supportY * closestNormalY;
+            if (supportDistance - closestDistance < EpaTolerance) {
+                break;
+            }
+
+            if (polytopeCount == polytopeX.length) {
+                polytopeX = Arrays.copyOf(polytopeX, polytopeCount * 2);
+                polytopeY = Arrays.copyOf(polytopeY, polytopeCount * 2);
+            }
+
+            int insertAt = closestEdge + 1;
+            System.arraycopy(polytopeX, insertAt, polytopeX, insertAt + 1, polytopeCount - insertAt);
+            System.arraycopy(polytopeY, insertAt, polytopeY, insertAt + 1, polytopeCount - insertAt);
+            polytopeX[insertAt] = supportX;
+            polytopeY[insertAt] = supportY;
+            polytopeCount++;
+        }
+
+        // the closest edge of first - second faces the direction the second polygon must move in to separate the two
+        contact.set(closestNormalX, closestNormalY, Math.max(0f, closestDistance));
+    }
+
+    /** Finds the support point of the Minkowski difference {@code first - second} in the given direction. */
+    private void support(float[] first, int firstStart, int firstCount, float[] second, int secondStart, int secondCount, float dirX, float dirY) {
+        int firstVertex = furthestVertex(first, firstStart, firstCount, dirX, dirY);
+        int secondVertex = furthestVertex(second, secondStart, secondCount, -dirX, -dirY);
+        supportX = first[firstVertex * 2] - second[secondVertex * 2];
+        supportY = first[firstVertex * 2 + 1] - second[secondVertex * 2 + 1];
+    }
+
+    private static int furthestVertex(float[] vertices, int start, int count, float dirX, float dirY) {
+        int furthest = start;
+        float furthestDistance = Float.NEGATIVE_INFINITY;
+        for (int vertex = start; vertex < start + count; vertex++) {
+            float distance = vertices[vertex * 2] * dirX + vertices[vertex * 2 + 1] * dirY;
+            if (distance > furthestDistance) {
+                furthestDistance = distance;
+                furthest = vertex;
+            }
+        }
+        return furthest;
+    }
+}
@@ -2,20 +2,61 @@ package tech.fastj.physics;
 
 import java.awt.geom.Rectangle2D;
 
-
+/**
+ * A {@link Collider collider} in the shape of an axis-aligned rectangle.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
 public class RectangleCollider extends Collider {
+
     private final Rectangle2D shape;
 
+    /**
+     * Creates a rectangle collider from the given shape.
+     * <p>
+     * If the shape is modified directly after creation, {@link CollisionManager#updateCollider(Collider)} must be called for the change to
+     * be picked up. Prefer {@link #setShape(double, double, double, double)} and {@link #translate(double, double)}, which do this
+     * automatically.
+     *
+     * @param shape The rectangle defining the collider.
+     */
     public RectangleCollider(Rectangle2D shape) {
         this.shape = shape;
     }
 
     @Override
-    public boolean checkCollision(Collider other) {
-        if (other instanceof RectangleCollider) {
-            RectangleCollider otherRectangle = (RectangleCollider) other;
+    public Rectangle2D getBounds() {
+        return shape;
+    }
+
+    /**
+     * Sets the location and size of the collider.
+     *
+     * @param x      The new x location.
+     * @param y      The new y location.
+     * @param width  The new width.
+     * @param height The new height.
+     */
+    public void setShape(double x, double y, double width, double height) {
+        shape.setRect(x, y, width, height);
+        boundsChanged();
+    }
+
+    /**
+     * Translates the collider by the given amount.
+     *
+     * @param translateX The amount to translate by on the x axis.
+     * @param translateY The amount to translate by on the y axis.
+     */
+    public void translate(double translateX, double translateY) {
+        shape.setRect(shape.getX() + translateX, shape.getY() + translateY, shape.getWidth(), shape.getHeight());
+        boundsChanged();
+    }
 
-     
+    @Override
+    public boolean checkCollision(Collider other) {
+        if (other instanceof RectangleCollider otherRectangle) {
             return shape.intersects(otherRectangle.shape);
         }
         return false;
@@ -0,0 +1,252 @@
+package tech.fastj.physics;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+/**
+ * {@link BroadPhase Broad phase} which buckets colliders into a fixed grid of equally-sized cells.
+ * <p>
+ * The grid covers the world bounds given on construction. Colliders outside of those bounds are clamped into the outermost cells, so they
+ * are still found -- just less efficiently. For best results, pick a cell size around the size of a typical collider.
+ * <p>
+ * A collider is only moved between cells when the range of cells it covers changes, so colliders moving within a cell cost almost nothing
+ * to update. Pairs sharing more than one cell are only reported from the first cell they share.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class UniformGridBroadPhase implements BroadPhase {
+
+    private static final int InitialCellCapacity = 4;
+    private static final int InitialProxyCapacity = 16;
+
+    private final float worldX;
+    private final float worldY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[][] cellProxies;
+    private final int[] cellCounts;
+
+    private Collider[] colliders;
+    private int[] minColumns;
+    private int[] minRows;
+    private int[] maxColumns;
+    private int[] maxRows;
+    private int[] nextFree;
+    private int freeList;
+    private int proxyCapacity;
+    private int proxyCount;
+
+    /**
+     * Creates a uniform grid covering the given world bounds.
+     *
+     * @param worldBounds The area of the world the grid should cover.
+     * @param cellSize    The width and height of each grid cell.
+     */
+    public UniformGridBroadPhase(Rectangle2D worldBounds, float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be larger than 0.");
+        }
+
+        this.worldX = (float) worldBounds.getX();
+        this.worldY = (float) worldBounds.getY();
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(worldBounds.getWidth() / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldBounds.getHeight() / cellSize));
+
+        cellProxies = new int[columns * rows][];
+        cellCounts = new int[columns * rows];
+
+        proxyCapacity = InitialProxyCapacity;
+        colliders = new Collider[proxyCapacity];
+        minColumns = new int[proxyCapacity];
+        minRows = new int[proxyCapacity];
+        maxColumns = new int[proxyCapacity];
+        maxRows = new int[proxyCapacity];
+        nextFree = new int[proxyCapacity];
+        linkFreeProxies(0);
+    }
+
+    /** {@return the width and height of each grid cell} */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /** {@return the amount of columns in the grid} */
+    public int getColumns() {
+        return columns;
+    }
+
+    /** {@return the amount of rows in the grid} */
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int createProxy(Collider collider) {
+        if (freeList == NullProxy) {
+            growProxies();
+        }
+
+        int proxyId = freeList;
+        freeList = nextFree[proxyId];
+        colliders[proxyId] = collider;
+        proxyCount++;
+
+        Rectangle2D bounds = collider.getBounds();
+        minColumns[proxyId] = columnOf(bounds.getMinX());
+        minRows[proxyId] = rowOf(bounds.getMinY());
+        maxColumns[proxyId] = columnOf(bounds.getMaxX());
+        maxRows[proxyId] = rowOf(bounds.getMaxY());
+        insertIntoCells(proxyId);
+
+        return proxyId;
+    }
+
+    @Override
+    public void destroyProxy(int proxyId) {
+        removeFromCells(proxyId);
+
+        colliders[proxyId] = null;
+        nextFree[proxyId] = freeList;
+        freeList = proxyId;
+        proxyCount--;
+    }
+
+    @Override
+    public void moveProxy(int proxyId) {
+        Rectangle2D bounds = colliders[proxyId].getBounds();
+        int minColumn = columnOf(bounds.getMinX());
+        int minRow = rowOf(bounds.getMinY());
+        int maxColumn = columnOf(bounds.getMaxX());
+        int maxRow = rowOf(bounds.getMaxY());
+
+        if (minColumn == minColumns[proxyId] && minRow == minRows[proxyId]
+            && maxColumn == maxColumns[proxyId] && maxRow == maxRows[proxyId]) {
+            return;
+        }
+
+        removeFromCells(proxyId);
+        minColumns[proxyId] = minColumn;
+        minRows[proxyId] = minRow;
+        maxColumns[proxyId] = maxColumn;
+        maxRows[proxyId] = maxRow;
+        insertIntoCells(proxyId);
+    }
+
+    @Override
+    public void queryPairs(CollisionCallback callback) {
+        for (int cell = 0; cell < cellCounts.length; cell++) {
+            int count = cellCounts[cell];
+            if (count < 2) {
+                continue;
+            }
+
+            int column = cell % columns;
+            int row = cell / columns;
+            int[] proxies = cellProxies[cell];
+
+            for (int i = 0; i < count - 1; i++) {
+                int first = proxies[i];
+                for (int j = i + 1; j < count; j++) {
+                    int second = proxies[j];
+
+                    // only report the pair from the first cell both proxies share
+                    if (Math.max(minColumns[first], minColumns[second]) != column || Math.max(minRows[first], minRows[second]) != row) {
+                        continue;
+                    }
+
+                    Rectangle2D firstBounds = colliders[first].getBounds();
+                    Rectangle2D secondBounds = colliders[second].getBounds();
+                    if (BroadPhase.overlaps(
+                        firstBounds.getMinX(), firstBounds.getMinY(), firstBounds.getMaxX(), firstBounds.getMaxY(),
+                        secondBounds.getMinX(), secondBounds.getMinY(), secondBounds.getMaxX(), secondBounds.getMaxY()
+                    )) {
+                        callback.collision(colliders[first], colliders[second]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getProxyCount() {
+        return proxyCount;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        Arrays.fill(colliders, null);
+        proxyCount = 0;
+        linkFreeProxies(0);
+    }
+
+    private int columnOf(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor((x - worldX) / cellSize)));
+    }
+
+    private int rowOf(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((y - worldY) / cellSize)));
+    }
+
+    private void insertIntoCells(int proxyId) {
+        for (int row = minRows[proxyId]; row <= maxRows[proxyId]; row++) {
+            for (int column = minColumns[proxyId]; column <= maxColumns[proxyId]; column++) {
+                int cell = row * columns + column;
+                int[] proxies = cellProxies[cell];
+
+                if (proxies == null) {
+                    proxies = new int[InitialCellCapacity];
+                    cellProxies[cell] = proxies;
+                } else if (cellCounts[cell] == proxies.length) {
+                    proxies = Arrays.copyOf(proxies, proxies.length * 2);
+                    cellProxies[cell] = proxies;
+                }
+
+                proxies[cellCounts[cell]++] = proxyId;
+            }
+        }
+    }
+
+    private void removeFromCells(int proxyId) {
+        for (int row = minRows[proxyId]; row <= maxRows[proxyId]; row++) {
+            for (int column = minColumns[proxyId]; column <= maxColumns[proxyId]; column++) {
+                int cell = row * columns + column;
+                int[] proxies = cellProxies[cell];
+                int count = cellCounts[cell];
+
+                for (int i = 0; i < count; i++) {
+                    if (proxies[i] == proxyId) {
+                        proxies[i] = proxies[count - 1];
+                        cellCounts[cell]--;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void growProxies() {
+        int oldCapacity = proxyCapacity;
+        proxyCapacity *= 2;
+
+        colliders = Arrays.copyOf(colliders, proxyCapacity);
+        minColumns = Arrays.copyOf(minColumns, proxyCapacity);
+        minRows = Arrays.copyOf(minRows, proxyCapacity);
+        maxColumns = Arrays.copyOf(maxColumns, proxyCapacity);
+        maxRows = Arrays.copyOf(maxRows, proxyCapacity);
+        nextFree = Arrays.copyOf(nextFree, proxyCapacity);
+        linkFreeProxies(oldCapacity);
+    }
+
+    private void linkFreeProxies(int start) {
+        for (int i = start; i < proxyCapacity - 1; i++) {
+            nextFree[i] = i + 1;
+        }
+        nextFree[proxyCapacity - 1] = NullProxy;
+        freeList = start;
+    }
+}
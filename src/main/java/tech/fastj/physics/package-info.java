@@ -0,0 +1,6 @@
+/**
+ * FastJ's collision system, made up of {@link tech.fastj.physics.Collider colliders} managed by a
+ * {@link tech.fastj.physics.CollisionManager collision manager}, and a pluggable {@link tech.fastj.physics.BroadPhase broad phase}, as well
+ * as the {@link tech.fastj.physics.NarrowPhase narrow phase} used to check collision between convex polygons.
+ */
+package tech.fastj.physics;
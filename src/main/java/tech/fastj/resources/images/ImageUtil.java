@@ -6,6 +6,7 @@ import tech.fastj.resources.files.FileUtil;
 import java.awt.AWTException;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
 import java.awt.ImageCapabilities;
@@ -43,6 +44,26 @@ public class ImageUtil {
         }
     }
 
+    /**
+     * Creates a translucent volatile image compatible with the given graphics configuration.
+     * <p>
+     * The image is hardware-accelerated if possible. If the configuration cannot create accelerated images -- as with the configuration of
+     * a {@link BufferedImage}'s graphics, or when running headless -- an unaccelerated volatile image is created instead.
+     *
+     * @param graphicsConfiguration The graphics configuration the image will be drawn to.
+     * @param width                 The width of the image.
+     * @param height                The height of the image.
+     * @return The created image.
+     * @since 1.7.0
+     */
+    public static VolatileImage createVolatileImage(GraphicsConfiguration graphicsConfiguration, int width, int height) {
+        try {
+            return graphicsConfiguration.createCompatibleVolatileImage(width, height, new ImageCapabilities(true), Transparency.TRANSLUCENT);
+        } catch (AWTException e) {
+            return graphicsConfiguration.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+        }
+    }
+
     public static BufferedImage createBufferedImage(int width, int height) {
         return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(
             width,
@@ -0,0 +1,169 @@
+package tech.fastj.resources.images;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Packs many small images into a few large texture pages.
+ * <p>
+ * Each image {@link #add(BufferedImage) added} is copied onto a page, and a {@link BufferedImage#getSubimage(int, int, int, int) view}
+ * of its area on the page is returned in its place. Drawing the returned images draws from the shared pages, so a game with hundreds of
+ * small sprites keeps only a handful of images in memory, and the originals can be {@link BufferedImage#flush() released}.
+ * <p>
+ * Images are placed on shelves: rows as tall as their tallest image, filled from left to right. When an image no longer fits on the
+ * current page, a new page is started. {@link #addAll(BufferedImage...) Adding images together} sorts them by height first, which wastes
+ * far less space than adding them one at a time.
+ * <p>
+ * Pages store premultiplied ARGB pixels, which Java2D blends onto the screen faster than the unpremultiplied pixels most images load as.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class SpriteAtlas {
+
+    /** The default width and height of each page, in pixels. */
+    public static final int DefaultPageSize = 2048;
+    /** The default amount of empty pixels left between images, so filtering never blends neighbouring images together. */
+    public static final int DefaultPadding = 1;
+
+    private final int pageSize;
+    private final int padding;
+    private final List<BufferedImage> pages;
+
+    private Graphics2D pageGraphics;
+    private int shelfX;
+    private int shelfY;
+    private int shelfHeight;
+
+    /** Constructs an empty sprite atlas with the default page size and padding. */
+    public SpriteAtlas() {
+        this(DefaultPageSize, DefaultPadding);
+    }
+
+    /**
+     * Constructs an empty sprite atlas.
+     *
+     * @param pageSize The width and height of each page, in pixels.
+     * @param padding  The amount of empty pixels to leave between images.
+     */
+    public SpriteAtlas(int pageSize, int padding) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1 pixel.");
+        }
+        if (padding < 0) {
+            throw new IllegalArgumentException("The padding must not be negative.");
+        }
+
+        this.pageSize = pageSize;
+        this.padding = padding;
+        this.pages = new ArrayList<>();
+    }
+
+    /** {@return the width and height of each page} */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /** {@return the amount of empty pixels left between images} */
+    public int getPadding() {
+        return padding;
+    }
+
+    /** {@return the pages images have been packed into} */
+    public List<BufferedImage> getPages() {
+        return Collections.unmodifiableList(pages);
+    }
+
+    /**
+     * Copies the given image into the atlas.
+     *
+     * @param image The image to add.
+     * @return A view of the image's area in the atlas, to be used in place of the original image.
+     */
+    public synchronized BufferedImage add(BufferedImage image) {
+        Objects.requireNonNull(image, "The image must not be null.");
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width > pageSize || height > pageSize) {
+            throw new IllegalArgumentException(
+                "An image of " + width + "x" + height + " pixels does not fit in the atlas' " + pageSize + "x" + pageSize + " pages."
+            );
+        }
+
+        if (pages.isEmpty()) {
+            startPage();
+        }
+        if (shelfX + width > pageSize) {
+            // next shelf
+            shelfY += shelfHeight + padding;
+            shelfX = 0;
+            shelfHeight = 0;
+        }
+        if (shelfY + height > pageSize) {
+            startPage();
+        }
+
+        int x = shelfX;
+        int y = shelfY;
+        pageGraphics.drawImage(image, x, y, null);
+
+        shelfX += width + padding;
+        shelfHeight = Math.max(shelfHeight, height);
+        return pages.get(pages.size() - 1).getSubimage(x, y, width, height);
+    }
+
+    /**
+     * Copies the given images into the atlas, tallest first.
+     *
+     * @param images The images to add.
+     * @return Views of the images' areas in the atlas, in the same order as the given images.
+     */
+    public synchronized BufferedImage[] addAll(BufferedImage... images) {
+        Integer[] order = new Integer[images.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> images[i].getHeight()).reversed());
+
+        BufferedImage[] packedImages = new BufferedImage[images.length];
+        for (int i : order) {
+            packedImages[i] = add(images[i]);
+        }
+        return packedImages;
+    }
+
+    /** Releases the atlas' pages. Images added to the atlas must not be drawn afterwards. */
+    public synchronized void clear() {
+        if (pageGraphics != null) {
+            pageGraphics.dispose();
+            pageGraphics = null;
+        }
+        for (BufferedImage page : pages) {
+            page.flush();
+        }
+        pages.clear();
+    }
+
+    private void startPage() {
+        if (pageGraphics != null) {
+            pageGraphics.dispose();
+        }
+
+        BufferedImage page = new BufferedImage(pageSize, pageSize, BufferedImage.TYPE_INT_ARGB_PRE);
+        pageGraphics = page.createGraphics();
+        pageGraphics.setComposite(AlphaComposite.Src);
+        pages.add(page);
+
+        shelfX = 0;
+        shelfY = 0;
+        shelfHeight = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package tech.fastj.resources.images;
+
+import tech.fastj.resources.ResourceState;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of sliced sprite sheets, so sprites made from the same image share one copy of its frames.
+ * <p>
+ * Sprite sheets are keyed by the absolute path of their {@link ImageResource image resource}, and the amount of images across and down
+ * the sheet. The first request for a sprite sheet loads its image if needed and {@link ImageUtil#createSpriteSheet(BufferedImage, int, int)
+ * slices} it -- every later request returns the same array of frames, without touching the disk. Since the frames are
+ * {@link BufferedImage#getSubimage(int, int, int, int) views} into the sheet's image, the image is held in memory only once.
+ * <p>
+ * The arrays returned are shared, and must not be modified.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class SpriteSheetCache {
+
+    private static final Map<Key, BufferedImage[]> SpriteSheets = new ConcurrentHashMap<>();
+
+    private SpriteSheetCache() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Gets the sliced sprite sheet of the given image resource, slicing and caching it if it is not cached yet.
+     *
+     * @param spritesResource      The image resource holding the sprite sheet.
+     * @param horizontalImageCount The amount of images across the sprite sheet.
+     * @param verticalImageCount   The amount of images down the sprite sheet.
+     * @return The shared frames of the sprite sheet, from left to right and top to bottom.
+     */
+    public static BufferedImage[] getSpriteSheet(ImageResource spritesResource, int horizontalImageCount, int verticalImageCount) {
+        Objects.requireNonNull(spritesResource, "The sprite resource instance must not be null.");
+        if (horizontalImageCount < 1 || verticalImageCount < 1) {
+            throw new IllegalArgumentException("A sprite sheet must have at least 1 image across and down.");
+        }
+
+        Key key = new Key(spritesResource.getPath().toAbsolutePath().normalize(), horizontalImageCount, verticalImageCount);
+        return SpriteSheets.computeIfAbsent(key, k -> {
+            if (spritesResource.getResourceState() != ResourceState.Loaded) {
+                spritesResource.load();
+            }
+            return ImageUtil.createSpriteSheet(spritesResource.get(), horizontalImageCount, verticalImageCount);
+        });
+    }
+
+    /**
+     * Removes every cached sprite sheet of the image at the given path, so the next request reloads the image.
+     *
+     * @param imagePath The path of the image.
+     */
+    public static void evict(Path imagePath) {
+        Path absolutePath = imagePath.toAbsolutePath().normalize();
+        SpriteSheets.keySet().removeIf(key -> key.imagePath.equals(absolutePath));
+    }
+
+    /** {@return the amount of cached sprite sheets} */
+    public static int size() {
+        return SpriteSheets.size();
+    }
+
+    /** Removes every cached sprite sheet. */
+    public static void clear() {
+        SpriteSheets.clear();
+    }
+
+    private record Key(Path imagePath, int horizontalImageCount, int verticalImageCount) {
+    }
+}
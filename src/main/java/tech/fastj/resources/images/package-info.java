@@ -1,5 +1,7 @@
 /**
  * {@link tech.fastj.resources.images.ImageUtil Image loading} and utility for
- * {@link tech.fastj.resources.images.ImageUtil#createSpriteSheet(java.awt.image.BufferedImage, int, int) creating spritesheets}.
+ * {@link tech.fastj.resources.images.ImageUtil#createSpriteSheet(java.awt.image.BufferedImage, int, int) creating spritesheets}, which
+ * are {@link tech.fastj.resources.images.SpriteSheetCache shared} between sprites, and {@link tech.fastj.resources.images.SpriteAtlas
+ * packed} into texture pages.
  */
-package tech.fastj.resources.images;
\ No newline at end of file
+package tech.fastj.resources.images;
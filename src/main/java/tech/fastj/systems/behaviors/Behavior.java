@@ -129,6 +129,28 @@ public interface Behavior {
     default void update(GameObject gameObject) {
     }
 
+    /**
+     * {@return whether the behavior can be run on any thread, in parallel with other behaviors}
+     * <p>
+     * When {@link BehaviorManager#setBehaviorExecution(BehaviorExecution) parallel behavior execution} is enabled, thread-safe behaviors
+     * run in parallel across all cores, and the rest run in a serial phase afterwards, one after another on the game loop's thread.
+     * <p>
+     * A thread-safe behavior's {@link #fixedUpdate(GameObject) fixed update} and {@link #update(GameObject) update} methods may only modify
+     * the game object they are called with, and any state the behavior itself keeps thread-safe. In particular, they must not add or remove
+     * game objects, behaviors, or tags. By default, behaviors are not thread-safe.
+     * <p>
+     * Thread-safe behaviors may read other drawables -- such as every enemy reading {@code player.getCenter()} -- as long as nothing
+     * modifies those drawables during the parallel phase. Reading a drawable can rebuild its cached transformation and bounds, so before
+     * the parallel phase, the {@link tech.fastj.graphics.Drawable#ensureCaches() caches} of every behavior listener are brought up to date.
+     * Drawables which are not behavior listeners must have {@link tech.fastj.graphics.Drawable#ensureCaches()} called on them before they
+     * are read from thread-safe behaviors.
+     *
+     * @since 1.7.0
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /** Deletes/resets the {@link Behavior behavior}'s state as necessary. */
     default void destroy() {
     }
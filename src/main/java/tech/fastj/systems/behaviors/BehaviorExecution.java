@@ -0,0 +1,21 @@
+package tech.fastj.systems.behaviors;
+
+/**
+ * Determines how the {@link BehaviorManager} runs the fixed update and update methods of {@link Behavior behaviors}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public enum BehaviorExecution {
+    /** Runs every behavior one after another, on the game loop's thread. */
+    Serial,
+    /**
+     * Runs {@link Behavior#isThreadSafe() thread-safe} behaviors in parallel across all cores, then runs the rest one after another on the
+     * game loop's thread.
+     * <p>
+     * The game objects with behaviors are split into batches on a work-stealing {@link java.util.concurrent.ForkJoinPool fork-join pool},
+     * so idle cores take over batches from busy ones. Because thread-safe behaviors all run first, a game object's thread-safe behaviors
+     * run before its other behaviors, regardless of the order they were added in.
+     */
+    Parallel
+}
@@ -1,26 +1,59 @@
 package tech.fastj.systems.behaviors;
 
 import tech.fastj.graphics.game.GameObject;
+import tech.fastj.systems.collections.LongMap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Class to manage behavior listeners and {@link Behavior behaviors} for all {@link BehaviorHandler behavior handler}s.
+ * <p>
+ * By default, behaviors are run one after another on the game loop's thread. {@link #setBehaviorExecution(BehaviorExecution) Parallel
+ * execution} can be enabled to run {@link Behavior#isThreadSafe() thread-safe} behaviors across all cores instead.
+ * <p>
+ * Behavior listeners are stored by their {@link GameObject#getHandle() handles}, and run in the order they were added.
  *
  * @author Andrew Dey
  * @since 1.0.0
  */
 public class BehaviorManager {
 
-    private static final Map<BehaviorHandler, Map<String, GameObject>> BehaviorListenerLists = new ConcurrentHashMap<>();
+    /** The default {@link #getBehaviorExecution() behavior execution mode}. */
+    public static final BehaviorExecution DefaultBehaviorExecution = BehaviorExecution.Serial;
+
+    /** The most behavior listeners a single parallel task runs before splitting its work in half. */
+    public static final int ParallelBatchSize = 64;
+
+    private static final Map<BehaviorHandler, ListenerList> BehaviorListenerLists = new ConcurrentHashMap<>();
+
+    private static volatile BehaviorExecution behaviorExecution = DefaultBehaviorExecution;
+    private static ForkJoinPool behaviorPool;
 
     private BehaviorManager() {
         throw new java.lang.IllegalStateException();
     }
 
+    /** {@return how behaviors are run on fixed update and update} */
+    public static BehaviorExecution getBehaviorExecution() {
+        return behaviorExecution;
+    }
+
+    /**
+     * Sets how behaviors are run on fixed update and update.
+     *
+     * @param behaviorExecution The new behavior execution mode.
+     */
+    public static void setBehaviorExecution(BehaviorExecution behaviorExecution) {
+        BehaviorManager.behaviorExecution = Objects.requireNonNull(behaviorExecution);
+    }
+
     /**
      * Gets the specified list of behavior listeners aliased to the specified {@link BehaviorHandler}.
      *
@@ -28,7 +61,7 @@ public class BehaviorManager {
      * @return The list of behavior listeners.
      */
     public static List<GameObject> getList(BehaviorHandler behaviorHandler) {
-        return new ArrayList<>(BehaviorListenerLists.get(behaviorHandler).values());
+        return new ArrayList<>(Arrays.asList(BehaviorListenerLists.get(behaviorHandler).snapshot()));
     }
 
     /**
@@ -38,9 +71,7 @@ public class BehaviorManager {
      * @param listener        The behavior listener to add.
      */
     public static void addListener(BehaviorHandler behaviorHandler, GameObject listener) {
-        if (!BehaviorListenerLists.get(behaviorHandler).containsKey(listener.getID())) {
-            BehaviorListenerLists.get(behaviorHandler).put(listener.getID(), listener);
-        }
+        BehaviorListenerLists.get(behaviorHandler).add(listener);
     }
 
     /**
@@ -50,7 +81,7 @@ public class BehaviorManager {
      * @param listener        The behavior listener to remove.
      */
     public static void removeListener(BehaviorHandler behaviorHandler, GameObject listener) {
-        BehaviorListenerLists.get(behaviorHandler).remove(listener.getID());
+        BehaviorListenerLists.get(behaviorHandler).remove(listener);
     }
 
     /**
@@ -59,9 +90,7 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} to add a new alias for.
      */
     public static void addListenerList(BehaviorHandler behaviorHandler) {
-        if (!BehaviorListenerLists.containsKey(behaviorHandler)) {
-            BehaviorListenerLists.put(behaviorHandler, new ConcurrentHashMap<>());
-        }
+        BehaviorListenerLists.putIfAbsent(behaviorHandler, new ListenerList());
     }
 
     /**
@@ -79,7 +108,7 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} used as the alias to destroy all behavior listeners.
      */
     public static void destroyListenerList(BehaviorHandler behaviorHandler) {
-        for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).values()) {
+        for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).snapshot()) {
             listener.destroyAllBehaviors();
         }
     }
@@ -99,7 +128,7 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} used as the alias to initialize the behavior listeners for.
      */
     public static void initBehaviorListeners(BehaviorHandler behaviorHandler) {
-        for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).values()) {
+        for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).snapshot()) {
             listener.initBehaviors();
         }
     }
@@ -110,7 +139,13 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} used as the alias to update the behavior listeners for.
      */
     public static void fixedUpdateBehaviorListeners(BehaviorHandler behaviorHandler) {
-        for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).values()) {
+        GameObject[] listeners = BehaviorListenerLists.get(behaviorHandler).snapshot();
+        if (behaviorExecution == BehaviorExecution.Parallel) {
+            runParallel(listeners, true);
+            return;
+        }
+
+        for (GameObject listener : listeners) {
             listener.fixedUpdateBehaviors();
         }
     }
@@ -121,17 +156,163 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} used as the alias to update the behavior listeners for.
      */
     public static void updateBehaviorListeners(BehaviorHandler behaviorHandler) {
-        for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).values()) {
+        GameObject[] listeners = BehaviorListenerLists.get(behaviorHandler).snapshot();
+        if (behaviorExecution == BehaviorExecution.Parallel) {
+            runParallel(listeners, false);
+            return;
+        }
+
+        for (GameObject listener : listeners) {
             listener.updateBehaviors();
         }
     }
 
     /** Resets the behavior manager entirely. */
     public static void reset() {
-        for (Map<String, GameObject> map : BehaviorListenerLists.values()) {
-            map.forEach((key, value) -> map.get(key).destroyAllBehaviors());
-            map.clear();
+        for (ListenerList listenerList : BehaviorListenerLists.values()) {
+            for (GameObject listener : listenerList.snapshot()) {
+                listener.destroyAllBehaviors();
+            }
+            listenerList.clear();
         }
         BehaviorListenerLists.clear();
+
+        behaviorExecution = DefaultBehaviorExecution;
+        synchronized (BehaviorListenerLists) {
+            if (behaviorPool != null) {
+                behaviorPool.shutdown();
+                behaviorPool = null;
+            }
+        }
+    }
+
+    private static ForkJoinPool getBehaviorPool() {
+        synchronized (BehaviorListenerLists) {
+            if (behaviorPool == null) {
+                behaviorPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            }
+            return behaviorPool;
+        }
+    }
+
+    private static void runParallel(GameObject[] listenerArray, boolean isFixedUpdate) {
+        // thread-safe behaviors may read each other's game objects, which must not rebuild their caches on several threads at once
+        invokeTask(new BehaviorTask(listenerArray, 0, listenerArray.length, isFixedUpdate, true));
+
+        // parallel phase: thread-safe behaviors, on every core
+        invokeTask(new BehaviorTask(listenerArray, 0, listenerArray.length, isFixedUpdate, false));
+
+        // serial phase: everything else, in order on the calling thread
+        for (GameObject listener : listenerArray) {
+            runBehaviors(listener, isFixedUpdate, false);
+        }
+    }
+
+    private static void invokeTask(BehaviorTask behaviorTask) {
+        if (behaviorTask.end - behaviorTask.start > ParallelBatchSize) {
+            getBehaviorPool().invoke(behaviorTask);
+        } else {
+            behaviorTask.compute();
+        }
+    }
+
+    private static void runBehaviors(GameObject listener, boolean isFixedUpdate, boolean threadSafe) {
+        for (Behavior behavior : listener.getBehaviors()) {
+            if (behavior.isThreadSafe() != threadSafe) {
+                continue;
+            }
+
+            if (isFixedUpdate) {
+                behavior.fixedUpdate(listener);
+            } else {
+                behavior.update(listener);
+            }
+        }
+    }
+
+    /**
+     * Runs the thread-safe behaviors of a range of behavior listeners -- or only brings their caches up to date -- splitting the range up
+     * while it is larger than a batch.
+     */
+    private static class BehaviorTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final GameObject[] listeners;
+        private final int start;
+        private final int end;
+        private final boolean isFixedUpdate;
+        private final boolean isEnsuringCaches;
+
+        private BehaviorTask(GameObject[] listeners, int start, int end, boolean isFixedUpdate, boolean isEnsuringCaches) {
+            this.listeners = listeners;
+            this.start = start;
+            this.end = end;
+            this.isFixedUpdate = isFixedUpdate;
+            this.isEnsuringCaches = isEnsuringCaches;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > ParallelBatchSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(
+                    new BehaviorTask(listeners, start, middle, isFixedUpdate, isEnsuringCaches),
+                    new BehaviorTask(listeners, middle, end, isFixedUpdate, isEnsuringCaches)
+                );
+                return;
+            }
+
+            for (int i = start; i < end; i++) {
+                if (isEnsuringCaches) {
+                    listeners[i].ensureCaches();
+                } else {
+                    runBehaviors(listeners[i], isFixedUpdate, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * The behavior listeners of a behavior handler, by handle.
+     * <p>
+     * Updates run over a snapshot array of the listeners, which is only rebuilt after listeners are added or removed -- listeners may be
+     * added or removed while behaviors run, and take effect on the next update.
+     */
+    private static class ListenerList {
+
+        private static final GameObject[] NoListeners = {};
+
+        private final LongMap<GameObject> listeners = new LongMap<>();
+        private GameObject[] snapshot = NoListeners;
+        private boolean isSnapshotDirty;
+
+        private synchronized void add(GameObject listener) {
+            if (!listeners.containsKey(listener.getHandle())) {
+                listeners.put(listener.getHandle(), listener);
+                isSnapshotDirty = true;
+            }
+        }
+
+        private synchronized void remove(GameObject listener) {
+            if (listeners.remove(listener.getHandle()) != null) {
+                isSnapshotDirty = true;
+            }
+        }
+
+        private synchronized void clear() {
+            listeners.clear();
+            snapshot = NoListeners;
+            isSnapshotDirty = false;
+        }
+
+        /** {@return the listeners, in the order they were added} The returned array must not be modified. */
+        private synchronized GameObject[] snapshot() {
+            if (isSnapshotDirty) {
+                snapshot = listeners.values().toArray(NoListeners);
+                isSnapshotDirty = false;
+            }
+            return snapshot;
+        }
     }
 }
@@ -0,0 +1,326 @@
+package tech.fastj.systems.collections;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Map from primitive {@code long} keys to values, kept in the order they were first added.
+ * <p>
+ * Unlike a {@code Map<Long, V>}, keys are never boxed: looking up, adding, and removing values creates no objects. Entries are stored
+ * densely in insertion order, with an open-addressing table indexing them by key -- iterating the map's values walks a plain array.
+ * Replacing the value of an existing key keeps its place in the order.
+ * <p>
+ * Null values are not allowed. Like {@link java.util.LinkedHashMap}, the map is not thread-safe, and its iterators fail fast if the map is
+ * changed other than through them.
+ *
+ * @param <V> The type of value in the map.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class LongMap<V> implements Iterable<V> {
+
+    private static final int InitialCapacity = 16;
+
+    private long[] entryKeys;
+    private Object[] entryValues;
+    /** One past the last entry used, including entries since removed. */
+    private int entryEnd;
+    private int size;
+    /** Entry index plus one for each occupied slot, or {@code 0} for empty slots. */
+    private int[] table;
+    private int modCount;
+
+    private Values values;
+
+    /** Constructs an empty map. */
+    public LongMap() {
+        this(InitialCapacity);
+    }
+
+    /**
+     * Constructs an empty map with room for the given amount of entries before it has to grow.
+     *
+     * @param initialCapacity The amount of entries to make room for.
+     */
+    public LongMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity must not be negative.");
+        }
+
+        int capacity = Math.max(InitialCapacity, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        entryKeys = new long[capacity];
+        entryValues = new Object[capacity];
+        table = new int[capacity * 2];
+    }
+
+    /** {@return the amount of entries in the map} */
+    public int size() {
+        return size;
+    }
+
+    /** {@return whether the map has no entries} */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@return the value of the given key, or {@code null} if the map does not contain the key}
+     *
+     * @param key The key to look up.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = findSlot(key);
+        return slot == -1 ? null : (V) entryValues[table[slot] - 1];
+    }
+
+    /**
+     * {@return whether the map contains the given key}
+     *
+     * @param key The key to look up.
+     */
+    public boolean containsKey(long key) {
+        return findSlot(key) != -1;
+    }
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   The key to set the value of.
+     * @param value The new value.
+     * @return The key's previous value, or {@code null} if the map did not contain the key.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "Values must not be null.");
+
+        int slot = findSlot(key);
+        if (slot != -1) {
+            int entry = table[slot] - 1;
+            V previous = (V) entryValues[entry];
+            entryValues[entry] = value;
+            return previous;
+        }
+
+        if (entryEnd == entryKeys.length) {
+            if (entryEnd - size >= entryEnd / 2) {
+                compact();
+            } else {
+                resize(entryKeys.length * 2);
+            }
+        }
+
+        int entry = entryEnd++;
+        entryKeys[entry] = key;
+        entryValues[entry] = value;
+        insertIntoTable(entry);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    /**
+     * Removes the given key from the map.
+     *
+     * @param key The key to remove.
+     * @return The key's value, or {@code null} if the map did not contain the key.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = findSlot(key);
+        if (slot == -1) {
+            return null;
+        }
+
+        int entry = table[slot] - 1;
+        V removed = (V) entryValues[entry];
+        entryValues[entry] = null;
+        removeFromTable(slot);
+        size--;
+        modCount++;
+
+        if (size == 0) {
+            entryEnd = 0;
+        }
+        return removed;
+    }
+
+    /** Removes every entry from the map. */
+    public void clear() {
+        Arrays.fill(entryValues, 0, entryEnd, null);
+        Arrays.fill(table, 0);
+        entryEnd = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /** {@return a view of the map's values, in insertion order} */
+    public Collection<V> values() {
+        if (values == null) {
+            values = new Values();
+        }
+        return values;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator();
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private int findSlot(long key) {
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot] - 1;
+            if (entry == -1) {
+                return -1;
+            }
+            if (entryKeys[entry] == key) {
+                return slot;
+            }
+        }
+    }
+
+    private void insertIntoTable(int entry) {
+        int mask = table.length - 1;
+        int slot = hash(entryKeys[entry]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    /** Empties the given slot, shifting back any later slots in its probe chain so lookups never stop early. */
+    private void removeFromTable(int slot) {
+        int mask = table.length - 1;
+        int gap = slot;
+        for (int next = (slot + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = hash(entryKeys[table[next] - 1]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+        }
+        table[gap] = 0;
+    }
+
+    /** Moves every entry down over the removed entries before it, keeping their order. */
+    private void compact() {
+        int liveEntry = 0;
+        for (int entry = 0; entry < entryEnd; entry++) {
+            if (entryValues[entry] != null) {
+                entryKeys[liveEntry] = entryKeys[entry];
+                entryValues[liveEntry] = entryValues[entry];
+                liveEntry++;
+            }
+        }
+        Arrays.fill(entryValues, liveEntry, entryEnd, null);
+        entryEnd = liveEntry;
+        rebuildTable();
+        modCount++;
+    }
+
+    private void resize(int capacity) {
+        entryKeys = Arrays.copyOf(entryKeys, capacity);
+        entryValues = Arrays.copyOf(entryValues, capacity);
+        table = new int[capacity * 2];
+        rebuildTable();
+    }
+
+    private void rebuildTable() {
+        Arrays.fill(table, 0);
+        for (int entry = 0; entry < entryEnd; entry++) {
+            if (entryValues[entry] != null) {
+                insertIntoTable(entry);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder entries = new StringBuilder();
+        for (int entry = 0; entry < entryEnd; entry++) {
+            if (entryValues[entry] != null) {
+                entries.append(entries.isEmpty() ? "" : ", ").append(entryKeys[entry]).append('=').append(entryValues[entry]);
+            }
+        }
+        return "LongMap{" + entries + '}';
+    }
+
+    private class Values extends AbstractCollection<V> {
+        @Override
+        public Iterator<V> iterator() {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            LongMap.this.clear();
+        }
+    }
+
+    private class ValueIterator implements Iterator<V> {
+
+        private int nextEntry;
+        private int lastEntry = -1;
+        private int expectedModCount = modCount;
+
+        private ValueIterator() {
+            skipRemoved();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextEntry < entryEnd;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextEntry >= entryEnd) {
+                throw new NoSuchElementException();
+            }
+
+            lastEntry = nextEntry++;
+            skipRemoved();
+            return (V) entryValues[lastEntry];
+        }
+
+        @Override
+        public void remove() {
+            if (lastEntry == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            LongMap.this.remove(entryKeys[lastEntry]);
+            lastEntry = -1;
+            expectedModCount = modCount;
+        }
+
+        private void skipRemoved() {
+            while (nextEntry < entryEnd && entryValues[nextEntry] == null) {
+                nextEntry++;
+            }
+        }
+    }
+}
@@ -1,38 +1,81 @@
 package tech.fastj.systems.control;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderLayer;
 import tech.fastj.graphics.display.FastJCanvas;
 import tech.fastj.graphics.game.GameObject;
 import tech.fastj.graphics.ui.UIElement;
 import tech.fastj.input.InputActionEvent;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.collections.LongMap;
+import tech.fastj.systems.tags.TagIndex;
 
+import java.awt.geom.Rectangle2D;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Class to manage {@link Drawable} objects.
+ * <p>
+ * Game objects added to the manager are also tracked in a {@link LooseQuadtree spatial index}, which can be queried by
+ * {@link #queryRect(Rectangle2D.Float, Collection) area}, {@link #queryRadius(Pointf, float, Collection) radius}, or for the
+ * {@link #nearest(Pointf, int, GameObject[]) nearest game objects} to a point.
+ * <p>
+ * Game objects and ui elements are stored by their {@link Drawable#getHandle() handles}. The maps returned by {@link #getGameObjects()}
+ * and {@link #getUIElements()} are views keyed by {@link Drawable#getID() ID}, for compatibility -- iterating them does not build any
+ * IDs, unless their keys are read. Removing drawables through those views, or clearing them, removes the drawables from the manager
+ * entirely -- the same as {@link #removeGameObject(GameObject)} or {@link #clearGameObjects()}.
  *
  * @author Andrew Dey
  * @since 1.0.0
  */
 public class DrawableManager {
 
-    private final Map<String, GameObject> gameObjects;
-    private final Map<String, UIElement<? extends InputActionEvent>> uiElements;
+    private final LongMap<GameObject> gameObjects;
+    private final LongMap<UIElement<? extends InputActionEvent>> uiElements;
+    private final Map<String, GameObject> gameObjectsView;
+    private final Map<String, UIElement<? extends InputActionEvent>> uiElementsView;
+    private final LooseQuadtree<GameObject> spatialIndex;
+    private final TagIndex<Drawable> tagIndex;
+    private final List<RenderLayer> renderLayers;
+    private final List<RenderLayer> renderLayersView;
 
     /** Initializes a {@link DrawableManager}'s internals. */
     public DrawableManager() {
-        gameObjects = new LinkedHashMap<>();
-        uiElements = new LinkedHashMap<>();
+        gameObjects = new LongMap<>();
+        uiElements = new LongMap<>();
+        spatialIndex = new LooseQuadtree<>();
+        tagIndex = new TagIndex<>();
+        gameObjectsView = new DrawableMapView<>(gameObjects, this::detachGameObject, this::clearGameObjects);
+        uiElementsView = new DrawableMapView<>(uiElements, tagIndex::remove, this::clearUIElements);
+        renderLayers = new ArrayList<>();
+        renderLayersView = Collections.unmodifiableList(renderLayers);
     }
 
     /** {@return the game objects assigned to the manager, as a map} */
     public Map<String, GameObject> getGameObjects() {
-        return gameObjects;
+        return gameObjectsView;
+    }
+
+    /**
+     * {@return the game object with the given {@link Drawable#getHandle() handle}, or {@code null} if the manager has no such game object}
+     *
+     * @param handle The handle of the game object.
+     * @since 1.7.0
+     */
+    public GameObject getGameObject(long handle) {
+        return gameObjects.get(handle);
     }
 
     /** {@return the game objects assigned to the manager, wrapped as a list} */
@@ -42,7 +85,7 @@ public class DrawableManager {
 
     /** {@return the ui elements assigned to the manager, as a map} */
     public Map<String, UIElement<? extends InputActionEvent>> getUIElements() {
-        return uiElements;
+        return uiElementsView;
     }
 
     /** {@return the ui elements assigned to the manager, wrapped as a list} */
@@ -53,8 +96,8 @@ public class DrawableManager {
     /** {@return the game objects <b>and</b> ui elements assigned to the manager, as a map} */
     public Map<String, Drawable> getDrawables() {
         Map<String, Drawable> result = new ConcurrentHashMap<>();
-        result.putAll(gameObjects);
-        result.putAll(uiElements);
+        result.putAll(gameObjectsView);
+        result.putAll(uiElementsView);
 
         return result;
     }
@@ -68,6 +111,110 @@ public class DrawableManager {
         return result;
     }
 
+    /**
+     * {@return the spatial index of the game objects assigned to the manager}
+     *
+     * @since 1.7.0
+     */
+    public LooseQuadtree<GameObject> getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * {@return the tag index of the game objects and ui elements assigned to the manager}
+     *
+     * @since 1.7.0
+     */
+    public TagIndex<Drawable> getTagIndex() {
+        return tagIndex;
+    }
+
+    /* Render layers */
+
+    /**
+     * {@return the render layers assigned to the manager, in the order they are drawn}
+     *
+     * @since 1.7.0
+     */
+    public List<RenderLayer> getRenderLayers() {
+        return renderLayersView;
+    }
+
+    /**
+     * Adds the specified {@link RenderLayer render layer}, to be drawn after the manager's other render layers.
+     * <p>
+     * The layer's game objects are drawn by the layer, rather than in the order they were {@link #addGameObject(GameObject) added} to the
+     * manager. Game objects which should also be updated or queried through the manager should still be added to it.
+     *
+     * @param renderLayer The render layer to add.
+     * @since 1.7.0
+     */
+    public void addRenderLayer(RenderLayer renderLayer) {
+        if (!renderLayers.contains(renderLayer)) {
+            renderLayers.add(renderLayer);
+        }
+    }
+
+    /**
+     * Removes the specified render layer. The layer keeps its game objects.
+     *
+     * @param renderLayer The render layer to remove.
+     * @since 1.7.0
+     */
+    public void removeRenderLayer(RenderLayer renderLayer) {
+        renderLayers.remove(renderLayer);
+    }
+
+    /* Spatial queries */
+
+    /**
+     * Finds every game object whose bounds overlap the given area.
+     * <p>
+     * Only game objects added through {@link #addGameObject(GameObject)} are considered. This does not allocate, as long as the results
+     * collection has room for the game objects found.
+     *
+     * @param area    The area to search.
+     * @param results The collection to add the game objects found to.
+     * @return The amount of game objects found.
+     * @since 1.7.0
+     */
+    public int queryRect(Rectangle2D.Float area, Collection<? super GameObject> results) {
+        return spatialIndex.queryRect(area.x, area.y, area.x + area.width, area.y + area.height, results);
+    }
+
+    /**
+     * Finds every game object whose bounds are within the given radius of the given point.
+     * <p>
+     * Only game objects added through {@link #addGameObject(GameObject)} are considered. This does not allocate, as long as the results
+     * collection has room for the game objects found.
+     *
+     * @param center  The point to search around.
+     * @param radius  The radius around the point to search.
+     * @param results The collection to add the game objects found to.
+     * @return The amount of game objects found.
+     * @since 1.7.0
+     */
+    public int queryRadius(Pointf center, float radius, Collection<? super GameObject> results) {
+        return spatialIndex.queryRadius(center.x, center.y, radius, results);
+    }
+
+    /**
+     * Finds the {@code k} game objects whose bounds are closest to the given point, writing them to the start of the results array --
+     * closest first.
+     * <p>
+     * Only game objects added through {@link #addGameObject(GameObject)} are considered. This does not allocate.
+     *
+     * @param point   The point to search around.
+     * @param k       The maximum amount of game objects to find.
+     * @param results The array to write the game objects found to. Must have a length of at least {@code k}.
+     * @return The amount of game objects found -- at most {@code k}.
+     * @throws IllegalArgumentException if {@code k} is negative, or larger than the length of the results array.
+     * @since 1.7.0
+     */
+    public int nearest(Pointf point, int k, GameObject[] results) {
+        return spatialIndex.nearest(point.x, point.y, k, results);
+    }
+
     /* Game Objects */
 
     /**
@@ -83,7 +230,14 @@ public class DrawableManager {
      * @param gameObject The {@link GameObject game object} to add.
      */
     public void addGameObject(GameObject gameObject) {
-        gameObjects.put(gameObject.getID(), gameObject);
+        GameObject previous = gameObjects.put(gameObject.getHandle(), gameObject);
+        if (previous != null && previous != gameObject) {
+            spatialIndex.remove(previous);
+            tagIndex.remove(previous);
+        }
+
+        spatialIndex.add(gameObject);
+        tagIndex.add(gameObject);
     }
 
     /**
@@ -92,7 +246,23 @@ public class DrawableManager {
      * @param gameObjectID The id of the game object to remove.
      */
     public void removeGameObject(String gameObjectID) {
-        gameObjects.remove(gameObjectID);
+        GameObject gameObject = gameObjectsView.get(gameObjectID);
+        if (gameObject != null) {
+            removeGameObject(gameObject.getHandle());
+        }
+    }
+
+    /**
+     * Removes the game object with the specified {@link Drawable#getHandle() handle}.
+     *
+     * @param handle The handle of the game object to remove.
+     * @since 1.7.0
+     */
+    public void removeGameObject(long handle) {
+        GameObject removed = gameObjects.remove(handle);
+        if (removed != null) {
+            detachGameObject(removed);
+        }
     }
 
     /**
@@ -101,7 +271,7 @@ public class DrawableManager {
      * @param gameObject The game object to remove.
      */
     public void removeGameObject(GameObject gameObject) {
-        removeGameObject(gameObject.getID());
+        removeGameObject(gameObject.getHandle());
     }
 
     /**
@@ -117,12 +287,34 @@ public class DrawableManager {
 
     /** Removes any null values from the list of game objects for the manager. */
     public void refreshGameObjectList() {
-        gameObjects.entrySet().removeIf(Objects::isNull);
+        gameObjects.values().removeIf(Objects::isNull);
     }
 
     /** Removes all game objects from the manager. */
     public void clearGameObjects() {
+        for (GameObject gameObject : gameObjects.values()) {
+            tagIndex.remove(gameObject);
+        }
+        for (RenderLayer renderLayer : renderLayers) {
+            renderLayer.clear();
+        }
+
         gameObjects.clear();
+        spatialIndex.clear();
+    }
+
+    /** Removes a game object, already removed from the map of game objects, from everything else which tracks it. */
+    private void detachGameObject(GameObject gameObject) {
+        spatialIndex.remove(gameObject);
+        tagIndex.remove(gameObject);
+        removeFromRenderLayer(gameObject);
+    }
+
+    private void removeFromRenderLayer(GameObject gameObject) {
+        RenderLayer renderLayer = gameObject.getRenderLayer();
+        if (renderLayer != null && renderLayers.contains(renderLayer)) {
+            renderLayer.remove(gameObject);
+        }
     }
 
     /* ui elements */
@@ -140,7 +332,12 @@ public class DrawableManager {
      * @param guiObject The {@link UIElement ui element} to add.
      */
     public void addUIElement(UIElement<? extends InputActionEvent> guiObject) {
-        uiElements.put(guiObject.getID(), guiObject);
+        UIElement<? extends InputActionEvent> previous = uiElements.put(guiObject.getHandle(), guiObject);
+        if (previous != null && previous != guiObject) {
+            tagIndex.remove(previous);
+        }
+
+        tagIndex.add(guiObject);
     }
 
     /**
@@ -149,7 +346,23 @@ public class DrawableManager {
      * @param guiObjectID The id of the ui element to remove.
      */
     public void removeUIElement(String guiObjectID) {
-        uiElements.remove(guiObjectID);
+        UIElement<? extends InputActionEvent> uiElement = uiElementsView.get(guiObjectID);
+        if (uiElement != null) {
+            removeUIElement(uiElement.getHandle());
+        }
+    }
+
+    /**
+     * Removes the ui element with the specified {@link Drawable#getHandle() handle}.
+     *
+     * @param handle The handle of the ui element to remove.
+     * @since 1.7.0
+     */
+    public void removeUIElement(long handle) {
+        UIElement<? extends InputActionEvent> removed = uiElements.remove(handle);
+        if (removed != null) {
+            tagIndex.remove(removed);
+        }
     }
 
     /**
@@ -158,7 +371,7 @@ public class DrawableManager {
      * @param guiObject The ui element to remove.
      */
     public void removeUIElement(UIElement<? extends InputActionEvent> guiObject) {
-        removeUIElement(guiObject.getID());
+        removeUIElement(guiObject.getHandle());
     }
 
     /**
@@ -174,11 +387,15 @@ public class DrawableManager {
 
     /** Removes any null values from the list of ui elements for the manager. */
     public void refreshUIElementList() {
-        uiElements.entrySet().removeIf(Objects::isNull);
+        uiElements.values().removeIf(Objects::isNull);
     }
 
     /** Removes all ui elements from the manager. */
     public void clearUIElements() {
+        for (UIElement<? extends InputActionEvent> uiElement : uiElements.values()) {
+            tagIndex.remove(uiElement);
+        }
+
         uiElements.clear();
     }
 
@@ -202,4 +419,145 @@ public class DrawableManager {
         clearGameObjects();
         clearUIElements();
     }
+
+    /**
+     * View of drawables stored by handle, keyed by their IDs.
+     * <p>
+     * Removals and clears made through the view are passed on to the manager, so that its indexes stay in sync with the map.
+     */
+    private static class DrawableMapView<V extends Drawable> extends AbstractMap<String, V> {
+
+        private final LongMap<V> drawables;
+        private final Consumer<V> removedCallback;
+        private final Runnable clearCallback;
+
+        private final Set<Entry<String, V>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                Iterator<V> values = new ValueIterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return values.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        V drawable = values.next();
+                        return new SimpleImmutableEntry<>(drawable.getID(), drawable);
+                    }
+
+                    @Override
+                    public void remove() {
+                        values.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return drawables.size();
+            }
+
+            @Override
+            public void clear() {
+                clearCallback.run();
+            }
+        };
+
+        private final Collection<V> values = new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return drawables.size();
+            }
+
+            @Override
+            public void clear() {
+                clearCallback.run();
+            }
+        };
+
+        private DrawableMapView(LongMap<V> drawables, Consumer<V> removedCallback, Runnable clearCallback) {
+            this.drawables = drawables;
+            this.removedCallback = removedCallback;
+            this.clearCallback = clearCallback;
+        }
+
+        @Override
+        public int size() {
+            return drawables.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public V get(Object key) {
+            if (!(key instanceof String id)) {
+                return null;
+            }
+
+            V drawable = drawables.get(Drawable.handleOf(id));
+            return drawable != null && drawable.getID().equals(id) ? drawable : null;
+        }
+
+        @Override
+        public V remove(Object key) {
+            V drawable = get(key);
+            if (drawable == null) {
+                return null;
+            }
+
+            drawables.remove(drawable.getHandle());
+            removedCallback.accept(drawable);
+            return drawable;
+        }
+
+        @Override
+        public Collection<V> values() {
+            return values;
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public void clear() {
+            clearCallback.run();
+        }
+
+        /** Iterator over the drawables, which passes removals on to the manager. */
+        private class ValueIterator implements Iterator<V> {
+
+            private final Iterator<V> iterator = drawables.iterator();
+            private V last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public V next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                removedCallback.accept(last);
+                last = null;
+            }
+        }
+    }
 }
@@ -0,0 +1,281 @@
+package tech.fastj.systems.control;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.systems.behaviors.Behavior;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of pre-built {@link GameObject game objects} which are reused, rather than created and {@link GameObject#destroy(GameHandler)
+ * destroyed} each time they are needed.
+ * <p>
+ * Game objects which come and go many times a second -- bullets, sparks, pickups -- are expensive to build: each one builds its paths,
+ * registers its behaviors, and is torn down again once destroyed. A pool builds each game object once, along with its behaviors and tags.
+ * {@link #acquire(Consumer) Acquiring} a game object adds it to the pool's {@link GameHandler game handler} -- its
+ * {@link DrawableManager drawable manager}, and as a {@link tech.fastj.systems.behaviors.BehaviorHandler behavior listener} -- and
+ * resets its behaviors by calling {@link Behavior#init(GameObject)} again. {@link #release(GameObject) Releasing} it removes it from the
+ * game handler, keeping its behaviors for the next time it is acquired.
+ * <p>
+ * A pool never holds more than its {@link #getMaxSize() maximum size} worth of game objects: once that many are in use, acquiring fails
+ * until one is released. Game objects in a pool must be released, not destroyed -- {@link #destroy()} destroys every one of them at once,
+ * when the pool is no longer needed. The pool is not thread-safe.
+ *
+ * @param <T> The type of game object in the pool.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class GameObjectPool<T extends GameObject> {
+
+    /** The default maximum amount of game objects in a pool. */
+    public static final int DefaultMaxSize = 1024;
+
+    private final GameHandler gameHandler;
+    private final Supplier<? extends T> factory;
+    private final int maxSize;
+
+    private final ArrayDeque<T> idleGameObjects = new ArrayDeque<>();
+    private final Set<T> activeGameObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Consumer<? super T> resetAction;
+
+    private int createdCount;
+    private long acquireCount;
+    private long reuseCount;
+    private long rejectedCount;
+    private int peakActiveCount;
+
+    /**
+     * Constructs an empty game object pool with the {@link #DefaultMaxSize default maximum size}.
+     *
+     * @param gameHandler The game handler acquired game objects are added to.
+     * @param factory     Creates new game objects for the pool, along with their behaviors.
+     */
+    public GameObjectPool(GameHandler gameHandler, Supplier<? extends T> factory) {
+        this(gameHandler, factory, 0, DefaultMaxSize);
+    }
+
+    /**
+     * Constructs a game object pool, creating the given amount of game objects up front.
+     *
+     * @param gameHandler The game handler acquired game objects are added to.
+     * @param factory     Creates new game objects for the pool, along with their behaviors.
+     * @param initialSize The amount of game objects to create up front.
+     * @param maxSize     The most game objects the pool may ever create.
+     */
+    public GameObjectPool(GameHandler gameHandler, Supplier<? extends T> factory, int initialSize, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a pool must be at least 1.");
+        }
+        if (initialSize < 0 || initialSize > maxSize) {
+            throw new IllegalArgumentException("The initial size of a pool must be between 0 and its maximum size, " + maxSize + ".");
+        }
+
+        this.gameHandler = Objects.requireNonNull(gameHandler, "The game handler must not be null.");
+        this.factory = Objects.requireNonNull(factory, "The game object factory must not be null.");
+        this.maxSize = maxSize;
+        prewarm(initialSize);
+    }
+
+    /** {@return the game handler acquired game objects are added to} */
+    public GameHandler getGameHandler() {
+        return gameHandler;
+    }
+
+    /** {@return the most game objects the pool may ever create} */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** {@return the amount of game objects the pool has created} */
+    public int getSize() {
+        return createdCount;
+    }
+
+    /** {@return the amount of acquired game objects which have not been released} */
+    public int getActiveCount() {
+        return activeGameObjects.size();
+    }
+
+    /** {@return the amount of game objects waiting to be acquired} */
+    public int getIdleCount() {
+        return idleGameObjects.size();
+    }
+
+    /** {@return the most game objects which have been in use at once} */
+    public int getPeakActiveCount() {
+        return peakActiveCount;
+    }
+
+    /** {@return the amount of game objects acquired} */
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    /** {@return the amount of game objects acquired which were reused, rather than newly created} */
+    public long getReuseCount() {
+        return reuseCount;
+    }
+
+    /** {@return the amount of times acquiring failed because the pool was at its maximum size} */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Sets the action run on each game object as it is released, such as resetting its transform.
+     *
+     * @param resetAction The action to run, or {@code null} to run none.
+     * @return The pool, for method chaining.
+     */
+    public GameObjectPool<T> setResetAction(Consumer<? super T> resetAction) {
+        this.resetAction = resetAction;
+        return this;
+    }
+
+    /**
+     * Creates game objects up front until the pool has at least the given amount, without exceeding its maximum size.
+     *
+     * @param size The amount of game objects the pool should have.
+     */
+    public void prewarm(int size) {
+        int targetSize = Math.min(size, maxSize);
+        while (createdCount < targetSize) {
+            idleGameObjects.push(create());
+        }
+    }
+
+    /**
+     * Acquires a game object from the pool, adding it to the pool's game handler.
+     *
+     * @return The acquired game object, or {@code null} if every game object the pool may create is in use.
+     */
+    public T acquire() {
+        return acquire(null);
+    }
+
+    /**
+     * Acquires a game object from the pool, sets it up, and adds it to the pool's game handler.
+     * <p>
+     * The setup action runs before the game object's behaviors are reset, so that they see the game object as it was set up -- for
+     * instance, at its starting position.
+     *
+     * @param setup The action used to set up the game object, or {@code null} to leave it as it is.
+     * @return The acquired game object, or {@code null} if every game object the pool may create is in use.
+     */
+    public T acquire(Consumer<? super T> setup) {
+        T gameObject = idleGameObjects.poll();
+        if (gameObject != null) {
+            reuseCount++;
+        } else if (createdCount < maxSize) {
+            gameObject = create();
+        } else {
+            rejectedCount++;
+            return null;
+        }
+
+        activeGameObjects.add(gameObject);
+        acquireCount++;
+        peakActiveCount = Math.max(peakActiveCount, activeGameObjects.size());
+
+        if (setup != null) {
+            setup.accept(gameObject);
+        }
+
+        gameHandler.drawableManager().addGameObject(gameObject);
+        if (!gameObject.getBehaviors().isEmpty()) {
+            gameHandler.addBehaviorListener(gameObject);
+            gameObject.initBehaviors();
+        }
+        return gameObject;
+    }
+
+    /**
+     * Releases the given game object back into the pool, removing it from the pool's game handler.
+     * <p>
+     * Releasing a game object which is not in use does nothing.
+     *
+     * @param gameObject The game object to release.
+     * @return Whether the game object was in use, and has been released.
+     * @throws IllegalArgumentException if the game object was not created by the pool.
+     */
+    public boolean release(T gameObject) {
+        if (!activeGameObjects.remove(gameObject)) {
+            if (!idleGameObjects.contains(gameObject)) {
+                throw new IllegalArgumentException("The game object " + gameObject.getID() + " was not created by this pool.");
+            }
+            return false;
+        }
+
+        gameHandler.drawableManager().removeGameObject(gameObject);
+        gameHandler.removeBehaviorListener(gameObject);
+        if (resetAction != null) {
+            resetAction.accept(gameObject);
+        }
+
+        idleGameObjects.push(gameObject);
+        return true;
+    }
+
+    /**
+     * {@return whether the given game object is in use}
+     *
+     * @param gameObject The game object to check.
+     */
+    public boolean isActive(GameObject gameObject) {
+        return activeGameObjects.contains(gameObject);
+    }
+
+    /** Releases every game object in use. */
+    public void releaseAll() {
+        for (T gameObject : new ArrayList<>(activeGameObjects)) {
+            release(gameObject);
+        }
+    }
+
+    /**
+     * Destroys every game object the pool has created, leaving the pool empty.
+     * <p>
+     * The pool may still be used afterwards, creating new game objects as needed.
+     */
+    public void destroy() {
+        for (T gameObject : activeGameObjects) {
+            gameObject.destroy(gameHandler);
+        }
+        for (T gameObject : idleGameObjects) {
+            gameObject.destroy(gameHandler);
+        }
+
+        activeGameObjects.clear();
+        idleGameObjects.clear();
+        createdCount = 0;
+    }
+
+    private T create() {
+        T gameObject = Objects.requireNonNull(factory.get(), "The game object factory must not return null.");
+        // game objects stay out of the game handler until acquired, however the factory added their behaviors
+        gameHandler.drawableManager().removeGameObject(gameObject);
+        gameHandler.removeBehaviorListener(gameObject);
+        createdCount++;
+        return gameObject;
+    }
+
+    @Override
+    public String toString() {
+        return "GameObjectPool{" +
+            "size=" + createdCount +
+            ", maxSize=" + maxSize +
+            ", activeCount=" + activeGameObjects.size() +
+            ", idleCount=" + idleGameObjects.size() +
+            ", acquireCount=" + acquireCount +
+            ", reuseCount=" + reuseCount +
+            ", rejectedCount=" + rejectedCount +
+            '}';
+    }
+}
@@ -0,0 +1,598 @@
+package tech.fastj.systems.control;
+
+import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.DrawableListener;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Spatial index of {@link Drawable drawables}, keyed by their transformed bounding boxes.
+ * <p>
+ * The index is a <i>loose</i> quadtree: each cell accepts drawables that fit within twice its own size, so a drawable is always stored in
+ * exactly one cell -- chosen by its center and size -- and never needs to be split across cells. The cells are laid out as a fixed-depth
+ * pyramid of flat arrays, so the tree itself never allocates nodes.
+ * <p>
+ * The index is maintained incrementally: it listens to each drawable it contains, and only relocates drawables whose bounds changed --
+ * lazily, right before the next query. The area covered by the tree grows automatically to fit drawables that move outside of it.
+ * <p>
+ * Queries do not allocate. Results are written into collections or arrays provided by the caller, so they can be reused between calls.
+ * <p>
+ * The index is not thread-safe. Drawables it contains may be modified on several threads at once -- as long as each drawable is only
+ * modified by one thread at a time -- but the index should not be queried or changed until those modifications finish.
+ *
+ * @param <T> The type of drawable stored in the index.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class LooseQuadtree<T extends Drawable> implements DrawableListener {
+
+    /** The default amount of levels below the root of the tree. */
+    public static final int DefaultMaxDepth = 6;
+    /** The default distance from the center of the root cell to each of its edges. */
+    public static final float DefaultHalfSize = 2048f;
+
+    private static final int NullItem = -1;
+    private static final int InitialItemCapacity = 16;
+    private static final float MaxHalfSize = 1 << 24;
+
+    private final int maxDepth;
+    private final int[] levelOffsets;
+    private final int[] cellHeads;
+    private final int[] subtreeCounts;
+    private final Map<Drawable, Integer> itemIds = new IdentityHashMap<>();
+    private final Rectangle2D.Float boundsScratch = new Rectangle2D.Float();
+
+    private float centerX;
+    private float centerY;
+    private float halfSize;
+
+    private Drawable[] items;
+    private float[] minXs;
+    private float[] minYs;
+    private float[] maxXs;
+    private float[] maxYs;
+    private int[] itemCells;
+    private int[] nextItems;
+    private int[] previousItems;
+    private boolean[] dirtyFlags;
+    private int[] dirtyItems;
+    private int dirtyCount;
+    private int freeList;
+    private int itemCapacity;
+    private int itemCount;
+
+    // query state, kept in fields so queries don't allocate
+    private Collection<? super T> queryResults;
+    private float queryMinX;
+    private float queryMinY;
+    private float queryMaxX;
+    private float queryMaxY;
+    private float queryX;
+    private float queryY;
+    private float queryRadiusSquared;
+    private int queryResultCount;
+    private int[] nearestItems = new int[0];
+    private float[] nearestDistances = new float[0];
+    private int nearestLimit;
+
+    /** Creates a loose quadtree centered at the origin, with the {@link #DefaultHalfSize default size} and default depth. */
+    public LooseQuadtree() {
+        this(0f, 0f, DefaultHalfSize, DefaultMaxDepth);
+    }
+
+    /**
+     * Creates a loose quadtree covering the given area.
+     *
+     * @param centerX  The x coordinate of the center of the root cell.
+     * @param centerY  The y coordinate of the center of the root cell.
+     * @param halfSize The distance from the center of the root cell to each of its edges.
+     * @param maxDepth The amount of levels below the root of the tree.
+     */
+    public LooseQuadtree(float centerX, float centerY, float halfSize, int maxDepth) {
+        if (halfSize <= 0f) {
+            throw new IllegalArgumentException("Half size must be larger than 0.");
+        }
+        if (maxDepth < 0 || maxDepth > 10) {
+            throw new IllegalArgumentException("Max depth must be between 0 and 10.");
+        }
+
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.halfSize = halfSize;
+        this.maxDepth = maxDepth;
+
+        levelOffsets = new int[maxDepth + 1];
+        int cellCount = 0;
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            levelOffsets[depth] = cellCount;
+            cellCount += 1 << (2 * depth);
+        }
+
+        cellHeads = new int[cellCount];
+        subtreeCounts = new int[cellCount];
+        Arrays.fill(cellHeads, NullItem);
+
+        itemCapacity = InitialItemCapacity;
+        items = new Drawable[itemCapacity];
+        minXs = new float[itemCapacity];
+        minYs = new float[itemCapacity];
+        maxXs = new float[itemCapacity];
+        maxYs = new float[itemCapacity];
+        itemCells = new int[itemCapacity];
+        nextItems = new int[itemCapacity];
+        previousItems = new int[itemCapacity];
+        dirtyFlags = new boolean[itemCapacity];
+        dirtyItems = new int[itemCapacity];
+        linkFreeItems(0);
+    }
+
+    /** {@return the amount of drawables in the index} */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * {@return whether the index contains the given drawable}
+     *
+     * @param drawable The drawable to check for.
+     */
+    public boolean contains(Drawable drawable) {
+        return itemIds.containsKey(drawable);
+    }
+
+    /**
+     * Adds the given drawable to the index.
+     * <p>
+     * Adding a drawable which is already in the index does nothing.
+     *
+     * @param drawable The drawable to add.
+     */
+    public void add(T drawable) {
+        if (itemIds.containsKey(drawable)) {
+            return;
+        }
+
+        if (freeList == NullItem) {
+            growItems();
+        }
+
+        int item = freeList;
+        freeList = nextItems[item];
+        items[item] = drawable;
+        itemCount++;
+
+        // stored before the drawable is registered, so growing the tree doesn't link it early
+        storeBounds(item);
+        itemIds.put(drawable, item);
+        linkItem(item, findCell(item));
+        drawable.addDrawableListener(this);
+    }
+
+    /**
+     * Removes the given drawable from the index, if it is in the index.
+     *
+     * @param drawable The drawable to remove.
+     */
+    public void remove(Drawable drawable) {
+        Integer item = itemIds.remove(drawable);
+        if (item == null) {
+            return;
+        }
+
+        drawable.removeDrawableListener(this);
+        unlinkItem(item);
+
+        // a pending dirty entry for this slot is skipped (or harmlessly re-processed) during the next refresh
+        items[item] = null;
+        nextItems[item] = freeList;
+        freeList = item;
+        itemCount--;
+    }
+
+    /** Removes all drawables from the index. */
+    public void clear() {
+        for (int item = 0; item < itemCapacity; item++) {
+            if (items[item] != null) {
+                items[item].removeDrawableListener(this);
+            }
+        }
+
+        itemIds.clear();
+        Arrays.fill(items, null);
+        Arrays.fill(dirtyFlags, false);
+        Arrays.fill(cellHeads, NullItem);
+        Arrays.fill(subtreeCounts, 0);
+        dirtyCount = 0;
+        itemCount = 0;
+        linkFreeItems(0);
+    }
+
+    @Override
+    public void boundsChanged(Drawable drawable) {
+        Integer item = itemIds.get(drawable);
+        if (item == null || dirtyFlags[item]) {
+            return;
+        }
+
+        // each drawable only changes on one thread at a time, but parallel behaviors can move several drawables at once
+        dirtyFlags[item] = true;
+        synchronized (this) {
+            dirtyItems[dirtyCount++] = item;
+        }
+    }
+
+    /**
+     * Relocates every drawable whose bounds changed since the last refresh.
+     * <p>
+     * Queries call this automatically.
+     */
+    public void refresh() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int item = dirtyItems[i];
+            dirtyFlags[item] = false;
+
+            if (items[item] == null) {
+                continue;
+            }
+
+            storeBounds(item);
+            int cell = findCell(item);
+            if (cell != itemCells[item]) {
+                unlinkItem(item);
+                linkItem(item, cell);
+            }
+        }
+
+        dirtyCount = 0;
+    }
+
+    /**
+     * Finds every drawable whose bounding box overlaps the given area.
+     *
+     * @param minX    The minimum x coordinate of the area.
+     * @param minY    The minimum y coordinate of the area.
+     * @param maxX    The maximum x coordinate of the area.
+     * @param maxY    The maximum y coordinate of the area.
+     * @param results The collection to add the drawables found to.
+     * @return The amount of drawables found.
+     */
+    public int queryRect(float minX, float minY, float maxX, float maxY, Collection<? super T> results) {
+        refresh();
+
+        queryMinX = minX;
+        queryMinY = minY;
+        queryMaxX = maxX;
+        queryMaxY = maxY;
+        queryResults = results;
+        queryResultCount = 0;
+
+        try {
+            queryRectCell(0, 0, 0);
+            return queryResultCount;
+        } finally {
+            queryResults = null;
+        }
+    }
+
+    /**
+     * Finds every drawable whose bounding box is within the given radius of the given point.
+     *
+     * @param x       The x coordinate of the point.
+     * @param y       The y coordinate of the point.
+     * @param radius  The radius around the point to search.
+     * @param results The collection to add the drawables found to.
+     * @return The amount of drawables found.
+     */
+    public int queryRadius(float x, float y, float radius, Collection<? super T> results) {
+        refresh();
+
+        queryX = x;
+        queryY = y;
+        queryRadiusSquared = radius * radius;
+        queryResults = results;
+        queryResultCount = 0;
+
+        try {
+            queryRadiusCell(0, 0, 0);
+            return queryResultCount;
+        } finally {
+            queryResults = null;
+        }
+    }
+
+    /**
+     * Finds the {@code k} drawables whose bounding boxes are closest to the given point.
+     * <p>
+     * Drawables whose bounding boxes contain the point have a distance of {@code 0}. The drawables found are written to the start of the
+     * results array, closest first.
+     *
+     * @param x       The x coordinate of the point.
+     * @param y       The y coordinate of the point.
+     * @param k       The maximum amount of drawables to find.
+     * @param results The array to write the drawables found to. Must have a length of at least {@code k}.
+     * @return The amount of drawables found -- at most {@code k}.
+     * @throws IllegalArgumentException if {@code k} is negative, or larger than the length of the results array.
+     */
+    public int nearest(float x, float y, int k, T[] results) {
+        if (k < 0 || k > results.length) {
+            throw new IllegalArgumentException("k must be between 0 and the length of the results array (" + results.length + "), but was " + k + ".");
+        }
+
+        refresh();
+        if (k == 0) {
+            return 0;
+        }
+
+        if (nearestItems.length < k) {
+            nearestItems = new int[k];
+            nearestDistances = new float[k];
+        }
+
+        queryX = x;
+        queryY = y;
+        nearestLimit = k;
+        queryResultCount = 0;
+        nearestCell(0, 0, 0);
+
+        for (int i = 0; i < queryResultCount; i++) {
+            @SuppressWarnings("unchecked")
+            T drawable = (T) items[nearestItems[i]];
+            results[i] = drawable;
+        }
+
+        return queryResultCount;
+    }
+
+    private void queryRectCell(int depth, int column, int row) {
+        int cell = levelOffsets[depth] + row * (1 << depth) + column;
+        if (subtreeCounts[cell] == 0) {
+            return;
+        }
+
+        // the root also holds drawables outside of the tree's area, so it can't be skipped based on its bounds
+        if (depth > 0) {
+            float cellHalfSize = halfSize / (1 << depth);
+            float cellCenterX = centerX - halfSize + (2 * column + 1) * cellHalfSize;
+            float cellCenterY = centerY - halfSize + (2 * row + 1) * cellHalfSize;
+            float looseHalfSize = 2f * cellHalfSize;
+
+            if (cellCenterX - looseHalfSize > queryMaxX || cellCenterX + looseHalfSize < queryMinX
+                || cellCenterY - looseHalfSize > queryMaxY || cellCenterY + looseHalfSize < queryMinY) {
+                return;
+            }
+        }
+
+        for (int item = cellHeads[cell]; item != NullItem; item = nextItems[item]) {
+            if (minXs[item] <= queryMaxX && maxXs[item] >= queryMinX && minYs[item] <= queryMaxY && maxYs[item] >= queryMinY) {
+                addResult(item);
+            }
+        }
+
+        if (depth < maxDepth) {
+            queryRectCell(depth + 1, 2 * column, 2 * row);
+            queryRectCell(depth + 1, 2 * column + 1, 2 * row);
+            queryRectCell(depth + 1, 2 * column, 2 * row + 1);
+            queryRectCell(depth + 1, 2 * column + 1, 2 * row + 1);
+        }
+    }
+
+    private void queryRadiusCell(int depth, int column, int row) {
+        int cell = levelOffsets[depth] + row * (1 << depth) + column;
+        if (subtreeCounts[cell] == 0) {
+            return;
+        }
+
+        if (depth > 0 && looseCellDistanceSquared(depth, column, row) > queryRadiusSquared) {
+            return;
+        }
+
+        for (int item = cellHeads[cell]; item != NullItem; item = nextItems[item]) {
+            if (itemDistanceSquared(item) <= queryRadiusSquared) {
+                addResult(item);
+            }
+        }
+
+        if (depth < maxDepth) {
+            queryRadiusCell(depth + 1, 2 * column, 2 * row);
+            queryRadiusCell(depth + 1, 2 * column + 1, 2 * row);
+            queryRadiusCell(depth + 1, 2 * column, 2 * row + 1);
+            queryRadiusCell(depth + 1, 2 * column + 1, 2 * row + 1);
+        }
+    }
+
+    private void nearestCell(int depth, int column, int row) {
+        int cell = levelOffsets[depth] + row * (1 << depth) + column;
+        if (subtreeCounts[cell] == 0) {
+            return;
+        }
+
+        if (depth > 0 && queryResultCount == nearestLimit
+            && looseCellDistanceSquared(depth, column, row) > nearestDistances[nearestLimit - 1]) {
+            return;
+        }
+
+        for (int item = cellHeads[cell]; item != NullItem; item = nextItems[item]) {
+            insertNearest(item, itemDistanceSquared(item));
+        }
+
+        if (depth < maxDepth) {
+            nearestCell(depth + 1, 2 * column, 2 * row);
+            nearestCell(depth + 1, 2 * column + 1, 2 * row);
+            nearestCell(depth + 1, 2 * column, 2 * row + 1);
+            nearestCell(depth + 1, 2 * column + 1, 2 * row + 1);
+        }
+    }
+
+    private void insertNearest(int item, float distanceSquared) {
+        if (queryResultCount == nearestLimit && distanceSquared >= nearestDistances[nearestLimit - 1]) {
+            return;
+        }
+
+        int index = queryResultCount == nearestLimit ? nearestLimit - 1 : queryResultCount++;
+        while (index > 0 && nearestDistances[index - 1] > distanceSquared) {
+            nearestDistances[index] = nearestDistances[index - 1];
+            nearestItems[index] = nearestItems[index - 1];
+            index--;
+        }
+
+        nearestDistances[index] = distanceSquared;
+        nearestItems[index] = item;
+    }
+
+    private void addResult(int item) {
+        @SuppressWarnings("unchecked")
+        T drawable = (T) items[item];
+        queryResults.add(drawable);
+        queryResultCount++;
+    }
+
+    private float itemDistanceSquared(int item) {
+        float dx = Math.max(0f, Math.max(minXs[item] - queryX, queryX - maxXs[item]));
+        float dy = Math.max(0f, Math.max(minYs[item] - queryY, queryY - maxYs[item]));
+        return dx * dx + dy * dy;
+    }
+
+    private float looseCellDistanceSquared(int depth, int column, int row) {
+        float cellHalfSize = halfSize / (1 << depth);
+        float cellCenterX = centerX - halfSize + (2 * column + 1) * cellHalfSize;
+        float cellCenterY = centerY - halfSize + (2 * row + 1) * cellHalfSize;
+        float looseHalfSize = 2f * cellHalfSize;
+
+        float dx = Math.max(0f, Math.abs(queryX - cellCenterX) - looseHalfSize);
+        float dy = Math.max(0f, Math.abs(queryY - cellCenterY) - looseHalfSize);
+        return dx * dx + dy * dy;
+    }
+
+    private void storeBounds(int item) {
+        items[item].getBoundingBox(boundsScratch);
+        minXs[item] = boundsScratch.x;
+        minYs[item] = boundsScratch.y;
+        maxXs[item] = boundsScratch.x + boundsScratch.width;
+        maxYs[item] = boundsScratch.y + boundsScratch.height;
+
+        float itemCenterX = (minXs[item] + maxXs[item]) / 2f;
+        float itemCenterY = (minYs[item] + maxYs[item]) / 2f;
+        if (!Float.isFinite(itemCenterX) || !Float.isFinite(itemCenterY)) {
+            return;
+        }
+
+        float distance = Math.max(Math.abs(itemCenterX - centerX), Math.abs(itemCenterY - centerY));
+        if (distance < halfSize || halfSize >= MaxHalfSize) {
+            return;
+        }
+
+        float newHalfSize = halfSize;
+        while (distance >= newHalfSize && newHalfSize < MaxHalfSize) {
+            newHalfSize *= 2f;
+        }
+        grow(newHalfSize);
+    }
+
+    /** Finds the deepest cell whose loose bounds fully contain the item, falling back to the root. */
+    private int findCell(int item) {
+        float itemCenterX = (minXs[item] + maxXs[item]) / 2f;
+        float itemCenterY = (minYs[item] + maxYs[item]) / 2f;
+        float extent = Math.max(maxXs[item] - minXs[item], maxYs[item] - minYs[item]) / 2f;
+
+        float left = centerX - halfSize;
+        float top = centerY - halfSize;
+        if (!(itemCenterX >= left && itemCenterX < centerX + halfSize && itemCenterY >= top && itemCenterY < centerY + halfSize)) {
+            return 0;
+        }
+
+        int depth = 0;
+        float cellHalfSize = halfSize;
+        while (depth < maxDepth && extent <= cellHalfSize / 2f) {
+            depth++;
+            cellHalfSize /= 2f;
+        }
+
+        int side = 1 << depth;
+        float cellSize = 2f * cellHalfSize;
+        int column = Math.min(side - 1, (int) ((itemCenterX - left) / cellSize));
+        int row = Math.min(side - 1, (int) ((itemCenterY - top) / cellSize));
+        return levelOffsets[depth] + row * side + column;
+    }
+
+    private void linkItem(int item, int cell) {
+        itemCells[item] = cell;
+        previousItems[item] = NullItem;
+        nextItems[item] = cellHeads[cell];
+        if (cellHeads[cell] != NullItem) {
+            previousItems[cellHeads[cell]] = item;
+        }
+        cellHeads[cell] = item;
+
+        adjustSubtreeCounts(cell, 1);
+    }
+
+    private void unlinkItem(int item) {
+        int cell = itemCells[item];
+        if (previousItems[item] != NullItem) {
+            nextItems[previousItems[item]] = nextItems[item];
+        } else {
+            cellHeads[cell] = nextItems[item];
+        }
+        if (nextItems[item] != NullItem) {
+            previousItems[nextItems[item]] = previousItems[item];
+        }
+
+        adjustSubtreeCounts(cell, -1);
+    }
+
+    private void adjustSubtreeCounts(int cell, int amount) {
+        int depth = maxDepth;
+        while (levelOffsets[depth] > cell) {
+            depth--;
+        }
+
+        int index = cell - levelOffsets[depth];
+        int column = index % (1 << depth);
+        int row = index / (1 << depth);
+        for (; depth >= 0; depth--, column /= 2, row /= 2) {
+            subtreeCounts[levelOffsets[depth] + row * (1 << depth) + column] += amount;
+        }
+    }
+
+    /** Enlarges the area covered by the tree, and relocates every drawable into it. */
+    private void grow(float newHalfSize) {
+        halfSize = newHalfSize;
+
+        Arrays.fill(cellHeads, NullItem);
+        Arrays.fill(subtreeCounts, 0);
+        for (int item = 0; item < itemCapacity; item++) {
+            if (items[item] != null && itemIds.containsKey(items[item])) {
+                linkItem(item, findCell(item));
+            }
+        }
+    }
+
+    private void growItems() {
+        int oldCapacity = itemCapacity;
+        itemCapacity *= 2;
+
+        items = Arrays.copyOf(items, itemCapacity);
+        minXs = Arrays.copyOf(minXs, itemCapacity);
+        minYs = Arrays.copyOf(minYs, itemCapacity);
+        maxXs = Arrays.copyOf(maxXs, itemCapacity);
+        maxYs = Arrays.copyOf(maxYs, itemCapacity);
+        itemCells = Arrays.copyOf(itemCells, itemCapacity);
+        nextItems = Arrays.copyOf(nextItems, itemCapacity);
+        previousItems = Arrays.copyOf(previousItems, itemCapacity);
+        dirtyFlags = Arrays.copyOf(dirtyFlags, itemCapacity);
+        dirtyItems = Arrays.copyOf(dirtyItems, itemCapacity);
+        linkFreeItems(oldCapacity);
+    }
+
+    private void linkFreeItems(int start) {
+        for (int i = start; i < itemCapacity - 1; i++) {
+            nextItems[i] = i + 1;
+        }
+        nextItems[itemCapacity - 1] = NullItem;
+        freeList = start;
+    }
+}
@@ -10,6 +10,7 @@ import tech.fastj.input.InputManager;
 import tech.fastj.input.keyboard.KeyboardActionListener;
 import tech.fastj.input.mouse.MouseActionListener;
 import tech.fastj.systems.behaviors.BehaviorManager;
+import tech.fastj.systems.tags.TagIndex;
 
 import java.util.List;
 
@@ -285,6 +286,11 @@ public abstract class Scene implements GameHandler {
         return drawableManager.getDrawablesList();
     }
 
+    @Override
+    public TagIndex<Drawable> getTagIndex() {
+        return drawableManager.getTagIndex();
+    }
+
     void generalLoad(FastJCanvas canvas) {
         inputManager.load();
         load(canvas);
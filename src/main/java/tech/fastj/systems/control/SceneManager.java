@@ -451,6 +451,7 @@ public abstract class SceneManager implements LogicManager {
             initSceneCheck();
 
             canvas.render(
+                currentScene.drawableManager().getRenderLayers(),
                 currentScene.drawableManager().getGameObjects(),
                 currentScene.drawableManager().getUIElements(),
                 currentScene.getCamera()
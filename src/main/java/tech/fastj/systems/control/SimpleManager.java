@@ -12,6 +12,7 @@ import tech.fastj.input.keyboard.KeyboardActionListener;
 import tech.fastj.input.mouse.MouseActionListener;
 import tech.fastj.systems.behaviors.Behavior;
 import tech.fastj.systems.behaviors.BehaviorManager;
+import tech.fastj.systems.tags.TagIndex;
 
 import java.util.List;
 
@@ -85,6 +86,11 @@ public abstract class SimpleManager implements LogicManager, GameHandler {
         return drawableManager.getDrawablesList();
     }
 
+    @Override
+    public TagIndex<Drawable> getTagIndex() {
+        return drawableManager.getTagIndex();
+    }
+
     /**
      * Internal method to initialize the simple manager's {@link Behavior behaviors}.
      * <p>
@@ -190,7 +196,7 @@ public abstract class SimpleManager implements LogicManager, GameHandler {
      */
     @Override
     public void render(FastJCanvas canvas) {
-        canvas.render(drawableManager.getGameObjects(), drawableManager.getUIElements(), camera);
+        canvas.render(drawableManager.getRenderLayers(), drawableManager.getGameObjects(), drawableManager.getUIElements(), camera);
     }
 
     /** Resets the simple manager's state entirely. */
@@ -0,0 +1,188 @@
+package tech.fastj.systems.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Storage for every entity in an {@link EntityWorld entity world} with exactly the same set of {@link ComponentType components}.
+ * <p>
+ * Each field of each component is stored as its own dense {@code float} column, with one row per entity. The columns returned by
+ * {@link #getColumn(ComponentType, int)} are the archetype's backing arrays -- systems iterate them directly from row {@code 0} up to
+ * {@link #getEntityCount()}, without creating any objects. Rows are not kept in any particular order, as removing an entity moves the
+ * archetype's last entity into its row.
+ * <p>
+ * Columns are replaced as the archetype grows, so they must be looked up again after entities are created, or have components added or
+ * removed.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class Archetype {
+
+    private static final int InitialCapacity = 16;
+
+    private final long signature;
+    private final ComponentType[] componentTypes;
+    /** The first column of each component, indexed by component type id. */
+    private final int[] columnOffsets = new int[ComponentType.MaxComponentTypes];
+    private final float[][] columns;
+    private final float[] defaultValues;
+
+    private int[] entities = new int[InitialCapacity];
+    private int entityCount;
+
+    Archetype(long signature, ComponentType[] componentTypes) {
+        this.signature = signature;
+        this.componentTypes = componentTypes;
+
+        Arrays.fill(columnOffsets, -1);
+        int columnCount = 0;
+        for (ComponentType componentType : componentTypes) {
+            columnOffsets[componentType.id()] = columnCount;
+            columnCount += componentType.getFieldCount();
+        }
+
+        columns = new float[columnCount][InitialCapacity];
+        defaultValues = new float[columnCount];
+        for (ComponentType componentType : componentTypes) {
+            for (int field = 0; field < componentType.getFieldCount(); field++) {
+                defaultValues[columnOffsets[componentType.id()] + field] = componentType.getDefaultValue(field);
+            }
+        }
+    }
+
+    /** {@return the bits of every component type in the archetype} */
+    public long getSignature() {
+        return signature;
+    }
+
+    /** {@return the component types in the archetype} */
+    public ComponentType[] getComponentTypes() {
+        return componentTypes.clone();
+    }
+
+    /**
+     * {@return whether the archetype's entities have the given component}
+     *
+     * @param componentType The component type to check for.
+     */
+    public boolean has(ComponentType componentType) {
+        return (signature & componentType.bit()) != 0L;
+    }
+
+    /** {@return the amount of entities in the archetype} */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * {@return the entity in the given row}
+     *
+     * @param row The row of the entity.
+     */
+    public int getEntity(int row) {
+        if (row < 0 || row >= entityCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for " + entityCount + " entities.");
+        }
+        return entities[row];
+    }
+
+    /**
+     * {@return the backing column holding the given field of the given component, one row per entity}
+     * <p>
+     * Only the first {@link #getEntityCount()} values of the column are in use.
+     *
+     * @param componentType The component type the field belongs to.
+     * @param field         The index of the field.
+     */
+    public float[] getColumn(ComponentType componentType, int field) {
+        return columns[columnOf(componentType, field)];
+    }
+
+    int columnOf(ComponentType componentType, int field) {
+        int columnOffset = columnOffsets[componentType.id()];
+        if (columnOffset == -1) {
+            throw new IllegalArgumentException("The archetype has no " + componentType.getName() + " component.");
+        }
+        if (field < 0 || field >= componentType.getFieldCount()) {
+            throw new IndexOutOfBoundsException(
+                "Field " + field + " is out of bounds for the " + componentType.getFieldCount() + " fields of " + componentType.getName() + "."
+            );
+        }
+        return columnOffset + field;
+    }
+
+    /**
+     * Adds a row for the given entity, with every component set to its default values.
+     *
+     * @param entity The entity to add.
+     * @return The entity's row.
+     */
+    int addEntity(int entity) {
+        if (entityCount == entities.length) {
+            int capacity = entities.length * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = Arrays.copyOf(columns[column], capacity);
+            }
+        }
+
+        int row = entityCount++;
+        entities[row] = entity;
+        for (int column = 0; column < columns.length; column++) {
+            columns[column][row] = defaultValues[column];
+        }
+        return row;
+    }
+
+    /**
+     * Copies every component the given archetype shares with this one from a row of the given archetype into a row of this one.
+     *
+     * @param source    The archetype to copy from.
+     * @param sourceRow The row to copy from.
+     * @param row       The row to copy to.
+     */
+    void copyShared(Archetype source, int sourceRow, int row) {
+        for (ComponentType componentType : componentTypes) {
+            int sourceOffset = source.columnOffsets[componentType.id()];
+            if (sourceOffset == -1) {
+                continue;
+            }
+
+            int offset = columnOffsets[componentType.id()];
+            for (int field = 0; field < componentType.getFieldCount(); field++) {
+                columns[offset + field][row] = source.columns[sourceOffset + field][sourceRow];
+            }
+        }
+    }
+
+    /**
+     * Removes the given row, moving the last row into its place.
+     *
+     * @param row The row to remove.
+     * @return The entity moved into the removed row, or {@code -1} if the removed row was the last one.
+     */
+    int removeRow(int row) {
+        int lastRow = --entityCount;
+        if (row == lastRow) {
+            return -1;
+        }
+
+        entities[row] = entities[lastRow];
+        for (float[] column : columns) {
+            column[row] = column[lastRow];
+        }
+        return entities[row];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder componentNames = new StringBuilder();
+        for (ComponentType componentType : componentTypes) {
+            componentNames.append(componentNames.isEmpty() ? "" : ", ").append(componentType.getName());
+        }
+        return "Archetype{" +
+            "components=[" + componentNames + ']' +
+            ", entityCount=" + entityCount +
+            '}';
+    }
+}
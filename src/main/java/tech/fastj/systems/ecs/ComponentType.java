@@ -0,0 +1,151 @@
+package tech.fastj.systems.ecs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A kind of component an entity in an {@link EntityWorld entity world} can have, made up of one or more {@code float} fields.
+ * <p>
+ * Components hold no behavior, and are not objects of their own: each field of a component is stored as a dense {@code float} column in
+ * every {@link Archetype archetype} with that component. Fields are referred to by their index, in the order they were given.
+ * <p>
+ * Component types are compared by identity. At most {@link #MaxComponentTypes} component types can be created.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class ComponentType {
+
+    /** The largest amount of component types which can be created. */
+    public static final int MaxComponentTypes = Long.SIZE;
+
+    private static final AtomicInteger NextId = new AtomicInteger();
+
+    /** The position, rotation (in degrees), and scale of an entity, scaled to {@code 1f} by default. */
+    public static final ComponentType Transform = new ComponentType(
+        "Transform",
+        new String[] {"x", "y", "rotation", "scaleX", "scaleY"},
+        new float[] {0f, 0f, 0f, 1f, 1f}
+    );
+    /** The index of the {@link #Transform} x position field. */
+    public static final int TransformX = 0;
+    /** The index of the {@link #Transform} y position field. */
+    public static final int TransformY = 1;
+    /** The index of the {@link #Transform} rotation field. */
+    public static final int TransformRotation = 2;
+    /** The index of the {@link #Transform} x scale field. */
+    public static final int TransformScaleX = 3;
+    /** The index of the {@link #Transform} y scale field. */
+    public static final int TransformScaleY = 4;
+
+    /** The velocity of an entity, in units per second. */
+    public static final ComponentType Velocity = new ComponentType("Velocity", "x", "y");
+    /** The index of the {@link #Velocity} x field. */
+    public static final int VelocityX = 0;
+    /** The index of the {@link #Velocity} y field. */
+    public static final int VelocityY = 1;
+
+    private final int id;
+    private final String name;
+    private final String[] fieldNames;
+    private final float[] defaultValues;
+
+    /**
+     * Constructs a component type whose fields default to {@code 0f}.
+     *
+     * @param name       The name of the component type.
+     * @param fieldNames The names of the component type's fields.
+     */
+    public ComponentType(String name, String... fieldNames) {
+        this(name, fieldNames, new float[fieldNames.length]);
+    }
+
+    /**
+     * Constructs a component type.
+     *
+     * @param name          The name of the component type.
+     * @param fieldNames    The names of the component type's fields.
+     * @param defaultValues The values the component type's fields are set to when it is added to an entity.
+     */
+    public ComponentType(String name, String[] fieldNames, float[] defaultValues) {
+        Objects.requireNonNull(name, "The component type name must not be null.");
+        if (fieldNames.length == 0) {
+            throw new IllegalArgumentException("A component type must have at least one field.");
+        }
+        if (fieldNames.length != defaultValues.length) {
+            throw new IllegalArgumentException(
+                "The component type " + name + " has " + fieldNames.length + " fields, but " + defaultValues.length + " default values."
+            );
+        }
+
+        int nextId = NextId.getAndUpdate(id -> Math.min(id + 1, MaxComponentTypes));
+        if (nextId == MaxComponentTypes) {
+            throw new IllegalStateException("No more than " + MaxComponentTypes + " component types can be created.");
+        }
+
+        this.id = nextId;
+        this.name = name;
+        this.fieldNames = fieldNames.clone();
+        this.defaultValues = defaultValues.clone();
+    }
+
+    /** {@return the name of the component type} */
+    public String getName() {
+        return name;
+    }
+
+    /** {@return the amount of fields in the component type} */
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    /**
+     * {@return the name of the given field}
+     *
+     * @param field The index of the field.
+     */
+    public String getFieldName(int field) {
+        return fieldNames[field];
+    }
+
+    /**
+     * {@return the index of the field with the given name, or {@code -1} if the component type has no such field}
+     *
+     * @param fieldName The name of the field.
+     */
+    public int getFieldIndex(String fieldName) {
+        for (int field = 0; field < fieldNames.length; field++) {
+            if (fieldNames[field].equals(fieldName)) {
+                return field;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@return the value the given field is set to when the component is added to an entity}
+     *
+     * @param field The index of the field.
+     */
+    public float getDefaultValue(int field) {
+        return defaultValues[field];
+    }
+
+    /** {@return the component type's bit in an {@link Archetype#getSignature() archetype signature}} */
+    long bit() {
+        return 1L << id;
+    }
+
+    int id() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentType{" +
+            "name='" + name + '\'' +
+            ", fieldNames=" + Arrays.toString(fieldNames) +
+            '}';
+    }
+}
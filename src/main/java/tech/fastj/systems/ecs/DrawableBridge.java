@@ -0,0 +1,150 @@
+package tech.fastj.systems.ecs;
+
+import tech.fastj.graphics.Drawable;
+import tech.fastj.math.Pointf;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link EntitySystem System} which copies the {@link ComponentType#Transform transforms} of entities to the drawables bound to them.
+ * <p>
+ * The bridge lets existing drawables -- rendered, culled, and collided with as usual -- be moved by systems working on dense component
+ * columns. Each update, every bound drawable whose entity's transform changed since the last update has its translation, rotation, and
+ * scale set to match. Bindings whose entity was destroyed, or whose drawable was {@link Drawable#isDestroyed() destroyed}, are dropped.
+ * Entities without a transform leave their drawables untouched.
+ * <p>
+ * Add the bridge after the systems which move entities, so that drawables are up to date by the time they are rendered.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class DrawableBridge implements EntitySystem {
+
+    private static final int TransformFields = 5;
+
+    private int[] entities = new int[16];
+    private Drawable[] drawables = new Drawable[16];
+    private float[] appliedTransforms = new float[16 * TransformFields];
+    private int bindingCount;
+
+    private final Pointf scratchPoint = new Pointf();
+
+    /** {@return the amount of drawables bound to entities} */
+    public int getBindingCount() {
+        return bindingCount;
+    }
+
+    /**
+     * Binds the given drawable to the given entity, replacing any drawable the entity was already bound to.
+     *
+     * @param entity   The entity whose transform the drawable should follow.
+     * @param drawable The drawable to bind.
+     */
+    public void bind(int entity, Drawable drawable) {
+        Objects.requireNonNull(drawable, "The drawable must not be null.");
+
+        int binding = indexOf(entity);
+        if (binding == -1) {
+            if (bindingCount == entities.length) {
+                int capacity = bindingCount * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                drawables = Arrays.copyOf(drawables, capacity);
+                appliedTransforms = Arrays.copyOf(appliedTransforms, capacity * TransformFields);
+            }
+            binding = bindingCount++;
+            entities[binding] = entity;
+        }
+
+        drawables[binding] = drawable;
+        Arrays.fill(appliedTransforms, binding * TransformFields, (binding + 1) * TransformFields, Float.NaN);
+    }
+
+    /**
+     * Unbinds the drawable bound to the given entity, if there is one.
+     *
+     * @param entity The entity to unbind.
+     */
+    public void unbind(int entity) {
+        int binding = indexOf(entity);
+        if (binding != -1) {
+            removeBinding(binding);
+        }
+    }
+
+    /**
+     * {@return the drawable bound to the given entity, or {@code null} if there is none}
+     *
+     * @param entity The entity to look up.
+     */
+    public Drawable getDrawable(int entity) {
+        int binding = indexOf(entity);
+        return binding == -1 ? null : drawables[binding];
+    }
+
+    @Override
+    public void update(EntityWorld world, float deltaTime) {
+        for (int binding = bindingCount - 1; binding >= 0; binding--) {
+            int entity = entities[binding];
+            Drawable drawable = drawables[binding];
+            if (!world.isAlive(entity) || drawable.isDestroyed()) {
+                removeBinding(binding);
+                continue;
+            }
+
+            Archetype archetype = world.getArchetype(entity);
+            if (!archetype.has(ComponentType.Transform)) {
+                continue;
+            }
+
+            int row = world.getRow(entity);
+            int applied = binding * TransformFields;
+            float x = archetype.getColumn(ComponentType.Transform, ComponentType.TransformX)[row];
+            float y = archetype.getColumn(ComponentType.Transform, ComponentType.TransformY)[row];
+            float rotation = archetype.getColumn(ComponentType.Transform, ComponentType.TransformRotation)[row];
+            float scaleX = archetype.getColumn(ComponentType.Transform, ComponentType.TransformScaleX)[row];
+            float scaleY = archetype.getColumn(ComponentType.Transform, ComponentType.TransformScaleY)[row];
+
+            if (x != appliedTransforms[applied] || y != appliedTransforms[applied + 1]) {
+                scratchPoint.set(x, y);
+                drawable.setTranslation(scratchPoint);
+                appliedTransforms[applied] = x;
+                appliedTransforms[applied + 1] = y;
+            }
+            if (rotation != appliedTransforms[applied + 2]) {
+                drawable.setRotation(rotation);
+                appliedTransforms[applied + 2] = rotation;
+            }
+            if (scaleX != appliedTransforms[applied + 3] || scaleY != appliedTransforms[applied + 4]) {
+                scratchPoint.set(scaleX, scaleY);
+                drawable.setScale(scratchPoint);
+                appliedTransforms[applied + 3] = scaleX;
+                appliedTransforms[applied + 4] = scaleY;
+            }
+        }
+    }
+
+    private int indexOf(int entity) {
+        for (int binding = 0; binding < bindingCount; binding++) {
+            if (entities[binding] == entity) {
+                return binding;
+            }
+        }
+        return -1;
+    }
+
+    private void removeBinding(int binding) {
+        int lastBinding = --bindingCount;
+        entities[binding] = entities[lastBinding];
+        drawables[binding] = drawables[lastBinding];
+        System.arraycopy(appliedTransforms, lastBinding * TransformFields, appliedTransforms, binding * TransformFields, TransformFields);
+        drawables[lastBinding] = null;
+    }
+
+    @Override
+    public String toString() {
+        return "DrawableBridge{" +
+            "bindingCount=" + bindingCount +
+            '}';
+    }
+}
@@ -0,0 +1,102 @@
+package tech.fastj.systems.ecs;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * The {@link Archetype archetypes} of an {@link EntityWorld entity world} whose entities have all of a set of {@link ComponentType
+ * components}.
+ * <p>
+ * A query is kept up to date by its world as new archetypes are created, so systems can create their queries once and iterate them every
+ * update without creating any objects:
+ * {@snippet lang = "java":
+ * for (int i = 0; i < query.getArchetypeCount(); i++) {
+ *     Archetype archetype = query.getArchetype(i);
+ *     float[] x = archetype.getColumn(ComponentType.Transform, ComponentType.TransformX);
+ *     float[] velocityX = archetype.getColumn(ComponentType.Velocity, ComponentType.VelocityX);
+ *     for (int row = 0; row < archetype.getEntityCount(); row++) {
+ *         x[row] += velocityX[row] * deltaTime;
+ *     }
+ * }}
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class EntityQuery {
+
+    private final long signature;
+    private Archetype[] archetypes = new Archetype[4];
+    private int archetypeCount;
+
+    EntityQuery(long signature) {
+        this.signature = signature;
+    }
+
+    /** {@return the bits of every component type an archetype must have to match the query} */
+    public long getSignature() {
+        return signature;
+    }
+
+    /** {@return the amount of archetypes matching the query} */
+    public int getArchetypeCount() {
+        return archetypeCount;
+    }
+
+    /**
+     * {@return the archetype at the given index}
+     *
+     * @param index The index of the archetype.
+     */
+    public Archetype getArchetype(int index) {
+        if (index < 0 || index >= archetypeCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for " + archetypeCount + " archetypes.");
+        }
+        return archetypes[index];
+    }
+
+    /** {@return the amount of entities matching the query} */
+    public int getEntityCount() {
+        int entityCount = 0;
+        for (int i = 0; i < archetypeCount; i++) {
+            entityCount += archetypes[i].getEntityCount();
+        }
+        return entityCount;
+    }
+
+    /**
+     * Runs the given action for every archetype matching the query which has entities.
+     *
+     * @param action The action to run.
+     */
+    public void forEach(Consumer<Archetype> action) {
+        for (int i = 0; i < archetypeCount; i++) {
+            if (archetypes[i].getEntityCount() > 0) {
+                action.accept(archetypes[i]);
+            }
+        }
+    }
+
+    /**
+     * Adds the given archetype to the query if it matches.
+     *
+     * @param archetype The newly created archetype.
+     */
+    void offer(Archetype archetype) {
+        if ((archetype.getSignature() & signature) != signature) {
+            return;
+        }
+
+        if (archetypeCount == archetypes.length) {
+            archetypes = Arrays.copyOf(archetypes, archetypeCount * 2);
+        }
+        archetypes[archetypeCount++] = archetype;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityQuery{" +
+            "signature=" + Long.toBinaryString(signature) +
+            ", archetypeCount=" + archetypeCount +
+            '}';
+    }
+}
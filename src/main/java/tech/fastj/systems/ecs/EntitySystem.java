@@ -0,0 +1,58 @@
+package tech.fastj.systems.ecs;
+
+/**
+ * Logic run over the entities of an {@link EntityWorld entity world} every time it {@link EntityWorld#update(float) updates}.
+ * <p>
+ * Unlike a {@link tech.fastj.systems.behaviors.Behavior behavior}, which is called once for each game object it is attached to, a system
+ * is called once per update, and iterates the component columns of every matching {@link Archetype archetype} itself -- see
+ * {@link EntityQuery} for an example.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface EntitySystem {
+
+    /**
+     * Gets an {@link EntitySystem} which moves every entity with a {@link ComponentType#Transform transform} and a
+     * {@link ComponentType#Velocity velocity} by its velocity.
+     *
+     * @return The newly created {@code EntitySystem}.
+     */
+    static EntitySystem movement() {
+        return new EntitySystem() {
+            private EntityWorld world;
+            private EntityQuery query;
+
+            @Override
+            public void update(EntityWorld world, float deltaTime) {
+                if (this.world != world) {
+                    this.world = world;
+                    query = world.query(ComponentType.Transform, ComponentType.Velocity);
+                }
+
+                for (int i = 0; i < query.getArchetypeCount(); i++) {
+                    Archetype archetype = query.getArchetype(i);
+                    float[] x = archetype.getColumn(ComponentType.Transform, ComponentType.TransformX);
+                    float[] y = archetype.getColumn(ComponentType.Transform, ComponentType.TransformY);
+                    float[] velocityX = archetype.getColumn(ComponentType.Velocity, ComponentType.VelocityX);
+                    float[] velocityY = archetype.getColumn(ComponentType.Velocity, ComponentType.VelocityY);
+
+                    int entityCount = archetype.getEntityCount();
+                    for (int row = 0; row < entityCount; row++) {
+                        x[row] += velocityX[row] * deltaTime;
+                        y[row] += velocityY[row] * deltaTime;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Updates the entities of the given world.
+     *
+     * @param world     The world being updated.
+     * @param deltaTime The time passed since the last update, in seconds.
+     */
+    void update(EntityWorld world, float deltaTime);
+}
@@ -0,0 +1,434 @@
+package tech.fastj.systems.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Data-oriented storage for entities made up of {@link ComponentType components}, and the {@link EntitySystem systems} which update them.
+ * <p>
+ * Entities are plain {@code int} handles. Every entity with the same set of components is stored in the same {@link Archetype archetype},
+ * whose components are kept in dense {@code float} columns -- systems iterate those columns directly, so updating even hundreds of
+ * thousands of entities walks memory in order and creates no objects. This is an optional alternative to {@link
+ * tech.fastj.graphics.game.GameObject game objects} and {@link tech.fastj.systems.behaviors.Behavior behaviors}, for the many simple things
+ * in a game which would otherwise each be their own object. {@link DrawableBridge} lets entities drive the transforms of regular drawables.
+ * <p>
+ * Each handle holds the entity's slot and a generation, which changes whenever the slot is reused -- handles to destroyed entities are
+ * never mistaken for the entities that replace them. Freed slots are reused in the order they were freed, so a slot is only reused once
+ * every slot freed before it has been, and a slot whose generations are used up is retired rather than reused.
+ * <p>
+ * While a system is updating, entities destroyed are only removed once the system finishes, so that the columns it is iterating do not
+ * shift beneath it. Creating entities and adding or removing components is not allowed at all during a system's update; use
+ * {@link #runLater(Runnable)} instead. The world is not thread-safe.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class EntityWorld {
+
+    /**
+     * The largest amount of entity slots a world can use.
+     * <p>
+     * Each slot can be reused for {@link #MaxGenerations} entities before it is retired, so a world can create at most
+     * {@code MaxEntities * MaxGenerations} entities over its lifetime.
+     */
+    public static final int MaxEntities = 1 << 20;
+
+    /** The amount of entities each entity slot can hold, one after another, before it is retired. */
+    public static final int MaxGenerations = 1 << 11;
+
+    private static final int EntitySlotBits = 20;
+    private static final int EntitySlotMask = MaxEntities - 1;
+    private static final int InitialCapacity = 64;
+
+    private final Map<Long, Archetype> archetypesBySignature = new HashMap<>();
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final Map<Long, EntityQuery> queries = new HashMap<>();
+    private final List<EntitySystem> systems = new ArrayList<>();
+
+    private int[] generations = new int[InitialCapacity];
+    private Archetype[] entityArchetypes = new Archetype[InitialCapacity];
+    private int[] entityRows = new int[InitialCapacity];
+    private int slotCount;
+    /** Freed slots, as a ring buffer -- the oldest freed slot is reused first. */
+    private int[] freeSlots = new int[InitialCapacity];
+    private int freeSlotHead;
+    private int freeSlotCount;
+    private int entityCount;
+
+    private boolean isUpdating;
+    private int[] pendingDestroys = new int[InitialCapacity];
+    private int pendingDestroyCount;
+    private final List<Runnable> pendingActions = new ArrayList<>();
+
+    /** {@return the amount of living entities in the world} */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /** {@return the archetypes created by the world, in the order they were created} */
+    public List<Archetype> getArchetypes() {
+        return List.copyOf(archetypes);
+    }
+
+    /**
+     * Creates an entity with the given components, each set to its default values.
+     *
+     * @param componentTypes The components of the new entity.
+     * @return The new entity's handle.
+     * @throws IllegalStateException if a system is updating, or the world is full.
+     */
+    public int createEntity(ComponentType... componentTypes) {
+        checkNotUpdating();
+
+        long signature = 0L;
+        for (ComponentType componentType : componentTypes) {
+            signature |= componentType.bit();
+        }
+        Archetype archetype = archetypeOf(signature, componentTypes);
+
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[freeSlotHead];
+            freeSlotHead = (freeSlotHead + 1) % freeSlots.length;
+            freeSlotCount--;
+        } else {
+            if (slotCount == MaxEntities) {
+                throw new IllegalStateException("The world cannot hold more than " + MaxEntities + " entities.");
+            }
+            if (slotCount == generations.length) {
+                int capacity = Math.min(slotCount * 2, MaxEntities);
+                generations = Arrays.copyOf(generations, capacity);
+                entityArchetypes = Arrays.copyOf(entityArchetypes, capacity);
+                entityRows = Arrays.copyOf(entityRows, capacity);
+            }
+            slot = slotCount++;
+        }
+
+        int entity = (generations[slot] << EntitySlotBits) | slot;
+        entityArchetypes[slot] = archetype;
+        entityRows[slot] = archetype.addEntity(entity);
+        entityCount++;
+        return entity;
+    }
+
+    /**
+     * Destroys the given entity.
+     * <p>
+     * Destroying an entity which is not alive does nothing. If a system is updating, the entity is destroyed once it finishes.
+     *
+     * @param entity The entity to destroy.
+     */
+    public void destroyEntity(int entity) {
+        if (!isAlive(entity)) {
+            return;
+        }
+
+        if (isUpdating) {
+            if (pendingDestroyCount == pendingDestroys.length) {
+                pendingDestroys = Arrays.copyOf(pendingDestroys, pendingDestroyCount * 2);
+            }
+            pendingDestroys[pendingDestroyCount++] = entity;
+            return;
+        }
+
+        int slot = entity & EntitySlotMask;
+        removeRow(entityArchetypes[slot], entityRows[slot]);
+        entityArchetypes[slot] = null;
+        entityCount--;
+
+        // a slot with no generations left is retired, so that its old handles can never become alive again
+        if (++generations[slot] == MaxGenerations) {
+            return;
+        }
+
+        if (freeSlotCount == freeSlots.length) {
+            int[] grownFreeSlots = new int[freeSlotCount * 2];
+            for (int i = 0; i < freeSlotCount; i++) {
+                grownFreeSlots[i] = freeSlots[(freeSlotHead + i) % freeSlots.length];
+            }
+            freeSlots = grownFreeSlots;
+            freeSlotHead = 0;
+        }
+        freeSlots[(freeSlotHead + freeSlotCount) % freeSlots.length] = slot;
+        freeSlotCount++;
+    }
+
+    /**
+     * {@return whether the given entity has been created, and not yet destroyed}
+     *
+     * @param entity The entity to check.
+     */
+    public boolean isAlive(int entity) {
+        int slot = entity & EntitySlotMask;
+        return entity >= 0
+            && slot < slotCount
+            && entityArchetypes[slot] != null
+            && generations[slot] == entity >>> EntitySlotBits;
+    }
+
+    /**
+     * {@return whether the given entity has the given component}
+     *
+     * @param entity        The entity to check.
+     * @param componentType The component type to check for.
+     */
+    public boolean has(int entity, ComponentType componentType) {
+        return getArchetype(entity).has(componentType);
+    }
+
+    /**
+     * {@return the archetype the given entity is stored in}
+     *
+     * @param entity The entity to look up.
+     * @throws IllegalArgumentException if the entity is not alive.
+     */
+    public Archetype getArchetype(int entity) {
+        checkAlive(entity);
+        return entityArchetypes[entity & EntitySlotMask];
+    }
+
+    /**
+     * {@return the row of its archetype the given entity is stored in}
+     *
+     * @param entity The entity to look up.
+     * @throws IllegalArgumentException if the entity is not alive.
+     */
+    public int getRow(int entity) {
+        checkAlive(entity);
+        return entityRows[entity & EntitySlotMask];
+    }
+
+    /**
+     * {@return the value of the given field of one of the given entity's components}
+     *
+     * @param entity        The entity to read from.
+     * @param componentType The component type the field belongs to.
+     * @param field         The index of the field.
+     */
+    public float get(int entity, ComponentType componentType, int field) {
+        Archetype archetype = getArchetype(entity);
+        return archetype.getColumn(componentType, field)[entityRows[entity & EntitySlotMask]];
+    }
+
+    /**
+     * Sets the value of the given field of one of the given entity's components.
+     *
+     * @param entity        The entity to write to.
+     * @param componentType The component type the field belongs to.
+     * @param field         The index of the field.
+     * @param value         The new value of the field.
+     */
+    public void set(int entity, ComponentType componentType, int field, float value) {
+        Archetype archetype = getArchetype(entity);
+        archetype.getColumn(componentType, field)[entityRows[entity & EntitySlotMask]] = value;
+    }
+
+    /**
+     * Adds the given component to the given entity, set to its default values, moving the entity to the matching archetype.
+     * <p>
+     * Adding a component the entity already has does nothing.
+     *
+     * @param entity        The entity to add the component to.
+     * @param componentType The component type to add.
+     * @throws IllegalStateException if a system is updating.
+     */
+    public void addComponent(int entity, ComponentType componentType) {
+        checkNotUpdating();
+        Archetype archetype = getArchetype(entity);
+        if (archetype.has(componentType)) {
+            return;
+        }
+
+        ComponentType[] componentTypes = Arrays.copyOf(archetype.getComponentTypes(), archetype.getComponentTypes().length + 1);
+        componentTypes[componentTypes.length - 1] = componentType;
+        moveEntity(entity, archetypeOf(archetype.getSignature() | componentType.bit(), componentTypes));
+    }
+
+    /**
+     * Removes the given component from the given entity, moving the entity to the matching archetype.
+     * <p>
+     * Removing a component the entity does not have does nothing.
+     *
+     * @param entity        The entity to remove the component from.
+     * @param componentType The component type to remove.
+     * @throws IllegalStateException if a system is updating.
+     */
+    public void removeComponent(int entity, ComponentType componentType) {
+        checkNotUpdating();
+        Archetype archetype = getArchetype(entity);
+        if (!archetype.has(componentType)) {
+            return;
+        }
+
+        ComponentType[] componentTypes = Arrays.stream(archetype.getComponentTypes())
+            .filter(type -> type != componentType)
+            .toArray(ComponentType[]::new);
+        moveEntity(entity, archetypeOf(archetype.getSignature() & ~componentType.bit(), componentTypes));
+    }
+
+    /**
+     * Gets the query for every entity with all the given components.
+     * <p>
+     * Queries are created once per set of components, and kept up to date as the world creates new archetypes -- systems should look up
+     * their queries once, rather than every update.
+     *
+     * @param componentTypes The components matching entities must have.
+     * @return The query.
+     */
+    public EntityQuery query(ComponentType... componentTypes) {
+        long signature = 0L;
+        for (ComponentType componentType : componentTypes) {
+            signature |= componentType.bit();
+        }
+
+        return queries.computeIfAbsent(signature, querySignature -> {
+            EntityQuery query = new EntityQuery(querySignature);
+            for (Archetype archetype : archetypes) {
+                query.offer(archetype);
+            }
+            return query;
+        });
+    }
+
+    /**
+     * Adds the given system to the end of the world's systems.
+     *
+     * @param system The system to add.
+     */
+    public void addSystem(EntitySystem system) {
+        systems.add(Objects.requireNonNull(system, "The system must not be null."));
+    }
+
+    /**
+     * Removes the given system from the world's systems.
+     *
+     * @param system The system to remove.
+     */
+    public void removeSystem(EntitySystem system) {
+        systems.remove(system);
+    }
+
+    /** {@return the world's systems, in the order they are updated} */
+    public List<EntitySystem> getSystems() {
+        return List.copyOf(systems);
+    }
+
+    /**
+     * Updates each of the world's systems in order.
+     * <p>
+     * After each system finishes, the entities it destroyed are removed, and the actions it {@link #runLater(Runnable) ran later} are run.
+     *
+     * @param deltaTime The time passed since the last update, in seconds.
+     */
+    public void update(float deltaTime) {
+        for (int i = 0; i < systems.size(); i++) {
+            isUpdating = true;
+            try {
+                systems.get(i).update(this, deltaTime);
+            } finally {
+                isUpdating = false;
+            }
+            runPendingChanges();
+        }
+    }
+
+    /**
+     * Runs the given action once the system currently updating finishes, or right away if no system is updating.
+     * <p>
+     * Actions which create entities or add or remove components must be run this way during an update.
+     *
+     * @param action The action to run.
+     */
+    public void runLater(Runnable action) {
+        if (isUpdating) {
+            pendingActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /** Destroys every entity in the world, keeping its systems, archetypes, and queries. */
+    public void clear() {
+        checkNotUpdating();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (entityArchetypes[slot] != null) {
+                destroyEntity((generations[slot] << EntitySlotBits) | slot);
+            }
+        }
+    }
+
+    private Archetype archetypeOf(long signature, ComponentType[] componentTypes) {
+        Archetype archetype = archetypesBySignature.get(signature);
+        if (archetype != null) {
+            return archetype;
+        }
+
+        ComponentType[] uniqueTypes = Arrays.stream(componentTypes)
+            .map(componentType -> Objects.requireNonNull(componentType, "Component types must not be null."))
+            .distinct()
+            .toArray(ComponentType[]::new);
+        archetype = new Archetype(signature, uniqueTypes);
+        archetypesBySignature.put(signature, archetype);
+        archetypes.add(archetype);
+        for (EntityQuery query : queries.values()) {
+            query.offer(archetype);
+        }
+        return archetype;
+    }
+
+    private void moveEntity(int entity, Archetype destination) {
+        int slot = entity & EntitySlotMask;
+        Archetype source = entityArchetypes[slot];
+        int sourceRow = entityRows[slot];
+
+        int row = destination.addEntity(entity);
+        destination.copyShared(source, sourceRow, row);
+        removeRow(source, sourceRow);
+        entityArchetypes[slot] = destination;
+        entityRows[slot] = row;
+    }
+
+    private void removeRow(Archetype archetype, int row) {
+        int movedEntity = archetype.removeRow(row);
+        if (movedEntity != -1) {
+            entityRows[movedEntity & EntitySlotMask] = row;
+        }
+    }
+
+    private void runPendingChanges() {
+        for (int i = 0; i < pendingDestroyCount; i++) {
+            destroyEntity(pendingDestroys[i]);
+        }
+        pendingDestroyCount = 0;
+
+        for (int i = 0; i < pendingActions.size(); i++) {
+            pendingActions.get(i).run();
+        }
+        pendingActions.clear();
+    }
+
+    private void checkAlive(int entity) {
+        if (!isAlive(entity)) {
+            throw new IllegalArgumentException("The entity " + entity + " is not alive.");
+        }
+    }
+
+    private void checkNotUpdating() {
+        if (isUpdating) {
+            throw new IllegalStateException("Entities cannot be created or change components while a system is updating. Use runLater instead.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EntityWorld{" +
+            "entityCount=" + entityCount +
+            ", archetypeCount=" + archetypes.size() +
+            ", systemCount=" + systems.size() +
+            '}';
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * FastJ's data-oriented entity system.
+ * <p>
+ * An {@link tech.fastj.systems.ecs.EntityWorld entity world} stores entities made of {@link tech.fastj.systems.ecs.ComponentType components}
+ * in {@link tech.fastj.systems.ecs.Archetype archetypes} of dense {@code float} columns, which
+ * {@link tech.fastj.systems.ecs.EntitySystem systems} iterate through {@link tech.fastj.systems.ecs.EntityQuery queries}. The
+ * {@link tech.fastj.systems.ecs.DrawableBridge drawable bridge} lets entities drive the transforms of regular drawables.
+ */
+package tech.fastj.systems.ecs;
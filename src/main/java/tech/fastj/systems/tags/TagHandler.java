@@ -1,10 +1,14 @@
 package tech.fastj.systems.tags;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * General implementation for a class which holds tags for a type of object.
+ * <p>
+ * Tag handlers which provide a {@link #getTagIndex() tag index} answer tag queries through it, at a cost which only depends on the amount
+ * of entities with the tag. Otherwise, each query checks every one of the {@link #getTaggableEntities() taggable entities}.
  */
 public interface TagHandler<T extends TaggableEntity> {
 
@@ -15,6 +19,16 @@ public interface TagHandler<T extends TaggableEntity> {
      */
     List<T> getTaggableEntities();
 
+    /**
+     * Gets the index of the tag handler's taggable entities by tag, if it has one.
+     *
+     * @return The tag index of the tag handler, or {@code null} if it has none.
+     * @since 1.7.0
+     */
+    default TagIndex<T> getTagIndex() {
+        return null;
+    }
+
     /**
      * Gets all taggable entities with the specified tag.
      *
@@ -23,13 +37,35 @@ public interface TagHandler<T extends TaggableEntity> {
      */
     default List<T> getAllWithTag(String tag) {
         List<T> result = new ArrayList<>();
+        getAllWithTag(tag, result);
+
+        return result;
+    }
+
+    /**
+     * Adds all taggable entities with the specified tag to the given collection.
+     *
+     * @param tag     The tag to check for.
+     * @param results The collection to add the taggable entities to.
+     * @return The amount of taggable entities added.
+     * @since 1.7.0
+     */
+    default int getAllWithTag(String tag, Collection<? super T> results) {
+        TagIndex<T> tagIndex = getTagIndex();
+        if (tagIndex != null) {
+            return tagIndex.getAllWithTag(tag, results);
+        }
+
+        int tagId = TagRegistry.findId(tag);
+        int count = 0;
         for (T entity : getTaggableEntities()) {
-            if (entity.hasTag(tag)) {
-                result.add(entity);
+            if (entity.hasTag(tagId)) {
+                results.add(entity);
+                count++;
             }
         }
 
-        return result;
+        return count;
     }
 
     /**
@@ -39,8 +75,14 @@ public interface TagHandler<T extends TaggableEntity> {
      * @return A list of all taggable entities with the specified tag.
      */
     default T getFirstWithTag(String tag) {
+        TagIndex<T> tagIndex = getTagIndex();
+        if (tagIndex != null) {
+            return tagIndex.getFirstWithTag(tag);
+        }
+
+        int tagId = TagRegistry.findId(tag);
         for (T entity : getTaggableEntities()) {
-            if (entity.hasTag(tag)) {
+            if (entity.hasTag(tagId)) {
                 return entity;
             }
         }
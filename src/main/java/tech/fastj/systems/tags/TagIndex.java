@@ -0,0 +1,253 @@
+package tech.fastj.systems.tags;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Reverse index from tags to the {@link TaggableEntity taggable entities} which have them.
+ * <p>
+ * Entities added to the index keep it up to date themselves: {@link TaggableEntity#addTag(String) adding},
+ * {@link TaggableEntity#removeTag(String) removing}, and {@link TaggableEntity#clearTags() clearing} tags updates every index the entity
+ * belongs to. Looking up the entities with a tag only costs as much as the amount of entities with that tag, no matter how many entities
+ * the index holds. Removing an entity from a tag costs the same no matter how many entities have that tag.
+ * <p>
+ * Entities with a tag are kept in the order they were added to the index, or given the tag -- whichever happened last. The index is not
+ * thread-safe.
+ *
+ * @param <T> The type of taggable entity in the index.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class TagIndex<T extends TaggableEntity> {
+
+    private final Set<T> entities = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<TagEntities<T>> entitiesByTag = new ArrayList<>();
+
+    /** {@return the amount of entities in the index} */
+    public int size() {
+        return entities.size();
+    }
+
+    /**
+     * {@return whether the index contains the given entity}
+     *
+     * @param entity The entity to check for.
+     */
+    public boolean contains(TaggableEntity entity) {
+        return entity.isInTagIndex(this);
+    }
+
+    /**
+     * Adds the given entity to the index.
+     * <p>
+     * Adding an entity which is already in the index does nothing.
+     *
+     * @param entity The entity to add.
+     */
+    public void add(T entity) {
+        if (!entities.add(entity)) {
+            return;
+        }
+
+        entity.addTagIndex(this);
+        long[] tagBits = entity.tagBits;
+        for (int word = 0; word < tagBits.length; word++) {
+            for (long bits = tagBits[word]; bits != 0L; bits &= bits - 1L) {
+                entitiesWithTag(word * Long.SIZE + Long.numberOfTrailingZeros(bits)).append(entity);
+            }
+        }
+    }
+
+    /**
+     * Removes the given entity from the index, if it is in the index.
+     *
+     * @param entity The entity to remove.
+     */
+    public void remove(TaggableEntity entity) {
+        if (!entity.isInTagIndex(this)) {
+            return;
+        }
+
+        entity.removeTagIndex(this);
+        entities.remove(entity);
+        long[] tagBits = entity.tagBits;
+        for (int word = 0; word < tagBits.length; word++) {
+            for (long bits = tagBits[word]; bits != 0L; bits &= bits - 1L) {
+                removeEntity(word * Long.SIZE + Long.numberOfTrailingZeros(bits), entity);
+            }
+        }
+    }
+
+    /** Removes all entities from the index. */
+    public void clear() {
+        for (T entity : entities) {
+            entity.removeTagIndex(this);
+        }
+
+        entities.clear();
+        for (TagEntities<T> tagEntities : entitiesByTag) {
+            tagEntities.removeAll();
+        }
+    }
+
+    /**
+     * Gets the entities with the given tag.
+     *
+     * @param tag The tag to check for.
+     * @return An unmodifiable view of the entities with the tag.
+     */
+    public List<T> getAllWithTag(String tag) {
+        return getAllWithTag(TagRegistry.findId(tag));
+    }
+
+    /**
+     * Gets the entities with the tag of the given {@link TagRegistry#idOf(String) id}.
+     *
+     * @param tagId The id of the tag to check for.
+     * @return An unmodifiable view of the entities with the tag.
+     */
+    public List<T> getAllWithTag(int tagId) {
+        if (tagId < 0 || tagId >= entitiesByTag.size()) {
+            return Collections.emptyList();
+        }
+        return entitiesByTag.get(tagId);
+    }
+
+    /**
+     * Adds the entities with the given tag to the given collection.
+     *
+     * @param tag     The tag to check for.
+     * @param results The collection to add the entities to.
+     * @return The amount of entities added.
+     */
+    public int getAllWithTag(String tag, Collection<? super T> results) {
+        List<T> tagEntities = getAllWithTag(tag);
+        results.addAll(tagEntities);
+        return tagEntities.size();
+    }
+
+    /**
+     * Gets the first entity with the given tag.
+     *
+     * @param tag The tag to check for.
+     * @return The first entity with the tag, or {@code null} if there is none.
+     */
+    public T getFirstWithTag(String tag) {
+        List<T> tagEntities = getAllWithTag(tag);
+        return tagEntities.isEmpty() ? null : tagEntities.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    void tagAdded(TaggableEntity entity, int tagId) {
+        entitiesWithTag(tagId).append((T) entity);
+    }
+
+    void tagRemoved(TaggableEntity entity, int tagId) {
+        removeEntity(tagId, entity);
+    }
+
+    private TagEntities<T> entitiesWithTag(int tagId) {
+        while (entitiesByTag.size() <= tagId) {
+            entitiesByTag.add(new TagEntities<>());
+        }
+        return entitiesByTag.get(tagId);
+    }
+
+    private void removeEntity(int tagId, TaggableEntity entity) {
+        entitiesWithTag(tagId).removeEntity(entity);
+    }
+
+    /**
+     * The entities with one tag, in order, as an unmodifiable list.
+     * <p>
+     * Each entity's position is tracked by identity -- entities compare by value. Removing an entity leaves a hole in its place, and the
+     * holes are closed up the next time the list is read, so removing many entities in a row only shifts the rest once.
+     */
+    private static class TagEntities<T> extends AbstractList<T> implements RandomAccess {
+
+        private static final Object[] NoEntities = {};
+
+        private final Map<Object, Integer> positions = new IdentityHashMap<>();
+        private Object[] entities = NoEntities;
+        private int end;
+        private int holeCount;
+
+        void append(T entity) {
+            if (end == entities.length) {
+                compact();
+                if (end == entities.length) {
+                    entities = Arrays.copyOf(entities, Math.max(8, end * 2));
+                }
+            }
+
+            positions.put(entity, end);
+            entities[end++] = entity;
+            modCount++;
+        }
+
+        void removeEntity(Object entity) {
+            Integer position = positions.remove(entity);
+            if (position == null) {
+                return;
+            }
+
+            entities[position] = null;
+            holeCount++;
+            modCount++;
+        }
+
+        void removeAll() {
+            positions.clear();
+            Arrays.fill(entities, 0, end, null);
+            end = 0;
+            holeCount = 0;
+            modCount++;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            compact();
+            Objects.checkIndex(index, end);
+            return (T) entities[index];
+        }
+
+        @Override
+        public int size() {
+            return end - holeCount;
+        }
+
+        private void compact() {
+            if (holeCount == 0) {
+                return;
+            }
+
+            int kept = 0;
+            for (int i = 0; i < end; i++) {
+                Object entity = entities[i];
+                if (entity == null) {
+                    continue;
+                }
+
+                if (kept != i) {
+                    entities[kept] = entity;
+                    positions.put(entity, kept);
+                }
+                kept++;
+            }
+
+            Arrays.fill(entities, kept, end, null);
+            end = kept;
+            holeCount = 0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package tech.fastj.systems.tags;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global registry interning tag names into small integer ids.
+ * <p>
+ * Ids are handed out in order starting from {@code 0}, and never change or get reused. {@link TaggableEntity Taggable entities} store
+ * their tags as bits indexed by these ids, so checking for a tag by id is a single array access.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class TagRegistry {
+
+    /** Id representing a tag that has never been registered. */
+    public static final int UnknownTag = -1;
+
+    private static final Map<String, Integer> TagIds = new ConcurrentHashMap<>();
+    private static final List<String> TagNames = new ArrayList<>();
+
+    private TagRegistry() {
+        throw new java.lang.IllegalStateException();
+    }
+
+    /**
+     * Gets the id of the given tag, registering the tag if it hasn't been registered yet.
+     *
+     * @param tag The tag to get the id of.
+     * @return The id of the tag.
+     */
+    public static int idOf(String tag) {
+        Integer id = TagIds.get(tag);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (TagNames) {
+            id = TagIds.get(tag);
+            if (id == null) {
+                id = TagNames.size();
+                TagNames.add(tag);
+                TagIds.put(tag, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Gets the id of the given tag, without registering it.
+     *
+     * @param tag The tag to get the id of.
+     * @return The id of the tag, or {@link #UnknownTag} if the tag has never been registered.
+     */
+    public static int findId(String tag) {
+        Integer id = TagIds.get(tag);
+        return id == null ? UnknownTag : id;
+    }
+
+    /**
+     * Gets the name of the tag with the given id.
+     *
+     * @param id The id of the tag.
+     * @return The name of the tag.
+     * @throws IllegalArgumentException if no tag has the given id.
+     */
+    public static String nameOf(int id) {
+        synchronized (TagNames) {
+            if (id < 0 || id >= TagNames.size()) {
+                throw new IllegalArgumentException("No tag has the id " + id + ".");
+            }
+            return TagNames.get(id);
+        }
+    }
+
+    /** {@return the amount of tags registered} */
+    public static int size() {
+        synchronized (TagNames) {
+            return TagNames.size();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package tech.fastj.systems.tags;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
@@ -18,20 +20,31 @@ import java.util.TreeSet;
  * 		<li>Finding a wide range of objects with a specified tag.</li>
  * 		<li>Finding the first object with a specified tag.</li>
  * </ul>
+ * <p>
+ * Tags are also {@link TagRegistry interned} into integer ids, and stored as a bitset -- checking for a tag by its id through
+ * {@link #hasTag(int)} is a single array access. Any {@link TagIndex tag indexes} the entity belongs to are updated as its tags change.
  *
  * @author Andrew Dey
  * @since 1.0.0
  */
 public abstract class TaggableEntity implements Comparable<TaggableEntity> {
+
+    private static final long[] NoTagBits = {};
+    private static final TagIndex<?>[] NoTagIndexes = {};
+
     private final Set<String> tags = new TreeSet<>();
+    private final Set<String> tagsView = Collections.unmodifiableSet(tags);
+    /** The entity's tags, as bits indexed by {@link TagRegistry tag id}. */
+    long[] tagBits = NoTagBits;
+    private TagIndex<?>[] tagIndexes = NoTagIndexes;
 
     /**
      * Gets the {@code TaggableEntity}'s list of tags.
      *
-     * @return The list of tags.
+     * @return An unmodifiable view of the list of tags.
      */
     public Set<String> getTags() {
-        return tags;
+        return tagsView;
     }
 
     /**
@@ -41,7 +54,23 @@ public abstract class TaggableEntity implements Comparable<TaggableEntity> {
      * @return Boolean that determines whether or not this object has the specified tag.
      */
     public boolean hasTag(String tag) {
-        return tags.contains(tag);
+        return hasTag(TagRegistry.findId(tag));
+    }
+
+    /**
+     * Determines whether this object has the tag with the specified {@link TagRegistry#idOf(String) id}.
+     *
+     * @param tagId The id of the tag to check for.
+     * @return Boolean that determines whether or not this object has the specified tag.
+     * @since 1.7.0
+     */
+    public boolean hasTag(int tagId) {
+        if (tagId < 0) {
+            return false;
+        }
+
+        int word = tagId >>> 6;
+        return word < tagBits.length && (tagBits[word] & (1L << tagId)) != 0L;
     }
 
     /**
@@ -53,7 +82,20 @@ public abstract class TaggableEntity implements Comparable<TaggableEntity> {
      */
     @SuppressWarnings("unchecked")
     public <T extends TaggableEntity> T addTag(String tag) {
-        tags.add(tag);
+        if (!tags.add(tag)) {
+            return (T) this;
+        }
+
+        int tagId = TagRegistry.idOf(tag);
+        int word = tagId >>> 6;
+        if (word >= tagBits.length) {
+            tagBits = Arrays.copyOf(tagBits, word + 1);
+        }
+        tagBits[word] |= 1L << tagId;
+
+        for (TagIndex<?> tagIndex : tagIndexes) {
+            tagIndex.tagAdded(this, tagId);
+        }
         return (T) this;
     }
 
@@ -68,13 +110,61 @@ public abstract class TaggableEntity implements Comparable<TaggableEntity> {
      */
     @SuppressWarnings("unchecked")
     public <T extends TaggableEntity> T removeTag(String tag) {
-        tags.remove(tag);
+        if (!tags.remove(tag)) {
+            return (T) this;
+        }
+
+        int tagId = TagRegistry.findId(tag);
+        tagBits[tagId >>> 6] &= ~(1L << tagId);
+
+        for (TagIndex<?> tagIndex : tagIndexes) {
+            tagIndex.tagRemoved(this, tagId);
+        }
         return (T) this;
     }
 
     /** Removes all tags from this object's tag list. */
     public void clearTags() {
+        for (int word = 0; word < tagBits.length; word++) {
+            for (long bits = tagBits[word]; bits != 0L; bits &= bits - 1L) {
+                int tagId = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                for (TagIndex<?> tagIndex : tagIndexes) {
+                    tagIndex.tagRemoved(this, tagId);
+                }
+            }
+        }
+
         tags.clear();
+        Arrays.fill(tagBits, 0L);
+    }
+
+    boolean isInTagIndex(TagIndex<?> tagIndex) {
+        for (TagIndex<?> index : tagIndexes) {
+            if (index == tagIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void addTagIndex(TagIndex<?> tagIndex) {
+        TagIndex<?>[] newTagIndexes = Arrays.copyOf(tagIndexes, tagIndexes.length + 1);
+        newTagIndexes[tagIndexes.length] = tagIndex;
+        tagIndexes = newTagIndexes;
+    }
+
+    void removeTagIndex(TagIndex<?> tagIndex) {
+        for (int i = 0; i < tagIndexes.length; i++) {
+            if (tagIndexes[i] != tagIndex) {
+                continue;
+            }
+
+            TagIndex<?>[] newTagIndexes = new TagIndex<?>[tagIndexes.length - 1];
+            System.arraycopy(tagIndexes, 0, newTagIndexes, 0, i);
+            System.arraycopy(tagIndexes, i + 1, newTagIndexes, i, newTagIndexes.length - i);
+            tagIndexes = newTagIndexes;
+            return;
+        }
     }
 
     @Override
@@ -16,12 +16,18 @@ module fastj.library.test {
 
     opens unittest.testcases.input.keyboard to org.junit.platform.commons;
 
+    opens unittest.testcases.resources.images to org.junit.platform.commons;
     opens unittest.testcases.resources.models to org.junit.platform.commons;
 
     opens unittest.testcases.math to org.junit.platform.commons;
 
+    opens unittest.testcases.physics to org.junit.platform.commons;
+
     opens unittest.testcases.systems.audio to org.junit.platform.commons;
+    opens unittest.testcases.systems.behaviors to org.junit.platform.commons;
+    opens unittest.testcases.systems.collections to org.junit.platform.commons;
     opens unittest.testcases.systems.control to org.junit.platform.commons;
+    opens unittest.testcases.systems.ecs to org.junit.platform.commons;
     opens unittest.testcases.systems.tags to org.junit.platform.commons;
 
     opens unittest.testcases.logging to org.junit.platform.commons;
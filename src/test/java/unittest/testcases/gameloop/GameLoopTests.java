@@ -1,14 +1,20 @@
 package unittest.testcases.gameloop;
 
 import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.FramePacing;
+import tech.fastj.gameloop.FrameProfiler;
+import tech.fastj.gameloop.FrameTimeStats;
 import tech.fastj.gameloop.GameLoop;
 import tech.fastj.gameloop.GameLoopState;
+import tech.fastj.gameloop.ProfiledFrame;
 import tech.fastj.gameloop.event.EventHandler;
 import tech.fastj.gameloop.event.EventObserver;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
@@ -223,6 +229,135 @@ class GameLoopTests {
         assertTrue(firedEvent.get(), "The event should have been fired and received.");
     }
 
+    @Test
+    void checkGameLoopFiresEventsFromOtherThreads_shouldReceiveAllEvents() throws InterruptedException {
+        int threadCount = 4;
+        int eventsPerThread = 1000;
+        AtomicInteger receivedEvents = new AtomicInteger();
+        AtomicBoolean postingFinished = new AtomicBoolean();
+        GameLoop gameLoop = new GameLoop((gl) -> !postingFinished.get() || receivedEvents.get() < threadCount * eventsPerThread, (gl) -> false);
+
+        gameLoop.addEventObserver((event) -> receivedEvents.incrementAndGet(), MockEvent.class);
+
+        Thread[] postingThreads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            postingThreads[i] = new Thread(() -> {
+                for (int j = 0; j < eventsPerThread; j++) {
+                    gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+                }
+            });
+            postingThreads[i].start();
+        }
+
+        Thread gameLoopThread = new Thread(gameLoop);
+        gameLoopThread.start();
+        for (Thread postingThread : postingThreads) {
+            postingThread.join();
+        }
+        postingFinished.set(true);
+        gameLoopThread.join(10000L);
+
+        assertFalse(gameLoopThread.isAlive(), "The game loop should have stopped after receiving all events.");
+        assertEquals(threadCount * eventsPerThread, receivedEvents.get(), "Every event posted from another thread should have been received exactly once.");
+    }
+
+    @Test
+    void checkFrameTimeStats_shouldMatchRecordedFrameTimes() {
+        FrameTimeStats frameTimeStats = new FrameTimeStats();
+        long[] frameTimes = {14_000_000L, 16_000_000L, 18_000_000L, 16_000_000L};
+        for (long frameTime : frameTimes) {
+            frameTimeStats.record(frameTime, 16_000_000L);
+        }
+
+        assertEquals(4L, frameTimeStats.getFrameCount(), "The frame count should match the amount of recorded frames.");
+        assertEquals(16d, frameTimeStats.getMeanMillis(), 1e-9, "The mean frame time should match the expected mean.");
+        assertEquals(14d, frameTimeStats.getMinMillis(), 1e-9, "The min frame time should match the shortest frame.");
+        assertEquals(18d, frameTimeStats.getMaxMillis(), 1e-9, "The max frame time should match the longest frame.");
+        assertEquals(Math.sqrt(8d / 3d), frameTimeStats.getStandardDeviationMillis(), 1e-9, "The jitter should match the sample standard deviation of the frame times.");
+        assertEquals(1d, frameTimeStats.getMeanTargetDeviationMillis(), 1e-9, "The target deviation should match the mean absolute difference from the target.");
+
+        frameTimeStats.reset();
+        assertEquals(0L, frameTimeStats.getFrameCount(), "After resetting, there should be no recorded frames.");
+        assertEquals(0d, frameTimeStats.getMinMillis(), "After resetting, the min frame time should be zero.");
+    }
+
+    @Test
+    void checkGameLoopPacing_withPreciseFramePacing_shouldMeetTargetFrameTime() {
+        int frames = 20;
+        AtomicInteger frameCount = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> frameCount.getAndIncrement() < frames, (gl) -> true);
+        gameLoop.setTargetFPS(100);
+        gameLoop.setFramePacing(FramePacing.Precise);
+
+        long startTime = System.nanoTime();
+        gameLoop.run();
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000d;
+
+        FrameTimeStats frameTimeStats = gameLoop.getFrameTimeStats();
+        assertEquals(frames - 1, frameTimeStats.getFrameCount(), "Every frame after the first should have been recorded.");
+        assertTrue(elapsedMillis >= (frames - 1) * 10d, "The game loop should not finish its frames faster than the target FPS allows.");
+        assertTrue(frameTimeStats.getMeanMillis() >= 9.5d, "Frames that overshoot their deadline should be made up for, keeping the mean frame time on target.");
+    }
+
+    @Test
+    void checkFrameProfiler_whenDisabled_shouldNotRecordFrames() {
+        AtomicInteger frameCount = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> frameCount.getAndIncrement() < 5, (gl) -> false);
+        gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.Update, 1, (gl, deltaTime) -> {}));
+
+        gameLoop.run();
+
+        assertFalse(gameLoop.getFrameProfiler().isEnabled(), "The frame profiler should be disabled by default.");
+        assertEquals(0, gameLoop.getFrameProfiler().getFrameCount(), "A disabled frame profiler should not record any frames.");
+    }
+
+    @Test
+    void checkFrameProfiler_shouldRecordLoopStatesAndEvents() {
+        int frames = 5;
+        AtomicInteger frameCount = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> frameCount.getAndIncrement() < frames, (gl) -> false);
+        gameLoop.addEventObserver((event) -> {}, MockEvent.class);
+
+        GameLoopState updateState = new GameLoopState(CoreLoopState.Update, 1, (gl, deltaTime) -> gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update));
+        GameLoopState lateUpdateState = new GameLoopState(CoreLoopState.LateUpdate, 2, (gl, deltaTime) -> {});
+        gameLoop.addGameLoopStates(updateState, lateUpdateState);
+
+        FrameProfiler frameProfiler = gameLoop.getFrameProfiler();
+        frameProfiler.setEnabled(true);
+        gameLoop.run();
+
+        List<ProfiledFrame> profiledFrames = frameProfiler.getFrames();
+        assertEquals(frames, profiledFrames.size(), "Each frame should have been recorded.");
+        for (ProfiledFrame profiledFrame : profiledFrames) {
+            assertEquals(3, profiledFrame.samples().size(), "Each frame should have a sample for both loop states, and for the fired events.");
+            assertEquals("Update[1]", profiledFrame.samples().get(0).name(), "The first sample should time the update state.");
+            assertEquals("Update events", profiledFrame.samples().get(1).name(), "The second sample should time the events fired after update.");
+            assertEquals(FrameProfiler.sampleNameOf(lateUpdateState), profiledFrame.samples().get(2).name(), "The last sample should time the late update state.");
+            assertTrue(profiledFrame.durationNanos() >= profiledFrame.totalNanos("Update[1]"), "A frame should take at least as long as its samples.");
+        }
+
+        String chromeTrace = frameProfiler.toChromeTrace();
+        assertTrue(chromeTrace.startsWith("{\"traceEvents\":["), "The chrome trace should hold a list of trace events.");
+        assertTrue(chromeTrace.contains("\"name\":\"Update[1]\""), "The chrome trace should contain the recorded samples.");
+        assertTrue(chromeTrace.contains("\"fixedUpdates\":"), "The chrome trace should contain the fixed update count of each frame.");
+    }
+
+    @Test
+    void checkFrameProfiler_shouldOnlyKeepMostRecentFrames() {
+        int frames = FrameProfiler.DefaultCapacity + 10;
+        AtomicInteger frameCount = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> frameCount.getAndIncrement() < frames, (gl) -> false);
+        gameLoop.getFrameProfiler().setEnabled(true);
+
+        gameLoop.run();
+
+        List<ProfiledFrame> profiledFrames = gameLoop.getFrameProfiler().getFrames();
+        assertEquals(FrameProfiler.DefaultCapacity, profiledFrames.size(), "The frame profiler should only keep as many frames as its capacity.");
+        for (int i = 1; i < profiledFrames.size(); i++) {
+            assertTrue(profiledFrames.get(i).startNanos() >= profiledFrames.get(i - 1).endNanos(), "Recorded frames should be ordered from oldest to newest.");
+        }
+    }
+
     @Test
     void checkGameLoopResetsAllValues() {
         AtomicBoolean shouldRemainOpen = new AtomicBoolean(true);
@@ -263,6 +398,7 @@ class GameLoopTests {
 
         assertEquals(GameLoop.DefaultFPS, gameLoop.getTargetFPS(), "After resetting, the target fps should match the expected FPS.");
         assertEquals(GameLoop.DefaultUPS, gameLoop.getTargetUPS(), "After resetting, the target ups should match the expected UPS.");
+        assertEquals(GameLoop.DefaultFramePacing, gameLoop.getFramePacing(), "After resetting, the frame pacing should match the default frame pacing.");
         assertEquals(GameLoop.NoState, gameLoop.getCurrentGameLoopState(), "After resetting, the current game loop state should match the default NoState.");
     }
 
@@ -6,15 +6,24 @@ import tech.fastj.graphics.game.Polygon2D;
 import tech.fastj.graphics.game.Text2D;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.math.Pointf;
+import tech.fastj.physics.CollisionMode;
+import tech.fastj.physics.Contact;
 
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.Test;
 import unittest.mock.graphics.MockDrawable;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DrawableTests {
@@ -31,6 +40,36 @@ class DrawableTests {
         assertEquals(generatedDrawableCount, drawableIDs.keySet().size(), "Each Drawable should have a unique ID.");
     }
 
+    @Test
+    void checkGenerateDrawableHandles_onManyThreads_noneShouldMatch() throws InterruptedException {
+        int threadCount = 4;
+        int drawablesPerThread = 5_000;
+        Set<Long> handles = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < drawablesPerThread; j++) {
+                    handles.add(new MockDrawable().getHandle());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * drawablesPerThread, handles.size(), "Each Drawable should have a unique handle, even when created in parallel.");
+    }
+
+    @Test
+    void checkGetID_shouldContainHandle() {
+        Drawable drawable = new MockDrawable();
+
+        assertEquals("DRAWABLE$MockDrawable_" + drawable.getHandle(), drawable.getID(), "The ID should be made of the class name and handle.");
+        assertEquals(drawable.getHandle(), Drawable.handleOf(drawable.getID()), "The handle should be readable from the ID.");
+        assertEquals(-1L, Drawable.handleOf("not a drawable"), "IDs not in the form of a Drawable's ID should have no handle.");
+    }
+
     @Test
     void checkCollision_betweenPolygon2D_andModel2D() {
         Pointf[] square = DrawUtil.createBox(0f, 0f, 50f);
@@ -73,4 +112,72 @@ class DrawableTests {
 
         assertTrue(text2D.collidesWith(model2D) && model2D.collidesWith(text2D), "The Model2D and Text2D should be intersecting.");
     }
+
+    @Test
+    void checkCollisionPath_afterTransforming_shouldMatchTransformedShape() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Path2D.Float collisionPath = polygon2D.getCollisionPath();
+
+        polygon2D.translate(new Pointf(10f, 20f));
+        polygon2D.rotate(90f);
+        polygon2D.scale(new Pointf(2f));
+
+        Pointf[] expectedPoints = DrawUtil.pointsOfPath(
+            (Path2D.Float) DrawUtil.createPath(DrawUtil.createBox(0f, 0f, 50f)).createTransformedShape(polygon2D.getTransformation())
+        );
+
+        assertSame(collisionPath, polygon2D.getCollisionPath(), "The collision path should be updated in place.");
+        assertArrayEquals(expectedPoints, DrawUtil.pointsOfPath(polygon2D.getCollisionPath()), "The collision path should match the transformed original path.");
+    }
+
+    @Test
+    void checkBoundsOverlap_afterTranslating_shouldMatchBoundingBox() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        polygon2D.translate(new Pointf(100f, 0f));
+
+        Rectangle2D.Float boundingBox = polygon2D.getBoundingBox(new Rectangle2D.Float());
+
+        assertEquals(new Rectangle2D.Float(100f, 0f, 50f, 50f), boundingBox, "The bounding box should match the translated polygon.");
+        assertTrue(polygon2D.boundsOverlap(120f, 10f, 130f, 20f), "The bounds should overlap a box inside of the polygon.");
+        assertFalse(polygon2D.boundsOverlap(0f, 0f, 50f, 50f), "The bounds should not overlap the polygon's original location.");
+    }
+
+    @Test
+    void checkCollision_withContact_shouldPointTowardsOtherDrawable() {
+        Polygon2D first = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D second = Polygon2D.fromPoints(DrawUtil.createBox(0f, 40f, 50f));
+        Contact contact = new Contact();
+
+        assertTrue(first.collidesWith(second, contact), "The Polygon2Ds should be intersecting.");
+        assertEquals(new Pointf(0f, 1f), contact.getNormal(), "The contact normal should point from the first Polygon2D to the second.");
+        assertEquals(10f, contact.getDepth(), 1e-4f, "The contact depth should match the overlap of the Polygon2Ds.");
+    }
+
+    @Test
+    void checkCollision_withExactCollisionMode_shouldMatchConvexCollisionMode() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D other = Polygon2D.fromPoints(DrawUtil.createBox(25f, 25f, 50f));
+        Polygon2D farAway = Polygon2D.fromPoints(DrawUtil.createBox(100f, 100f, 50f));
+        polygon2D.setCollisionMode(CollisionMode.Exact);
+
+        assertTrue(polygon2D.collidesWith(other) && other.collidesWith(polygon2D), "The Polygon2Ds should be intersecting in exact collision mode.");
+        assertFalse(polygon2D.collidesWith(farAway) || farAway.collidesWith(polygon2D), "The Polygon2Ds should not be intersecting in exact collision mode.");
+    }
+
+    @Test
+    void checkGetCenterWidthAndHeight_afterTransforming_shouldMatchBounds() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(10f, 20f, 30f, 40f));
+        polygon2D.translate(new Pointf(5f, -5f));
+        polygon2D.setScale(new Pointf(2f, 0.5f));
+
+        Pointf[] bounds = polygon2D.getBounds();
+        Pointf expectedCenter = DrawUtil.centerOf(bounds);
+        Pointf center = new Pointf();
+
+        assertSame(center, polygon2D.getCenter(center), "Getting the center into a destination should return the destination.");
+        assertEquals(expectedCenter, center, "The center should be the center of the drawable's bounds.");
+        assertEquals(expectedCenter, polygon2D.getCenter(), "The center should be the center of the drawable's bounds.");
+        assertEquals(bounds[1].x - bounds[0].x, polygon2D.width(), 0.0005f, "The width should match the drawable's bounds.");
+        assertEquals(bounds[2].y - bounds[1].y, polygon2D.height(), 0.0005f, "The height should match the drawable's bounds.");
+    }
 }
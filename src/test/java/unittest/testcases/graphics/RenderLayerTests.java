@@ -0,0 +1,93 @@
+package unittest.testcases.graphics;
+
+import tech.fastj.graphics.RenderLayer;
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.control.DrawableManager;
+
+import java.awt.Color;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderLayerTests {
+
+    @Test
+    void checkRevision_whenMemberChanges_shouldIncrease() {
+        RenderLayer renderLayer = new RenderLayer(true);
+        Polygon2D square = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        renderLayer.add(square);
+
+        int revision = renderLayer.getRevision();
+        square.setFill(Color.red);
+        assertNotEquals(revision, renderLayer.getRevision(), "Changing a member's fill should change the layer's revision.");
+
+        revision = renderLayer.getRevision();
+        square.translate(new Pointf(5f, 0f));
+        assertNotEquals(revision, renderLayer.getRevision(), "Moving a member should change the layer's revision.");
+
+        revision = renderLayer.getRevision();
+        square.setShouldRender(false);
+        assertNotEquals(revision, renderLayer.getRevision(), "Hiding a member should change the layer's revision.");
+    }
+
+    @Test
+    void checkRevision_whenModelPolygonChanges_shouldIncrease() {
+        RenderLayer renderLayer = new RenderLayer(true);
+        Polygon2D square = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Model2D model = Model2D.fromPolygons(new Polygon2D[] {square});
+        renderLayer.add(model);
+
+        int revision = renderLayer.getRevision();
+        square.setFill(Color.blue);
+        assertNotEquals(revision, renderLayer.getRevision(), "Changing one of a model's polygons should change the layer's revision.");
+    }
+
+    @Test
+    void checkRevision_afterRemovingMember_shouldNotTrackMember() {
+        RenderLayer renderLayer = new RenderLayer(false);
+        Polygon2D square = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        renderLayer.add(square);
+
+        assertTrue(renderLayer.remove(square), "The square should have been in the layer.");
+        assertNull(square.getRenderLayer(), "The square should no longer have a render layer.");
+
+        int revision = renderLayer.getRevision();
+        square.setFill(Color.green);
+        assertEquals(revision, renderLayer.getRevision(), "Changing a removed game object should not change the layer's revision.");
+    }
+
+    @Test
+    void tryAdd_gameObjectInOtherLayer_shouldThrowIllegalStateException() {
+        RenderLayer firstLayer = new RenderLayer(true);
+        RenderLayer secondLayer = new RenderLayer(false);
+        Polygon2D square = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        firstLayer.add(square);
+
+        assertThrows(IllegalStateException.class, () -> secondLayer.add(square), "A game object should only be in one layer at a time.");
+        assertSame(firstLayer, square.getRenderLayer(), "The square should still be in the first layer.");
+    }
+
+    @Test
+    void checkRemoveGameObject_fromDrawableManager_shouldRemoveFromItsRenderLayer() {
+        DrawableManager drawableManager = new DrawableManager();
+        RenderLayer renderLayer = new RenderLayer(true);
+        drawableManager.addRenderLayer(renderLayer);
+
+        Polygon2D square = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        drawableManager.addGameObject(square);
+        renderLayer.add(square);
+
+        drawableManager.removeGameObject(square);
+        assertNull(square.getRenderLayer(), "Removing the square from the manager should remove it from the manager's render layer.");
+        assertTrue(renderLayer.getGameObjects().isEmpty(), "The render layer should be empty.");
+    }
+}
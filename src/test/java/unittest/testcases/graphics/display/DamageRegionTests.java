@@ -0,0 +1,147 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.graphics.display.DamageRegion;
+import tech.fastj.graphics.display.DamageTracker;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DamageRegionTests {
+
+    @Test
+    void checkAdd_overlappingAreas_shouldMergeIntoOneRectangle() {
+        DamageRegion damageRegion = new DamageRegion();
+        damageRegion.reset(800, 600);
+        damageRegion.add(10f, 10f, 30f, 30f);
+        damageRegion.add(20.5f, 20.5f, 40.5f, 40.5f);
+
+        assertEquals(1, damageRegion.getRectangleCount(), "Overlapping areas should be merged.");
+        assertEquals(new Rectangle(10, 10, 31, 31), damageRegion.getRectangle(0, new Rectangle()),
+            "The merged rectangle should cover both areas, snapped outwards to whole pixels.");
+    }
+
+    @Test
+    void checkAdd_distantAreas_shouldKeepSeparateRectangles() {
+        DamageRegion damageRegion = new DamageRegion();
+        damageRegion.reset(800, 600);
+        damageRegion.add(0f, 0f, 10f, 10f);
+        damageRegion.add(700f, 500f, 710f, 510f);
+
+        assertEquals(2, damageRegion.getRectangleCount(), "Distant areas should not be merged.");
+        assertEquals(200L, damageRegion.getArea(), "Only the two damaged areas should be counted.");
+        assertFalse(damageRegion.isFull(), "Two small areas should not damage the whole screen.");
+    }
+
+    @Test
+    void checkAdd_manyAreas_shouldStayWithinMaxRectangles() {
+        DamageRegion damageRegion = new DamageRegion(4, 1f);
+        damageRegion.reset(1000, 1000);
+        for (int i = 0; i < 10; i++) {
+            damageRegion.add(i * 100f, i * 100f, i * 100f + 5f, i * 100f + 5f);
+        }
+
+        assertTrue(damageRegion.getRectangleCount() <= 4, "The region should merge rectangles to stay within its maximum.");
+
+        Rectangle rectangle = new Rectangle();
+        for (int i = 0; i < 10; i++) {
+            boolean covered = false;
+            for (int r = 0; r < damageRegion.getRectangleCount(); r++) {
+                covered |= damageRegion.getRectangle(r, rectangle).contains(i * 100, i * 100, 5, 5);
+            }
+            assertTrue(covered, "Every damaged area should still be covered after merging, but area " + i + " was not.");
+        }
+    }
+
+    @Test
+    void checkAdd_areaLargerThanThreshold_shouldDamageWholeScreen() {
+        DamageRegion damageRegion = new DamageRegion();
+        damageRegion.reset(100, 100);
+        damageRegion.add(-50f, -50f, 80f, 80f);
+
+        assertTrue(damageRegion.isFull(), "Damaging most of the screen should damage the whole screen.");
+        assertEquals(new Rectangle(0, 0, 100, 100), damageRegion.getRectangle(0, new Rectangle()),
+            "A fully damaged region should be a single rectangle covering the screen.");
+    }
+
+    @Test
+    void checkAdd_areaOffScreen_shouldBeIgnored() {
+        DamageRegion damageRegion = new DamageRegion();
+        damageRegion.reset(100, 100);
+        damageRegion.add(200f, 200f, 220f, 220f);
+
+        assertTrue(damageRegion.isEmpty(), "Areas entirely off screen should not damage anything.");
+    }
+
+    @Test
+    void tryCreateDamageRegion_withInvalidThreshold_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DamageRegion(16, 0f), "A threshold of 0 should be rejected.");
+    }
+
+    @Test
+    void checkDamageTracker_withDrawablesMovedInParallel_shouldDamageEveryMovedDrawable() {
+        int drawableCount = 20_000;
+        List<Polygon2D> polygons = new ArrayList<>(drawableCount);
+        for (int i = 0; i < drawableCount; i++) {
+            polygons.add(Polygon2D.create(DrawUtil.createBox((i % 100) * 10f, (i / 100) * 10f, 5f)).build());
+        }
+
+        CountingDamageRegion damageRegion = new CountingDamageRegion();
+        DamageTracker damageTracker = new DamageTracker();
+        AffineTransform identity = new AffineTransform();
+
+        damageRegion.reset(1000, 2000);
+        damageTracker.beginFrame(damageRegion, identity, identity, 0f);
+        polygons.forEach(polygon -> damageTracker.track(polygon, false));
+        damageTracker.endFrame();
+
+        Pointf movement = new Pointf(1f, 0f);
+        ForkJoinPool pool = new ForkJoinPool(8);
+        for (int trial = 0; trial < 20; trial++) {
+            // moved the way thread-safe behaviors move their own game objects
+            pool.submit(() -> polygons.parallelStream().forEach(polygon -> polygon.translate(movement))).join();
+
+            damageRegion.reset(1000, 2000);
+            damageRegion.addCount = 0;
+            damageTracker.beginFrame(damageRegion, identity, identity, 0f);
+            polygons.forEach(polygon -> damageTracker.track(polygon, false));
+            damageTracker.endFrame();
+
+            assertEquals(drawableCount * 2, damageRegion.addCount,
+                "Every moved drawable should damage its old and new bounds, but trial " + trial + " lost some changes.");
+        }
+        pool.shutdown();
+    }
+
+    /** Counts the areas added to it, ignoring the region's own re-adds while merging. */
+    private static class CountingDamageRegion extends DamageRegion {
+        private int addCount;
+        private int depth;
+
+        @Override
+        public void add(float minX, float minY, float maxX, float maxY) {
+            if (depth == 0) {
+                addCount++;
+            }
+
+            depth++;
+            try {
+                super.add(minX, minY, maxX, maxY);
+            } finally {
+                depth--;
+            }
+        }
+    }
+}
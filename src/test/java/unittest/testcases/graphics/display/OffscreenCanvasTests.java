@@ -0,0 +1,119 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.graphics.RenderLayer;
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.display.OffscreenCanvas;
+import tech.fastj.graphics.display.RenderSettings;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+
+import java.awt.Color;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffscreenCanvasTests {
+
+    @Test
+    void checkRender_withoutWindow_shouldDrawGameObjectsToImage() {
+        OffscreenCanvas offscreenCanvas = new OffscreenCanvas(new Point(64, 64));
+        Polygon2D square = Polygon2D.create(DrawUtil.createBox(10f, 10f, 20f))
+            .withFill(Color.red)
+            .build();
+
+        offscreenCanvas.render(Map.of(square.getID(), square), Map.of(), new Camera());
+
+        assertEquals(Color.red.getRGB(), offscreenCanvas.getImage().getRGB(20, 20), "The inside of the square should be red.");
+        assertEquals(Color.white.getRGB(), offscreenCanvas.getImage().getRGB(50, 50), "Outside the square should be the background.");
+        assertEquals(Color.red.getRGB(), offscreenCanvas.getPixels()[20 * 64 + 20], "The pixel array should match the image.");
+        assertEquals(1, offscreenCanvas.getDrawnCount(), "The square should have been drawn.");
+    }
+
+    @Test
+    void checkRender_withMovedCamera_shouldCullGameObjectsOutOfView() {
+        OffscreenCanvas offscreenCanvas = new OffscreenCanvas(new Point(64, 64));
+        offscreenCanvas.setBackgroundColor(Color.black);
+
+        Map<String, GameObject> gameObjects = new LinkedHashMap<>();
+        Polygon2D visibleSquare = Polygon2D.create(DrawUtil.createBox(100f, 0f, 20f)).withFill(Color.green).build();
+        Polygon2D hiddenSquare = Polygon2D.create(DrawUtil.createBox(0f, 0f, 20f)).withFill(Color.blue).build();
+        gameObjects.put(visibleSquare.getID(), visibleSquare);
+        gameObjects.put(hiddenSquare.getID(), hiddenSquare);
+
+        Camera camera = new Camera();
+        camera.translate(new Pointf(-90f, 0f));
+        offscreenCanvas.render(gameObjects, Map.of(), camera);
+
+        assertEquals(Color.green.getRGB(), offscreenCanvas.getImage().getRGB(15, 10), "The camera should have moved the visible square into view.");
+        assertEquals(1, offscreenCanvas.getDrawnCount(), "Only the square in view should have been drawn.");
+        assertEquals(1, offscreenCanvas.getCulledCount(), "The square out of view should have been culled.");
+    }
+
+    @Test
+    void checkRender_withStaticLayer_shouldMatchDirectRendering() {
+        RenderLayer renderLayer = new RenderLayer(true);
+        Map<String, GameObject> gameObjects = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            Polygon2D square = Polygon2D.create(DrawUtil.createBox(i * 9f, i * 5f, 12f)).withFill(new Color(i * 25, 80, 160)).build();
+            renderLayer.add(square);
+            gameObjects.put(square.getID(), square);
+        }
+
+        OffscreenCanvas layeredCanvas = new OffscreenCanvas(new Point(128, 96));
+        layeredCanvas.render(List.of(renderLayer), gameObjects, Map.of(), new Camera());
+        int[] layeredPixels = layeredCanvas.getPixels().clone();
+
+        renderLayer.clear();
+        OffscreenCanvas directCanvas = new OffscreenCanvas(new Point(128, 96));
+        directCanvas.render(gameObjects, Map.of(), new Camera());
+
+        for (int i = 0; i < layeredPixels.length; i++) {
+            assertEquals(directCanvas.getPixels()[i], layeredPixels[i], "Pixel " + i + " of the cached layer should match direct rendering.");
+        }
+    }
+
+    @Test
+    void checkRender_withTiledRendering_shouldMatchSerialRendering() {
+        Map<String, GameObject> gameObjects = new LinkedHashMap<>();
+        for (int i = 0; i < 40; i++) {
+            Polygon2D square = Polygon2D.create(DrawUtil.createBox((i * 37) % 200, (i * 23) % 180, 10f + i % 30))
+                .withFill(new Color(i * 6, 200 - i * 5, 120))
+                .build();
+            gameObjects.put(square.getID(), square);
+        }
+
+        OffscreenCanvas serialCanvas = new OffscreenCanvas(new Point(256, 256));
+        serialCanvas.modifyRenderSettings(RenderSettings.Antialiasing.Enable);
+        serialCanvas.render(gameObjects, Map.of(), new Camera());
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            OffscreenCanvas tiledCanvas = new OffscreenCanvas(new Point(256, 256));
+            tiledCanvas.modifyRenderSettings(RenderSettings.Antialiasing.Enable);
+            tiledCanvas.setTiledRendering(true);
+            tiledCanvas.setTiledRenderingPool(pool);
+            tiledCanvas.render(gameObjects, Map.of(), new Camera());
+
+            assertEquals(serialCanvas.getDrawnCount(), tiledCanvas.getDrawnCount(), "Tiled rendering should draw the same game objects.");
+            for (int i = 0; i < serialCanvas.getPixels().length; i++) {
+                assertEquals(serialCanvas.getPixels()[i], tiledCanvas.getPixels()[i], "Pixel " + i + " of the tiled render should match serial rendering.");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void tryCreateOffscreenCanvas_withEmptyResolution_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OffscreenCanvas(new Point(0, 10)), "A canvas with no width should be rejected.");
+    }
+}
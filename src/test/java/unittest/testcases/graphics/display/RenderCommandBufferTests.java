@@ -0,0 +1,136 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.graphics.display.RenderCommandBuffer;
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderCommandBufferTests {
+
+    @Test
+    void checkExecute_withSameColoredPolygons_shouldOnlySetPaintOnce() {
+        RenderCommandBuffer renderCommands = new RenderCommandBuffer();
+        for (int i = 0; i < 1000; i++) {
+            Polygon2D bullet = Polygon2D.create(DrawUtil.createBox(0f, 0f, 2f))
+                .withFill(new Color(255, 0, 0))
+                .build();
+            bullet.translate(new Pointf(i % 50, i / 50f));
+            bullet.emitRenderCommands(renderCommands);
+        }
+
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        assertEquals(1000, renderCommands.size(), "Each polygon should have emitted a single fill command.");
+        renderCommands.execute(g);
+        g.dispose();
+
+        assertEquals(1, renderCommands.getStateChangeCount(), "Polygons with equal paints should only need the paint set once.");
+        assertEquals(0, renderCommands.size(), "After executing, the command buffer should be empty.");
+    }
+
+    @Test
+    void checkExecute_shouldMatchImmediateRendering() {
+        Polygon2D red = Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.red).build();
+        Polygon2D blue = Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.blue).build();
+        Polygon2D otherRed = Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.red).build();
+        blue.translate(new Pointf(20f, 0f));
+        otherRed.translate(new Pointf(40f, 0f));
+        otherRed.rotate(45f);
+
+        Model2D model = Model2D.fromPolygons(new Polygon2D[] {
+            Polygon2D.create(DrawUtil.createBox(0f, 0f, 5f)).withFill(Color.green).build()
+        });
+        model.translate(new Pointf(5f, 30f));
+        model.scale(new Pointf(2f, 2f));
+
+        BufferedImage expected = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D expectedGraphics = expected.createGraphics();
+        expectedGraphics.translate(2.0, 3.0);
+        red.render(expectedGraphics);
+        blue.render(expectedGraphics);
+        otherRed.render(expectedGraphics);
+        model.render(expectedGraphics);
+        expectedGraphics.dispose();
+
+        RenderCommandBuffer renderCommands = new RenderCommandBuffer();
+        red.emitRenderCommands(renderCommands);
+        blue.emitRenderCommands(renderCommands);
+        otherRed.emitRenderCommands(renderCommands);
+        model.emitRenderCommands(renderCommands);
+
+        BufferedImage actual = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D actualGraphics = actual.createGraphics();
+        actualGraphics.translate(2.0, 3.0);
+        AffineTransform baseTransform = actualGraphics.getTransform();
+        renderCommands.execute(actualGraphics);
+
+        assertEquals(baseTransform, actualGraphics.getTransform(), "After executing, the graphics transform should be restored.");
+        actualGraphics.dispose();
+
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "Batched rendering should draw the same pixels at (" + x + ", " + y + ").");
+            }
+        }
+        assertTrue(renderCommands.getStateChangeCount() <= 3, "Each distinct paint should only be set once.");
+    }
+
+    @Test
+    void checkPopTransform_withEmptyStack_shouldThrowException() {
+        RenderCommandBuffer renderCommands = new RenderCommandBuffer();
+        assertThrows(IllegalStateException.class, renderCommands::popTransform, "Popping a transform that was never pushed should throw an exception.");
+    }
+
+    @Test
+    void checkExecute_withUnsortedBuffer_shouldDrawInOrderAdded() {
+        RenderCommandBuffer renderCommands = new RenderCommandBuffer(false);
+        Polygon2D bottomRed = Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.red).build();
+        Polygon2D middleBlue = Polygon2D.create(DrawUtil.createBox(5f, 0f, 10f)).withFill(Color.blue).build();
+        Polygon2D topRed = Polygon2D.create(DrawUtil.createBox(10f, 0f, 10f)).withFill(Color.red).build();
+        bottomRed.emitRenderCommands(renderCommands);
+        middleBlue.emitRenderCommands(renderCommands);
+        topRed.emitRenderCommands(renderCommands);
+
+        BufferedImage image = new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        renderCommands.execute(g);
+        g.dispose();
+
+        assertFalse(renderCommands.isSorted(), "The buffer should not sort its commands.");
+        assertEquals(Color.blue.getRGB(), image.getRGB(7, 5), "The blue polygon should be drawn over the first red polygon.");
+        assertEquals(Color.red.getRGB(), image.getRGB(12, 5), "The last red polygon should be drawn over the blue polygon.");
+    }
+
+    @Test
+    void checkExecute_withUnsortedBuffer_shouldDrawShapesAsTheyWereWhenAdded() {
+        RenderCommandBuffer renderCommands = new RenderCommandBuffer(false);
+        Path2D.Float path = new Path2D.Float();
+        path.append(DrawUtil.createPath(DrawUtil.createBox(0f, 0f, 10f)), false);
+        renderCommands.fill(path, Color.red);
+
+        path.reset();
+        path.append(DrawUtil.createPath(DrawUtil.createBox(20f, 0f, 10f)), false);
+
+        BufferedImage image = new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        renderCommands.execute(g);
+        g.dispose();
+
+        assertEquals(Color.red.getRGB(), image.getRGB(5, 5), "The shape should be drawn as it was when the command was added.");
+        assertEquals(0, image.getRGB(25, 5), "Changes made to the shape after adding the command should not be drawn.");
+    }
+}
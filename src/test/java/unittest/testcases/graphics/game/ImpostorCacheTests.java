@@ -0,0 +1,123 @@
+package unittest.testcases.graphics.game;
+
+import tech.fastj.graphics.game.ImpostorCache;
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.RenderStyle;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImpostorCacheTests {
+
+    private static final int ImageSize = 100;
+
+    @Test
+    void checkRender_withImpostorCache_shouldMatchRenderingEachPolygon() {
+        Model2D model = createModel(null);
+        model.translate(new Pointf(20f, 30f));
+        BufferedImage expected = render(model);
+
+        ImpostorCache impostorCache = new ImpostorCache();
+        model.setImpostorCache(impostorCache);
+        BufferedImage fromImpostor = render(model);
+
+        assertEquals(0, countDifferentPixels(expected, fromImpostor), "Drawing from an impostor at a bucketed transform should match drawing each polygon.");
+        assertEquals(1, impostorCache.getImpostorCount(), "Drawing the model should have cached one impostor.");
+    }
+
+    @Test
+    void checkRender_afterMovingModel_shouldReuseImpostor() {
+        ImpostorCache impostorCache = new ImpostorCache();
+        Model2D model = createModel(impostorCache);
+
+        render(model);
+        model.translate(new Pointf(15f, 5f));
+        BufferedImage moved = render(model);
+
+        assertEquals(1, impostorCache.getMissCount(), "Only the first draw should have drawn an impostor.");
+        assertEquals(1, impostorCache.getHitCount(), "Drawing the moved model should reuse its impostor.");
+
+        model.setImpostorCache(null);
+        assertEquals(0, countDifferentPixels(render(model), moved), "The moved model should be drawn at its new position.");
+    }
+
+    @Test
+    void checkRender_afterChangingPolygonFill_shouldRedrawImpostor() {
+        ImpostorCache impostorCache = new ImpostorCache();
+        Model2D model = createModel(impostorCache);
+
+        render(model);
+        model.getPolygons()[0].setFill(Color.green);
+        BufferedImage changed = render(model);
+
+        assertEquals(2, impostorCache.getMissCount(), "Changing a polygon's fill should redraw the model's impostor.");
+        assertEquals(Color.green.getRGB(), changed.getRGB(5, 5), "The redrawn impostor should use the polygon's new fill.");
+    }
+
+    @Test
+    void checkRender_atManyRotations_shouldStayWithinBudget() {
+        long budget = 3L * 40L * 40L * 4L;
+        ImpostorCache impostorCache = new ImpostorCache(budget);
+        Model2D model = createModel(impostorCache);
+
+        for (int rotation = 0; rotation < 90; rotation += 10) {
+            model.setRotation(rotation);
+            render(model);
+        }
+
+        assertTrue(impostorCache.getUsedBytes() <= budget, "The cached impostors should fit in the budget.");
+        assertTrue(impostorCache.getImpostorCount() < 9, "The least recently drawn impostors should have been dropped.");
+
+        model.setRotation(80f);
+        render(model);
+        assertEquals(1, impostorCache.getHitCount(), "The most recently drawn impostor should still be cached.");
+    }
+
+    @Test
+    void tryCreateImpostorCache_withZeroBudget_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ImpostorCache(0L), "An impostor cache with no budget should not be allowed.");
+    }
+
+    private static Model2D createModel(ImpostorCache impostorCache) {
+        Polygon2D[] polygons = {
+            Polygon2D.create(DrawUtil.createBox(0f, 0f, 20f)).withFill(Color.red).build(),
+            Polygon2D.create(DrawUtil.createBox(10f, 10f, 15f))
+                .withFill(Color.blue)
+                .withOutline(new BasicStroke(2f), Color.black)
+                .withRenderStyle(RenderStyle.FillAndOutline)
+                .build()
+        };
+        return Model2D.create(polygons).withImpostorCache(impostorCache).build();
+    }
+
+    private static BufferedImage render(Model2D model) {
+        BufferedImage image = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        model.render(graphics);
+        graphics.dispose();
+        return image;
+    }
+
+    private static int countDifferentPixels(BufferedImage first, BufferedImage second) {
+        int differentPixels = 0;
+        for (int y = 0; y < ImageSize; y++) {
+            for (int x = 0; x < ImageSize; x++) {
+                if (first.getRGB(x, y) != second.getRGB(x, y)) {
+                    differentPixels++;
+                }
+            }
+        }
+        return differentPixels;
+    }
+}
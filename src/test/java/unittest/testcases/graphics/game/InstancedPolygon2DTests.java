@@ -0,0 +1,157 @@
+package unittest.testcases.graphics.game;
+
+import tech.fastj.graphics.game.InstancedPolygon2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.PolygonMesh;
+import tech.fastj.graphics.game.RenderStyle;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstancedPolygon2DTests {
+
+    private static final Pointf[] Square = DrawUtil.createBox(0f, 0f, 10f);
+
+    @Test
+    void checkAddInstance_shouldGrowBoundsToCoverEveryInstance() {
+        InstancedPolygon2D instances = new InstancedPolygon2D(PolygonMesh.fromPoints(Square));
+        instances.addInstance(0f, 0f);
+        instances.addInstance(100f, 50f);
+        instances.addInstance(-20f, 30f, 45f, 2f, 2f);
+
+        Rectangle2D.Float bounds = instances.getBoundingBox(new Rectangle2D.Float());
+        Rectangle2D.Float instanceBounds = new Rectangle2D.Float();
+        for (int i = 0; i < instances.getInstanceCount(); i++) {
+            assertTrue(bounds.contains(instances.getInstanceBounds(i, instanceBounds)), "The bounds should cover instance " + i + ".");
+        }
+
+        instances.fitBounds();
+        instances.getBoundingBox(bounds);
+        assertEquals(-20f - 14.1421f, bounds.x, 0.001f, "Fitting the bounds should shrink them to the leftmost instance.");
+        assertEquals(110f, bounds.x + bounds.width, 0.001f, "Fitting the bounds should shrink them to the rightmost instance.");
+        assertEquals(0f, bounds.y, 0.001f, "Fitting the bounds should shrink them to the topmost instance.");
+    }
+
+    @Test
+    void checkRemoveInstance_shouldMoveLastInstanceIntoRemovedIndex() {
+        InstancedPolygon2D instances = new InstancedPolygon2D(PolygonMesh.fromPoints(Square), 1);
+        instances.addInstance(0f, 0f);
+        instances.addInstance(20f, 0f);
+        instances.addInstance(40f, 0f);
+        instances.setInstanceFlags(2, InstancedPolygon2D.Visible);
+
+        instances.removeInstance(0);
+
+        assertEquals(2, instances.getInstanceCount(), "Removing an instance should decrease the instance count.");
+        assertEquals(40f, instances.getInstanceX(0), "The last instance should be moved into the removed instance's index.");
+        assertEquals(InstancedPolygon2D.Visible, instances.getInstanceFlags(0), "The last instance's flags should move with it.");
+        assertEquals(20f, instances.getInstanceX(1), "Other instances should keep their index.");
+    }
+
+    @Test
+    void tryGetInstanceX_withRemovedIndex_shouldThrowIndexOutOfBoundsException() {
+        InstancedPolygon2D instances = new InstancedPolygon2D(PolygonMesh.fromPoints(Square));
+        instances.addInstance(0f, 0f);
+        instances.removeInstance(0);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> instances.getInstanceX(0), "Reading a removed instance should throw.");
+    }
+
+    @Test
+    void checkFindCollisions_withDrawable_shouldReportCollidableOverlappingInstancesOnly() {
+        InstancedPolygon2D instances = new InstancedPolygon2D(PolygonMesh.fromPoints(Square));
+        instances.addInstance(0f, 0f);
+        instances.addInstance(100f, 0f);
+        instances.addInstance(5f, 5f);
+        instances.addInstance(2f, 2f);
+        instances.setInstanceFlags(3, InstancedPolygon2D.Visible);
+        instances.translate(new Pointf(50f, 50f));
+
+        Polygon2D target = Polygon2D.fromPoints(DrawUtil.createBox(58f, 58f, 4f));
+        List<Integer> collisions = new ArrayList<>();
+        int collisionCount = instances.findCollisions(target, collisions::add);
+
+        assertEquals(2, collisionCount, "Two collidable instances should overlap the target.");
+        assertEquals(List.of(0, 2), collisions, "The overlapping collidable instances should be reported in order.");
+        assertTrue(instances.instanceCollidesWith(0, target, null), "The first instance should collide with the target.");
+    }
+
+    @Test
+    void checkFindCollisions_withSelf_shouldReportEachPairOnce() {
+        InstancedPolygon2D instances = new InstancedPolygon2D(PolygonMesh.fromPoints(Square));
+        instances.addInstance(0f, 0f);
+        instances.addInstance(5f, 0f);
+        instances.addInstance(50f, 0f);
+        instances.addInstance(8f, 8f, 45f, 1f, 1f);
+
+        List<int[]> pairs = new ArrayList<>();
+        int pairCount = instances.findCollisions(instances, (first, second) -> pairs.add(new int[] {first, second}));
+
+        assertEquals(3, pairCount, "Three pairs of instances should overlap.");
+        assertArrayEquals(new int[] {0, 1}, pairs.get(0), "The first pair should be reported once, lowest index first.");
+        assertArrayEquals(new int[] {0, 3}, pairs.get(1), "The second pair should be reported once, lowest index first.");
+        assertArrayEquals(new int[] {1, 3}, pairs.get(2), "The third pair should be reported once, lowest index first.");
+    }
+
+    @Test
+    void checkRender_shouldMatchRenderingTheMeshPerVisibleInstance() {
+        PolygonMesh mesh = new PolygonMesh(Square, null, RenderStyle.FillAndOutline, Color.red, new BasicStroke(3f), Color.blue);
+        InstancedPolygon2D instances = new InstancedPolygon2D(mesh);
+        instances.translate(new Pointf(10f, 5f));
+
+        float[][] placements = {{0f, 0f, 0f, 1f}, {30f, 10f, 30f, 2f}, {60f, 40f, 90f, 1.5f}, {20f, 60f, 0f, 1f}};
+        for (float[] placement : placements) {
+            instances.addInstance(placement[0], placement[1], placement[2], placement[3], placement[3]);
+        }
+        instances.setInstanceFlags(3, 0);
+
+        BufferedImage instancedImage = new BufferedImage(120, 120, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D instancedGraphics = instancedImage.createGraphics();
+        instances.render(instancedGraphics);
+        instancedGraphics.dispose();
+
+        BufferedImage expectedImage = new BufferedImage(120, 120, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D expectedGraphics = expectedImage.createGraphics();
+        Path2D.Float path = DrawUtil.createPath(Square);
+        for (int i = 0; i < 3; i++) {
+            float[] placement = placements[i];
+            AffineTransform oldTransform = expectedGraphics.getTransform();
+            expectedGraphics.translate(10f + placement[0], 5f + placement[1]);
+            expectedGraphics.rotate(Math.toRadians(placement[2]));
+            expectedGraphics.scale(placement[3], placement[3]);
+            expectedGraphics.setPaint(Color.red);
+            expectedGraphics.fill(path);
+            expectedGraphics.setStroke(new BasicStroke(3f));
+            expectedGraphics.setPaint(Color.blue);
+            expectedGraphics.draw(path);
+            expectedGraphics.setTransform(oldTransform);
+        }
+        expectedGraphics.dispose();
+
+        int differentPixels = 0;
+        for (int y = 0; y < 120; y++) {
+            for (int x = 0; x < 120; x++) {
+                if (instancedImage.getRGB(x, y) != expectedImage.getRGB(x, y)) {
+                    differentPixels++;
+                }
+            }
+        }
+        assertEquals(0, differentPixels, "Rendering the instances should match rendering the mesh once per visible instance.");
+    }
+}
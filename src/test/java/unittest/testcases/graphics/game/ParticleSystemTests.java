@@ -0,0 +1,143 @@
+package unittest.testcases.graphics.game;
+
+import tech.fastj.graphics.game.ParticleEmitter;
+import tech.fastj.graphics.game.ParticleSystem;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParticleSystemTests {
+
+    @Test
+    void checkSimulate_shouldMoveParticlesByVelocityAndAcceleration() {
+        ParticleSystem particleSystem = new ParticleSystem(4).setAcceleration(0f, 10f);
+        particleSystem.spawn(5f, 5f, 2f, 0f, 10f, Color.red.getRGB());
+
+        particleSystem.simulate(0.5f);
+
+        assertEquals(6f, particleSystem.getParticleX(0), 0.0001f, "The particle should move by its velocity.");
+        assertEquals(7.5f, particleSystem.getParticleY(0), 0.0001f, "The particle should be accelerated before moving.");
+        assertEquals(9.5f, particleSystem.getParticleLife(0), 0.0001f, "The particle should age by the time simulated.");
+    }
+
+    @Test
+    void checkSimulate_shouldRemoveDeadParticlesInOrder() {
+        ParticleSystem particleSystem = new ParticleSystem(8);
+        particleSystem.spawn(0f, 0f, 0f, 0f, 1f, 1);
+        particleSystem.spawn(1f, 0f, 0f, 0f, 3f, 2);
+        particleSystem.spawn(2f, 0f, 0f, 0f, 1f, 3);
+        particleSystem.spawn(3f, 0f, 0f, 0f, 3f, 4);
+        particleSystem.despawn(3);
+
+        particleSystem.simulate(2f);
+
+        assertEquals(1, particleSystem.getParticleCount(), "Particles whose life ran out should be removed.");
+        assertEquals(2, particleSystem.getParticleColor(0), "The remaining particle should be moved to the front.");
+    }
+
+    @Test
+    void checkSpawn_whenFull_shouldReturnNegativeOne() {
+        ParticleSystem particleSystem = new ParticleSystem(1);
+
+        assertEquals(0, particleSystem.spawn(0f, 0f, 0f, 0f, 1f, 0), "The first particle should be spawned at index 0.");
+        assertEquals(-1, particleSystem.spawn(0f, 0f, 0f, 0f, 1f, 0), "Spawning into a full particle system should fail.");
+    }
+
+    @Test
+    void checkSimulate_shouldFitBoundsAroundParticlesEveryStep() {
+        ParticleSystem particleSystem = new ParticleSystem(4).setParticleSize(2f);
+        particleSystem.spawn(0f, 0f, 10f, 0f, 1f, 0);
+        particleSystem.spawn(10f, 20f, 10f, 0f, 1f, 0);
+
+        particleSystem.simulate(0f);
+        Rectangle2D.Float firstBounds = particleSystem.getBoundingBox(new Rectangle2D.Float());
+        particleSystem.simulate(0.5f);
+        Rectangle2D.Float secondBounds = particleSystem.getBoundingBox(new Rectangle2D.Float());
+
+        assertEquals(new Rectangle2D.Float(-1f, -1f, 12f, 22f), firstBounds, "The bounds should fit around the particles.");
+        assertEquals(new Rectangle2D.Float(4f, -1f, 12f, 22f), secondBounds, "The bounds should follow the particles as they move.");
+
+        particleSystem.clearParticles();
+        assertEquals(new Rectangle2D.Float(), particleSystem.getBoundingBox(new Rectangle2D.Float()), "Without particles, the bounds should be empty.");
+    }
+
+    @Test
+    void checkSimulate_withEmitter_shouldSpawnAtEmitterRate() {
+        ParticleSystem particleSystem = new ParticleSystem(1000).setRandomSeed(7L);
+        ParticleEmitter emitter = new ParticleEmitter(10f, 20f, 100f).setLife(5f, 5f).setSpeed(0f, 0f);
+        particleSystem.addEmitter(emitter);
+
+        for (int step = 0; step < 10; step++) {
+            particleSystem.simulate(0.05f);
+        }
+
+        assertEquals(50, particleSystem.getParticleCount(), "The emitter should spawn 100 particles per second.");
+        assertEquals(10f, particleSystem.getParticleX(0), "Particles should spawn at the emitter's position.");
+        assertEquals(20f, particleSystem.getParticleY(0), "Particles should spawn at the emitter's position.");
+    }
+
+    @Test
+    void checkSimulate_withParallelSimulation_shouldMatchSerialSimulation() {
+        int particleCount = ParticleSystem.ParallelBatchSize * 3;
+        ParticleSystem serial = new ParticleSystem(particleCount).setAcceleration(1f, -2f).setDrag(0.1f);
+        ParticleSystem parallel = new ParticleSystem(particleCount).setAcceleration(1f, -2f).setDrag(0.1f).setParallelSimulation(true);
+        for (int i = 0; i < particleCount; i++) {
+            serial.spawn(i, -i, i % 7, i % 11, 1f + i % 3, i);
+            parallel.spawn(i, -i, i % 7, i % 11, 1f + i % 3, i);
+        }
+
+        for (int step = 0; step < 30; step++) {
+            serial.simulate(1f / 20f);
+            parallel.simulate(1f / 20f);
+        }
+
+        assertEquals(serial.getParticleCount(), parallel.getParticleCount(), "Parallel simulation should remove the same particles.");
+        for (int i = 0; i < serial.getParticleCount(); i++) {
+            assertEquals(serial.getParticleX(i), parallel.getParticleX(i), "Parallel simulation should move particle " + i + " the same way.");
+            assertEquals(serial.getParticleY(i), parallel.getParticleY(i), "Parallel simulation should move particle " + i + " the same way.");
+        }
+    }
+
+    @Test
+    void checkRender_shouldDrawEachParticleAsSquare() {
+        ParticleSystem particleSystem = new ParticleSystem(4).setParticleSize(4f).setFadingOut(false);
+        particleSystem.spawn(10f, 10f, 0f, 0f, 1f, Color.red.getRGB());
+        particleSystem.spawn(30f, 20f, 0f, 0f, 1f, Color.blue.getRGB());
+        particleSystem.simulate(0f);
+
+        BufferedImage image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        particleSystem.render(graphics);
+        graphics.dispose();
+
+        int redPixels = 0;
+        int bluePixels = 0;
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                int rgb = image.getRGB(x, y);
+                if (rgb == Color.red.getRGB()) {
+                    redPixels++;
+                } else if (rgb == Color.blue.getRGB()) {
+                    bluePixels++;
+                }
+            }
+        }
+
+        assertEquals(16, redPixels, "The first particle should be drawn as a 4x4 square.");
+        assertEquals(16, bluePixels, "The second particle should be drawn as a 4x4 square.");
+        assertEquals(Color.red.getRGB(), image.getRGB(8, 8), "The first particle should be centered on its position.");
+        assertEquals(Color.blue.getRGB(), image.getRGB(31, 21), "The second particle should be centered on its position.");
+    }
+
+    @Test
+    void tryCreateParticleSystem_withNoCapacity_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParticleSystem(0), "A particle system with no room for particles should not be allowed.");
+    }
+}
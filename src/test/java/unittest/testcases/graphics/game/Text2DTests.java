@@ -7,7 +7,9 @@ import tech.fastj.math.Maths;
 import tech.fastj.math.Pointf;
 import tech.fastj.math.Transform2D;
 
+import java.awt.Color;
 import java.awt.Font;
+import java.awt.GradientPaint;
 import java.awt.Paint;
 import java.util.UUID;
 
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class Text2DTests {
 
@@ -160,4 +164,31 @@ class Text2DTests {
         assertDoesNotThrow(() -> text2D.scale(randomScale), "Scaling Text2D objects is implemented, and should not throw an exception.");
         assertEquals(Pointf.add(randomScale, 1f), text2D.getScale(), "The actual scale should match the expected scale.");
     }
+
+    @Test
+    void checkText2D_withGlyphAtlasRendering_shouldMeasureFromGlyphAtlas() {
+        Text2D text2D = Text2D.create("Score: 0")
+            .withFill(Color.white)
+            .withGlyphAtlasRendering(true)
+            .build();
+
+        assertTrue(text2D.isGlyphAtlasRendering(), "Glyph atlas rendering should be enabled.");
+        assertTrue(text2D.isDrawnFromGlyphAtlas(), "Text with a solid color fill should be drawn from the glyph atlas.");
+
+        float shortWidth = text2D.width();
+        text2D.setText("Score: 1000000");
+        assertTrue(text2D.width() > shortWidth, "Longer text should be measured as wider.");
+    }
+
+    @Test
+    void checkText2D_withGlyphAtlasRendering_andGradientFill_shouldDrawNormally() {
+        Text2D text2D = Text2D.create("Score: 0")
+            .withGlyphAtlasRendering(true)
+            .build();
+        assertTrue(text2D.isDrawnFromGlyphAtlas(), "Text with the default fill should be drawn from the glyph atlas.");
+
+        text2D.setFill(new GradientPaint(0f, 0f, Color.red, 10f, 0f, Color.blue));
+
+        assertFalse(text2D.isDrawnFromGlyphAtlas(), "Text with a gradient fill should be drawn normally.");
+    }
 }
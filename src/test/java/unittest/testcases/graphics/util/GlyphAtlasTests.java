@@ -0,0 +1,57 @@
+package unittest.testcases.graphics.util;
+
+import tech.fastj.graphics.util.GlyphAtlas;
+
+import java.awt.Color;
+import java.awt.Font;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlyphAtlasTests {
+
+    private static final Font TestFont = new Font(Font.SANS_SERIF, Font.PLAIN, 16);
+
+    @Test
+    void checkGet_withSameFontAndColor_shouldShareAtlas() {
+        GlyphAtlas glyphAtlas = GlyphAtlas.get(TestFont, Color.red);
+
+        assertSame(glyphAtlas, GlyphAtlas.get(TestFont, new Color(255, 0, 0)), "Glyph atlases of the same font and color should be shared.");
+    }
+
+    @Test
+    void checkGetStringWidth_shouldAddCharacterAdvances() {
+        GlyphAtlas glyphAtlas = GlyphAtlas.get(TestFont, Color.black);
+
+        int expectedWidth = glyphAtlas.getStringWidth("A") + glyphAtlas.getStringWidth("B") + glyphAtlas.getStringWidth(" ");
+        assertEquals(expectedWidth, glyphAtlas.getStringWidth("AB "), "A string's width should be the sum of its characters' advances.");
+        assertEquals(0, glyphAtlas.getStringWidth(""), "An empty string should have no width.");
+        assertTrue(glyphAtlas.getLineHeight() > 0, "The atlas' line height should be positive.");
+    }
+
+    @Test
+    void checkCanDraw_withTextNeedingComplexLayout_shouldReturnFalse() {
+        GlyphAtlas glyphAtlas = GlyphAtlas.get(TestFont, Color.black);
+
+        assertTrue(glyphAtlas.canDraw("Score: 1234"), "Plain text should be drawable from the atlas.");
+        assertFalse(glyphAtlas.canDraw("\uD83D\uDE00"), "Characters outside the basic multilingual plane should not be drawable from the atlas.");
+    }
+
+    @Test
+    void checkCreateTextImage_shouldHoldTextAboveBaseline() {
+        GlyphAtlas glyphAtlas = GlyphAtlas.get(TestFont, Color.blue);
+
+        GlyphAtlas.TextImage textImage = glyphAtlas.createTextImage("HI");
+
+        assertNotNull(textImage, "Visible text should have an image.");
+        assertTrue(textImage.y() < 0, "Capital letters should be drawn above the baseline.");
+        assertTrue(textImage.image().getWidth() <= glyphAtlas.getStringWidth("HI") + 2, "The image should be about as wide as the text.");
+        assertNull(glyphAtlas.createTextImage("   "), "Text without visible glyphs should have no image.");
+    }
+}
@@ -0,0 +1,93 @@
+package unittest.testcases.math;
+
+import tech.fastj.math.PackedPoints;
+import tech.fastj.math.Pointf;
+import tech.fastj.math.Transform2D;
+
+import java.awt.geom.Point2D;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PackedPointsTests {
+
+    private static final float Precision = 0.0005f;
+
+    @Test
+    void checkPackAndUnpack_shouldRoundTripPoints() {
+        Pointf[] points = {new Pointf(1f, 2f), new Pointf(3f, 4f), new Pointf(-5f, 6f)};
+        float[] packedPoints = new float[8];
+
+        PackedPoints.pack(points, packedPoints, 2);
+        assertArrayEquals(new float[] {0f, 0f, 1f, 2f, 3f, 4f, -5f, 6f}, packedPoints, "The points should be packed as x, y pairs after the offset.");
+
+        Pointf[] unpacked = {new Pointf(), new Pointf(), new Pointf()};
+        PackedPoints.unpack(packedPoints, 2, unpacked);
+        assertArrayEquals(points, unpacked, "Unpacking the packed points should give back the original points.");
+    }
+
+    @Test
+    void checkTranslateScaleAndRotate_shouldMatchPointfMath() {
+        Pointf center = new Pointf(3f, -2f);
+        Pointf[] points = {new Pointf(1f, 2f), new Pointf(10f, 4f), new Pointf(-5f, 6f), new Pointf(0f, -7f), new Pointf(8f, 8f)};
+        float[] packedPoints = new float[points.length * 2];
+        PackedPoints.pack(points, packedPoints, 0);
+
+        PackedPoints.translate(packedPoints, 0, points.length, 4f, -1f);
+        PackedPoints.scale(packedPoints, 0, points.length, 2f, 0.5f, center.x, center.y);
+        PackedPoints.rotate(packedPoints, 0, points.length, 45f, center.x, center.y);
+
+        for (int i = 0; i < points.length; i++) {
+            Pointf expected = Pointf.add(points[i], 4f, -1f);
+            expected = Pointf.subtract(expected, center).multiply(2f, 0.5f).add(center);
+            expected = Pointf.rotate(expected, 45f, center);
+
+            assertEquals(expected.x, packedPoints[i * 2], Precision, "Point " + i + "'s x value should match transforming a Pointf.");
+            assertEquals(expected.y, packedPoints[i * 2 + 1], Precision, "Point " + i + "'s y value should match transforming a Pointf.");
+        }
+    }
+
+    @Test
+    void checkLerpAndBounds_shouldInterpolateAndBoundPoints() {
+        float[] start = {0f, 0f, 10f, -10f};
+        float[] end = {20f, 4f, 30f, 10f};
+        float[] interpolated = new float[4];
+
+        PackedPoints.lerp(start, 0, end, 0, interpolated, 0, 2, 0.5f);
+        assertArrayEquals(new float[] {10f, 2f, 20f, 0f}, interpolated, "The points should be halfway between the start and end points.");
+
+        float[] bounds = new float[4];
+        PackedPoints.bounds(interpolated, 0, 2, bounds);
+        assertArrayEquals(new float[] {10f, 0f, 20f, 2f}, bounds, "The bounds should be stored as minX, minY, maxX, maxY.");
+
+        PackedPoints.bounds(interpolated, 0, 0, bounds);
+        assertArrayEquals(new float[4], bounds, "The bounds of no points should be all zeroes.");
+    }
+
+    @Test
+    void checkTransformPoints_shouldMatchCachedAffineTransform() {
+        Transform2D transform = new Transform2D();
+        transform.setTranslation(new Pointf(15f, -5f));
+        transform.rotate(30f, new Pointf(2f, 2f));
+        transform.setScale(new Pointf(1.5f, 3f));
+
+        float[] packedPoints = {1f, 2f, -3f, 4f, 5f, -6f};
+        float[] transformed = new float[packedPoints.length];
+        transform.transformPoints(packedPoints, 0, transformed, 0, 3);
+
+        for (int i = 0; i < 3; i++) {
+            Point2D expected = transform.getCachedAffineTransform().transform(new Point2D.Float(packedPoints[i * 2], packedPoints[i * 2 + 1]), null);
+            assertEquals((float) expected.getX(), transformed[i * 2], Precision, "Point " + i + "'s x value should match the transform.");
+            assertEquals((float) expected.getY(), transformed[i * 2 + 1], Precision, "Point " + i + "'s y value should match the transform.");
+        }
+    }
+
+    @Test
+    void tryTranslate_withTooManyPoints_shouldThrowIndexOutOfBoundsException() {
+        float[] packedPoints = new float[6];
+        assertThrows(IndexOutOfBoundsException.class, () -> PackedPoints.translate(packedPoints, 2, 3, 1f, 1f), "Translating past the end of the array should not be allowed.");
+    }
+}
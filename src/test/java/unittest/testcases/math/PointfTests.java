@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PointfTests {
@@ -664,4 +665,35 @@ class PointfTests {
         assertArrayEquals(expectedInverseLerpResult4, actualInverseLerpResult4, "The resulting inverse lerped Pointf should equal the expected inverse lerp result " + Arrays.toString(expectedInverseLerpResult4) + ".");
         assertArrayEquals(expectedInverseLerpResult5, actualInverseLerpResult5, "The resulting inverse lerped Pointf should equal the expected inverse lerp result " + Arrays.toString(expectedInverseLerpResult5) + ".");
     }
+
+    @Test
+    void static_checkIntoDestinationMath_shouldMatchAllocatingMath() {
+        Pointf ptf = new Pointf(5f, 13f);
+        Pointf ptf2 = new Pointf(25f, -4f);
+        Pointf destination = new Pointf();
+
+        assertSame(destination, Pointf.add(ptf, ptf2, destination), "Adding into a destination should return the destination.");
+        assertEquals(Pointf.add(ptf, ptf2), destination, "Adding into a destination should match adding into a new Pointf.");
+        assertEquals(Pointf.subtract(ptf, ptf2), Pointf.subtract(ptf, ptf2, destination), "Subtracting into a destination should match subtracting into a new Pointf.");
+        assertEquals(Pointf.multiply(ptf, ptf2), Pointf.multiply(ptf, ptf2, destination), "Multiplying into a destination should match multiplying into a new Pointf.");
+        assertEquals(Pointf.multiply(ptf, 3f), Pointf.multiply(ptf, 3f, destination), "Multiplying by a float into a destination should match multiplying into a new Pointf.");
+        assertEquals(Pointf.divide(ptf, ptf2), Pointf.divide(ptf, ptf2, destination), "Dividing into a destination should match dividing into a new Pointf.");
+        assertEquals(Pointf.divide(ptf, 4f), Pointf.divide(ptf, 4f, destination), "Dividing by a float into a destination should match dividing into a new Pointf.");
+        assertEquals(Pointf.rotate(ptf, 30f, ptf2), Pointf.rotate(ptf, 30f, ptf2, destination), "Rotating into a destination should match rotating into a new Pointf.");
+        assertEquals(Pointf.lerp(ptf, ptf2, 0.25f), Pointf.lerp(ptf, ptf2, 0.25f, destination), "Interpolating into a destination should match interpolating into a new Pointf.");
+    }
+
+    @Test
+    void static_checkIntoDestinationMath_withDestinationAsInput_shouldUseOriginalValues() {
+        Pointf center = new Pointf(2f, 3f);
+        Pointf expectedRotation = Pointf.rotate(new Pointf(7f, -1f), 90f, center);
+
+        Pointf ptf = new Pointf(7f, -1f);
+        Pointf.rotate(ptf, 90f, center, ptf);
+        assertEquals(expectedRotation, ptf, "Rotating a Pointf into itself should match rotating it into a new Pointf.");
+
+        Pointf ptf2 = new Pointf(4f, 6f);
+        Pointf.subtract(ptf2, ptf2, ptf2);
+        assertEquals(Pointf.origin(), ptf2, "Subtracting a Pointf from itself into itself should result in the origin.");
+    }
 }
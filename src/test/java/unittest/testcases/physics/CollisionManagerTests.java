@@ -1,12 +1,32 @@
 package unittest.testcases.physics;
 
-import org.junit.jupiter.api.Test;
-import java.awt.geom.Rectangle2D;
-import tech.fastj.physics.RectangleCollider;
+import tech.fastj.physics.BroadPhase;
 import tech.fastj.physics.CollisionManager;
+import tech.fastj.physics.DynamicTreeBroadPhase;
+import tech.fastj.physics.RectangleCollider;
+import tech.fastj.physics.UniformGridBroadPhase;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CollisionManagerTests {
 
+    private static final List<Supplier<BroadPhase>> BroadPhases = List.of(
+        DynamicTreeBroadPhase::new,
+        () -> new UniformGridBroadPhase(new Rectangle2D.Float(0f, 0f, 1000f, 1000f), 50f)
+    );
+
     @Test
     void testCollisionDetection() {
 
@@ -19,7 +39,7 @@ public class CollisionManagerTests {
         collisionManager.addCollider(collider2);
 
 
-        collisionManager.checkCollisions();
+        assertTrue(collisionManager.checkCollisions(), "The two overlapping colliders should collide.");
     }
 
     @Test
@@ -34,6 +54,146 @@ public class CollisionManagerTests {
         collisionManager.addCollider(collider2);
 
 
-        collisionManager.checkCollisions();
+        assertFalse(collisionManager.checkCollisions(), "The two separated colliders should not collide.");
+    }
+
+    @Test
+    void checkFindCollisions_shouldReportEveryPairOnce_forEachBroadPhase() {
+        for (Supplier<BroadPhase> broadPhase : BroadPhases) {
+            CollisionManager collisionManager = new CollisionManager(broadPhase.get());
+            RectangleCollider collider1 = new RectangleCollider(new Rectangle2D.Double(0, 0, 50, 50));
+            RectangleCollider collider2 = new RectangleCollider(new Rectangle2D.Double(25, 25, 50, 50));
+            RectangleCollider collider3 = new RectangleCollider(new Rectangle2D.Double(40, 40, 120, 120));
+            RectangleCollider collider4 = new RectangleCollider(new Rectangle2D.Double(500, 500, 10, 10));
+
+            collisionManager.addCollider(collider1);
+            collisionManager.addCollider(collider2);
+            collisionManager.addCollider(collider3);
+            collisionManager.addCollider(collider4);
+
+            List<RectangleCollider[]> pairs = new ArrayList<>();
+            int collisionCount = collisionManager.findCollisions((first, second) -> pairs.add(new RectangleCollider[] {(RectangleCollider) first, (RectangleCollider) second}));
+
+            assertEquals(3, collisionCount, "The amount of colliding pairs should match the expected amount.");
+            assertEquals(3, pairs.size(), "Each colliding pair should be reported exactly once.");
+        }
+    }
+
+    @Test
+    void checkMovingCollider_shouldUpdateBroadPhaseIncrementally_forEachBroadPhase() {
+        for (Supplier<BroadPhase> broadPhase : BroadPhases) {
+            CollisionManager collisionManager = new CollisionManager(broadPhase.get());
+            RectangleCollider collider1 = new RectangleCollider(new Rectangle2D.Double(0, 0, 50, 50));
+            RectangleCollider collider2 = new RectangleCollider(new Rectangle2D.Double(300, 300, 50, 50));
+
+            collisionManager.addCollider(collider1);
+            collisionManager.addCollider(collider2);
+            assertFalse(collisionManager.checkCollisions(), "The colliders should not collide before moving.");
+
+            collider2.translate(-280, -280);
+            assertTrue(collisionManager.checkCollisions(), "The colliders should collide after moving together.");
+
+            collider2.setShape(700, 700, 50, 50);
+            assertFalse(collisionManager.checkCollisions(), "The colliders should not collide after moving apart.");
+        }
+    }
+
+    @Test
+    void checkFindCollisions_shouldMatchBruteForce_forEachBroadPhase() {
+        Random random = new Random(0);
+        List<RectangleCollider> colliders = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            colliders.add(new RectangleCollider(new Rectangle2D.Double(random.nextInt(1000), random.nextInt(1000), 5 + random.nextInt(40), 5 + random.nextInt(40))));
+        }
+
+        int expectedCollisionCount = 0;
+        for (int i = 0; i < colliders.size(); i++) {
+            for (int j = i + 1; j < colliders.size(); j++) {
+                if (colliders.get(i).checkCollision(colliders.get(j))) {
+                    expectedCollisionCount++;
+                }
+            }
+        }
+
+        for (Supplier<BroadPhase> broadPhase : BroadPhases) {
+            CollisionManager collisionManager = new CollisionManager(broadPhase.get());
+            for (RectangleCollider collider : colliders) {
+                collisionManager.addCollider(collider);
+            }
+
+            assertEquals(expectedCollisionCount, collisionManager.findCollisions(null), "The broad phase should find the same collisions as a brute-force check.");
+            collisionManager.clear();
+        }
+    }
+
+    @Test
+    void checkRemoveCollider_shouldStopReportingCollisions() {
+        RectangleCollider collider1 = new RectangleCollider(new Rectangle2D.Double(0, 0, 50, 50));
+        RectangleCollider collider2 = new RectangleCollider(new Rectangle2D.Double(25, 25, 50, 50));
+
+        CollisionManager collisionManager = new CollisionManager();
+        collisionManager.addCollider(collider1);
+        collisionManager.addCollider(collider2);
+        collisionManager.removeCollider(collider2);
+
+        assertFalse(collisionManager.checkCollisions(), "A removed collider should no longer collide.");
+        assertEquals(1, collisionManager.getBroadPhase().getProxyCount(), "The broad phase should only contain the remaining collider.");
+    }
+
+    @Test
+    void checkRemoveCollider_duringFindCollisions_shouldApplyAfterQuery_forEachBroadPhase() {
+        for (Supplier<BroadPhase> broadPhase : BroadPhases) {
+            Random random = new Random(0);
+            CollisionManager collisionManager = new CollisionManager(broadPhase.get());
+            for (int i = 0; i < 300; i++) {
+                collisionManager.addCollider(new RectangleCollider(new Rectangle2D.Double(random.nextInt(500), random.nextInt(500), 10 + random.nextInt(40), 10 + random.nextInt(40))));
+            }
+
+            HashSet<Object> removed = new HashSet<>();
+            collisionManager.findCollisions((first, second) -> {
+                assertFalse(removed.contains(first) || removed.contains(second), "A collider removed during the query should not be reported again.");
+
+                // the "bullet hits, despawn it" pattern
+                removed.add(second);
+                collisionManager.removeCollider(second);
+            });
+
+            assertFalse(removed.isEmpty(), "The query should have found collisions to remove.");
+            assertEquals(300 - removed.size(), collisionManager.getColliders().size(), "The removed colliders should no longer belong to the collision manager.");
+            assertEquals(300 - removed.size(), collisionManager.getBroadPhase().getProxyCount(), "The removed colliders' proxies should be destroyed after the query.");
+
+            collisionManager.findCollisions((first, second) -> assertFalse(
+                removed.contains(first) || removed.contains(second),
+                "A removed collider should not be reported by later queries."
+            ));
+        }
+    }
+
+    @Test
+    void checkAddCollider_duringFindCollisions_shouldBeFoundByNextQuery_forEachBroadPhase() {
+        for (Supplier<BroadPhase> broadPhase : BroadPhases) {
+            CollisionManager collisionManager = new CollisionManager(broadPhase.get());
+            collisionManager.addCollider(new RectangleCollider(new Rectangle2D.Double(0, 0, 50, 50)));
+            collisionManager.addCollider(new RectangleCollider(new Rectangle2D.Double(25, 25, 50, 50)));
+
+            RectangleCollider added = new RectangleCollider(new Rectangle2D.Double(10, 10, 50, 50));
+            int collisionCount = collisionManager.findCollisions((first, second) -> {
+                if (added.getCollisionManager() == null) {
+                    collisionManager.addCollider(added);
+                }
+            });
+
+            assertEquals(1, collisionCount, "A collider added during the query should not be reported by that query.");
+            assertEquals(3, collisionManager.getBroadPhase().getProxyCount(), "The added collider's proxy should be created after the query.");
+            assertEquals(3, collisionManager.findCollisions(null), "The added collider should be found by the next query.");
+        }
+    }
+
+    @Test
+    void tryAddCollider_toSecondManager_shouldThrowException() {
+        RectangleCollider collider = new RectangleCollider(new Rectangle2D.Double(0, 0, 50, 50));
+        new CollisionManager().addCollider(collider);
+
+        assertThrows(IllegalArgumentException.class, () -> new CollisionManager().addCollider(collider), "A collider should only belong to one collision manager.");
     }
 }
@@ -0,0 +1,72 @@
+package unittest.testcases.physics;
+
+import tech.fastj.physics.Contact;
+import tech.fastj.physics.ConvexDecomposition;
+import tech.fastj.physics.NarrowPhase;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NarrowPhaseTests {
+
+    private static final float[] FirstBox = {0f, 0f, 10f, 0f, 10f, 10f, 0f, 10f};
+    private static final float[] OverlappingBox = {8f, 2f, 18f, 2f, 18f, 12f, 8f, 12f};
+    private static final float[] SeparateBox = {20f, 0f, 30f, 0f, 30f, 10f, 20f, 10f};
+
+    @Test
+    void checkIntersectSat_withOverlappingBoxes_shouldFindContact() {
+        Contact contact = new Contact();
+        boolean collides = new NarrowPhase().intersectSat(FirstBox, 0, 4, OverlappingBox, 0, 4, contact);
+
+        assertTrue(collides, "The boxes should overlap.");
+        assertEquals(2f, contact.getDepth(), 1e-4f, "The penetration depth should match the overlap on the x axis.");
+        assertEquals(1f, contact.getNormalX(), 1e-4f, "The contact normal should point from the first box towards the second.");
+        assertEquals(0f, contact.getNormalY(), 1e-4f, "The contact normal should point from the first box towards the second.");
+    }
+
+    @Test
+    void checkIntersectGjk_withOverlappingBoxes_shouldMatchSat() {
+        Contact contact = new Contact();
+        boolean collides = new NarrowPhase().intersectGjk(FirstBox, 0, 4, OverlappingBox, 0, 4, contact);
+
+        assertTrue(collides, "The boxes should overlap.");
+        assertEquals(2f, contact.getDepth(), 1e-3f, "The penetration depth should match the overlap on the x axis.");
+        assertEquals(1f, contact.getNormalX(), 1e-3f, "The contact normal should point from the first box towards the second.");
+        assertEquals(0f, contact.getNormalY(), 1e-3f, "The contact normal should point from the first box towards the second.");
+    }
+
+    @Test
+    void checkIntersection_withSeparateBoxes_shouldNotCollide() {
+        NarrowPhase narrowPhase = new NarrowPhase();
+
+        assertFalse(narrowPhase.intersectSat(FirstBox, 0, 4, SeparateBox, 0, 4, null), "SAT should not find an overlap.");
+        assertFalse(narrowPhase.intersectGjk(FirstBox, 0, 4, SeparateBox, 0, 4, null), "GJK should not find an overlap.");
+    }
+
+    @Test
+    void checkConvexDecomposition_ofConcaveShape_shouldSplitIntoConvexPieces() {
+        Path2D.Float lShape = new Path2D.Float();
+        lShape.moveTo(0f, 0f);
+        lShape.lineTo(10f, 0f);
+        lShape.lineTo(10f, 5f);
+        lShape.lineTo(5f, 5f);
+        lShape.lineTo(5f, 10f);
+        lShape.lineTo(0f, 10f);
+        lShape.closePath();
+
+        ConvexDecomposition decomposition = ConvexDecomposition.of(lShape);
+        ConvexDecomposition notchBox = ConvexDecomposition.of(new Rectangle2D.Float(6f, 6f, 3f, 3f));
+        ConvexDecomposition cornerBox = ConvexDecomposition.of(new Rectangle2D.Float(1f, 1f, 3f, 3f));
+        NarrowPhase narrowPhase = new NarrowPhase();
+
+        assertEquals(2, decomposition.getPieceCount(), "The L shape should be split into two convex pieces.");
+        assertFalse(narrowPhase.collides(decomposition, notchBox, null), "A box inside the notch of the L shape should not collide with it.");
+        assertTrue(narrowPhase.collides(decomposition, cornerBox, null), "A box inside the L shape should collide with it.");
+    }
+}
@@ -0,0 +1,60 @@
+package unittest.testcases.resources.images;
+
+import tech.fastj.resources.images.SpriteAtlas;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpriteAtlasTests {
+
+    @Test
+    void checkAddAll_shouldPackImagesOntoSharedPage() {
+        SpriteAtlas spriteAtlas = new SpriteAtlas(64, 1);
+        BufferedImage[] images = new BufferedImage[10];
+        for (int i = 0; i < images.length; i++) {
+            images[i] = createImage(8 + i, 4 + i, new Color(i * 20, 100, 200));
+        }
+
+        BufferedImage[] packedImages = spriteAtlas.addAll(images);
+
+        assertEquals(1, spriteAtlas.getPages().size(), "All ten small images should fit on a single page.");
+        for (int i = 0; i < images.length; i++) {
+            assertEquals(images[i].getWidth(), packedImages[i].getWidth(), "Packed image " + i + " should keep its width.");
+            assertEquals(images[i].getHeight(), packedImages[i].getHeight(), "Packed image " + i + " should keep its height.");
+            assertEquals(images[i].getRGB(0, 0), packedImages[i].getRGB(0, 0), "Packed image " + i + " should keep its pixels.");
+            assertEquals(images[i].getRGB(images[i].getWidth() - 1, images[i].getHeight() - 1), packedImages[i].getRGB(images[i].getWidth() - 1, images[i].getHeight() - 1), "Packed image " + i + " should not be overlapped by another image.");
+        }
+    }
+
+    @Test
+    void checkAdd_whenPageIsFull_shouldStartNewPage() {
+        SpriteAtlas spriteAtlas = new SpriteAtlas(32, 0);
+        for (int i = 0; i < 5; i++) {
+            spriteAtlas.add(createImage(16, 16, Color.red));
+        }
+
+        assertEquals(2, spriteAtlas.getPages().size(), "Four 16x16 images should fill a 32x32 page, leaving the fifth for a new page.");
+    }
+
+    @Test
+    void tryAdd_withImageLargerThanPage_shouldThrowIllegalArgumentException() {
+        SpriteAtlas spriteAtlas = new SpriteAtlas(16, 0);
+        BufferedImage image = createImage(17, 4, Color.red);
+        assertThrows(IllegalArgumentException.class, () -> spriteAtlas.add(image), "An image wider than a page should be rejected.");
+    }
+
+    private static BufferedImage createImage(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, color.getRGB());
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,74 @@
+package unittest.testcases.resources.images;
+
+import tech.fastj.resources.images.ImageResource;
+import tech.fastj.resources.images.ImageUtil;
+import tech.fastj.resources.images.SpriteSheetCache;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpriteSheetCacheTests {
+
+    private Path spriteSheetPath;
+
+    @BeforeEach
+    void createSpriteSheetFile() throws IOException {
+        spriteSheetPath = Files.createTempFile("temp_" + SpriteSheetCacheTests.class.getSimpleName(), ".png");
+        ImageUtil.writeBufferedImage(new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB), spriteSheetPath);
+        SpriteSheetCache.clear();
+    }
+
+    @AfterEach
+    void deleteSpriteSheetFile() throws IOException {
+        SpriteSheetCache.clear();
+        Files.deleteIfExists(spriteSheetPath);
+    }
+
+    @Test
+    void checkGetSpriteSheet_withSameImageAndCounts_shouldShareFrames() {
+        BufferedImage[] firstFrames = SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 4, 2);
+        BufferedImage[] secondFrames = SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 4, 2);
+
+        assertSame(firstFrames, secondFrames, "Sprite sheets of the same image and image counts should share their frames.");
+        assertEquals(8, firstFrames.length, "The sprite sheet should be sliced into 4x2 frames.");
+        assertEquals(8, firstFrames[0].getWidth(), "Each frame should be a quarter of the image's width.");
+        assertEquals(1, SpriteSheetCache.size(), "Only one sprite sheet should have been cached.");
+    }
+
+    @Test
+    void checkGetSpriteSheet_withDifferentCounts_shouldSliceSeparately() {
+        BufferedImage[] quarterFrames = SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 4, 1);
+        BufferedImage[] halfFrames = SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 2, 1);
+
+        assertNotSame(quarterFrames, halfFrames, "Different image counts should give different sprite sheets.");
+        assertEquals(2, SpriteSheetCache.size(), "Both sprite sheets should have been cached.");
+    }
+
+    @Test
+    void checkEvict_shouldRemoveEverySpriteSheetOfImage() {
+        BufferedImage[] frames = SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 4, 1);
+        SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 2, 1);
+
+        SpriteSheetCache.evict(spriteSheetPath);
+
+        assertEquals(0, SpriteSheetCache.size(), "Every sprite sheet of the image should have been evicted.");
+        assertNotSame(frames, SpriteSheetCache.getSpriteSheet(new ImageResource(spriteSheetPath), 4, 1), "The image should be sliced again.");
+    }
+
+    @Test
+    void tryGetSpriteSheet_withNoImagesAcross_shouldThrowIllegalArgumentException() {
+        ImageResource spriteResource = new ImageResource(spriteSheetPath);
+        assertThrows(IllegalArgumentException.class, () -> SpriteSheetCache.getSpriteSheet(spriteResource, 0, 1), "A sprite sheet with no images across should be rejected.");
+    }
+}
@@ -0,0 +1,147 @@
+package unittest.testcases.systems.behaviors;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.behaviors.Behavior;
+import tech.fastj.systems.behaviors.BehaviorExecution;
+import tech.fastj.systems.behaviors.BehaviorManager;
+import tech.fastj.systems.control.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import unittest.mock.graphics.MockGameObject;
+import unittest.mock.systems.control.MockEmptyScene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BehaviorManagerTests {
+
+    private static final int GameObjectCount = 1000;
+
+    @AfterEach
+    void resetBehaviorExecution() {
+        BehaviorManager.setBehaviorExecution(BehaviorManager.DefaultBehaviorExecution);
+    }
+
+    @Test
+    void checkBehaviorExecution_shouldDefaultToSerial() {
+        assertEquals(BehaviorExecution.Serial, BehaviorManager.getBehaviorExecution(), "Behaviors should run serially unless parallel execution is enabled.");
+    }
+
+    @Test
+    void checkParallelFixedUpdate_shouldRunEveryBehaviorOnce() {
+        Scene scene = new MockEmptyScene();
+        AtomicInteger threadSafeUpdates = new AtomicInteger();
+        Map<GameObject, Integer> threadSafeUpdatesByGameObject = new ConcurrentHashMap<>();
+        List<GameObject> serialUpdateOrder = new ArrayList<>();
+        Thread callingThread = Thread.currentThread();
+        AtomicInteger serialUpdatesOffThread = new AtomicInteger();
+
+        Behavior threadSafeBehavior = new Behavior() {
+            @Override
+            public void fixedUpdate(GameObject gameObject) {
+                threadSafeUpdates.incrementAndGet();
+                threadSafeUpdatesByGameObject.merge(gameObject, 1, Integer::sum);
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+        Behavior serialBehavior = new Behavior() {
+            @Override
+            public void fixedUpdate(GameObject gameObject) {
+                if (Thread.currentThread() != callingThread) {
+                    serialUpdatesOffThread.incrementAndGet();
+                }
+                serialUpdateOrder.add(gameObject);
+            }
+        };
+
+        for (int i = 0; i < GameObjectCount; i++) {
+            GameObject gameObject = new MockGameObject();
+            gameObject.addBehavior(serialBehavior, scene);
+            gameObject.addBehavior(threadSafeBehavior, scene);
+        }
+
+        BehaviorManager.setBehaviorExecution(BehaviorExecution.Parallel);
+        scene.fixedUpdateBehaviorListeners();
+
+        assertEquals(GameObjectCount, threadSafeUpdates.get(), "Each thread-safe behavior should have run exactly once per game object.");
+        assertTrue(threadSafeUpdatesByGameObject.values().stream().allMatch(count -> count == 1), "No game object's thread-safe behavior should have run more than once.");
+        assertEquals(GameObjectCount, serialUpdateOrder.size(), "Each serial behavior should have run exactly once per game object.");
+        assertEquals(0, serialUpdatesOffThread.get(), "Serial behaviors should only run on the calling thread.");
+        assertEquals(scene.getBehaviorListeners(), serialUpdateOrder, "Serial behaviors should run in the same order as the behavior listeners.");
+    }
+
+    @Test
+    void checkParallelUpdate_withFewListeners_shouldRunEveryBehaviorOnce() {
+        Scene scene = new MockEmptyScene();
+        AtomicInteger updates = new AtomicInteger();
+
+        Behavior threadSafeBehavior = new Behavior() {
+            @Override
+            public void update(GameObject gameObject) {
+                updates.incrementAndGet();
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+
+        for (int i = 0; i < BehaviorManager.ParallelBatchSize / 2; i++) {
+            new MockGameObject().addBehavior(threadSafeBehavior, scene);
+        }
+
+        BehaviorManager.setBehaviorExecution(BehaviorExecution.Parallel);
+        scene.updateBehaviorListeners();
+
+        assertEquals(BehaviorManager.ParallelBatchSize / 2, updates.get(), "Each thread-safe behavior should have run exactly once per game object.");
+    }
+
+    @Test
+    void checkParallelFixedUpdate_readingSharedGameObject_shouldSeeItsCurrentBounds() {
+        Scene scene = new MockEmptyScene();
+        Polygon2D player = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        player.addBehavior(new Behavior() {
+        }, scene);
+
+        Set<Pointf> centersSeen = ConcurrentHashMap.newKeySet();
+        Behavior enemyMovement = new Behavior() {
+            @Override
+            public void fixedUpdate(GameObject gameObject) {
+                centersSeen.add(player.getCenter(new Pointf()));
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+
+        for (int i = 0; i < GameObjectCount; i++) {
+            new MockGameObject().addBehavior(enemyMovement, scene);
+        }
+
+        // leaves the player's cached transform and bounds out of date until they are next read
+        player.translate(new Pointf(100f, 50f));
+
+        BehaviorManager.setBehaviorExecution(BehaviorExecution.Parallel);
+        scene.fixedUpdateBehaviorListeners();
+
+        assertEquals(Set.of(new Pointf(105f, 55f)), centersSeen, "Every thread-safe behavior should see the player's current center.");
+    }
+}
@@ -0,0 +1,92 @@
+package unittest.testcases.systems.collections;
+
+import tech.fastj.systems.collections.LongMap;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongMapTests {
+
+    @Test
+    void checkPutAndRemove_shouldMatchHashMap() {
+        LongMap<String> longMap = new LongMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(24L);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextLong(2_000L) - 1_000L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), longMap.remove(key), "Removing key " + key + " should return the same value as a hash map.");
+            } else {
+                String value = "value" + i;
+                assertEquals(expected.put(key, value), longMap.put(key, value), "Putting key " + key + " should return the same value as a hash map.");
+            }
+        }
+
+        assertEquals(expected.size(), longMap.size(), "The map should have as many entries as a hash map.");
+        for (Map.Entry<Long, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), longMap.get(entry.getKey()), "The map should have the same value for key " + entry.getKey() + ".");
+        }
+        assertNull(longMap.get(5_000L), "Keys which were never added should not be found.");
+    }
+
+    @Test
+    void checkValues_shouldKeepInsertionOrder() {
+        LongMap<String> longMap = new LongMap<>(2);
+        for (long key = 0L; key < 40L; key++) {
+            longMap.put(key * 1_000_003L, "value" + key);
+        }
+        for (long key = 0L; key < 40L; key += 2L) {
+            longMap.remove(key * 1_000_003L);
+        }
+        longMap.put(3L * 1_000_003L, "replaced");
+        longMap.put(-1L, "last");
+
+        List<String> values = new ArrayList<>(longMap.values());
+
+        assertEquals(21, values.size(), "The map should have every value which was not removed.");
+        assertEquals("value1", values.get(0), "The oldest remaining value should be first.");
+        assertEquals("replaced", values.get(1), "Replacing a value should keep its place in the order.");
+        assertEquals("last", values.get(20), "The newest value should be last.");
+    }
+
+    @Test
+    void checkIteratorRemove_shouldRemoveEntries() {
+        LongMap<String> longMap = new LongMap<>();
+        for (long key = 0L; key < 10L; key++) {
+            longMap.put(key, key % 2L == 0L ? "even" : "odd");
+        }
+
+        longMap.values().removeIf("odd"::equals);
+
+        assertEquals(5, longMap.size(), "Every odd value should be removed.");
+        assertFalse(longMap.containsKey(3L), "Odd keys should be removed.");
+        assertTrue(longMap.containsKey(4L), "Even keys should remain.");
+    }
+
+    @Test
+    void tryIterate_afterPut_shouldThrowConcurrentModificationException() {
+        LongMap<String> longMap = new LongMap<>();
+        longMap.put(1L, "first");
+        longMap.put(2L, "second");
+
+        Iterator<String> iterator = longMap.iterator();
+        iterator.next();
+        longMap.put(3L, "third");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next, "Changing the map while iterating it should fail fast.");
+    }
+}
@@ -0,0 +1,167 @@
+package unittest.testcases.systems.control;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.control.DrawableManager;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DrawableManagerTests {
+
+    private static Polygon2D box(float x, float y, float size) {
+        return Polygon2D.fromPoints(DrawUtil.createBox(x, y, size));
+    }
+
+    @Test
+    void checkQueryRect_shouldFindOverlappingGameObjects() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D inside = box(10f, 10f, 20f);
+        Polygon2D partiallyInside = box(90f, 90f, 20f);
+        Polygon2D outside = box(500f, 500f, 20f);
+        drawableManager.addGameObject(inside);
+        drawableManager.addGameObject(partiallyInside);
+        drawableManager.addGameObject(outside);
+
+        List<GameObject> results = new ArrayList<>();
+        int found = drawableManager.queryRect(new Rectangle2D.Float(0f, 0f, 100f, 100f), results);
+
+        assertEquals(2, found, "Two game objects should overlap the queried area.");
+        assertTrue(results.contains(inside) && results.contains(partiallyInside), "The overlapping game objects should be found.");
+    }
+
+    @Test
+    void checkQueryRadius_shouldFindGameObjectsWithinRadius() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D near = box(150f, -10f, 20f);
+        Polygon2D diagonal = box(150f, 150f, 20f);
+        drawableManager.addGameObject(near);
+        drawableManager.addGameObject(diagonal);
+
+        List<GameObject> results = new ArrayList<>();
+        drawableManager.queryRadius(new Pointf(0f, 0f), 200f, results);
+
+        assertEquals(List.of(near), results, "Only the game object within the radius should be found.");
+    }
+
+    @Test
+    void checkNearest_shouldFindClosestGameObjectsInOrder() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D first = box(10f, 0f, 10f);
+        Polygon2D second = box(100f, 0f, 10f);
+        Polygon2D third = box(-300f, 0f, 10f);
+        Polygon2D fourth = box(1000f, 1000f, 10f);
+        drawableManager.addGameObject(fourth);
+        drawableManager.addGameObject(third);
+        drawableManager.addGameObject(second);
+        drawableManager.addGameObject(first);
+
+        GameObject[] results = new GameObject[3];
+        int found = drawableManager.nearest(new Pointf(0f, 0f), 3, results);
+
+        assertEquals(3, found, "Three game objects should be found.");
+        assertArrayEquals(new GameObject[] {first, second, third}, results, "The game objects should be ordered by distance.");
+    }
+
+    @Test
+    void checkNearest_withTooSmallResultsArray_shouldThrowIllegalArgumentException() {
+        DrawableManager drawableManager = new DrawableManager();
+        assertThrows(IllegalArgumentException.class, () -> drawableManager.nearest(Pointf.origin(), 2, new GameObject[1]));
+    }
+
+    @Test
+    void checkSpatialQueries_afterTranslatingGameObject_shouldUseNewLocation() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D polygon2D = box(0f, 0f, 20f);
+        drawableManager.addGameObject(polygon2D);
+
+        polygon2D.translate(new Pointf(1000f, 1000f));
+
+        List<GameObject> results = new ArrayList<>();
+        assertEquals(0, drawableManager.queryRect(new Rectangle2D.Float(0f, 0f, 50f, 50f), results), "The game object should no longer be found at its old location.");
+        assertEquals(1, drawableManager.queryRect(new Rectangle2D.Float(990f, 990f, 50f, 50f), results), "The game object should be found at its new location.");
+    }
+
+    @Test
+    void checkSpatialQueries_afterMovingGameObjectOutsideOfIndex_shouldStillFindIt() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D polygon2D = box(0f, 0f, 20f);
+        drawableManager.addGameObject(polygon2D);
+
+        polygon2D.translate(new Pointf(100000f, -100000f));
+
+        List<GameObject> results = new ArrayList<>();
+        drawableManager.queryRadius(new Pointf(100010f, -99990f), 5f, results);
+        assertEquals(List.of(polygon2D), results, "The game object should be found far outside the index's initial area.");
+    }
+
+    @Test
+    void checkSpatialQueries_afterRemovingGameObject_shouldNotFindIt() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D polygon2D = box(0f, 0f, 20f);
+        drawableManager.addGameObject(polygon2D);
+        drawableManager.removeGameObject(polygon2D);
+
+        List<GameObject> results = new ArrayList<>();
+        assertEquals(0, drawableManager.queryRect(new Rectangle2D.Float(0f, 0f, 50f, 50f), results), "The removed game object should not be found.");
+        assertEquals(0, drawableManager.getSpatialIndex().size(), "The spatial index should be empty.");
+    }
+
+    @Test
+    void checkGetGameObjects_shouldLookUpGameObjectsByIdAndHandle() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D first = box(0f, 0f, 20f);
+        Polygon2D second = box(50f, 0f, 20f);
+        drawableManager.addGameObject(first);
+        drawableManager.addGameObject(second);
+
+        assertEquals(first, drawableManager.getGameObjects().get(first.getID()), "The game object should be found by its ID.");
+        assertEquals(second, drawableManager.getGameObject(second.getHandle()), "The game object should be found by its handle.");
+        assertEquals(List.of(first, second), List.copyOf(drawableManager.getGameObjects().values()), "Game objects should keep the order they were added in.");
+
+        drawableManager.removeGameObject(first.getID());
+
+        assertEquals(List.of(second), drawableManager.getGameObjectsList(), "Removing a game object by its ID should remove it.");
+        assertFalse(drawableManager.getGameObjects().containsKey(first.getID()), "The removed game object should no longer be found by its ID.");
+    }
+
+    @Test
+    void checkRemovingThroughGameObjectsView_shouldRemoveGameObjectFromManager() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D removedByKey = box(0f, 0f, 20f);
+        Polygon2D removedByIterator = box(30f, 0f, 20f);
+        Polygon2D removedByValues = box(60f, 0f, 20f);
+        Polygon2D kept = box(90f, 0f, 20f);
+        drawableManager.addGameObject(removedByKey);
+        drawableManager.addGameObject(removedByIterator);
+        drawableManager.addGameObject(removedByValues);
+        drawableManager.addGameObject(kept);
+
+        drawableManager.getGameObjects().remove(removedByKey.getID());
+        drawableManager.getGameObjects().entrySet().removeIf(entry -> entry.getValue() == removedByIterator);
+        drawableManager.getGameObjects().values().remove(removedByValues);
+
+        List<GameObject> results = new ArrayList<>();
+        drawableManager.queryRect(new Rectangle2D.Float(0f, 0f, 200f, 50f), results);
+
+        assertEquals(List.of(kept), drawableManager.getGameObjectsList(), "Only the kept game object should remain in the manager.");
+        assertEquals(List.of(kept), results, "Game objects removed through the view should no longer be found by spatial queries.");
+        assertFalse(drawableManager.getTagIndex().contains(removedByKey), "Game objects removed through the view should leave the tag index.");
+
+        drawableManager.getGameObjects().clear();
+
+        assertTrue(drawableManager.getGameObjects().isEmpty(), "Clearing the view should remove every game object.");
+        assertEquals(0, drawableManager.getSpatialIndex().size(), "Clearing the view should clear the spatial index.");
+    }
+}
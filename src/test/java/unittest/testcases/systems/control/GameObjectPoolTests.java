@@ -0,0 +1,113 @@
+package unittest.testcases.systems.control;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.behaviors.Behavior;
+import tech.fastj.systems.control.GameObjectPool;
+import tech.fastj.systems.control.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unittest.mock.systems.control.MockEmptyScene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameObjectPoolTests {
+
+    @Test
+    void checkAcquire_shouldAddGameObjectToGameHandler() {
+        Scene scene = new MockEmptyScene();
+        List<Pointf> initPositions = new ArrayList<>();
+        Behavior recordInit = new Behavior() {
+            @Override
+            public void init(GameObject gameObject) {
+                initPositions.add(gameObject.getTranslation());
+            }
+        };
+        GameObjectPool<Polygon2D> pool = new GameObjectPool<>(scene, () -> {
+            Polygon2D bullet = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 5f));
+            bullet.addBehavior(recordInit, scene);
+            return bullet;
+        }, 2, 4);
+
+        assertTrue(scene.getBehaviorListeners().isEmpty(), "Idle game objects should not be behavior listeners.");
+
+        Polygon2D bullet = pool.acquire(acquired -> acquired.setTranslation(new Pointf(10f, 20f)));
+
+        assertSame(bullet, scene.drawableManager().getGameObjects().get(bullet.getID()), "The acquired game object should be added to the drawable manager.");
+        assertEquals(List.of(bullet), scene.getBehaviorListeners(), "The acquired game object should be a behavior listener.");
+        assertEquals(List.of(new Pointf(10f, 20f)), initPositions, "Behaviors should be reset after the game object is set up.");
+    }
+
+    @Test
+    void checkRelease_shouldKeepBehaviorsForReuse() {
+        Scene scene = new MockEmptyScene();
+        int[] initCount = new int[1];
+        Behavior countInit = new Behavior() {
+            @Override
+            public void init(GameObject gameObject) {
+                initCount[0]++;
+            }
+        };
+        GameObjectPool<Polygon2D> pool = new GameObjectPool<>(scene, () -> {
+            Polygon2D bullet = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 5f));
+            bullet.addBehavior(countInit, scene);
+            return bullet;
+        });
+        pool.setResetAction(released -> released.setTranslation(Pointf.origin()));
+
+        Polygon2D first = pool.acquire(acquired -> acquired.setTranslation(new Pointf(50f, 50f)));
+        assertTrue(pool.release(first), "Releasing an acquired game object should succeed.");
+
+        assertFalse(scene.drawableManager().getGameObjects().containsKey(first.getID()), "The released game object should be removed from the drawable manager.");
+        assertTrue(scene.getBehaviorListeners().isEmpty(), "The released game object should no longer be a behavior listener.");
+        assertEquals(Pointf.origin(), first.getTranslation(), "The reset action should run on release.");
+        assertFalse(first.isDestroyed(), "The released game object should not be destroyed.");
+
+        Polygon2D second = pool.acquire();
+
+        assertSame(first, second, "The released game object should be reused.");
+        assertEquals(1, second.getBehaviors().size(), "The reused game object should keep its behaviors.");
+        assertEquals(2, initCount[0], "Behaviors should be reset each time the game object is acquired.");
+        assertEquals(1, pool.getSize(), "The pool should only have created one game object.");
+        assertEquals(1, pool.getReuseCount(), "The pool should count reused game objects.");
+
+        pool.release(second);
+        assertFalse(pool.release(second), "Releasing a game object which is not in use should do nothing.");
+    }
+
+    @Test
+    void checkAcquire_atMaxSize_shouldReturnNull() {
+        Scene scene = new MockEmptyScene();
+        GameObjectPool<Polygon2D> pool = new GameObjectPool<>(scene, () -> Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 5f)), 0, 2);
+
+        Polygon2D first = pool.acquire();
+        pool.acquire();
+
+        assertNull(pool.acquire(), "Acquiring from a pool at its maximum size should fail.");
+        assertEquals(1, pool.getRejectedCount(), "The pool should count failed acquires.");
+        assertEquals(2, pool.getPeakActiveCount(), "The pool should track the most game objects in use at once.");
+
+        pool.release(first);
+        assertSame(first, pool.acquire(), "Acquiring should succeed again once a game object is released.");
+    }
+
+    @Test
+    void tryRelease_withForeignGameObject_shouldThrowIllegalArgumentException() {
+        Scene scene = new MockEmptyScene();
+        GameObjectPool<Polygon2D> pool = new GameObjectPool<>(scene, () -> Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 5f)));
+        Polygon2D foreign = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 5f));
+
+        assertThrows(IllegalArgumentException.class, () -> pool.release(foreign), "Releasing a game object from another pool should throw.");
+    }
+}
@@ -0,0 +1,183 @@
+package unittest.testcases.systems.ecs;
+
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.ecs.Archetype;
+import tech.fastj.systems.ecs.ComponentType;
+import tech.fastj.systems.ecs.DrawableBridge;
+import tech.fastj.systems.ecs.EntityQuery;
+import tech.fastj.systems.ecs.EntitySystem;
+import tech.fastj.systems.ecs.EntityWorld;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityWorldTests {
+
+    private static final ComponentType Health = new ComponentType("Health", new String[] {"current", "max"}, new float[] {100f, 100f});
+
+    @Test
+    void checkCreateEntity_shouldSetComponentsToTheirDefaultValues() {
+        EntityWorld world = new EntityWorld();
+        int entity = world.createEntity(ComponentType.Transform, Health);
+
+        assertEquals(0f, world.get(entity, ComponentType.Transform, ComponentType.TransformX), "The transform should start at the origin.");
+        assertEquals(1f, world.get(entity, ComponentType.Transform, ComponentType.TransformScaleX), "The transform should start unscaled.");
+        assertEquals(100f, world.get(entity, Health, 0), "The health component should start at its default value.");
+        assertFalse(world.has(entity, ComponentType.Velocity), "The entity should not have components it was not created with.");
+    }
+
+    @Test
+    void checkUpdate_withMovementSystem_shouldMoveEveryEntityByItsVelocity() {
+        EntityWorld world = new EntityWorld();
+        world.addSystem(EntitySystem.movement());
+
+        int entityCount = 100_000;
+        int[] entities = new int[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = world.createEntity(ComponentType.Transform, ComponentType.Velocity);
+            world.set(entities[i], ComponentType.Velocity, ComponentType.VelocityX, i);
+            world.set(entities[i], ComponentType.Velocity, ComponentType.VelocityY, -1f);
+        }
+        int stillEntity = world.createEntity(ComponentType.Transform);
+
+        for (int step = 0; step < 4; step++) {
+            world.update(0.25f);
+        }
+
+        for (int i = 0; i < entityCount; i += 997) {
+            assertEquals(i, world.get(entities[i], ComponentType.Transform, ComponentType.TransformX), 0.001f, "Entity " + i + " should move by its velocity.");
+            assertEquals(-1f, world.get(entities[i], ComponentType.Transform, ComponentType.TransformY), 0.001f, "Entity " + i + " should move by its velocity.");
+        }
+        assertEquals(0f, world.get(stillEntity, ComponentType.Transform, ComponentType.TransformX), "Entities without a velocity should not move.");
+    }
+
+    @Test
+    void checkDestroyEntity_shouldInvalidateItsHandleAfterItsSlotIsReused() {
+        EntityWorld world = new EntityWorld();
+        int first = world.createEntity(Health);
+        int second = world.createEntity(Health);
+        world.set(second, Health, 0, 42f);
+
+        world.destroyEntity(first);
+        int replacement = world.createEntity(Health);
+
+        assertFalse(world.isAlive(first), "The destroyed entity should no longer be alive.");
+        assertTrue(world.isAlive(replacement), "The replacement entity should be alive.");
+        assertNotEquals(first, replacement, "The replacement entity should have a different handle from the one it replaced.");
+        assertEquals(42f, world.get(second, Health, 0), "The entity moved into the destroyed entity's row should keep its values.");
+        assertThrows(IllegalArgumentException.class, () -> world.get(first, Health, 0), "Reading a destroyed entity should throw.");
+    }
+
+    @Test
+    void checkDestroyEntity_churningOneSlot_shouldNeverReviveStaleHandles() {
+        EntityWorld world = new EntityWorld();
+        int first = world.createEntity(Health);
+        Set<Integer> handles = new HashSet<>();
+        handles.add(first);
+
+        int entity = first;
+        for (int i = 0; i < EntityWorld.MaxGenerations + 10; i++) {
+            world.destroyEntity(entity);
+            entity = world.createEntity(Health);
+
+            assertTrue(handles.add(entity), "Handle " + entity + " should not be reused, but was after " + (i + 1) + " respawns.");
+            assertFalse(world.isAlive(first), "The first entity's handle should stay dead after " + (i + 1) + " respawns.");
+        }
+
+        assertEquals(1, world.getEntityCount(), "Only the latest entity should be alive.");
+    }
+
+    @Test
+    void checkCreateEntity_shouldReuseTheOldestFreedSlotFirst() {
+        EntityWorld world = new EntityWorld();
+        int first = world.createEntity(Health);
+        int second = world.createEntity(Health);
+        world.createEntity(Health);
+
+        world.destroyEntity(first);
+        world.destroyEntity(second);
+
+        int slotMask = EntityWorld.MaxEntities - 1;
+        assertEquals(first & slotMask, world.createEntity(Health) & slotMask, "The slot freed first should be reused first.");
+        assertEquals(second & slotMask, world.createEntity(Health) & slotMask, "The slot freed second should be reused second.");
+    }
+
+    @Test
+    void checkAddComponent_shouldKeepValuesAndUpdateExistingQueries() {
+        EntityWorld world = new EntityWorld();
+        EntityQuery query = world.query(ComponentType.Transform, ComponentType.Velocity);
+        int entity = world.createEntity(ComponentType.Transform);
+        world.set(entity, ComponentType.Transform, ComponentType.TransformX, 5f);
+        assertEquals(0, query.getEntityCount(), "The entity should not match the query before it has a velocity.");
+
+        world.addComponent(entity, ComponentType.Velocity);
+
+        assertEquals(1, query.getEntityCount(), "The query should include the archetype created after it.");
+        assertEquals(5f, world.get(entity, ComponentType.Transform, ComponentType.TransformX), "The entity should keep its transform.");
+
+        world.removeComponent(entity, ComponentType.Velocity);
+        Archetype archetype = world.getArchetype(entity);
+        assertEquals(0, query.getEntityCount(), "The entity should no longer match the query after losing its velocity.");
+        assertEquals(5f, archetype.getColumn(ComponentType.Transform, ComponentType.TransformX)[world.getRow(entity)], "The entity should keep its transform.");
+    }
+
+    @Test
+    void checkDestroyEntity_duringUpdate_shouldWaitForSystemToFinish() {
+        EntityWorld world = new EntityWorld();
+        int[] entities = {world.createEntity(Health), world.createEntity(Health), world.createEntity(Health)};
+        EntityQuery query = world.query(Health);
+        int[] visitedCount = new int[1];
+
+        world.addSystem((updatedWorld, deltaTime) -> {
+            Archetype archetype = query.getArchetype(0);
+            for (int row = 0; row < archetype.getEntityCount(); row++) {
+                updatedWorld.destroyEntity(archetype.getEntity(row));
+                visitedCount[0]++;
+            }
+            assertThrows(IllegalStateException.class, () -> updatedWorld.createEntity(Health), "Creating entities during an update should throw.");
+            updatedWorld.runLater(() -> updatedWorld.createEntity(Health));
+        });
+        world.update(1f);
+
+        assertEquals(3, visitedCount[0], "Destroying entities during an update should not skip any rows.");
+        assertEquals(1, world.getEntityCount(), "The destroyed entities should be removed, and the later entity created, after the update.");
+        for (int entity : entities) {
+            assertFalse(world.isAlive(entity), "Every entity destroyed during the update should be destroyed.");
+        }
+    }
+
+    @Test
+    void checkUpdate_withDrawableBridge_shouldMoveBoundDrawables() {
+        EntityWorld world = new EntityWorld();
+        DrawableBridge drawableBridge = new DrawableBridge();
+        world.addSystem(EntitySystem.movement());
+        world.addSystem(drawableBridge);
+
+        Polygon2D box = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        int entity = world.createEntity(ComponentType.Transform, ComponentType.Velocity);
+        world.set(entity, ComponentType.Velocity, ComponentType.VelocityX, 10f);
+        world.set(entity, ComponentType.Transform, ComponentType.TransformRotation, 45f);
+        drawableBridge.bind(entity, box);
+
+        world.update(1f);
+
+        assertEquals(new Pointf(10f, 0f), box.getTranslation(), "The drawable should follow its entity's translation.");
+        assertEquals(45f, box.getRotation(), "The drawable should follow its entity's rotation.");
+        assertSame(box, drawableBridge.getDrawable(entity), "The drawable should stay bound to its entity.");
+
+        world.destroyEntity(entity);
+        world.update(1f);
+        assertEquals(0, drawableBridge.getBindingCount(), "Bindings to destroyed entities should be dropped.");
+    }
+}
@@ -1,10 +1,21 @@
 package unittest.testcases.systems.tags;
 
+import tech.fastj.systems.control.DrawableManager;
+import tech.fastj.systems.tags.TagIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import unittest.mock.graphics.MockGameObject;
 import unittest.mock.systems.tags.MockTagHandler;
 import unittest.mock.systems.tags.MockTaggableEntity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TagHandlerTests {
     @Test
@@ -25,4 +36,71 @@ class TagHandlerTests {
             .get(0), "The retrieved taggable entity should match the expected entity.");
         assertEquals(taggableEntityWithTag, tagHandler.getFirstWithTag(tag), "The retrieved taggable entity should match the expected entity.");
     }
+
+    @Test
+    void checkGetEntitiesWithTag_withTagIndex_shouldFollowTagChanges() {
+        String tag = MockTaggableEntity.generateTag();
+        TagIndex<MockTaggableEntity> tagIndex = new TagIndex<>();
+        MockTaggableEntity first = new MockTaggableEntity().addTag(tag);
+        MockTaggableEntity second = new MockTaggableEntity();
+        tagIndex.add(first);
+        tagIndex.add(second);
+
+        second.addTag(tag);
+        assertEquals(List.of(first, second), tagIndex.getAllWithTag(tag), "Both entities should be found after the second entity gains the tag.");
+
+        first.removeTag(tag);
+        assertEquals(List.of(second), tagIndex.getAllWithTag(tag), "Only the second entity should be found after the first entity loses the tag.");
+
+        second.clearTags();
+        assertNull(tagIndex.getFirstWithTag(tag), "No entity should be found after the second entity's tags are cleared.");
+
+        second.addTag(tag);
+        tagIndex.remove(second);
+        assertTrue(tagIndex.getAllWithTag(tag).isEmpty(), "No entity should be found after removing the tagged entity from the index.");
+        assertFalse(tagIndex.contains(second), "The removed entity should no longer be in the index.");
+    }
+
+    @Test
+    void checkGetEntitiesWithTag_fromDrawableManager_shouldUseTagIndex() {
+        String tag = MockTaggableEntity.generateTag();
+        DrawableManager drawableManager = new DrawableManager();
+        MockGameObject gameObject = new MockGameObject();
+        drawableManager.addGameObject(gameObject);
+
+        gameObject.addTag(tag);
+        assertSame(gameObject, drawableManager.getTagIndex().getFirstWithTag(tag), "The tagged game object should be found through the tag index.");
+
+        drawableManager.removeGameObject(gameObject);
+        assertTrue(drawableManager.getTagIndex().getAllWithTag(tag).isEmpty(), "The removed game object should no longer be found.");
+    }
+
+    @Test
+    void checkGetEntitiesWithTag_withTagIndex_afterRemovingManyEntities_shouldKeepOrder() {
+        String tag = MockTaggableEntity.generateTag();
+        TagIndex<MockTaggableEntity> tagIndex = new TagIndex<>();
+        List<MockTaggableEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            MockTaggableEntity entity = new MockTaggableEntity().addTag(tag);
+            tagIndex.add(entity);
+            entities.add(entity);
+        }
+
+        List<MockTaggableEntity> expected = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            if (i % 3 == 0) {
+                expected.add(entities.get(i));
+            } else if (i % 3 == 1) {
+                entities.get(i).removeTag(tag);
+            } else {
+                tagIndex.remove(entities.get(i));
+            }
+        }
+
+        assertEquals(expected, tagIndex.getAllWithTag(tag), "The remaining entities should keep the order they were added in.");
+
+        MockTaggableEntity readded = entities.get(1).addTag(tag);
+        expected.add(readded);
+        assertEquals(expected, tagIndex.getAllWithTag(tag), "An entity given the tag again should be found last.");
+    }
 }
@@ -1,5 +1,6 @@
 package unittest.testcases.systems.tags;
 
+import tech.fastj.systems.tags.TagRegistry;
 import tech.fastj.systems.tags.TaggableEntity;
 
 import org.junit.jupiter.api.Test;
@@ -143,4 +144,18 @@ class TaggableEntityTests {
         assertEquals(expectedComparisonDifference, taggableEntity2.compareTo(taggableEntity1), "The comparison should match the negative version of the comparison outcome.");
         assertEquals(taggableEntity1, taggableEntity2, "The two taggable entities should evaluate to be equal.");
     }
+
+    @Test
+    void checkHasTag_byTagId_shouldMatchHasTagByName() {
+        String tag = MockTaggableEntity.generateTag();
+        TaggableEntity entity = new MockTaggableEntity().addTag(tag);
+        int tagId = TagRegistry.idOf(tag);
+
+        assertTrue(entity.hasTag(tagId), "The taggable entity should have the tag with the interned id.");
+        assertEquals(tag, TagRegistry.nameOf(tagId), "The interned id should map back to the tag.");
+
+        entity.removeTag(tag);
+        assertFalse(entity.hasTag(tagId), "The taggable entity should no longer have the tag with the interned id.");
+        assertFalse(entity.hasTag(TagRegistry.UnknownTag), "The taggable entity should never have the unknown tag.");
+    }
 }